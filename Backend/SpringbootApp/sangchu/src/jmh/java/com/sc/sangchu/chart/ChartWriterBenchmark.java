@@ -0,0 +1,72 @@
+package com.sc.sangchu.chart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// ObjectNode 트리 + writeValueAsString 방식과 ChartSpec 스트리밍 방식 비교 (./gradlew jmh)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChartWriterBenchmark {
+    private static final String[] CATEGORY = {"00~06시", "06~11시", "11~14시", "14~17시", "17~21시", "21~24시"};
+
+    private ObjectMapper objectMapper;
+    private Long[] salesCount;
+    private Double[] sales;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        salesCount = new Long[]{120L, 3400L, 9800L, 5600L, 8700L, 2300L};
+        sales = new Double[]{1523456.7, 40234567.3, 128345678.9, 60234567.1, 110345678.2, 30234567.8};
+    }
+
+    @Benchmark
+    public String objectNodeTree() throws Exception {
+        ObjectNode chartData = objectMapper.createObjectNode();
+        chartData.put("chartType", "bar");
+        chartData.put("year", 2023);
+        chartData.put("commDistrictName", "강남역");
+
+        ObjectNode data = objectMapper.createObjectNode();
+        ArrayNode categories = objectMapper.createArrayNode();
+        ObjectNode series = objectMapper.createObjectNode();
+        for (String a : CATEGORY) {
+            categories.add(a);
+        }
+        ArrayNode countData = objectMapper.createArrayNode();
+        ArrayNode salesData = objectMapper.createArrayNode();
+        for (Long cnt : salesCount) {
+            countData.add(cnt);
+        }
+        for (Double cnt : sales) {
+            salesData.add(cnt);
+        }
+        series.set("timeSalesCount", countData);
+        series.set("timeSales", salesData);
+        data.set("categories", categories);
+        data.set("series", series);
+        chartData.set("data", data);
+        return objectMapper.writeValueAsString(chartData);
+    }
+
+    @Benchmark
+    public String chartSpec() {
+        return ChartSpec.of("bar")
+                .attribute("year", 2023)
+                .attribute("commDistrictName", "강남역")
+                .categories(ChartCategories.SALES_TIME)
+                .seriesObject(new ChartObject()
+                        .putArray("timeSalesCount", salesCount)
+                        .putArray("timeSales", sales))
+                .toJson(objectMapper.getFactory())
+                .getJson();
+    }
+}
@@ -0,0 +1,81 @@
+package com.sc.sangchu.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sc.sangchu.chart.ChartCategories;
+import com.sc.sangchu.chart.ChartObject;
+import com.sc.sangchu.chart.ChartSpec;
+import com.sc.sangchu.dto.CommDistRankDTO;
+import com.sc.sangchu.dto.CommDistRankDTO.ValueScoreDouble;
+import com.sc.sangchu.dto.CommDistRankDTO.ValueScoreLong;
+import com.sc.sangchu.dto.sales.CommSalesGraphJsonDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON / CBOR / Smile 응답 인코딩 시간 비교, 페이로드 크기는 setup 에서 출력 (./gradlew jmh)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private CommSalesGraphJsonDTO salesGraph;
+    private List<CommDistRankDTO> districtRank;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+
+        salesGraph = CommSalesGraphJsonDTO.builder()
+                .graphJson(ChartSpec.of("bar")
+                        .attribute("year", 2023)
+                        .attribute("commDistrictName", "강남역")
+                        .categories(ChartCategories.SALES_TIME)
+                        .seriesObject(new ChartObject()
+                                .putArray("timeSalesCount", 120L, 3400L, 9800L, 5600L, 8700L, 2300L)
+                                .putArray("timeSales", 1523456.7, 40234567.3, 128345678.9, 60234567.1, 110345678.2, 30234567.8))
+                        .toJson(new ObjectMapper().getFactory()))
+                .build();
+
+        districtRank = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            districtRank.add(CommDistRankDTO.builder()
+                    .cdCode(3110000L + i)
+                    .name("상권 " + i)
+                    .totalScore(ValueScoreLong.builder().value((long) i + 1).score(87.5 - i * 0.5).build())
+                    .sales(ValueScoreDouble.builder().value(512345678.0 - i * 1000).score(72.25).build())
+                    .businessDiversity(ValueScoreLong.builder().value(340L + i).score(64.0).build())
+                    .footTraffic(ValueScoreLong.builder().value(1250000L + i * 37).score(81.75).build())
+                    .residentialPopulation(ValueScoreLong.builder().value(23000L + i).score(55.5).build())
+                    .build());
+        }
+
+        System.out.printf("%n[%s] salesGraph %d bytes, districtRank %d bytes%n", format,
+                objectMapper.writeValueAsBytes(salesGraph).length, objectMapper.writeValueAsBytes(districtRank).length);
+    }
+
+    // ChartJson -> 요청 형식 변환 포함 (바이너리 캐시 미스 경로)
+    @Benchmark
+    public byte[] salesGraph() throws Exception {
+        return objectMapper.writeValueAsBytes(salesGraph);
+    }
+
+    @Benchmark
+    public byte[] districtRank() throws Exception {
+        return objectMapper.writeValueAsBytes(districtRank);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.FanOut;
+import com.sc.sangchu.dto.CommDistDTO;
+import com.sc.sangchu.dto.CommDistRankDTO;
+import com.sc.sangchu.dto.CommDistSetRankDTO;
+import com.sc.sangchu.dto.infra.CommStoreTotalCountDTO;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
+import com.sc.sangchu.postgresql.entity.CommResidentPopulationEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.repository.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * 자치구 상권 순위 DTO 조립 (./gradlew jmh, 처리량 + gc 프로파일러 gc.alloc.rate.norm)
+ * 저장소는 mock 이라 DB 왕복 시간은 빠지고, 조회 결과(상권 코드 IN)의 상권별 맵 생성과 DTO 생성 비용, 조회를 나눠 실행하는(FanOut) 비용만 측정
+ * districts : 자치구 상권 수 (평균 약 66개, 최대 약 150개)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistrictRankBenchmark {
+    private static final String SERVICE_CODE = "CS100001";
+
+    @Param({"66", "150"})
+    public int districts;
+
+    private FanOut fanOut;
+    private CommDistRecommendService commDistRecommendService;
+    private List<CommDistDTO> commDistList;
+
+    @Setup
+    public void setUp() {
+        commDistList = ServiceFixtures.districts(districts, 1L);
+        List<CommDistSetRankDTO> ranks = ServiceFixtures.ranks(2L);
+        List<CommEstimatedSalesEntity> sales = new ArrayList<>();
+        List<CommStoreTotalCountDTO> storeTotalCounts = new ArrayList<>();
+        List<CommFloatingPopulationEntity> floatingPopulations = new ArrayList<>();
+        List<CommResidentPopulationEntity> residentPopulations = new ArrayList<>();
+        for (CommDistDTO dto : commDistList) {
+            Long commCode = dto.getCommercialDistrictCode();
+            sales.add(ServiceFixtures.salesRows(commCode, 1, 1, commCode).get(0));
+            storeTotalCounts.add(CommStoreTotalCountDTO.builder().commCode(commCode).totalStoreCount(412L).build());
+            floatingPopulations.add(CommFloatingPopulationEntity.builder().commercialDistrictCode(commCode)
+                    .totalFloatingPopulation(1250000L).build());
+            residentPopulations.add(CommResidentPopulationEntity.builder().commercialDistrictCode(commCode)
+                    .totalResidentPopulation(23000L).build());
+        }
+
+        CommEstimatedSalesRepository commEstimatedSalesRepository = mock(CommEstimatedSalesRepository.class);
+        when(commEstimatedSalesRepository.findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+                anyInt(), anyInt(), anyString(), anyCollection())).thenReturn(sales);
+        when(commEstimatedSalesRepository.findByRank(anyInt(), anyInt(), anyString())).thenReturn(ranks);
+
+        CommStoreRepository commStoreRepository = mock(CommStoreRepository.class);
+        when(commStoreRepository.findStoreTotalCounts(anyInt(), anyInt(), anyCollection())).thenReturn(storeTotalCounts);
+
+        CommFloatingPopulationRepository commFloatingPopulationRepository = mock(CommFloatingPopulationRepository.class);
+        when(commFloatingPopulationRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(anyInt(), anyInt(), anyCollection()))
+                .thenReturn(floatingPopulations);
+
+        CommResidentPopulationRepository commResidentPopulationRepository = mock(CommResidentPopulationRepository.class);
+        when(commResidentPopulationRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(anyInt(), anyInt(), anyCollection()))
+                .thenReturn(residentPopulations);
+
+        fanOut = new FanOut(false, 8, 8, Duration.ofSeconds(5), 16);
+        commDistRecommendService = new CommDistRecommendService(mock(CommDistRepository.class),
+                mock(ReadOnlyCommDistRepository.class), commEstimatedSalesRepository,
+                commFloatingPopulationRepository, commResidentPopulationRepository, commStoreRepository, fanOut);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fanOut.shutdown();
+    }
+
+    @Benchmark
+    public List<CommDistRankDTO> setCommDistRankDTOs() throws Exception {
+        return commDistRecommendService.setCommDistRankDTOs(commDistList, SERVICE_CODE);
+    }
+}
@@ -0,0 +1,106 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sc.sangchu.chart.ChartCache;
+import com.sc.sangchu.chart.ChartCategories;
+import com.sc.sangchu.chart.ChartJsonRedisSerializer;
+import com.sc.sangchu.dto.sales.CommQuarterlyGraphJsonDTO;
+import com.sc.sangchu.dto.sales.CommSalesGraphDTO;
+import com.sc.sangchu.dto.sales.CommSalesGraphJsonDTO;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommEstimatedSalesRepository;
+import com.sc.sangchu.postgresql.repository.CommEstimatedSalesRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * 매출 그래프 집계 / 차트 생성 경로 (./gradlew jmh, 처리량 + gc 프로파일러 gc.alloc.rate.norm)
+ * rows : 상권 하나의 외식업 1년치 행 수 (10개 업종 x 4분기 = 40), 400 은 업종이 많은 상권 가정
+ * 차트 캐시는 Redis 만 mock 이고 Smile 직렬화 / 압축 / 메트릭 기록은 실제 코드
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalesGraphBenchmark {
+
+    @Param({"40", "400"})
+    public int rows;
+
+    private CommSalesGraphService commSalesGraphService;
+    private List<CommEstimatedSalesEntity> salesList;
+    private List<CommEstimatedSalesEntity> serviceSalesList;
+    private CommSalesGraphDTO daily;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        salesList = ServiceFixtures.salesRows(ServiceFixtures.FIRST_DISTRICT_CODE, rows / 4, 4, 1L);
+        // 업종별 매출 비율은 한 분기의 전체 업종 행
+        serviceSalesList = ServiceFixtures.salesRows(ServiceFixtures.FIRST_DISTRICT_CODE, ServiceFixtures.SERVICE_COUNT, 1, 2L);
+
+        CommEstimatedSalesRepository repository = mock(CommEstimatedSalesRepository.class);
+        when(repository.findByQuarterlyData(anyLong(), anyString(), any(int[].class)))
+                .thenReturn(ServiceFixtures.quarterly(3L));
+
+        RedisTemplate<String, byte[]> binaryRedisTemplate = mock(RedisTemplate.class);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        ChartCache chartCache = new ChartCache(binaryRedisTemplate,
+                new ChartJsonRedisSerializer(ChartJsonRedisSerializer.Compression.LZ4, 512), new SimpleMeterRegistry());
+
+        commSalesGraphService = new CommSalesGraphService(repository, mock(ReadOnlyCommEstimatedSalesRepository.class), chartCache, new ObjectMapper());
+        daily = commSalesGraphService.calcDailySalesSum(salesList);
+    }
+
+    @Benchmark
+    public CommSalesGraphDTO calcDailySalesSum() {
+        return commSalesGraphService.calcDailySalesSum(salesList);
+    }
+
+    @Benchmark
+    public CommSalesGraphDTO calcTimeSalesSum() {
+        return commSalesGraphService.calcTimeSalesSum(salesList);
+    }
+
+    @Benchmark
+    public CommSalesGraphDTO calcAgeSalesSum() {
+        return commSalesGraphService.calcAgeSalesSum(salesList);
+    }
+
+    @Benchmark
+    public Map<String, Double> setSalesRatioByService() {
+        return commSalesGraphService.setSalesRatioByService(serviceSalesList);
+    }
+
+    // 차트 JSON 생성 + 캐시 값 직렬화
+    @Benchmark
+    public CommSalesGraphJsonDTO setSalesGraphJsonDto() {
+        return commSalesGraphService.setSalesGraphJsonDto("salesGraph:dayGraph:3110000", daily,
+                ChartCategories.SALES_DAY, "day");
+    }
+
+    // 집계부터 차트 생성까지 (캐시 미스 시 getDayGraphData 의 DB 조회 이후 구간)
+    @Benchmark
+    public CommSalesGraphJsonDTO dayGraph() {
+        return commSalesGraphService.setSalesGraphJsonDto("salesGraph:dayGraph:3110000",
+                commSalesGraphService.calcDailySalesSum(salesList), ChartCategories.SALES_DAY, "day");
+    }
+
+    // 분기별 stackbar 차트 (String.format 포함), 캐시 조회는 항상 미스
+    @Benchmark
+    public CommQuarterlyGraphJsonDTO quarterlyGraph() {
+        return commSalesGraphService.getQuarterlyGraphData(ServiceFixtures.FIRST_DISTRICT_CODE);
+    }
+}
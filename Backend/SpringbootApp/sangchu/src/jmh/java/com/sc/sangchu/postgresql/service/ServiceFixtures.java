@@ -0,0 +1,119 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.dto.CommDistDTO;
+import com.sc.sangchu.dto.CommDistSetRankDTO;
+import com.sc.sangchu.dto.sales.CommQuarterlyGraphDTO;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 합성 데이터 (서울시 상권 약 1,650개, 업종 약 60개, 외식업 10개 규모)
+final class ServiceFixtures {
+    static final int DISTRICT_COUNT = 1650;
+    static final int SERVICE_COUNT = 60;
+    static final int FOOD_SERVICE_COUNT = 10;
+    static final long FIRST_DISTRICT_CODE = 3110000L;
+
+    private ServiceFixtures() {
+    }
+
+    // 상권 하나의 1년치 매출 (업종 수 x 4분기), 일부 값은 null
+    static List<CommEstimatedSalesEntity> salesRows(long commCode, int serviceCount, int quarters, long seed) {
+        Random random = new Random(seed);
+        List<CommEstimatedSalesEntity> rows = new ArrayList<>(serviceCount * quarters);
+        for (int quarter = 1; quarter <= quarters; quarter++) {
+            for (int service = 0; service < serviceCount; service++) {
+                double scale = 1e6 + random.nextDouble() * 3e8;
+                rows.add(CommEstimatedSalesEntity.builder()
+                        .yearCode(2023)
+                        .quarterCode((quarter - 1) % 4 + 1)
+                        .commercialDistrictCode(commCode)
+                        .commercialDistrictName("상권 " + commCode)
+                        .serviceCode(String.format("CS1%05d", service))
+                        .serviceName("업종 " + service)
+                        .majorCategoryName("외식업")
+                        .monthlySales(scale)
+                        .monthlySalesCount((long) (scale / 15000))
+                        .monSales(part(random, scale, 7)).tueSales(part(random, scale, 7)).wedSales(part(random, scale, 7))
+                        .thuSales(part(random, scale, 7)).friSales(part(random, scale, 7)).satSales(part(random, scale, 7))
+                        .sunSales(random.nextInt(10) == 0 ? null : part(random, scale, 7))
+                        .monSalesCount(count(random, scale, 7)).tueSalesCount(count(random, scale, 7))
+                        .wedSalesCount(count(random, scale, 7)).thuSalesCount(count(random, scale, 7))
+                        .friSalesCount(count(random, scale, 7)).satSalesCount(count(random, scale, 7))
+                        .sunSalesCount(count(random, scale, 7))
+                        .time00To06Sales(part(random, scale, 6)).time06To11Sales(part(random, scale, 6))
+                        .time11To14Sales(part(random, scale, 6)).time14To17Sales(part(random, scale, 6))
+                        .time17To21Sales(part(random, scale, 6)).time21To24Sales(part(random, scale, 6))
+                        .time00To06SalesCount(count(random, scale, 6)).time06To11SalesCount(count(random, scale, 6))
+                        .time11To14SalesCount(count(random, scale, 6)).time14To17SalesCount(count(random, scale, 6))
+                        .time17To21SalesCount(count(random, scale, 6)).time21To24SalesCount(count(random, scale, 6))
+                        .age10Sales(part(random, scale, 6)).age20Sales(part(random, scale, 6)).age30Sales(part(random, scale, 6))
+                        .age40Sales(part(random, scale, 6)).age50Sales(part(random, scale, 6))
+                        .ageOver60Sales(part(random, scale, 6))
+                        .age10SalesCount(count(random, scale, 6)).age20SalesCount(count(random, scale, 6))
+                        .age30SalesCount(count(random, scale, 6)).age40SalesCount(count(random, scale, 6))
+                        .age50SalesCount(count(random, scale, 6)).ageOver60SalesCount(count(random, scale, 6))
+                        .salesScore(random.nextDouble() * 100)
+                        .commercialServiceTotalScore(random.nextDouble() * 100)
+                        .build());
+            }
+        }
+        return rows;
+    }
+
+    // 자치구 하나의 상권 목록 (서울시 25개 구 평균 약 66개)
+    static List<CommDistDTO> districts(int count, long seed) {
+        Random random = new Random(seed);
+        List<CommDistDTO> districts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            districts.add(CommDistDTO.builder()
+                    .commercialDistrictCode(FIRST_DISTRICT_CODE + i)
+                    .commercialDistrictName("상권 " + i)
+                    .guCode(11680L)
+                    .guName("강남구")
+                    .commercialDistrictScore(random.nextDouble() * 100)
+                    .salesScore(random.nextDouble() * 100)
+                    .residentPopulationScore(random.nextDouble() * 100)
+                    .floatingPopulationScore(random.nextDouble() * 100)
+                    .rdiScore(random.nextDouble() * 100)
+                    .build());
+        }
+        return districts;
+    }
+
+    // findByRank 결과 (업종의 서울시 전체 상권 순위)
+    static List<CommDistSetRankDTO> ranks(long seed) {
+        List<Long> codes = new ArrayList<>(DISTRICT_COUNT);
+        for (int i = 0; i < DISTRICT_COUNT; i++) codes.add(FIRST_DISTRICT_CODE + i);
+        Collections.shuffle(codes, new Random(seed));
+        List<CommDistSetRankDTO> ranks = new ArrayList<>(DISTRICT_COUNT);
+        for (int i = 0; i < DISTRICT_COUNT; i++) {
+            ranks.add(CommDistSetRankDTO.builder().commCode(codes.get(i)).rank(i + 1L).build());
+        }
+        return ranks;
+    }
+
+    // 2년치 분기별 주중 / 주말 매출
+    static List<CommQuarterlyGraphDTO> quarterly(long seed) {
+        Random random = new Random(seed);
+        List<CommQuarterlyGraphDTO> rows = new ArrayList<>(8);
+        for (int year = 2022; year <= 2023; year++) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                rows.add(new CommQuarterlyGraphDTO(year, quarter, 1e9 + random.nextDouble() * 2e9,
+                        4e8 + random.nextDouble() * 8e8));
+            }
+        }
+        return rows;
+    }
+
+    private static Double part(Random random, double total, int parts) {
+        return total / parts * (0.5 + random.nextDouble());
+    }
+
+    private static Long count(Random random, double total, int parts) {
+        return (long) (total / parts / 15000 * (0.5 + random.nextDouble()));
+    }
+}
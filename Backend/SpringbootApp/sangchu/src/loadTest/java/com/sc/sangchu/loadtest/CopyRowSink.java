@@ -0,0 +1,84 @@
+package com.sc.sangchu.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+
+/*
+ * PostgreSQL COPY FROM STDIN (CSV) 적재
+ * 행을 CSV 로 직렬화해 버퍼에 모으고 FLUSH_BYTES 마다 드라이버로 흘려보냄 (전체 행을 메모리에 올리지 않음)
+ * 10배 이상 규모에서는 INSERT 배치보다 수 배 빠름, 테이블마다 TRUNCATE 후 하나의 트랜잭션으로 커밋
+ */
+@Slf4j
+final class CopyRowSink implements DataGenerator.RowSink {
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    private final Connection connection;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_BYTES + (1 << 14));
+    private final StringBuilder line = new StringBuilder(1024);
+    private EntityTable table;
+    private CopyIn copy;
+    private long rows;
+    private long start;
+
+    CopyRowSink(Connection connection) throws Exception {
+        this.connection = connection;
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public void begin(EntityTable table) throws Exception {
+        this.table = table;
+        try (Statement truncate = connection.createStatement()) {
+            truncate.execute("TRUNCATE TABLE " + table.getName());
+        }
+        copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(table.copySql());
+        rows = 0;
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void add(Map<String, Object> row) throws Exception {
+        line.setLength(0);
+        for (int i = 0; i < table.getFields().size(); i++) {
+            if (i > 0) line.append(',');
+            Object value = row.get(table.getFields().get(i));
+            // 빈 칸은 NULL, 문자열은 항상 따옴표로 감싸 빈 문자열과 구분
+            if (value == null) continue;
+            value = EntityTable.convert(value, table.type(i));
+            if (value instanceof String text) {
+                line.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        line.append('\n');
+        buffer.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        rows++;
+        if (buffer.size() >= FLUSH_BYTES) flush();
+    }
+
+    @Override
+    public void end() throws Exception {
+        try {
+            flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) copy.cancelCopy();
+        }
+        connection.commit();
+        log.info("{} : {} rows copied, {} ms", table.getName(), rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void flush() throws Exception {
+        if (buffer.size() == 0) return;
+        copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+        buffer.reset();
+    }
+}
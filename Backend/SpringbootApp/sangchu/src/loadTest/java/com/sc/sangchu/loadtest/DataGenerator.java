@@ -0,0 +1,404 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.postgresql.entity.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/*
+ * comm_*_tb 합성 데이터 생성기
+ * 상권마다 규모(로그정규) / 주거 비중 / 업무 비중 잠재 변수를 두고 매출, 유동인구, 점포 수, 점수가 같이 움직이도록 생성
+ * 업종은 상권마다 serviceDensity 비율만 영업, 연도별 추세와 분기 계절성 반영
+ * 기간은 앱이 조회하는 (올해 - years) ~ (올해 - 1) 년 1 ~ 4 분기
+ */
+@Slf4j
+public final class DataGenerator {
+    // 서울시 25개 자치구 (코드, 이름, 대략적인 중심 위경도)
+    private static final Object[][] GU = {
+            {11110L, "종로구", 37.5735, 126.9790}, {11140L, "중구", 37.5641, 126.9979}, {11170L, "용산구", 37.5326, 126.9905},
+            {11200L, "성동구", 37.5633, 127.0371}, {11215L, "광진구", 37.5385, 127.0823}, {11230L, "동대문구", 37.5744, 127.0400},
+            {11260L, "중랑구", 37.6066, 127.0927}, {11290L, "성북구", 37.5894, 127.0167}, {11305L, "강북구", 37.6397, 127.0256},
+            {11320L, "도봉구", 37.6688, 127.0471}, {11350L, "노원구", 37.6542, 127.0568}, {11380L, "은평구", 37.6027, 126.9291},
+            {11410L, "서대문구", 37.5791, 126.9368}, {11440L, "마포구", 37.5663, 126.9019}, {11470L, "양천구", 37.5170, 126.8665},
+            {11500L, "강서구", 37.5509, 126.8495}, {11530L, "구로구", 37.4954, 126.8874}, {11545L, "금천구", 37.4568, 126.8954},
+            {11560L, "영등포구", 37.5264, 126.8962}, {11590L, "동작구", 37.5124, 126.9393}, {11620L, "관악구", 37.4784, 126.9516},
+            {11650L, "서초구", 37.4837, 127.0324}, {11680L, "강남구", 37.5172, 127.0473}, {11710L, "송파구", 37.5145, 127.1059},
+            {11740L, "강동구", 37.5301, 127.1238}};
+    private static final String[] FOOD = {"한식음식점", "중식음식점", "일식음식점", "양식음식점", "제과점", "패스트푸드점",
+            "치킨전문점", "분식전문점", "호프-간이주점", "커피-음료"};
+    private static final String[] SERVICE = {"일반교습학원", "외국어학원", "예술학원", "스포츠 강습", "일반의원", "치과의원",
+            "한의원", "동물병원", "부동산중개업", "미용실", "네일숍", "피부관리실", "세탁소", "노래방", "PC방", "당구장",
+            "골프연습장", "스포츠클럽", "자동차수리", "자동차미용", "여관", "고시원", "가전제품수리", "세무사사무소"};
+    private static final String[] RETAIL = {"슈퍼마켓", "편의점", "컴퓨터및주변장치판매", "핸드폰", "미곡판매", "육류판매",
+            "수산물판매", "청과상", "반찬가게", "일반의류", "신발", "가방", "안경", "시계및귀금속", "의약품", "서적", "문구",
+            "화장품", "운동/경기용품", "완구", "화초", "애완동물", "가구", "가전제품", "철물점", "인테리어", "조명용품",
+            "섬유제품", "자전거 및 기타운송장비"};
+    private static final String[] NAME_PREFIX = {"가", "나", "다", "명", "신", "동", "서", "남", "북", "중", "대", "삼",
+            "성", "청", "한", "역", "문", "정", "송", "구", "원", "미", "양", "봉", "석", "수", "화", "은", "광", "장"};
+    private static final String[] NAME_SUFFIX = {"역", "시장", "사거리", "골목", "로", "길", "거리", "삼거리", "공원", "교"};
+    private static final String[][] CHANGE_INDICATOR = {{"LL", "정체"}, {"LH", "상권축소"}, {"HL", "상권확장"}, {"HH", "다이나믹"}};
+    private static final double[] QUARTER_SEASON = {0.92, 1.02, 1.04, 1.02};
+    private static final double[] DAY_WEIGHT = {0.14, 0.14, 0.145, 0.145, 0.16, 0.14, 0.13};
+    private static final double[] TIME_WEIGHT = {0.03, 0.12, 0.28, 0.18, 0.27, 0.12};
+    private static final double[] AGE_WEIGHT = {0.05, 0.24, 0.25, 0.2, 0.15, 0.11};
+
+    private final Options options;
+    private final Random random;
+    private final int firstYear;
+    private final int lastYear;
+
+    public record Options(int districts, int services, int years, double serviceDensity, long seed) {
+        public static Options defaults() {
+            return new Options(1650, 63, 3, 0.45, 42L);
+        }
+    }
+
+    // 부하 요청 경로의 자리표시자 ({district}, {gu} ...)를 채울 생성 결과
+    public record Dataset(List<District> districts, List<Service> services, int firstYear, int lastYear) {
+    }
+
+    public record District(long code, String name, long guCode, String guName, long dongCode, String dongName,
+                           double latitude, double longitude, double size, double residential, double office) {
+    }
+
+    public record Service(String code, String name, String majorCode, String majorName, double scale, double ticket) {
+    }
+
+    // 생성한 행을 받는 쪽 (JDBC 배치, COPY 등)
+    public interface RowSink {
+        void begin(EntityTable table) throws Exception;
+
+        void add(Map<String, Object> row) throws Exception;
+
+        void end() throws Exception;
+    }
+
+    public DataGenerator(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.lastYear = Calendar.getInstance().get(Calendar.YEAR) - 1;
+        this.firstYear = lastYear - options.years() + 1;
+    }
+
+    public Dataset generate(RowSink sink) throws Exception {
+        long start = System.nanoTime();
+        List<District> districts = districts();
+        List<Service> services = services();
+
+        writeDistricts(sink, districts);
+        writeSalesAndStores(sink, districts, services);
+        writePopulation(sink, districts);
+        writeIndicators(sink, districts);
+
+        log.info("load test data generated: {} districts, {} services, {}~{}, {} ms", districts.size(), services.size(),
+                firstYear, lastYear, (System.nanoTime() - start) / 1_000_000);
+        return new Dataset(districts, services, firstYear, lastYear);
+    }
+
+    private List<District> districts() {
+        List<District> districts = new ArrayList<>(options.districts());
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < options.districts(); i++) {
+            Object[] gu = GU[i % GU.length];
+            int dong = random.nextInt(15);
+            String name = NAME_PREFIX[random.nextInt(NAME_PREFIX.length)] + NAME_PREFIX[random.nextInt(NAME_PREFIX.length)]
+                    + NAME_SUFFIX[random.nextInt(NAME_SUFFIX.length)];
+            // 이름이 겹치면 일련번호를 붙여 검색 / 자동완성 결과가 구분되도록 함
+            if (!names.add(name)) name += " " + (i + 1);
+            String guName = (String) gu[1];
+            districts.add(new District(3110000L + i, name, (Long) gu[0], guName,
+                    (Long) gu[0] * 1000 + 500 + dong * 10, guName.substring(0, guName.length() - 1) + (dong + 1) + "동",
+                    (Double) gu[2] + random.nextGaussian() * 0.012, (Double) gu[3] + random.nextGaussian() * 0.015,
+                    Math.exp(random.nextGaussian() * 0.8), random.nextDouble(), random.nextDouble()));
+        }
+        return districts;
+    }
+
+    private List<Service> services() {
+        List<Service> services = new ArrayList<>(options.services());
+        String[][] groups = {FOOD, SERVICE, RETAIL};
+        String[][] majors = {{"CS100000", "외식업"}, {"CS200000", "서비스업"}, {"CS300000", "소매업"}};
+        int[] next = new int[3];
+        for (int i = 0; i < options.services(); i++) {
+            // 외식업부터 채워서 외식업 그래프 API 가 항상 데이터가 있도록 함
+            int group = i < FOOD.length ? 0 : 1 + (i - FOOD.length) % 2;
+            int index = next[group]++;
+            String[] names = groups[group];
+            String name = index < names.length ? names[index] : names[index % names.length] + " " + (index / names.length + 1);
+            services.add(new Service(String.format("CS%d%05d", group + 1, index + 1), name, majors[group][0], majors[group][1],
+                    Math.exp(random.nextGaussian() * 0.6) * (group == 0 ? 1.5 : 1.0), 8000 + random.nextDouble() * 40000));
+        }
+        return services;
+    }
+
+    private void writeDistricts(RowSink sink, List<District> districts) throws Exception {
+        sink.begin(new EntityTable(CommDistEntity.class));
+        for (District district : districts) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("commercialDistrictCode", district.code());
+            row.put("commercialDistrictName", district.name());
+            row.put("latitude", district.latitude());
+            row.put("longitude", district.longitude());
+            row.put("guCode", district.guCode());
+            row.put("guName", district.guName());
+            row.put("dongCode", district.dongCode());
+            row.put("dongName", district.dongName());
+            row.put("areaSize", 30000 + district.size() * 120000 * (0.6 + random.nextDouble() * 0.8));
+            double salesScore = score(district.size());
+            double residentScore = score(district.size() * district.residential() * 2);
+            double floatingScore = score(district.size() * (0.5 + district.office()));
+            double rdiScore = 30 + random.nextDouble() * 70;
+            row.put("salesScore", salesScore);
+            row.put("residentPopulationScore", residentScore);
+            row.put("floatingPopulationScore", floatingScore);
+            row.put("rdiScore", rdiScore);
+            row.put("commercialDistrictScore", salesScore * 0.4 + floatingScore * 0.3 + residentScore * 0.15 + rdiScore * 0.15);
+            sink.add(row);
+        }
+        sink.end();
+    }
+
+    private void writeSalesAndStores(RowSink sink, List<District> districts, List<Service> services) throws Exception {
+        // 상권별 영업 업종은 기간 내내 같게 유지
+        boolean[][] open = new boolean[districts.size()][services.size()];
+        for (int d = 0; d < districts.size(); d++) {
+            for (int s = 0; s < services.size(); s++) {
+                open[d][s] = random.nextDouble() < Math.min(0.95, options.serviceDensity() * (0.6 + districts.get(d).size() * 0.4));
+            }
+        }
+
+        EntityTable sales = new EntityTable(CommEstimatedSalesEntity.class);
+        sink.begin(sales);
+        int id = 1;
+        for (int year = firstYear; year <= lastYear; year++) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                double period = Math.pow(1.03, year - firstYear) * QUARTER_SEASON[quarter - 1];
+                for (int d = 0; d < districts.size(); d++) {
+                    District district = districts.get(d);
+                    for (int s = 0; s < services.size(); s++) {
+                        if (!open[d][s]) continue;
+                        Service service = services.get(s);
+                        Map<String, Object> row = base(id++, year, quarter, district);
+                        putService(row, service);
+                        double monthly = 3e7 * district.size() * service.scale() * period * Math.exp(random.nextGaussian() * 0.3);
+                        putSales(row, monthly, service.ticket());
+                        row.put("salesScore", score(monthly / 3e7));
+                        row.put("commercialServiceTotalScore", score(monthly / 3e7) * 0.7 + random.nextDouble() * 30);
+                        sink.add(row);
+                    }
+                }
+            }
+        }
+        sink.end();
+
+        sink.begin(new EntityTable(CommStoreEntity.class));
+        id = 1;
+        for (int year = firstYear; year <= lastYear; year++) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                for (int d = 0; d < districts.size(); d++) {
+                    District district = districts.get(d);
+                    for (int s = 0; s < services.size(); s++) {
+                        if (!open[d][s]) continue;
+                        Service service = services.get(s);
+                        Map<String, Object> row = base(id++, year, quarter, district);
+                        putService(row, service);
+                        long stores = Math.max(1, Math.round(district.size() * service.scale() * (1 + random.nextDouble() * 6)));
+                        row.put("storeCount", stores);
+                        row.put("franchiseStoreCount", Math.round(stores * random.nextDouble() * 0.35));
+                        sink.add(row);
+                    }
+                }
+            }
+        }
+        sink.end();
+    }
+
+    private void writePopulation(RowSink sink, List<District> districts) throws Exception {
+        EntityTable[] tables = {new EntityTable(CommFloatingPopulationEntity.class),
+                new EntityTable(CommResidentPopulationEntity.class), new EntityTable(CommWorkingPopulationEntity.class),
+                new EntityTable(CommIncomeEntity.class)};
+        for (int table = 0; table < tables.length; table++) {
+            sink.begin(tables[table]);
+            int id = 1;
+            for (int year = firstYear; year <= lastYear; year++) {
+                for (int quarter = 1; quarter <= 4; quarter++) {
+                    for (District district : districts) {
+                        Map<String, Object> row = base(id++, year, quarter, district);
+                        switch (table) {
+                            case 0 -> putFloating(row, 250000 * district.size() * (0.5 + district.office()) * jitter());
+                            case 1 -> putByGenderAge(row, "ResidentPopulation", 3000 * district.size() * district.residential() * jitter());
+                            case 2 -> putByGenderAge(row, "WorkingPopulation", 4000 * district.size() * district.office() * jitter());
+                            default -> {
+                                double income = 2.2e6 + district.residential() * 1.5e6 + random.nextDouble() * 1.5e6;
+                                row.put("monthlyAverageIncomeAmount", income);
+                                row.put("expenditureTotalAmount", income * 1500 * district.size() * jitter());
+                            }
+                        }
+                        sink.add(row);
+                    }
+                }
+            }
+            sink.end();
+        }
+    }
+
+    private void writeIndicators(RowSink sink, List<District> districts) throws Exception {
+        sink.begin(new EntityTable(CommIndicatorChangeEntity.class));
+        int id = 1;
+        for (int year = firstYear; year <= lastYear; year++) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                for (District district : districts) {
+                    Map<String, Object> row = base(id++, year, quarter, district);
+                    String[] indicator = CHANGE_INDICATOR[random.nextInt(CHANGE_INDICATOR.length)];
+                    row.put("commChangeIndicatorCode", indicator[0]);
+                    row.put("commChangeIndicatorName", indicator[1]);
+                    row.put("rdi", 0.2 + random.nextDouble() * 0.8);
+                    row.put("storeDensity", district.size() * 10 * jitter());
+                    sink.add(row);
+                }
+            }
+        }
+        sink.end();
+
+        // 아파트는 주거 비중이 높은 상권에만
+        sink.begin(new EntityTable(CommAptEntity.class));
+        id = 1;
+        for (int year = firstYear; year <= lastYear; year++) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                for (District district : districts) {
+                    if (district.residential() < 0.35) continue;
+                    Map<String, Object> row = base(id++, year, quarter, district);
+                    double households = 300 + district.residential() * 3000 * jitter();
+                    row.put("apartmentComplexes", Math.max(1, Math.round(households / 400)));
+                    putSplit(row, households, new String[]{"householdUnder20Pyeong", "household20To30Pyeong",
+                            "household30To40Pyeong", "household40To50Pyeong", "householdOver50Pyeong"}, new double[]{0.15, 0.35, 0.3, 0.12, 0.08});
+                    putSplit(row, households, new String[]{"householdLessThan100MillionPrice", "household100To200MillionPrice",
+                            "household200To300MillionPrice", "household300To400MillionPrice", "household400To500MillionPrice",
+                            "household500To600MillionPrice", "householdOverThan600MillionPrice"}, new double[]{0.05, 0.1, 0.15, 0.2, 0.2, 0.15, 0.15});
+                    row.put("aptAvgArea", 60 + random.nextDouble() * 90);
+                    row.put("aptAvgPrice", 2e8 + district.residential() * 1e9 * jitter());
+                    sink.add(row);
+                }
+            }
+        }
+        sink.end();
+
+        sink.begin(new EntityTable(CommFacilitiesEntity.class));
+        id = 1;
+        for (int year = firstYear; year <= lastYear; year++) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                for (District district : districts) {
+                    Map<String, Object> row = base(id++, year, quarter, district);
+                    row.put("facilities", Math.round(district.size() * 8 * jitter()));
+                    row.put("bus", (double) Math.round(district.size() * 4 * jitter()));
+                    row.put("culTouristFacilities", (double) random.nextInt(4));
+                    row.put("educationalFacilities", (double) Math.round(district.residential() * 6 * jitter()));
+                    row.put("trainSubway", random.nextDouble() < 0.3 ? (double) (1 + random.nextInt(3)) : 0.0);
+                    sink.add(row);
+                }
+            }
+        }
+        sink.end();
+    }
+
+    private Map<String, Object> base(int id, int year, int quarter, District district) {
+        Map<String, Object> row = new HashMap<>(96);
+        row.put("id", id);
+        row.put("yearCode", year);
+        row.put("quarterCode", quarter);
+        row.put("commercialDistrictCode", district.code());
+        row.put("commercialDistrictName", district.name());
+        return row;
+    }
+
+    private void putService(Map<String, Object> row, Service service) {
+        row.put("serviceCode", service.code());
+        row.put("serviceName", service.name());
+        row.put("majorCategoryCode", service.majorCode());
+        row.put("majorCategoryName", service.majorName());
+        row.put("middleCategoryCode", service.majorCode());
+        row.put("middleCategoryName", service.majorName());
+    }
+
+    private void putSales(Map<String, Object> row, double monthly, double ticket) {
+        String[] days = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+        double[] dayShare = shares(DAY_WEIGHT);
+        double weekend = 0;
+        for (int i = 0; i < days.length; i++) {
+            double amount = monthly * dayShare[i];
+            row.put(days[i] + "Sales", amount);
+            row.put(days[i] + "SalesCount", amount / ticket);
+            if (i >= 5) weekend += amount;
+        }
+        row.put("monthlySales", monthly);
+        row.put("monthlySalesCount", monthly / ticket);
+        row.put("weekDaysSales", monthly - weekend);
+        row.put("weekendSales", weekend);
+        row.put("weekDaysSalesCount", (monthly - weekend) / ticket);
+        row.put("weekendSalesCount", weekend / ticket);
+
+        putSalesSplit(row, monthly, ticket, new String[]{"time00To06", "time06To11", "time11To14", "time14To17",
+                "time17To21", "time21To24"}, TIME_WEIGHT);
+        putSalesSplit(row, monthly, ticket, new String[]{"age10", "age20", "age30", "age40", "age50", "ageOver60"}, AGE_WEIGHT);
+        double man = 0.35 + random.nextDouble() * 0.3;
+        putSalesSplit(row, monthly, ticket, new String[]{"man", "woman"}, new double[]{man, 1 - man});
+    }
+
+    private void putSalesSplit(Map<String, Object> row, double monthly, double ticket, String[] prefixes, double[] weights) {
+        double[] share = shares(weights);
+        for (int i = 0; i < prefixes.length; i++) {
+            row.put(prefixes[i] + "Sales", monthly * share[i]);
+            row.put(prefixes[i] + "SalesCount", monthly * share[i] / ticket);
+        }
+    }
+
+    private void putFloating(Map<String, Object> row, double total) {
+        row.put("totalFloatingPopulation", total);
+        putSplit(row, total, new String[]{"age10FloatingPopulation", "age20FloatingPopulation", "age30FloatingPopulation",
+                "age40FloatingPopulation", "age50FloatingPopulation", "ageOver60FloatingPopulation"}, AGE_WEIGHT);
+        putSplit(row, total, new String[]{"time00To06FloatingPopulation", "time06To11FloatingPopulation",
+                "time11To14FloatingPopulation", "time14To17FloatingPopulation", "time17To21FloatingPopulation",
+                "time21To24FloatingPopulation"}, TIME_WEIGHT);
+        putSplit(row, total, new String[]{"monFloatingPopulation", "tueFloatingPopulation", "wedFloatingPopulation",
+                "thuFloatingPopulation", "friFloatingPopulation", "satFloatingPopulation", "sunFloatingPopulation"}, DAY_WEIGHT);
+    }
+
+    // total{suffix}, male/female x 연령대
+    private void putByGenderAge(Map<String, Object> row, String suffix, double total) {
+        row.put("total" + suffix, total);
+        if ("ResidentPopulation".equals(suffix)) row.put("totalHousehold", total / 2.3);
+        String[] ages = {"Age10", "Age20", "Age30", "Age40", "Age50", "AgeOver60"};
+        double male = 0.45 + random.nextDouble() * 0.1;
+        double[] share = shares(AGE_WEIGHT);
+        for (int i = 0; i < ages.length; i++) {
+            row.put("male" + ages[i] + suffix, total * male * share[i]);
+            row.put("female" + ages[i] + suffix, total * (1 - male) * share[i]);
+        }
+    }
+
+    private void putSplit(Map<String, Object> row, double total, String[] fields, double[] weights) {
+        double[] share = shares(weights);
+        for (int i = 0; i < fields.length; i++) row.put(fields[i], total * share[i]);
+    }
+
+    // 기준 비율에 ±30% 흔들림을 준 뒤 합이 1 이 되도록 정규화
+    private double[] shares(double[] weights) {
+        double[] share = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            share[i] = weights[i] * (0.7 + random.nextDouble() * 0.6);
+            sum += share[i];
+        }
+        for (int i = 0; i < share.length; i++) share[i] /= sum;
+        return share;
+    }
+
+    private double jitter() {
+        return Math.exp(random.nextGaussian() * 0.15);
+    }
+
+    // 규모 -> 0 ~ 100 점수 (포화 곡선)
+    private static double score(double size) {
+        return 100 * (1 - Math.exp(-size * 0.8));
+    }
+}
@@ -0,0 +1,96 @@
+package com.sc.sangchu.loadtest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Table;
+
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 엔티티 클래스의 @Table / @Column 매핑으로 만든 INSERT 문
+ * 생성기는 필드 이름 -> 값 맵만 채우고, 컬럼 이름은 엔티티에서 가져와 스키마 변경을 따라감 (비어 있는 필드는 NULL)
+ */
+final class EntityTable {
+    private final String name;
+    private final List<String> columns = new ArrayList<>();
+    private final List<String> fields = new ArrayList<>();
+    private final List<Class<?>> types = new ArrayList<>();
+    private final Map<String, String> fieldByColumn = new HashMap<>();
+
+    EntityTable(Class<?> entity) {
+        this.name = entity.getAnnotation(Table.class).name();
+        for (Field field : entity.getDeclaredFields()) {
+            Column column = field.getAnnotation(Column.class);
+            if (column == null) continue;
+            columns.add(column.name());
+            fields.add(field.getName());
+            types.add(field.getType());
+            fieldByColumn.put(column.name(), field.getName());
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<String> getColumns() {
+        return columns;
+    }
+
+    List<String> getFields() {
+        return fields;
+    }
+
+    // 원본 CSV 헤더(컬럼 이름) -> 필드 이름, 매핑되지 않는 컬럼은 null
+    String field(String column) {
+        return fieldByColumn.get(column);
+    }
+
+    String copySql() {
+        return "COPY " + name + " (" + quotedColumns() + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    String insertSql() {
+        return "INSERT INTO " + name + " (" + quotedColumns() + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+    }
+
+    // cultural/tourist_facilities 처럼 식별자 규칙에 맞지 않는 컬럼 이름이 있어 따옴표로 감쌈
+    private String quotedColumns() {
+        return String.join(", ", columns.stream().map(column -> '"' + column + '"').toList());
+    }
+
+    void bind(PreparedStatement statement, Map<String, Object> row) throws SQLException {
+        for (int i = 0; i < fields.size(); i++) {
+            Object value = row.get(fields.get(i));
+            if (value == null) statement.setNull(i + 1, sqlType(types.get(i)));
+            else statement.setObject(i + 1, convert(value, types.get(i)));
+        }
+    }
+
+    // 생성기는 double / long 으로 계산하므로 엔티티 필드 타입에 맞춰 변환
+    static Object convert(Object value, Class<?> type) {
+        if (!(value instanceof Number number)) return value;
+        if (type == Long.class) return Math.round(number.doubleValue());
+        if (type == Integer.class) return (int) Math.round(number.doubleValue());
+        if (type == Double.class) return number.doubleValue();
+        return value;
+    }
+
+    Class<?> type(int index) {
+        return types.get(index);
+    }
+
+    private static int sqlType(Class<?> type) {
+        if (type == Long.class) return Types.BIGINT;
+        if (type == Integer.class) return Types.INTEGER;
+        if (type == Double.class) return Types.DOUBLE;
+        return Types.VARCHAR;
+    }
+}
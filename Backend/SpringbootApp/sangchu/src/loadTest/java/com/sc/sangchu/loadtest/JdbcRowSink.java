@@ -0,0 +1,60 @@
+package com.sc.sangchu.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+
+/*
+ * INSERT 배치 적재 (reWriteBatchedInserts=true 면 드라이버가 다중 VALUES 로 묶음)
+ * 테이블마다 기존 행을 비우고 batchSize 행마다 executeBatch, 테이블이 끝나면 커밋
+ */
+@Slf4j
+final class JdbcRowSink implements DataGenerator.RowSink {
+    private static final int BATCH_SIZE = 1000;
+
+    private final Connection connection;
+    private EntityTable table;
+    private PreparedStatement statement;
+    private int pending;
+    private long rows;
+    private long start;
+
+    JdbcRowSink(Connection connection) throws Exception {
+        this.connection = connection;
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public void begin(EntityTable table) throws Exception {
+        this.table = table;
+        try (Statement truncate = connection.createStatement()) {
+            truncate.execute("TRUNCATE TABLE " + table.getName());
+        }
+        statement = connection.prepareStatement(table.insertSql());
+        pending = 0;
+        rows = 0;
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void add(Map<String, Object> row) throws Exception {
+        table.bind(statement, row);
+        statement.addBatch();
+        rows++;
+        if (++pending == BATCH_SIZE) {
+            statement.executeBatch();
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void end() throws Exception {
+        if (pending > 0) statement.executeBatch();
+        statement.close();
+        connection.commit();
+        log.info("{} : {} rows, {} ms", table.getName(), rows, (System.nanoTime() - start) / 1_000_000);
+    }
+}
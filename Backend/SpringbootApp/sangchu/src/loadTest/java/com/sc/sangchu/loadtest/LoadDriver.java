@@ -0,0 +1,172 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.filter.QueryStatsFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 닫힌 루프 부하 발생기
+ * 가상 사용자(concurrency)마다 스레드 하나가 요청 -> 응답 -> 다음 요청을 반복
+ * 워밍업 동안의 결과는 버리고, 측정 구간의 응답 시간을 엔드포인트별 HdrHistogram 으로 기록
+ * 요청당 SQL 횟수 / 행 수 / DB 시간은 앱이 붙이는 X-Sql-* 응답 헤더(QueryStatsFilter)에서 집계
+ */
+@Slf4j
+final class LoadDriver {
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private final String baseUrl;
+    private final RequestMix mix;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final HttpClient client;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Recorder total = new Recorder(MAX_LATENCY_MICROS, 3);
+    private Runnable measureStart = () -> {
+    };
+    private volatile boolean measuring;
+
+    LoadDriver(String baseUrl, RequestMix mix, int concurrency, Duration warmup, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    // 워밍업이 끝나고 측정을 시작할 때 호출 (StackBenchmark 의 할당량 측정 시작점)
+    LoadDriver onMeasureStart(Runnable measureStart) {
+        this.measureStart = measureStart;
+        return this;
+    }
+
+    Result run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long seed = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    loop(new Random(seed), end);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-driver-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        log.info("warmup {} s, concurrency {}", warmup.toSeconds(), concurrency);
+        Thread.sleep(Math.max(0, (warmupEnd - System.nanoTime()) / 1_000_000));
+        total.reset();
+        measureStart.run();
+        measuring = true;
+        long start = System.nanoTime();
+        log.info("measuring {} s", duration.toSeconds());
+        done.await();
+        measuring = false;
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Map<String, Result.Row> rows = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> {
+            Histogram histogram = endpoint.latency.getIntervalHistogram();
+            long count = Math.max(1, histogram.getTotalCount());
+            rows.put(name, new Result.Row(histogram.getTotalCount(), endpoint.errors.sum(), histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0,
+                    (double) endpoint.queries.sum() / count, endpoint.maxQueries.get(),
+                    (double) endpoint.rows.sum() / count, endpoint.dbMillis.sum() / count));
+        });
+        return new Result(seconds, concurrency, rows, total.getIntervalHistogram());
+    }
+
+    private void loop(Random random, long end) {
+        while (System.nanoTime() < end) {
+            RequestMix.Request request = mix.next(random);
+            Endpoint endpoint = endpoints.computeIfAbsent(request.name(), name -> new Endpoint());
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+                    .timeout(Duration.ofSeconds(30))
+                    .header(LoadTestConfig.ENDPOINT_HEADER, request.name());
+            if (request.body() == null) {
+                builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+            } else {
+                builder.header("Content-Type", "application/json")
+                        .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()));
+            }
+
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = null;
+            try {
+                response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            }
+            // 워밍업 구간 응답은 버림
+            if (!measuring) continue;
+            long micros = Math.min((System.nanoTime() - start) / 1000, MAX_LATENCY_MICROS);
+            endpoint.latency.recordValue(micros);
+            total.recordValue(micros);
+            if (response == null || response.statusCode() >= 400) endpoint.errors.increment();
+            if (response != null) endpoint.record(response);
+        }
+    }
+
+    private static final class Endpoint {
+        private final Recorder latency = new Recorder(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder queries = new LongAdder();
+        private final LongAccumulator maxQueries = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final DoubleAdder dbMillis = new DoubleAdder();
+
+        void record(HttpResponse<?> response) {
+            long count = response.headers().firstValueAsLong(QueryStatsFilter.QUERY_COUNT_HEADER).orElse(0);
+            queries.add(count);
+            maxQueries.accumulate(count);
+            rows.add(response.headers().firstValueAsLong(QueryStatsFilter.ROW_COUNT_HEADER).orElse(0));
+            dbMillis.add(response.headers().firstValue(QueryStatsFilter.TIME_HEADER).map(Double::parseDouble).orElse(0.0));
+        }
+
+    }
+
+    // latency : 전체 엔드포인트를 합친 응답 시간 (마이크로초)
+    record Result(double seconds, int concurrency, Map<String, Row> rows, Histogram latency) {
+        record Row(long requests, long errors, double throughput, double p50, double p90, double p99, double max,
+                   double avgQueries, long maxQueries, double avgRows, double avgDbMillis) {
+        }
+
+        String format() {
+            StringBuilder out = new StringBuilder();
+            long requests = rows.values().stream().mapToLong(Row::requests).sum();
+            long errors = rows.values().stream().mapToLong(Row::errors).sum();
+            out.append(String.format("duration %.1f s, concurrency %d, requests %d, errors %d, %.1f req/s%n",
+                    seconds, concurrency, requests, errors, requests / seconds));
+            out.append(String.format("%-28s %8s %7s %9s %9s %9s %9s %9s %8s %6s %9s %8s%n", "endpoint", "requests", "errors",
+                    "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "queries", "maxQ", "rows", "db(ms)"));
+            rows.forEach((name, row) -> out.append(String.format("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %8.2f %6d %9.1f %8.2f%n",
+                    name, row.requests(), row.errors(), row.throughput(), row.p50(), row.p90(), row.p99(), row.max(),
+                    row.avgQueries(), row.maxQueries(), row.avgRows(), row.avgDbMillis())));
+            return out.toString();
+        }
+    }
+}
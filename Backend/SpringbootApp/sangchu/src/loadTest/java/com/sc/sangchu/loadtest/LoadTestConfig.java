@@ -0,0 +1,30 @@
+package com.sc.sangchu.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/*
+ * 부하 테스트 실행 시에만 추가하는 설정
+ * PostgreSqlConfig 가 켜 둔 SQL 로그 출력을 꺼서 콘솔 출력이 응답 시간에 섞이지 않게 함 (jpaPropertyMap 이 vendor adapter 설정보다 우선)
+ * 요청별 SQL 통계는 앱의 QueryStatsFilter 응답 헤더를 사용 (LoadTestMain 이 sql.stats.expose-headers 를 켜서 띄움)
+ */
+@Configuration
+public class LoadTestConfig {
+    public static final String ENDPOINT_HEADER = "X-Load-Endpoint";
+
+    @Bean
+    public static BeanPostProcessor showSqlOffPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.getJpaPropertyMap().put("hibernate.show_sql", "false");
+                    entityManagerFactory.getJpaPropertyMap().put("hibernate.format_sql", "false");
+                }
+                return bean;
+            }
+        };
+    }
+}
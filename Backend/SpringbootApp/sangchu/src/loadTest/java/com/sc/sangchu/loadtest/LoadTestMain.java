@@ -0,0 +1,214 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.SangchuApplication;
+import com.sc.sangchu.profiling.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+
+/*
+ * 종단간 부하 테스트 실행기
+ * 1. 로컬 PostgreSQL 임시 클러스터(또는 --db-url) 와 내장 Redis 대역 서버 기동
+ * 2. 앱을 빈 포트로 띄워 Hibernate 가 스키마를 만들면 합성 데이터 적재
+ * 3. 요청 구성(mix.txt)대로 부하를 주고 엔드포인트별 응답 시간 / 처리량 / 요청당 쿼리 수, 행 수, DB 시간 출력
+ *
+ * ./gradlew loadTest -PloadTestArgs="--concurrency=32 --duration=120 --report=build/load-test.txt"
+ *   --db-url, --db-user, --db-password : 외부 PostgreSQL 사용 (기존 comm_*_tb 데이터는 지워짐)
+ *   --districts(1650) --services(63) --years(3) --service-density(0.45) --seed(42) : 합성 데이터 규모
+ *   --scale : 지정하면 실제 표본 CSV(--sample-dir, 기본 ../../DataModel/data_set)를 scale 배 상권으로 늘려 적재 (SampleScaler)
+ *             --quarters(표본 분기 수) --growth(1.03) --spread(0.25) --seed(42)
+ *   --loader(copy) : copy(COPY FROM STDIN), insert(배치 INSERT)
+ *   --generate-only : 데이터만 적재하고 부하는 주지 않고 종료 (외부 DB 준비용)
+ *   --concurrency(16) --warmup(15) --duration(60) : 부하 (초)
+ *   --mix : 요청 구성 파일 (기본 loadtest/mix.txt), --report : 결과 저장 파일
+ *   --compare-stacks=16,64,256 : 부하 대신 블로킹 / 논블로킹(/api/reactive/**) 경로를 동시 사용자 수 단계별로 비교 (StackBenchmark)
+ *             요청 구성은 --mix 가 없으면 loadtest/stack-mix.txt
+ *   --tomcat-threads(200) --r2dbc-pool(10) : 앱 Tomcat 최대 스레드 수 / R2DBC 연결 풀 크기
+ *   --threads(platform) : platform(Tomcat 스레드 풀), virtual(가상 스레드, Java 21 이상)
+ *   --compare-threads=16,64,256 : 같은 데이터로 앱을 스레드 풀 / 가상 스레드 모드로 차례로 띄워 동시 사용자 수 단계별로 비교
+ *             요청 구성은 --mix 가 없으면 loadtest/stack-mix.txt, Java 21 미만이면 가상 스레드 단계는 건너뜀
+ *             fan-out 연결 풀 고갈 확인은 --compare-threads=10,20,40 --mix=src/loadTest/resources/loadtest/district-rank-mix.txt
+ *   --compare-reads=200 : 부하 대신 JPA 저장소(open-in-view) / StatelessSession 조회를 요청 수만큼 반복해 비교 (ReadPathBenchmark)
+ *             --fetch-sizes(64,256,1024) : StatelessSession 조회의 fetchSize 단계
+ */
+@Slf4j
+public final class LoadTestMain {
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        DataGenerator.Options defaults = DataGenerator.Options.defaults();
+        DataGenerator.Options generatorOptions = new DataGenerator.Options(
+                Integer.parseInt(options.getOrDefault("districts", String.valueOf(defaults.districts()))),
+                Integer.parseInt(options.getOrDefault("services", String.valueOf(defaults.services()))),
+                Integer.parseInt(options.getOrDefault("years", String.valueOf(defaults.years()))),
+                Double.parseDouble(options.getOrDefault("service-density", String.valueOf(defaults.serviceDensity()))),
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(defaults.seed()))));
+
+        LocalPostgres postgres = null;
+        MiniRedisServer redis = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            String dbUrl = options.get("db-url");
+            String dbUser = options.getOrDefault("db-user", LocalPostgres.USER);
+            String dbPassword = options.getOrDefault("db-password", "");
+            if (dbUrl == null) {
+                postgres = LocalPostgres.start();
+                dbUrl = postgres.getJdbcUrl();
+            }
+            redis = new MiniRedisServer(0);
+
+            boolean compareThreads = options.containsKey("compare-threads");
+            context = boot(options, dbUrl, dbUser, dbPassword, redis.getPort(),
+                    !compareThreads && "virtual".equals(options.getOrDefault("threads", "platform")));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            DataGenerator.Dataset dataset;
+            try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+                DataGenerator.RowSink sink = "insert".equals(options.getOrDefault("loader", "copy"))
+                        ? new JdbcRowSink(connection) : new CopyRowSink(connection);
+                dataset = options.containsKey("scale")
+                        ? new SampleScaler(SampleData.load(Path.of(options.getOrDefault("sample-dir", "../../DataModel/data_set"))),
+                                scalerOptions(options)).generate(sink)
+                        : new DataGenerator(generatorOptions).generate(sink);
+            }
+            if (options.containsKey("generate-only")) return;
+
+            Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+            Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+            String report;
+            if (compareThreads) {
+                int[] levels = Arrays.stream(options.get("compare-threads").split(",")).mapToInt(Integer::parseInt).toArray();
+                RequestMix mix = RequestMix.load(options.get("mix"), "/loadtest/stack-mix.txt", dataset);
+                List<StackBenchmark.Run> runs = new ArrayList<>(threadRuns("platform", context, mix, levels, warmup, duration));
+                String settings = String.format(
+                        "tomcat max threads %s, hikari pool %d, fan-out parallelism %s, warmup %d s, duration %d s, busy = JVM 플랫폼 스레드 수",
+                        options.getOrDefault("tomcat-threads", "200"),
+                        context.getBean(DataSource.class).unwrap(HikariDataSource.class).getMaximumPoolSize(),
+                        context.getEnvironment().getProperty("fan-out.parallelism"), warmup.toSeconds(), duration.toSeconds());
+                StringBuilder notes = new StringBuilder();
+                context.close();
+                redis.close();
+                context = null;
+                redis = null;
+                if (Runtime.version().feature() < 21) {
+                    notes.append("virtual : Java ").append(Runtime.version().feature()).append(" 에서는 가상 스레드를 쓸 수 없어 건너뜀");
+                } else {
+                    // 차트 캐시가 앞 단계에서 채워지지 않은 상태로 시작하도록 Redis 도 새로
+                    redis = new MiniRedisServer(0);
+                    context = boot(options, dbUrl, dbUser, dbPassword, redis.getPort(), true);
+                    runs.addAll(threadRuns("virtual", context, mix, levels, warmup, duration));
+                    notes.append("virtual : jvm.threads.virtual.pinned ").append((long) context.getBean(MeterRegistry.class)
+                            .find(VirtualThreadPinningMonitor.METRIC).counters().stream().mapToDouble(Counter::count).sum());
+                }
+                report = StackBenchmark.format(runs, settings) + notes + System.lineSeparator();
+            } else if (options.containsKey("compare-reads")) {
+                String iterations = options.get("compare-reads");
+                ReadPathBenchmark benchmark = new ReadPathBenchmark(context, dataset,
+                        "true".equals(iterations) ? 200 : Integer.parseInt(iterations));
+                int[] fetchSizes = Arrays.stream(options.getOrDefault("fetch-sizes", "64,256,1024").split(","))
+                        .mapToInt(Integer::parseInt).toArray();
+                report = ReadPathBenchmark.format(benchmark.run(fetchSizes), String.format(
+                        "districts %d, sales year %d, %s",
+                        dataset.districts().size(), dataset.lastYear(), Runtime.version()));
+            } else if (options.containsKey("compare-stacks")) {
+                int[] levels = Arrays.stream(options.get("compare-stacks").split(",")).mapToInt(Integer::parseInt).toArray();
+                Executor executor = ((TomcatWebServer) ((WebServerApplicationContext) context).getWebServer())
+                        .getTomcat().getConnector().getProtocolHandler().getExecutor();
+                IntSupplier busyThreads = executor instanceof ThreadPoolExecutor pool ? pool::getActiveCount : () -> 0;
+                StackBenchmark benchmark = new StackBenchmark("http://127.0.0.1:" + port,
+                        RequestMix.load(options.get("mix"), "/loadtest/stack-mix.txt", dataset), warmup, duration,
+                        busyThreads);
+                report = StackBenchmark.format(benchmark.run(levels), String.format(
+                        "tomcat max threads %s, hikari pool %d, r2dbc pool %s, warmup %d s, duration %d s",
+                        options.getOrDefault("tomcat-threads", "200"),
+                        context.getBean(DataSource.class).unwrap(HikariDataSource.class).getMaximumPoolSize(),
+                        options.getOrDefault("r2dbc-pool", "10"), warmup.toSeconds(), duration.toSeconds()));
+            } else {
+                LoadDriver driver = new LoadDriver("http://127.0.0.1:" + port, RequestMix.load(options.get("mix"), dataset),
+                        Integer.parseInt(options.getOrDefault("concurrency", "16")), warmup, duration);
+                report = driver.run().format();
+            }
+            System.out.println(report);
+            if (options.containsKey("report")) {
+                Path path = Path.of(options.get("report"));
+                if (path.getParent() != null) Files.createDirectories(path.getParent());
+                Files.writeString(path, report, StandardCharsets.UTF_8);
+            }
+        } finally {
+            if (context != null) context.close();
+            if (redis != null) redis.close();
+            if (postgres != null) postgres.close();
+        }
+    }
+
+    // 명령행 인자가 application.properties 보다 우선
+    private static ConfigurableApplicationContext boot(Map<String, String> options, String dbUrl, String dbUser,
+                                                       String dbPassword, int redisPort, boolean virtualThreads) {
+        return new SpringApplicationBuilder(SangchuApplication.class, LoadTestConfig.class)
+                .run("--DB_URL=" + dbUrl, "--DB_USERNAME=" + dbUser, "--DB_PASSWORD=" + dbPassword,
+                        "--REDIS_HOST=127.0.0.1", "--REDIS_PORT=" + redisPort, "--REDIS_PASSWORD=",
+                        "--SERVER_PORT=0",
+                        "--sql.stats.expose-headers=true",
+                        "--server.tomcat.threads.max=" + options.getOrDefault("tomcat-threads", "200"),
+                        "--reactive.r2dbc.pool.max-size=" + options.getOrDefault("r2dbc-pool", "10"),
+                        "--spring.threads.virtual.enabled=" + virtualThreads);
+    }
+
+    // 스레드 모델 비교는 Tomcat 스레드 풀이 없는 가상 스레드 쪽과 맞추려고 JVM 플랫폼 스레드 수를 봄
+    private static List<StackBenchmark.Run> threadRuns(String model, ConfigurableApplicationContext context, RequestMix mix,
+                                                       int[] levels, Duration warmup, Duration duration)
+            throws InterruptedException {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        StackBenchmark benchmark = new StackBenchmark("http://127.0.0.1:" + port, mix, warmup, duration,
+                ManagementFactory.getThreadMXBean()::getThreadCount);
+        List<StackBenchmark.Run> runs = new ArrayList<>();
+        for (int concurrency : levels) {
+            runs.add(benchmark.run(model, mix, concurrency));
+        }
+        return runs;
+    }
+
+    private static SampleScaler.Options scalerOptions(Map<String, String> options) {
+        SampleScaler.Options defaults = SampleScaler.Options.defaults();
+        return new SampleScaler.Options(
+                Integer.parseInt(options.getOrDefault("scale", String.valueOf(defaults.scale()))),
+                Integer.parseInt(options.getOrDefault("quarters", String.valueOf(defaults.quarters()))),
+                Double.parseDouble(options.getOrDefault("growth", String.valueOf(defaults.growth()))),
+                Double.parseDouble(options.getOrDefault("spread", String.valueOf(defaults.spread()))),
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(defaults.seed()))));
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("알 수 없는 인자 : " + arg);
+            int index = arg.indexOf('=');
+            if (index < 0) options.put(arg.substring(2), "true");
+            else options.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        return options;
+    }
+}
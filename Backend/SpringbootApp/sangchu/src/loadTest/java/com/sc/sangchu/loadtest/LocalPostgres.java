@@ -0,0 +1,117 @@
+package com.sc.sangchu.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * 로컬에 설치된 PostgreSQL 바이너리(initdb, pg_ctl)로 임시 클러스터를 띄움
+ * 데이터 디렉토리는 임시 폴더, 내구성 옵션(fsync 등)은 끄고 127.0.0.1 빈 포트로만 열어 close 시 통째로 삭제
+ * 바이너리 위치 : PG_BIN 환경변수 -> PATH -> /usr/lib/postgresql/<버전>/bin -> /usr/local/pgsql/bin
+ */
+@Slf4j
+final class LocalPostgres implements Closeable {
+    static final String USER = "sangchu";
+
+    private final Path binDir;
+    private final Path dataDir;
+    private final int port;
+
+    private LocalPostgres(Path binDir, Path dataDir, int port) {
+        this.binDir = binDir;
+        this.dataDir = dataDir;
+        this.port = port;
+    }
+
+    static LocalPostgres start() throws IOException, InterruptedException {
+        if ("root".equals(System.getProperty("user.name"))) {
+            throw new IllegalStateException("initdb 는 root 로 실행할 수 없습니다. 일반 사용자로 실행하거나 --db-url 로 외부 DB를 지정하세요.");
+        }
+        Path binDir = findBinDir();
+        Path dataDir = Files.createTempDirectory("sangchu-loadtest-pg");
+        int port = freePort();
+        LocalPostgres postgres = new LocalPostgres(binDir, dataDir, port);
+        try {
+            postgres.run("initdb", "-D", dataDir.resolve("data").toString(), "-U", USER, "-A", "trust", "-E", "UTF8",
+                    "--locale=C", "--no-sync");
+            postgres.run("pg_ctl", "-D", dataDir.resolve("data").toString(), "-l", dataDir.resolve("postgres.log").toString(),
+                    "-w", "-o", "-p " + port + " -k " + dataDir + " -c listen_addresses=127.0.0.1"
+                            + " -c fsync=off -c synchronous_commit=off -c full_page_writes=off", "start");
+        } catch (IOException | RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+        log.info("local postgres started on port {} ({})", port, binDir);
+        return postgres;
+    }
+
+    String getJdbcUrl() {
+        return "jdbc:postgresql://127.0.0.1:" + port + "/postgres?reWriteBatchedInserts=true";
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (Files.exists(dataDir.resolve("data/postmaster.pid"))) {
+                run("pg_ctl", "-D", dataDir.resolve("data").toString(), "-m", "immediate", "-w", "stop");
+            }
+        } catch (Exception e) {
+            log.error("local postgres stop error", e);
+        }
+        try (Stream<Path> paths = Files.walk(dataDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            log.error("local postgres cleanup error", e);
+        }
+    }
+
+    private void run(String command, String... args) throws IOException, InterruptedException {
+        List<String> commandLine = new ArrayList<>();
+        commandLine.add(binDir.resolve(command).toString());
+        commandLine.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(commandLine).redirectErrorStream(true)
+                .redirectOutput(dataDir.resolve(command + ".out").toFile()).start();
+        if (!process.waitFor(2, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException(command + " 실패 : " + Files.readString(dataDir.resolve(command + ".out")));
+        }
+    }
+
+    private static Path findBinDir() throws IOException {
+        List<Path> candidates = new ArrayList<>();
+        String pgBin = System.getenv("PG_BIN");
+        if (pgBin != null) candidates.add(Path.of(pgBin));
+        for (String dir : System.getenv().getOrDefault("PATH", "").split(File.pathSeparator)) {
+            if (!dir.isEmpty()) candidates.add(Path.of(dir));
+        }
+        Path debian = Path.of("/usr/lib/postgresql");
+        if (Files.isDirectory(debian)) {
+            try (Stream<Path> versions = Files.list(debian)) {
+                versions.sorted(Comparator.reverseOrder()).forEach(version -> candidates.add(version.resolve("bin")));
+            }
+        }
+        candidates.add(Path.of("/usr/local/pgsql/bin"));
+        return candidates.stream()
+                .filter(dir -> Files.isExecutable(dir.resolve("initdb")) && Files.isExecutable(dir.resolve("pg_ctl")))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "initdb / pg_ctl 을 찾을 수 없습니다. PG_BIN 환경변수로 PostgreSQL bin 폴더를 지정하거나 --db-url 로 외부 DB를 지정하세요."));
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
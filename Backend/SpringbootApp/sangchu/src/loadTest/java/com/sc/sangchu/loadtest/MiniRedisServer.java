@@ -0,0 +1,472 @@
+package com.sc.sangchu.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/*
+ * 부하 테스트용 인메모리 Redis 대체 서버 (RESP2)
+ * 앱이 쓰는 명령만 구현 : 문자열(GET/SET/MGET), 키(DEL/EXISTS/KEYS/SCAN/RENAME/EXPIRE/TTL), sorted set(ZADD/ZRANGE/ZRANK ...)
+ * EVAL 은 Lua 를 실행하지 않고 순위표 잠금 해제 스크립트(get 비교 후 del)만 흉내 냄
+ * Redis 처럼 명령은 전역 락 하나로 직렬 실행, 키와 값은 바이트 그대로 보존하도록 ISO-8859-1 문자열로 저장
+ * HELLO 는 모르는 명령으로 응답해서 Lettuce 가 RESP2 + AUTH 로 접속하도록 함
+ */
+@Slf4j
+public final class MiniRedisServer implements Closeable {
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Object> data = new HashMap<>();
+    private final Map<String, Long> expiresAt = new HashMap<>();
+    private final Object lock = new Object();
+    private volatile boolean running = true;
+
+    public MiniRedisServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "mini-redis-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Thread connection = new Thread(() -> serve(socket), "mini-redis-" + socket.getPort());
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                if (running) log.error("mini redis accept error", e);
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream(), 1 << 16);
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 1 << 16)) {
+            while (running) {
+                List<String> command = readCommand(in);
+                if (command == null) return;
+                synchronized (lock) {
+                    execute(command, out);
+                }
+                // 파이프라인으로 이어서 온 명령이 있으면 모아서 한 번에 전송
+                if (in.available() == 0) out.flush();
+                if ("QUIT".equalsIgnoreCase(command.get(0))) {
+                    out.flush();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            if (running) log.debug("mini redis connection closed: {}", e.getMessage());
+        }
+    }
+
+    private List<String> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) return null;
+        if (type != '*') throw new IOException("inline command not supported");
+        int count = (int) readLong(in);
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') throw new IOException("bulk string expected");
+            int length = (int) readLong(in);
+            byte[] bytes = in.readNBytes(length);
+            in.readNBytes(2);
+            args.add(new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+        return args;
+    }
+
+    private long readLong(InputStream in) throws IOException {
+        long value = 0;
+        boolean negative = false;
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) throw new EOFException();
+            if (c == '-') negative = true;
+            else value = value * 10 + (c - '0');
+        }
+        in.read();
+        return negative ? -value : value;
+    }
+
+    private void execute(List<String> args, OutputStream out) throws IOException {
+        String name = args.get(0).toUpperCase(Locale.ROOT);
+        try {
+            switch (name) {
+                case "PING" -> {
+                    if (args.size() > 1) bulk(out, args.get(1));
+                    else simple(out, "PONG");
+                }
+                case "AUTH", "SELECT", "CLIENT", "QUIT", "READONLY" -> simple(out, "OK");
+                case "ECHO" -> bulk(out, args.get(1));
+                case "INFO" -> bulk(out, "# Server\r\nredis_version:7.2.0\r\nredis_mode:standalone\r\n");
+                case "FLUSHALL", "FLUSHDB" -> {
+                    data.clear();
+                    expiresAt.clear();
+                    simple(out, "OK");
+                }
+                case "DBSIZE" -> integer(out, data.size());
+                case "GET" -> bulk(out, string(args.get(1)));
+                case "MGET" -> {
+                    array(out, args.size() - 1);
+                    for (int i = 1; i < args.size(); i++) bulk(out, string(args.get(i)));
+                }
+                case "SET" -> set(args, out);
+                case "SETEX", "PSETEX" -> {
+                    long amount = Long.parseLong(args.get(2));
+                    data.put(args.get(1), args.get(3));
+                    expiresAt.put(args.get(1), System.currentTimeMillis() + ("SETEX".equals(name) ? amount * 1000 : amount));
+                    simple(out, "OK");
+                }
+                // 스크립트 캐시가 없어 클라이언트가 EVAL 로 다시 보내게 함
+                case "EVALSHA" -> error(out, "NOSCRIPT No matching script");
+                case "EVAL" -> {
+                    if (!args.get(1).contains("redis.call('get', KEYS[1]) == ARGV[1]") || !"1".equals(args.get(2))) {
+                        error(out, "ERR unsupported script");
+                        return;
+                    }
+                    boolean owned = args.get(4).equals(string(args.get(3)));
+                    if (owned) remove(args.get(3));
+                    integer(out, owned ? 1 : 0);
+                }
+                case "DEL", "UNLINK" -> {
+                    int removed = 0;
+                    for (int i = 1; i < args.size(); i++) {
+                        if (live(args.get(i)) != null) removed++;
+                        remove(args.get(i));
+                    }
+                    integer(out, removed);
+                }
+                case "EXISTS" -> {
+                    int found = 0;
+                    for (int i = 1; i < args.size(); i++) if (live(args.get(i)) != null) found++;
+                    integer(out, found);
+                }
+                case "KEYS" -> {
+                    Pattern pattern = glob(args.get(1));
+                    List<String> keys = new ArrayList<>();
+                    for (String key : new ArrayList<>(data.keySet())) {
+                        if (live(key) != null && pattern.matcher(key).matches()) keys.add(key);
+                    }
+                    array(out, keys.size());
+                    for (String key : keys) bulk(out, key);
+                }
+                case "SCAN" -> {
+                    // 커서 없이 한 번에 모두 반환 (다음 커서 0)
+                    Pattern pattern = glob("*");
+                    for (int i = 2; i + 1 < args.size(); i += 2) {
+                        if ("MATCH".equalsIgnoreCase(args.get(i))) pattern = glob(args.get(i + 1));
+                    }
+                    List<String> keys = new ArrayList<>();
+                    for (String key : new ArrayList<>(data.keySet())) {
+                        if (live(key) != null && pattern.matcher(key).matches()) keys.add(key);
+                    }
+                    array(out, 2);
+                    bulk(out, "0");
+                    array(out, keys.size());
+                    for (String key : keys) bulk(out, key);
+                }
+                case "RENAME" -> {
+                    Object value = live(args.get(1));
+                    if (value == null) {
+                        error(out, "ERR no such key");
+                        return;
+                    }
+                    Long expiry = expiresAt.get(args.get(1));
+                    remove(args.get(1));
+                    remove(args.get(2));
+                    data.put(args.get(2), value);
+                    if (expiry != null) expiresAt.put(args.get(2), expiry);
+                    simple(out, "OK");
+                }
+                case "EXPIRE", "PEXPIRE" -> {
+                    if (live(args.get(1)) == null) {
+                        integer(out, 0);
+                        return;
+                    }
+                    long amount = Long.parseLong(args.get(2));
+                    expiresAt.put(args.get(1), System.currentTimeMillis() + ("EXPIRE".equals(name) ? amount * 1000 : amount));
+                    integer(out, 1);
+                }
+                case "TTL", "PTTL" -> {
+                    if (live(args.get(1)) == null) integer(out, -2);
+                    else if (!expiresAt.containsKey(args.get(1))) integer(out, -1);
+                    else {
+                        long remaining = expiresAt.get(args.get(1)) - System.currentTimeMillis();
+                        integer(out, "TTL".equals(name) ? remaining / 1000 : remaining);
+                    }
+                }
+                case "TYPE" -> {
+                    Object value = live(args.get(1));
+                    simple(out, value == null ? "none" : value instanceof SortedSet ? "zset" : "string");
+                }
+                case "ZADD" -> zAdd(args, out);
+                case "ZCARD" -> {
+                    SortedSet set = sortedSet(args.get(1), false);
+                    integer(out, set == null ? 0 : set.scores.size());
+                }
+                case "ZSCORE" -> {
+                    SortedSet set = sortedSet(args.get(1), false);
+                    Double score = set == null ? null : set.scores.get(args.get(2));
+                    bulk(out, score == null ? null : format(score));
+                }
+                case "ZRANK", "ZREVRANK" -> {
+                    SortedSet set = sortedSet(args.get(1), false);
+                    Double score = set == null ? null : set.scores.get(args.get(2));
+                    if (score == null) {
+                        bulk(out, null);
+                        return;
+                    }
+                    int rank = set.order.headSet(new Member(args.get(2), score)).size();
+                    integer(out, "ZRANK".equals(name) ? rank : set.scores.size() - 1 - rank);
+                }
+                case "ZRANGE", "ZREVRANGE" -> zRange(args, "ZREVRANGE".equals(name), out);
+                case "ZREM" -> {
+                    SortedSet set = sortedSet(args.get(1), false);
+                    int removed = 0;
+                    for (int i = 2; set != null && i < args.size(); i++) {
+                        Double score = set.scores.remove(args.get(i));
+                        if (score != null) {
+                            set.order.remove(new Member(args.get(i), score));
+                            removed++;
+                        }
+                    }
+                    integer(out, removed);
+                }
+                default -> error(out, "ERR unknown command '" + args.get(0) + "'");
+            }
+        } catch (WrongTypeException e) {
+            error(out, "WRONGTYPE Operation against a key holding the wrong kind of value");
+        } catch (RuntimeException e) {
+            error(out, "ERR " + e.getMessage());
+        }
+    }
+
+    private void set(List<String> args, OutputStream out) throws IOException {
+        String key = args.get(1);
+        Long expiry = null;
+        boolean onlyIfAbsent = false, onlyIfPresent = false;
+        for (int i = 3; i < args.size(); i++) {
+            switch (args.get(i).toUpperCase(Locale.ROOT)) {
+                case "EX" -> expiry = System.currentTimeMillis() + Long.parseLong(args.get(++i)) * 1000;
+                case "PX" -> expiry = System.currentTimeMillis() + Long.parseLong(args.get(++i));
+                case "NX" -> onlyIfAbsent = true;
+                case "XX" -> onlyIfPresent = true;
+                default -> {
+                }
+            }
+        }
+        boolean exists = live(key) != null;
+        if ((onlyIfAbsent && exists) || (onlyIfPresent && !exists)) {
+            bulk(out, null);
+            return;
+        }
+        remove(key);
+        data.put(key, args.get(2));
+        if (expiry != null) expiresAt.put(key, expiry);
+        simple(out, "OK");
+    }
+
+    private void zAdd(List<String> args, OutputStream out) throws IOException {
+        SortedSet set = sortedSet(args.get(1), true);
+        int i = 2;
+        boolean onlyIfAbsent = false, onlyIfPresent = false, changed = false;
+        for (; i < args.size(); i++) {
+            String flag = args.get(i).toUpperCase(Locale.ROOT);
+            if ("NX".equals(flag)) onlyIfAbsent = true;
+            else if ("XX".equals(flag)) onlyIfPresent = true;
+            else if ("CH".equals(flag)) changed = true;
+            else break;
+        }
+        int added = 0, updated = 0;
+        for (; i + 1 < args.size(); i += 2) {
+            double score = parseScore(args.get(i));
+            String member = args.get(i + 1);
+            Double previous = set.scores.get(member);
+            if ((onlyIfAbsent && previous != null) || (onlyIfPresent && previous == null)) continue;
+            if (previous != null) {
+                if (previous == score) continue;
+                set.order.remove(new Member(member, previous));
+                updated++;
+            } else {
+                added++;
+            }
+            set.scores.put(member, score);
+            set.order.add(new Member(member, score));
+        }
+        integer(out, changed ? added + updated : added);
+    }
+
+    private void zRange(List<String> args, boolean reverse, OutputStream out) throws IOException {
+        SortedSet set = sortedSet(args.get(1), false);
+        boolean withScores = args.size() > 4 && "WITHSCORES".equalsIgnoreCase(args.get(4));
+        if (set == null) {
+            array(out, 0);
+            return;
+        }
+        int size = set.scores.size();
+        long start = Long.parseLong(args.get(2)), stop = Long.parseLong(args.get(3));
+        if (start < 0) start = Math.max(0, size + start);
+        if (stop < 0) stop = size + stop;
+        stop = Math.min(stop, size - 1);
+        if (start > stop) {
+            array(out, 0);
+            return;
+        }
+        List<Member> members = new ArrayList<>((int) (stop - start + 1));
+        Iterator<Member> iterator = reverse ? set.order.descendingIterator() : set.order.iterator();
+        for (long index = 0; iterator.hasNext() && index <= stop; index++) {
+            Member member = iterator.next();
+            if (index >= start) members.add(member);
+        }
+        array(out, withScores ? members.size() * 2 : members.size());
+        for (Member member : members) {
+            bulk(out, member.value);
+            if (withScores) bulk(out, format(member.score));
+        }
+    }
+
+    // 만료된 키는 조회 시점에 삭제
+    private Object live(String key) {
+        Long expiry = expiresAt.get(key);
+        if (expiry != null && expiry <= System.currentTimeMillis()) remove(key);
+        return data.get(key);
+    }
+
+    private void remove(String key) {
+        data.remove(key);
+        expiresAt.remove(key);
+    }
+
+    private String string(String key) {
+        Object value = live(key);
+        if (value != null && !(value instanceof String)) throw new WrongTypeException();
+        return (String) value;
+    }
+
+    private SortedSet sortedSet(String key, boolean create) {
+        Object value = live(key);
+        if (value == null) {
+            if (!create) return null;
+            SortedSet set = new SortedSet();
+            data.put(key, set);
+            return set;
+        }
+        if (!(value instanceof SortedSet set)) throw new WrongTypeException();
+        return set;
+    }
+
+    private static double parseScore(String text) {
+        return switch (text.toLowerCase(Locale.ROOT)) {
+            case "inf", "+inf" -> Double.POSITIVE_INFINITY;
+            case "-inf" -> Double.NEGATIVE_INFINITY;
+            default -> Double.parseDouble(text);
+        };
+    }
+
+    private static String format(double score) {
+        if (Double.isInfinite(score)) return score > 0 ? "inf" : "-inf";
+        if (score == Math.rint(score) && Math.abs(score) < 1e17) return Long.toString((long) score);
+        return Double.toString(score);
+    }
+
+    // Redis glob (*, ?, [abc]) -> 정규식
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                case '[' -> {
+                    int end = glob.indexOf(']', i);
+                    if (end < 0) regex.append("\\[");
+                    else {
+                        regex.append('[').append(glob, i + 1, end).append(']');
+                        i = end;
+                    }
+                }
+                case '\\' -> {
+                    if (i + 1 < glob.length()) regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                }
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write('+');
+        out.write(value.getBytes(StandardCharsets.ISO_8859_1));
+        out.write(CRLF);
+    }
+
+    private static void error(OutputStream out, String message) throws IOException {
+        out.write('-');
+        out.write(message.getBytes(StandardCharsets.ISO_8859_1));
+        out.write(CRLF);
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write(':');
+        out.write(Long.toString(value).getBytes(StandardCharsets.ISO_8859_1));
+        out.write(CRLF);
+    }
+
+    private static void array(OutputStream out, int size) throws IOException {
+        out.write('*');
+        out.write(Integer.toString(size).getBytes(StandardCharsets.ISO_8859_1));
+        out.write(CRLF);
+    }
+
+    private static void bulk(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.write("$-1".getBytes(StandardCharsets.ISO_8859_1));
+            out.write(CRLF);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        out.write('$');
+        out.write(Integer.toString(bytes.length).getBytes(StandardCharsets.ISO_8859_1));
+        out.write(CRLF);
+        out.write(bytes);
+        out.write(CRLF);
+    }
+
+    private static final class SortedSet {
+        private final Map<String, Double> scores = new HashMap<>();
+        private final TreeSet<Member> order = new TreeSet<>();
+    }
+
+    // 점수, 같으면 멤버 바이트 순 (Redis 와 같은 순서)
+    private record Member(String value, double score) implements Comparable<Member> {
+        @Override
+        public int compareTo(Member other) {
+            int compare = Double.compare(score, other.score);
+            return compare != 0 ? compare : value.compareTo(other.value);
+        }
+    }
+
+    private static final class WrongTypeException extends RuntimeException {
+    }
+}
@@ -0,0 +1,157 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommEstimatedSalesRepository;
+import com.sc.sangchu.postgresql.readonly.StatelessReads;
+import com.sc.sangchu.postgresql.repository.CommDistRepository;
+import com.sc.sangchu.postgresql.repository.CommEstimatedSalesRepository;
+import com.sc.sangchu.postgresql.service.CommDistRecommendService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/*
+ * 조회 경로 비교 : Spring Data JPA 저장소(open-in-view) / 읽기 전용 StatelessSession(fetchSize 단계별)
+ * 요청 하나를 흉내 내 스레드에 EntityManager 를 묶고(OpenEntityManagerInViewInterceptor 와 같음) 조회 -> 결과를 쥔 채로 측정
+ *   ms / op, cpu / op : 조회 + 변환 시간 (현재 스레드 CPU 시간, JDBC 대기 제외)
+ *   alloc / op : 현재 스레드가 할당한 바이트
+ *   retained : 조회 뒤 요청이 끝나기 전까지 영속성 컨텍스트가 붙잡는 힙 (엔티티 / EntityEntry / 로딩 스냅샷), 결과 목록 자체는 제외
+ * 조회는 상권 전체 -> CommDistDTO (getAllCommDist), 상권 하나의 외식업 추정 매출 행 (매출 그래프 API)
+ */
+@Slf4j
+final class ReadPathBenchmark {
+    private static final String MAJOR_CATEGORY = "외식업";
+    // JPA 저장소는 fetchSize 를 주지 않음 (자동 커밋이 아닌 트랜잭션이어도 드라이버 기본값 0, 결과 전체를 한 번에)
+    private static final int JPA_FETCH_SIZE = -1;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CommDistRepository commDistRepository;
+    private final CommEstimatedSalesRepository commEstimatedSalesRepository;
+    private final CommDistRecommendService commDistRecommendService;
+    private final List<Long> districtCodes;
+    private final int year;
+    private final int iterations;
+
+    record Run(String read, String path, int fetchSize, double millisPerOp, double cpuMicrosPerOp,
+               double allocPerOpKb, double retainedKb, int rows) {
+    }
+
+    ReadPathBenchmark(ApplicationContext context, DataGenerator.Dataset dataset, int iterations) {
+        this.entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        this.commDistRepository = context.getBean(CommDistRepository.class);
+        this.commEstimatedSalesRepository = context.getBean(CommEstimatedSalesRepository.class);
+        this.commDistRecommendService = context.getBean(CommDistRecommendService.class);
+        this.districtCodes = dataset.districts().stream().map(DataGenerator.District::code).toList();
+        this.year = dataset.lastYear();
+        this.iterations = iterations;
+    }
+
+    List<Run> run(int[] fetchSizes) {
+        List<Run> runs = new ArrayList<>();
+        runs.add(measure("all districts", "jpa", JPA_FETCH_SIZE, op -> commDistRepository.findAll().stream()
+                .map(commDistRecommendService::setCommDistDto).toList()));
+        for (int fetchSize : fetchSizes) {
+            ReadOnlyCommDistRepository repository = new ReadOnlyCommDistRepository(
+                    new StatelessReads(entityManagerFactory, fetchSize));
+            runs.add(measure("all districts", "stateless", fetchSize, op -> repository.streamAll(stream -> stream
+                    .map(commDistRecommendService::setCommDistDto).toList())));
+        }
+
+        runs.add(measure("sales rows", "jpa", JPA_FETCH_SIZE, op -> commEstimatedSalesRepository
+                .findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(year, district(op), MAJOR_CATEGORY)));
+        for (int fetchSize : fetchSizes) {
+            ReadOnlyCommEstimatedSalesRepository repository = new ReadOnlyCommEstimatedSalesRepository(
+                    new StatelessReads(entityManagerFactory, fetchSize));
+            runs.add(measure("sales rows", "stateless", fetchSize, op -> repository
+                    .findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(year, district(op), MAJOR_CATEGORY)));
+        }
+        return runs;
+    }
+
+    private Long district(int op) {
+        return districtCodes.get(op % districtCodes.size());
+    }
+
+    // 워밍업 iterations 번 뒤 iterations 번 측정, 요청마다 EntityManager 를 새로 묶고 닫음
+    private Run measure(String read, String path, int fetchSize, IntFunction<List<?>> request) {
+        log.info("read {} path {} fetch size {}", read, path, fetchSize);
+        for (int op = 0; op < iterations; op++) {
+            int index = op;
+            inRequest(() -> request.apply(index));
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(threadId);
+        long cpu = threads.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        for (int op = 0; op < iterations; op++) {
+            int index = op;
+            inRequest(() -> request.apply(index));
+        }
+        double nanos = System.nanoTime() - start;
+        cpu = threads.getCurrentThreadCpuTime() - cpu;
+        allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+        // 결과를 쥔 채로 영속성 컨텍스트만 비워 차이를 봄 (요청 사이 힙 차이는 캐시 / 버퍼 변동에 묻힘)
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long[] retained = new long[1];
+        int[] rows = new int[1];
+        inRequest(() -> {
+            List<?> result = request.apply(0);
+            long held = heapAfterGc(memory);
+            currentEntityManager().clear();
+            retained[0] = held - heapAfterGc(memory);
+            rows[0] = result.size();
+            return result;
+        });
+
+        return new Run(read, path, fetchSize, nanos / 1_000_000 / iterations, cpu / 1000.0 / iterations,
+                allocated / 1024.0 / iterations, Math.max(0, retained[0]) / 1024.0, rows[0]);
+    }
+
+    // open-in-view 요청 : 요청 동안 스레드에 EntityManager 를 묶어 저장소 트랜잭션이 끝나도 엔티티가 남음
+    private void inRequest(Supplier<List<?>> request) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            request.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private EntityManager currentEntityManager() {
+        return ((EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory)).getEntityManager();
+    }
+
+    private static long heapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    static String format(List<Run> runs, String settings) {
+        StringBuilder out = new StringBuilder();
+        out.append(settings).append(System.lineSeparator());
+        out.append(String.format("%-14s %-10s %6s %7s %9s %11s %13s %13s%n", "read", "path", "fetch", "rows",
+                "ms/op", "cpu/op(us)", "alloc/op(KB)", "retained(KB)"));
+        for (Run run : runs) {
+            out.append(String.format("%-14s %-10s %6s %7d %9.3f %11.1f %13.1f %13.1f%n", run.read(), run.path(),
+                    run.fetchSize() < 0 ? "-" : String.valueOf(run.fetchSize()), run.rows(), run.millisPerOp(),
+                    run.cpuMicrosPerOp(), run.allocPerOpKb(), run.retainedKb()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.capture.CapturedRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * 열린 루프 재생기
+ * 기록된 요청을 원래 간격 / speed 배속으로 보냄 (응답을 기다리지 않음, 동시에 maxInFlight 개까지)
+ * 응답 시간은 예정된 전송 시각부터 재서 재생기가 밀린 시간도 포함 (coordinated omission 보정)
+ * speed 가 0 이면 간격 없이 maxInFlight 한도 안에서 최대한 빨리 보냄
+ */
+@Slf4j
+final class ReplayDriver {
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private final String baseUrl;
+    private final double speed;
+    private final int maxInFlight;
+    private final HttpClient client;
+    private final Map<String, Endpoint> endpoints = new TreeMap<>();
+
+    ReplayDriver(String baseUrl, double speed, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.speed = speed;
+        this.maxInFlight = maxInFlight;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Result run(List<CapturedRequest> requests) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        LongAccumulator maxLagMicros = new LongAccumulator(Math::max, 0);
+        long firstMicros = requests.get(0).epochMicros();
+        long startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        log.info("replaying {} requests, speed {}, max in flight {}", requests.size(), speed, maxInFlight);
+
+        for (CapturedRequest request : requests) {
+            long due = speed > 0 ? start + (long) ((request.epochMicros() - firstMicros) * 1000 / speed) : System.nanoTime();
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            maxLagMicros.accumulate((System.nanoTime() - due) / 1000);
+
+            Endpoint endpoint = endpoints.computeIfAbsent(request.endpoint(), name -> new Endpoint());
+            endpoint.original.recordValue(Math.min(request.durationMicros(), MAX_LATENCY_MICROS));
+            client.sendAsync(build(request), HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                endpoint.latency.recordValue(Math.min((System.nanoTime() - due) / 1000, MAX_LATENCY_MICROS));
+                if (error != null || response.statusCode() >= 400) endpoint.errors.increment();
+                if (response != null && response.statusCode() != request.status()) endpoint.statusChanged.increment();
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(maxInFlight);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double capturedSeconds = (requests.get(requests.size() - 1).epochMicros() - firstMicros) / 1e6;
+        endpoints.values().forEach(endpoint -> {
+            endpoint.latency.setStartTimeStamp(startMillis);
+            endpoint.latency.setEndTimeStamp(System.currentTimeMillis());
+        });
+        return new Result(seconds, capturedSeconds, maxLagMicros.get() / 1000.0, endpoints);
+    }
+
+    private HttpRequest build(CapturedRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.uri()))
+                .timeout(Duration.ofSeconds(30));
+        if (!request.accept().isEmpty()) builder.header("Accept", request.accept());
+        if (request.body() == null) {
+            builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(request.method(), HttpRequest.BodyPublishers.ofByteArray(request.body()));
+        }
+        return builder.build();
+    }
+
+    static final class Endpoint {
+        private final Histogram original = new Histogram(MAX_LATENCY_MICROS, 3);
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder statusChanged = new LongAdder();
+    }
+
+    record Result(double seconds, double capturedSeconds, double maxLagMillis, Map<String, Endpoint> endpoints) {
+
+        // orig 는 운영에서 기록된 처리 시간(앱 안), 나머지는 재생 시 클라이언트 기준 응답 시간, changed 는 기록과 상태 코드가 다른 응답 수
+        String format() {
+            StringBuilder out = new StringBuilder();
+            long requests = endpoints.values().stream().mapToLong(endpoint -> endpoint.latency.getTotalCount()).sum();
+            long errors = endpoints.values().stream().mapToLong(endpoint -> endpoint.errors.sum()).sum();
+            out.append(String.format("replayed %d requests in %.1f s (captured span %.1f s), errors %d, max send lag %.1f ms%n",
+                    requests, seconds, capturedSeconds, errors, maxLagMillis));
+            out.append(String.format("%-48s %8s %7s %7s %10s %10s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+                    "changed", "orig p50", "orig p99", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+            endpoints.forEach((name, endpoint) -> out.append(String.format(
+                    "%-48s %8d %7d %7d %10.2f %10.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                    endpoint.latency.getTotalCount(), endpoint.errors.sum(), endpoint.statusChanged.sum(),
+                    endpoint.original.getValueAtPercentile(50) / 1000.0, endpoint.original.getValueAtPercentile(99) / 1000.0,
+                    endpoint.latency.getValueAtPercentile(50) / 1000.0, endpoint.latency.getValueAtPercentile(90) / 1000.0,
+                    endpoint.latency.getValueAtPercentile(99) / 1000.0, endpoint.latency.getValueAtPercentile(99.9) / 1000.0,
+                    endpoint.latency.getMaxValue() / 1000.0)));
+            return out.toString();
+        }
+
+        // 빌드 간 비교용, 엔드포인트 이름을 태그로 한 HdrHistogram 로그 (ReplayMain compare 로 읽음)
+        void save(Path path) throws IOException {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(path))) {
+                HistogramLogWriter writer = new HistogramLogWriter(out);
+                writer.outputLogFormatVersion();
+                writer.outputLegend();
+                endpoints.forEach((name, endpoint) -> {
+                    endpoint.latency.setTag(name);
+                    writer.outputIntervalHistogram(endpoint.latency);
+                });
+            }
+        }
+    }
+}
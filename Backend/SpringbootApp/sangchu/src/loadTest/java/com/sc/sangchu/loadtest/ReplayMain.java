@@ -0,0 +1,135 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.capture.CapturedRequest;
+import com.sc.sangchu.capture.RequestLog;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+ * 운영 요청 표본(RequestCaptureFilter) 재생 / 빌드 간 응답 시간 비교
+ *
+ * ./gradlew replay -PreplayArgs="--log=capture --target=http://localhost:8081 --speed=2 --save=build/replay/candidate.hlog"
+ *   --log : 요청 로그 파일 또는 폴더 (*.bin), --target : 테스트 인스턴스 주소
+ *   --speed(1) : 배속 (1 이면 원래 간격, 0 이면 간격 없이), --max-in-flight(256) : 동시 요청 한도
+ *   --limit : 앞에서부터 이 개수만 재생, --report : 결과 표 저장, --save : 비교용 히스토그램 로그 저장
+ *
+ * ./gradlew replay -PreplayArgs="compare --baseline=build/replay/main.hlog --candidate=build/replay/candidate.hlog"
+ *   --threshold(10) : 후보 p99 가 기준보다 이 % 이상 느리면 회귀, --min-count(100) : 요청이 이보다 적은 엔드포인트는 판정 제외
+ *   회귀가 있으면 종료 코드 1
+ */
+@Slf4j
+public final class ReplayMain {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private ReplayMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean compare = args.length > 0 && "compare".equals(args[0]);
+        Map<String, String> options = LoadTestMain.parse(compare ? Arrays.copyOfRange(args, 1, args.length) : args);
+        if (compare) {
+            System.exit(compare(options) ? 1 : 0);
+        }
+        replay(options);
+    }
+
+    private static void replay(Map<String, String> options) throws Exception {
+        List<CapturedRequest> requests = RequestLog.read(Path.of(required(options, "log")));
+        if (options.containsKey("limit")) {
+            requests = requests.subList(0, Math.min(requests.size(), Integer.parseInt(options.get("limit"))));
+        }
+        if (requests.isEmpty()) throw new IllegalArgumentException("재생할 요청이 없습니다 : " + options.get("log"));
+
+        String target = required(options, "target");
+        ReplayDriver driver = new ReplayDriver(target.endsWith("/") ? target.substring(0, target.length() - 1) : target,
+                Double.parseDouble(options.getOrDefault("speed", "1")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "256")));
+        ReplayDriver.Result result = driver.run(requests);
+        String report = result.format();
+        System.out.println(report);
+        if (options.containsKey("report")) {
+            Path path = Path.of(options.get("report"));
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            Files.writeString(path, report, StandardCharsets.UTF_8);
+        }
+        if (options.containsKey("save")) result.save(Path.of(options.get("save")));
+    }
+
+    // 회귀가 있으면 true
+    private static boolean compare(Map<String, String> options) throws FileNotFoundException {
+        Map<String, Histogram> baseline = load(Path.of(required(options, "baseline")));
+        Map<String, Histogram> candidate = load(Path.of(required(options, "candidate")));
+        double threshold = Double.parseDouble(options.getOrDefault("threshold", "10"));
+        long minCount = Long.parseLong(options.getOrDefault("min-count", "100"));
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-48s %9s %9s", "endpoint", "base n", "cand n"));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(" %21s", "p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : percentile) + " base/cand(ms)"));
+        }
+        out.append(String.format(" %8s%n", "p99 diff"));
+
+        TreeSet<String> names = new TreeSet<>(baseline.keySet());
+        names.addAll(candidate.keySet());
+        int regressions = 0;
+        for (String name : names) {
+            Histogram base = baseline.get(name);
+            Histogram cand = candidate.get(name);
+            out.append(String.format("%-48s %9d %9d", name, base == null ? 0 : base.getTotalCount(),
+                    cand == null ? 0 : cand.getTotalCount()));
+            for (double percentile : PERCENTILES) {
+                out.append(String.format(" %10s/%-10s", millis(base, percentile), millis(cand, percentile)));
+            }
+            if (base == null || cand == null || base.getTotalCount() < minCount || cand.getTotalCount() < minCount) {
+                out.append(String.format(" %8s%n", "-"));
+                continue;
+            }
+            double diff = (cand.getValueAtPercentile(99) - base.getValueAtPercentile(99)) * 100.0
+                    / Math.max(1, base.getValueAtPercentile(99));
+            boolean regressed = diff > threshold;
+            if (regressed) regressions++;
+            out.append(String.format(" %+7.1f%%%s%n", diff, regressed ? "  REGRESSION" : ""));
+        }
+        out.append(String.format("%d endpoint(s) regressed more than %.1f%% at p99%n", regressions, threshold));
+        System.out.println(out);
+        return regressions > 0;
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return histogram == null || histogram.getTotalCount() == 0 ? "-"
+                : String.format("%.2f", histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    // 같은 태그가 여러 번 나오면(여러 구간) 합침
+    private static Map<String, Histogram> load(Path path) throws FileNotFoundException {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        HistogramLogReader reader = new HistogramLogReader(path.toFile());
+        EncodableHistogram histogram;
+        while ((histogram = reader.nextIntervalHistogram()) != null) {
+            if (!(histogram instanceof Histogram interval)) continue;
+            histograms.merge(interval.getTag() == null ? "all" : interval.getTag(), interval, (a, b) -> {
+                a.add(b);
+                return a;
+            });
+        }
+        return histograms;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) throw new IllegalArgumentException("--" + name + " 이 필요합니다");
+        return value;
+    }
+}
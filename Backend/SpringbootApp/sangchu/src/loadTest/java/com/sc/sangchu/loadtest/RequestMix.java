@@ -0,0 +1,152 @@
+package com.sc.sangchu.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 부하 요청 구성 파일
+ * 한 줄에 "가중치 이름 METHOD 경로 [본문]", # 주석
+ * 경로 / 본문의 자리표시자는 생성 데이터에서 무작위로 채움
+ *   {district} {gu} {guName} {service} {lat} {lon} {query} {bbox} {zoom} {tile}
+ */
+final class RequestMix {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    private final List<Entry> entries;
+    private final int totalWeight;
+    private final DataGenerator.Dataset dataset;
+
+    record Entry(int weight, String name, String method, String path, String body) {
+    }
+
+    record Request(String name, String method, String path, String body) {
+    }
+
+    private RequestMix(List<Entry> entries, DataGenerator.Dataset dataset) {
+        if (entries.isEmpty()) throw new IllegalArgumentException("요청 구성이 비어 있습니다.");
+        this.entries = entries;
+        this.totalWeight = entries.stream().mapToInt(Entry::weight).sum();
+        this.dataset = dataset;
+    }
+
+    static RequestMix load(String file, DataGenerator.Dataset dataset) throws IOException {
+        return load(file, "/loadtest/mix.txt", dataset);
+    }
+
+    // file 이 없으면 클래스패스 resource 사용
+    static RequestMix load(String file, String resource, DataGenerator.Dataset dataset) throws IOException {
+        if (file != null) {
+            try (InputStream in = Files.newInputStream(Path.of(file))) {
+                return new RequestMix(parse(in), dataset);
+            }
+        }
+        try (InputStream in = RequestMix.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IOException(resource.substring(1) + " 리소스가 없습니다.");
+            return new RequestMix(parse(in), dataset);
+        }
+    }
+
+    static List<Entry> parse(InputStream in) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] parts = line.split("\\s+", 5);
+            if (parts.length < 4) throw new IllegalArgumentException("요청 구성 형식 오류 : " + line);
+            entries.add(new Entry(Integer.parseInt(parts[0]), parts[1], parts[2], parts[3], parts.length == 5 ? parts[4] : null));
+        }
+        return entries;
+    }
+
+    // 같은 구성을 다른 경로 prefix 로 (StackBenchmark : /api/ -> /api/reactive/)
+    RequestMix rewrite(String from, String to) {
+        return new RequestMix(entries.stream()
+                .map(entry -> new Entry(entry.weight(), entry.name(), entry.method(),
+                        entry.path().startsWith(from) ? to + entry.path().substring(from.length()) : entry.path(),
+                        entry.body()))
+                .toList(), dataset);
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    Request next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        Entry entry = entries.get(entries.size() - 1);
+        for (Entry candidate : entries) {
+            pick -= candidate.weight();
+            if (pick < 0) {
+                entry = candidate;
+                break;
+            }
+        }
+        // 한 요청 안의 자리표시자는 같은 상권 기준으로 채움
+        DataGenerator.District district = dataset.districts().get(random.nextInt(dataset.districts().size()));
+        int zoom = 12 + random.nextInt(5);
+        return new Request(entry.name(), entry.method(), fill(entry.path(), district, zoom, random, true),
+                entry.body() == null ? null : fill(entry.body(), district, zoom, random, false));
+    }
+
+    private String fill(String template, DataGenerator.District district, int zoom, Random random, boolean url) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            String value = switch (matcher.group(1)) {
+                case "district" -> String.valueOf(district.code());
+                case "gu" -> String.valueOf(district.guCode());
+                case "guName" -> encode(district.guName(), url);
+                case "service" -> dataset.services().get(random.nextInt(dataset.services().size())).code();
+                case "lat" -> String.valueOf(district.latitude());
+                case "lon" -> String.valueOf(district.longitude());
+                case "query" -> encode(query(district, random), url);
+                case "zoom" -> String.valueOf(zoom);
+                case "bbox" -> bbox(district, zoom);
+                case "tile" -> tile(district, zoom);
+                default -> throw new IllegalArgumentException("알 수 없는 자리표시자 : " + matcher.group());
+            };
+            matcher.appendReplacement(out, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    // 자동완성 입력 흉내 : 상권명 / 자치구명 앞 1 ~ 3 글자
+    private static String query(DataGenerator.District district, Random random) {
+        String name = random.nextInt(4) == 0 ? district.guName() : district.name();
+        return name.substring(0, Math.min(name.length(), 1 + random.nextInt(3)));
+    }
+
+    // 줌 레벨에 맞는 화면 크기의 범위
+    private static String bbox(DataGenerator.District district, int zoom) {
+        double half = 360.0 / (1 << zoom) * 2;
+        return "minLatitude=" + (district.latitude() - half / 2) + "&minLongitude=" + (district.longitude() - half)
+                + "&maxLatitude=" + (district.latitude() + half / 2) + "&maxLongitude=" + (district.longitude() + half);
+    }
+
+    // 상권 좌표를 포함하는 슬리피맵 타일 z/x/y
+    private static String tile(DataGenerator.District district, int zoom) {
+        int n = 1 << zoom;
+        double latRad = Math.toRadians(district.latitude());
+        int x = (int) Math.floor((district.longitude() + 180) / 360 * n);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return zoom + "/" + x + "/" + y;
+    }
+
+    private static String encode(String value, boolean url) {
+        return url ? URLEncoder.encode(value, StandardCharsets.UTF_8) : value;
+    }
+}
@@ -0,0 +1,193 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.postgresql.entity.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/*
+ * 전처리된 실제 표본 CSV (Backend/DataModel/data_set, CP949)
+ * 헤더가 엔티티 @Column 이름과 같으므로 EntityTable 로 필드 이름 / 타입에 맞춰 읽음
+ * 상권 x 년분기 단위 테이블은 상권 코드 -> 년분기(년*10+분기) -> 필드 -> 값 으로 보관
+ */
+@Slf4j
+final class SampleData {
+    private static final Charset CP949 = Charset.forName("MS949");
+    private static final Map<String, Class<?>> QUARTERLY_FILES = Map.of(
+            "길단위인구-상권.csv", CommFloatingPopulationEntity.class,
+            "상주인구-상권.csv", CommResidentPopulationEntity.class,
+            "직장인구-상권.csv", CommWorkingPopulationEntity.class,
+            "소득-상권.csv", CommIncomeEntity.class,
+            "아파트-상권.csv", CommAptEntity.class,
+            "집객시설-상권.csv", CommFacilitiesEntity.class,
+            "상권변화지표-상권.csv", CommIndicatorChangeEntity.class);
+
+    private final List<Area> areas = new ArrayList<>();
+    private final List<Service> services = new ArrayList<>();
+    private final TreeSet<Integer> periods = new TreeSet<>();
+    private final Map<Class<?>, Map<Long, Map<Integer, Map<String, Object>>>> tables = new HashMap<>();
+    // 년분기 -> 업종 코드 -> 서울시 전체 점포 수 / 프랜차이즈 점포 수
+    private final Map<Integer, Map<String, double[]>> storeCounts = new HashMap<>();
+
+    record Area(long code, String name, double latitude, double longitude, long guCode, String guName,
+                long dongCode, String dongName, long areaSize) {
+    }
+
+    record Service(String code, String name, String majorCode, String majorName, String middleCode, String middleName) {
+    }
+
+    private SampleData() {
+    }
+
+    static SampleData load(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("표본 CSV 폴더가 없습니다 : " + dir.toAbsolutePath() + " (--sample-dir 로 지정)");
+        }
+        SampleData sample = new SampleData();
+        for (Map.Entry<String, Class<?>> file : QUARTERLY_FILES.entrySet()) {
+            sample.loadQuarterly(dir.resolve(file.getKey()), file.getValue());
+        }
+        sample.loadAreas(dir.resolve("영역-상권.csv"));
+        sample.loadStores(dir.resolve("점포-서울시.csv"));
+        log.info("sample loaded: {} districts, {} services, periods {}~{}", sample.areas.size(), sample.services.size(),
+                sample.periods.first(), sample.periods.last());
+        return sample;
+    }
+
+    List<Area> getAreas() {
+        return areas;
+    }
+
+    List<Service> getServices() {
+        return services;
+    }
+
+    NavigableSet<Integer> getPeriods() {
+        return periods;
+    }
+
+    // 표본에 해당 상권 / 년분기 행이 없으면 null (아파트처럼 상권마다 없는 경우 그대로 유지)
+    Map<String, Object> row(Class<?> entity, long districtCode, int period) {
+        Map<Integer, Map<String, Object>> byPeriod = tables.get(entity).get(districtCode);
+        return byPeriod == null ? null : byPeriod.get(period);
+    }
+
+    // [점포 수, 프랜차이즈 점포 수]
+    double[] storeCount(int period, String serviceCode) {
+        return storeCounts.getOrDefault(period, Map.of()).get(serviceCode);
+    }
+
+    private void loadQuarterly(Path file, Class<?> entity) throws IOException {
+        EntityTable table = new EntityTable(entity);
+        Map<Long, Map<Integer, Map<String, Object>>> rows = new HashMap<>();
+        read(file, (header, values) -> {
+            Map<String, Object> row = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                String field = table.field(header[i]);
+                if (field == null || values[i].isEmpty()) continue;
+                int index = table.getFields().indexOf(field);
+                row.put(field, table.type(index) == String.class ? values[i] : Double.parseDouble(values[i]));
+            }
+            int period = ((Double) row.get("yearCode")).intValue() * 10 + ((Double) row.get("quarterCode")).intValue();
+            long code = ((Double) row.get("commercialDistrictCode")).longValue();
+            rows.computeIfAbsent(code, key -> new HashMap<>()).put(period, row);
+            periods.add(period);
+        });
+        tables.put(entity, rows);
+    }
+
+    private void loadAreas(Path file) throws IOException {
+        Set<Long> quarterly = tables.get(CommFloatingPopulationEntity.class).keySet();
+        read(file, (header, values) -> {
+            Map<String, String> row = zip(header, values);
+            long code = Long.parseLong(row.get("commercial_district_code"));
+            if (!quarterly.contains(code)) return;
+            double latitude = Double.parseDouble(row.get("latitude"));
+            double longitude = Double.parseDouble(row.get("longitude"));
+            // 표본 파일은 위도 / 경도 열이 뒤바뀌어 있음
+            if (latitude > longitude) {
+                double swap = latitude;
+                latitude = longitude;
+                longitude = swap;
+            }
+            areas.add(new Area(code, row.get("commercial_district_name"), latitude, longitude,
+                    Long.parseLong(row.get("gu_code")), row.get("gu_name"), Long.parseLong(row.get("dong_code")),
+                    row.get("dong_name"), Long.parseLong(row.get("area_size"))));
+        });
+        areas.sort(Comparator.comparingLong(Area::code));
+    }
+
+    private void loadStores(Path file) throws IOException {
+        Map<String, Service> byCode = new LinkedHashMap<>();
+        read(file, (header, values) -> {
+            Map<String, String> row = zip(header, values);
+            String code = row.get("service_code");
+            byCode.putIfAbsent(code, new Service(code, row.get("service_name"), row.get("major_category_code"),
+                    row.get("major_category_code_name"), row.get("middle_category_code"), row.get("middle_category_code_name")));
+            storeCounts.computeIfAbsent(Integer.parseInt(row.get("year_quarter_code")), key -> new HashMap<>())
+                    .put(code, new double[]{Double.parseDouble(row.get("store_count")),
+                            Double.parseDouble(row.get("franchise_store_count"))});
+        });
+        services.addAll(byCode.values());
+        services.sort(Comparator.comparing(Service::code));
+    }
+
+    private static Map<String, String> zip(String[] header, String[] values) {
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.length; i++) row.put(header[i], values[i]);
+        return row;
+    }
+
+    private interface LineHandler {
+        void handle(String[] header, String[] values);
+    }
+
+    private static void read(Path file, LineHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, CP949)) {
+            String[] header = split(reader.readLine());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                String[] values = split(line);
+                if (values.length != header.length) {
+                    throw new IllegalArgumentException(file.getFileName() + " 형식 오류 : " + line);
+                }
+                handler.handle(header, values);
+            }
+        }
+    }
+
+    // 따옴표로 감싼 칸 안의 쉼표 / "" 를 처리하는 CSV 한 줄 분리
+    static String[] split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,427 @@
+package com.sc.sangchu.loadtest;
+
+import com.sc.sangchu.postgresql.entity.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/*
+ * 실제 표본(SampleData)을 scale 배 상권 / quarters 분기로 늘리는 합성 데이터 생성기
+ *
+ * 상권 : 표본 상권 하나를 통째로 복제(donor)해서 유동 / 상주 / 직장인구, 소득, 아파트, 집객시설, 상권변화지표를 같이 가져감
+ *        -> 테이블 사이 상관관계와 연령 / 시간대 / 요일 비율이 표본 그대로 유지됨
+ *        복제본마다 규모 배수(로그정규, spread) 하나를 인원 / 건수 값에 공통으로 곱하고, 행마다 ±5% 흔들림
+ *        소득 / 아파트 가격 / rdi 처럼 규모와 무관한 값은 흔들림만 줌
+ *        복제본 r 은 표본 도시를 격자로 옮긴 다른 도시 (상권 코드 +r*100000, 자치구 코드 +r*1000)
+ * 기간 : 목표 분기와 같은 분기의 표본 년분기를 최근 연도부터 돌려 쓰고, 연도 차이만큼 growth 추세 적용 (계절성 유지)
+ * 점포 / 매출 : 표본에 상권별 업종 데이터가 없어서 서울시 업종별 점포 수를 상권 유동인구 비중으로 나눠 배치(포아송)
+ *        매출 = 점포 수 x 업종별 점포당 매출 x 소득 / 유동인구 보정, 시간대 / 요일 / 연령 비율은 상권 유동인구 비율을 따름
+ * 상권 점수는 전처리 스크립트(calc_scores, calc_total_score)와 같은 IQR 이상치 제외 min-max 점수, 같은 가중치
+ */
+@Slf4j
+public final class SampleScaler {
+    private static final Class<?>[] QUARTERLY = {CommFloatingPopulationEntity.class, CommResidentPopulationEntity.class,
+            CommWorkingPopulationEntity.class, CommIncomeEntity.class, CommAptEntity.class, CommFacilitiesEntity.class,
+            CommIndicatorChangeEntity.class};
+    private static final Set<String> KEYS = Set.of("id", "yearCode", "quarterCode", "commercialDistrictCode", "commercialDistrictName");
+    private static final Set<String> INTENSIVE = Set.of("monthlyAverageIncomeAmount", "aptAvgArea", "aptAvgPrice", "rdi", "storeDensity");
+    private static final String[] TIME = {"time00To06", "time06To11", "time11To14", "time14To17", "time17To21", "time21To24"};
+    private static final String[] DAY = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+    private static final String[] AGE = {"age10", "age20", "age30", "age40", "age50", "ageOver60"};
+    // 전처리 calc_total_score 가중치 : 매출, 점포, 상주, 유동, rdi, 직장, 아파트 가격, 집객시설, 소득, 지출
+    private static final double[] TOTAL_SCORE_WEIGHT = {0.94228724327493, 0.00794834653626661, 0.00458549459238878,
+            0.00752792787216622, 0.008872766, 0.00663659, 0.006537721, 0.005026187, 0.005673911, 0.004903813};
+
+    private final SampleData sample;
+    private final Options options;
+    private final Random random;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final List<Period> periods = new ArrayList<>();
+    private final double[] perStoreSales;
+    private final double[] ticket;
+    private final Map<Integer, Double> footTotal = new HashMap<>();
+    // 표본 년분기 -> 업종 순서대로 서울시 [점포 수, 프랜차이즈 점포 수]
+    private final Map<Integer, double[][]> seoulStores = new HashMap<>();
+    private double meanIncome;
+    private double meanFoot;
+
+    public record Options(int scale, int quarters, double growth, double spread, long seed) {
+        // quarters 0 이면 표본 분기 수와 같게
+        public static Options defaults() {
+            return new Options(10, 0, 1.03, 0.25, 42L);
+        }
+    }
+
+    private record Replica(SampleData.Area donor, int copy, long code, String name, long guCode, String guName,
+                           long dongCode, String dongName, double latitude, double longitude, double size) {
+    }
+
+    private record Period(int year, int quarter, int source, double trend) {
+    }
+
+    public SampleScaler(SampleData sample, Options options) {
+        this.sample = sample;
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.perStoreSales = new double[sample.getServices().size()];
+        this.ticket = new double[sample.getServices().size()];
+        for (int s = 0; s < perStoreSales.length; s++) {
+            perStoreSales[s] = 2e7 * Math.exp(random.nextGaussian() * 0.5);
+            ticket[s] = 8000 + random.nextDouble() * 40000;
+        }
+        initPeriods();
+        initReplicas();
+    }
+
+    public DataGenerator.Dataset generate(DataGenerator.RowSink sink) throws Exception {
+        long start = System.nanoTime();
+        writeDistricts(sink);
+        for (Class<?> entity : QUARTERLY) writeQuarterly(sink, entity);
+        writeStores(sink);
+        writeSales(sink);
+        log.info("scaled dataset generated: {} districts x {} quarters ({}x sample), {} ms", replicas.size(), periods.size(),
+                options.scale(), (System.nanoTime() - start) / 1_000_000);
+        return dataset();
+    }
+
+    // 목표 기간 : 앱이 조회하는 (올해 - 1)년 4분기에서 거꾸로 quarters 분기
+    private void initPeriods() {
+        int count = options.quarters() > 0 ? options.quarters() : sample.getPeriods().size();
+        int lastYear = Calendar.getInstance().get(Calendar.YEAR) - 1;
+        for (int i = count - 1; i >= 0; i--) {
+            int index = lastYear * 4 + 3 - i;
+            int year = index / 4;
+            int quarter = index % 4 + 1;
+            List<Integer> sources = sample.getPeriods().stream().filter(period -> period % 10 == quarter).toList();
+            int source = sources.get(sources.size() - 1 - Math.floorMod(lastYear - year, sources.size()));
+            periods.add(new Period(year, quarter, source, Math.pow(options.growth(), year - source / 10)));
+        }
+        for (int period : sample.getPeriods()) {
+            footTotal.put(period, sample.getAreas().stream()
+                    .mapToDouble(area -> value(sample.row(CommFloatingPopulationEntity.class, area.code(), period), "totalFloatingPopulation"))
+                    .sum());
+        }
+        for (int period : sample.getPeriods()) {
+            double[][] stores = new double[sample.getServices().size()][];
+            for (int s = 0; s < stores.length; s++) {
+                double[] seoul = sample.storeCount(period, sample.getServices().get(s).code());
+                stores[s] = seoul == null ? new double[2] : seoul;
+            }
+            seoulStores.put(period, stores);
+        }
+        int last = sample.getPeriods().last();
+        meanFoot = footTotal.get(last) / sample.getAreas().size();
+        meanIncome = sample.getAreas().stream()
+                .mapToDouble(area -> value(sample.row(CommIncomeEntity.class, area.code(), last), "monthlyAverageIncomeAmount"))
+                .filter(income -> income > 0).average().orElse(1);
+    }
+
+    private void initReplicas() {
+        for (int copy = 0; copy < options.scale(); copy++) {
+            // 복제 도시는 원본에서 격자로 떨어진 위치 (가로 10개씩)
+            double latitudeShift = copy / 10 * 0.35;
+            double longitudeShift = copy % 10 * 0.45;
+            double size = copy == 0 ? 1 : Math.exp(random.nextGaussian() * options.spread());
+            for (SampleData.Area area : sample.getAreas()) {
+                String suffix = copy == 0 ? "" : "-" + (copy + 1);
+                replicas.add(new Replica(area, copy, area.code() + copy * 100_000L, area.name() + suffix,
+                        area.guCode() + copy * 1000L, area.guName() + suffix, area.dongCode() + copy * 1_000_000L,
+                        area.dongName() + suffix, area.latitude() + latitudeShift, area.longitude() + longitudeShift,
+                        copy == 0 ? 1 : size * Math.exp(random.nextGaussian() * 0.1)));
+            }
+        }
+    }
+
+    private void writeDistricts(DataGenerator.RowSink sink) throws Exception {
+        int last = periods.get(periods.size() - 1).source();
+        double trend = periods.get(periods.size() - 1).trend();
+        // 점수 지표 : 매출, 점포, 상주, 유동, rdi, 직장, 아파트 가격, 집객시설, 소득, 지출 (TOTAL_SCORE_WEIGHT 순서)
+        double[][] values = new double[TOTAL_SCORE_WEIGHT.length][replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            long donor = replica.donor().code();
+            double scale = replica.size() * trend;
+            double[] stores = expectedStores(replica, last);
+            double storeSum = 0;
+            double salesSum = 0;
+            int open = 0;
+            for (int s = 0; s < stores.length; s++) {
+                if (stores[s] < 0.5) continue;
+                storeSum += stores[s];
+                salesSum += stores[s] * perStoreSales[s] * spend(replica, last) * trend;
+                open++;
+            }
+            values[0][i] = open == 0 ? 0 : salesSum / open;
+            values[1][i] = open == 0 ? 0 : storeSum / open;
+            values[2][i] = value(sample.row(CommResidentPopulationEntity.class, donor, last), "totalResidentPopulation") * scale;
+            values[3][i] = value(sample.row(CommFloatingPopulationEntity.class, donor, last), "totalFloatingPopulation") * scale;
+            values[4][i] = value(sample.row(CommIndicatorChangeEntity.class, donor, last), "rdi");
+            values[5][i] = value(sample.row(CommWorkingPopulationEntity.class, donor, last), "totalWorkingPopulation") * scale;
+            values[6][i] = value(sample.row(CommAptEntity.class, donor, last), "aptAvgPrice");
+            values[7][i] = value(sample.row(CommFacilitiesEntity.class, donor, last), "facilities") * scale;
+            values[8][i] = value(sample.row(CommIncomeEntity.class, donor, last), "monthlyAverageIncomeAmount");
+            values[9][i] = value(sample.row(CommIncomeEntity.class, donor, last), "expenditureTotalAmount") * scale;
+        }
+        double[][] scores = new double[values.length][];
+        for (int m = 0; m < values.length; m++) scores[m] = iqrScore(values[m]);
+
+        sink.begin(new EntityTable(CommDistEntity.class));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            Map<String, Object> row = new HashMap<>();
+            row.put("commercialDistrictCode", replica.code());
+            row.put("commercialDistrictName", replica.name());
+            row.put("latitude", replica.latitude());
+            row.put("longitude", replica.longitude());
+            row.put("guCode", replica.guCode());
+            row.put("guName", replica.guName());
+            row.put("dongCode", replica.dongCode());
+            row.put("dongName", replica.dongName());
+            row.put("areaSize", replica.donor().areaSize());
+            double total = 0;
+            for (int m = 0; m < scores.length; m++) total += scores[m][i] * TOTAL_SCORE_WEIGHT[m];
+            row.put("commercialDistrictScore", total);
+            row.put("salesScore", scores[0][i]);
+            row.put("residentPopulationScore", scores[2][i]);
+            row.put("floatingPopulationScore", scores[3][i]);
+            row.put("rdiScore", scores[4][i]);
+            sink.add(row);
+        }
+        sink.end();
+    }
+
+    // 표본 행을 복제본 규모 / 기간 추세에 맞춰 복사, 표본에 없는 상권 / 분기 행은 만들지 않음
+    private void writeQuarterly(DataGenerator.RowSink sink, Class<?> entity) throws Exception {
+        sink.begin(new EntityTable(entity));
+        int id = 1;
+        for (Period period : periods) {
+            for (Replica replica : replicas) {
+                Map<String, Object> source = sample.row(entity, replica.donor().code(), period.source());
+                if (source == null) continue;
+                double jitter = replica.copy() == 0 ? 1 : Math.exp(random.nextGaussian() * 0.05);
+                double scale = replica.size() * period.trend() * jitter;
+                Map<String, Object> row = new HashMap<>(source.size() * 2);
+                for (Map.Entry<String, Object> entry : source.entrySet()) {
+                    if (KEYS.contains(entry.getKey())) continue;
+                    if (!(entry.getValue() instanceof Double value)) {
+                        row.put(entry.getKey(), entry.getValue());
+                    } else if (INTENSIVE.contains(entry.getKey())) {
+                        row.put(entry.getKey(), replica.copy() == 0 ? value : value * Math.exp(random.nextGaussian() * 0.03));
+                    } else {
+                        row.put(entry.getKey(), (double) Math.round(value * scale));
+                    }
+                }
+                putKeys(row, id++, period, replica);
+                sink.add(row);
+            }
+        }
+        sink.end();
+    }
+
+    private void writeStores(DataGenerator.RowSink sink) throws Exception {
+        List<SampleData.Service> services = sample.getServices();
+        sink.begin(new EntityTable(CommStoreEntity.class));
+        int id = 1;
+        for (Period period : periods) {
+            for (int d = 0; d < replicas.size(); d++) {
+                Replica replica = replicas.get(d);
+                long[] stores = stores(d, replica, period);
+                for (int s = 0; s < stores.length; s++) {
+                    if (stores[s] == 0) continue;
+                    double[] seoul = seoulStores.get(period.source())[s];
+                    Map<String, Object> row = new HashMap<>();
+                    putKeys(row, id++, period, replica);
+                    putService(row, services.get(s));
+                    row.put("storeCount", stores[s]);
+                    row.put("franchiseStoreCount", Math.round(stores[s] * seoul[1] / Math.max(1, seoul[0])));
+                    sink.add(row);
+                }
+            }
+        }
+        sink.end();
+    }
+
+    private void writeSales(DataGenerator.RowSink sink) throws Exception {
+        List<SampleData.Service> services = sample.getServices();
+        sink.begin(new EntityTable(CommEstimatedSalesEntity.class));
+        int id = 1;
+        for (Period period : periods) {
+            for (int d = 0; d < replicas.size(); d++) {
+                Replica replica = replicas.get(d);
+                Map<String, Object> foot = sample.row(CommFloatingPopulationEntity.class, replica.donor().code(), period.source());
+                if (foot == null) continue;
+                double[] timeShare = shares(foot, TIME, "FloatingPopulation");
+                double[] dayShare = shares(foot, DAY, "FloatingPopulation");
+                double[] ageShare = shares(foot, AGE, "FloatingPopulation");
+                double spend = spend(replica, period.source());
+                long[] stores = stores(d, replica, period);
+                for (int s = 0; s < stores.length; s++) {
+                    if (stores[s] == 0) continue;
+                    double monthly = stores[s] * perStoreSales[s] * spend * period.trend() * Math.exp(random.nextGaussian() * 0.25);
+                    Map<String, Object> row = new HashMap<>(128);
+                    putKeys(row, id++, period, replica);
+                    putService(row, services.get(s));
+                    row.put("monthlySales", monthly);
+                    row.put("monthlySalesCount", monthly / ticket[s]);
+                    double weekend = 0;
+                    for (int i = 0; i < DAY.length; i++) {
+                        put(row, DAY[i], monthly * dayShare[i], ticket[s]);
+                        if (i >= 5) weekend += monthly * dayShare[i];
+                    }
+                    row.put("weekDaysSales", monthly - weekend);
+                    row.put("weekDaysSalesCount", (monthly - weekend) / ticket[s]);
+                    row.put("weekendSales", weekend);
+                    row.put("weekendSalesCount", weekend / ticket[s]);
+                    for (int i = 0; i < TIME.length; i++) put(row, TIME[i], monthly * timeShare[i], ticket[s]);
+                    for (int i = 0; i < AGE.length; i++) put(row, AGE[i], monthly * ageShare[i], ticket[s]);
+                    double man = 0.35 + random.nextDouble() * 0.3;
+                    put(row, "man", monthly * man, ticket[s]);
+                    put(row, "woman", monthly * (1 - man), ticket[s]);
+                    // 업종 점포당 매출 기준 포화 점수
+                    double relative = monthly / (perStoreSales[s] * 5);
+                    row.put("salesScore", 100 * relative / (1 + relative));
+                    row.put("commercialServiceTotalScore", 100 * relative / (1 + relative) * 0.94 + random.nextDouble() * 6);
+                    sink.add(row);
+                }
+            }
+        }
+        sink.end();
+    }
+
+    // 업종별 기대 점포 수 = 서울시 업종 점포 수 x 상권 유동인구 비중 x 복제본 규모
+    private double[] expectedStores(Replica replica, int source) {
+        double weight = value(sample.row(CommFloatingPopulationEntity.class, replica.donor().code(), source), "totalFloatingPopulation")
+                / footTotal.get(source) * replica.size();
+        double[][] seoul = seoulStores.get(source);
+        double[] expected = new double[seoul.length];
+        for (int s = 0; s < expected.length; s++) expected[s] = seoul[s][0] * weight;
+        return expected;
+    }
+
+    // 점포 수는 매출 테이블에서 다시 같은 값을 얻도록 상권 / 기간마다 고정된 시드로 뽑음
+    private long[] stores(int district, Replica replica, Period period) {
+        double[] expected = expectedStores(replica, period.source());
+        SplittableRandom draw = new SplittableRandom(options.seed() * 31 + (long) district * 1_000_003L + period.year() * 4L + period.quarter());
+        long[] stores = new long[expected.length];
+        for (int s = 0; s < expected.length; s++) stores[s] = poisson(draw, expected[s] * period.trend());
+        return stores;
+    }
+
+    // 점포당 매출 보정 : 소득 제곱근, 유동인구 약한 비례
+    private double spend(Replica replica, int source) {
+        long donor = replica.donor().code();
+        double income = value(sample.row(CommIncomeEntity.class, donor, source), "monthlyAverageIncomeAmount");
+        double foot = value(sample.row(CommFloatingPopulationEntity.class, donor, source), "totalFloatingPopulation");
+        return Math.sqrt((income > 0 ? income : meanIncome) / meanIncome) * Math.pow(Math.max(foot, 1) / meanFoot, 0.15);
+    }
+
+    private void putKeys(Map<String, Object> row, int id, Period period, Replica replica) {
+        row.put("id", id);
+        row.put("yearCode", period.year());
+        row.put("quarterCode", period.quarter());
+        row.put("commercialDistrictCode", replica.code());
+        row.put("commercialDistrictName", replica.name());
+    }
+
+    private static void putService(Map<String, Object> row, SampleData.Service service) {
+        row.put("serviceCode", service.code());
+        row.put("serviceName", service.name());
+        row.put("majorCategoryCode", service.majorCode());
+        row.put("majorCategoryName", service.majorName());
+        row.put("middleCategoryCode", service.middleCode());
+        row.put("middleCategoryName", service.middleName());
+    }
+
+    private static void put(Map<String, Object> row, String prefix, double amount, double ticket) {
+        row.put(prefix + "Sales", amount);
+        row.put(prefix + "SalesCount", amount / ticket);
+    }
+
+    private static double[] shares(Map<String, Object> row, String[] prefixes, String suffix) {
+        double[] share = new double[prefixes.length];
+        double sum = 0;
+        for (int i = 0; i < prefixes.length; i++) {
+            share[i] = value(row, prefixes[i] + suffix);
+            sum += share[i];
+        }
+        for (int i = 0; i < share.length; i++) share[i] = sum == 0 ? 1.0 / share.length : share[i] / sum;
+        return share;
+    }
+
+    private static double value(Map<String, Object> row, String field) {
+        if (row == null) return 0;
+        Object value = row.get(field);
+        return value instanceof Double number ? number : 0;
+    }
+
+    private static long poisson(SplittableRandom draw, double mean) {
+        if (mean <= 0) return 0;
+        if (mean > 30) return Math.max(0, Math.round(mean + Math.sqrt(mean) * gaussian(draw)));
+        double limit = Math.exp(-mean);
+        double product = draw.nextDouble();
+        long count = 0;
+        while (product > limit) {
+            product *= draw.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static double gaussian(SplittableRandom draw) {
+        return Math.sqrt(-2 * Math.log(1 - draw.nextDouble())) * Math.cos(2 * Math.PI * draw.nextDouble());
+    }
+
+    // 전처리 calc_scores 와 같은 방식 : IQR 1.5 배 밖 하한 이상치 0점, 상한 이상치 100점, 나머지 min-max x 100
+    static double[] iqrScore(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double q1 = quantile(sorted, 0.25);
+        double q3 = quantile(sorted, 0.75);
+        double lower = q1 - 1.5 * (q3 - q1);
+        double upper = q3 + 1.5 * (q3 - q1);
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double value : values) {
+            if (value < lower || value > upper) continue;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double[] scores = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < lower) scores[i] = 0;
+            else if (values[i] > upper) scores[i] = 100;
+            else scores[i] = max > min ? (values[i] - min) / (max - min) * 100 : 0;
+        }
+        return scores;
+    }
+
+    // pandas quantile 기본값(linear)과 같은 보간
+    private static double quantile(double[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        double position = (sorted.length - 1) * q;
+        int index = (int) Math.floor(position);
+        if (index + 1 >= sorted.length) return sorted[index];
+        return sorted[index] + (sorted[index + 1] - sorted[index]) * (position - index);
+    }
+
+    private DataGenerator.Dataset dataset() {
+        int last = periods.get(periods.size() - 1).source();
+        List<DataGenerator.District> districts = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            long donor = replica.donor().code();
+            double resident = value(sample.row(CommResidentPopulationEntity.class, donor, last), "totalResidentPopulation");
+            double working = value(sample.row(CommWorkingPopulationEntity.class, donor, last), "totalWorkingPopulation");
+            districts.add(new DataGenerator.District(replica.code(), replica.name(), replica.guCode(), replica.guName(),
+                    replica.dongCode(), replica.dongName(), replica.latitude(), replica.longitude(),
+                    value(sample.row(CommFloatingPopulationEntity.class, donor, last), "totalFloatingPopulation") / meanFoot * replica.size(),
+                    resident / Math.max(1, resident + working), working / Math.max(1, resident + working)));
+        }
+        List<DataGenerator.Service> services = new ArrayList<>();
+        for (int s = 0; s < sample.getServices().size(); s++) {
+            SampleData.Service service = sample.getServices().get(s);
+            services.add(new DataGenerator.Service(service.code(), service.name(), service.majorCode(), service.majorName(),
+                    perStoreSales[s] / 2e7, ticket[s]));
+        }
+        return new DataGenerator.Dataset(districts, services, periods.get(0).year(), periods.get(periods.size() - 1).year());
+    }
+}
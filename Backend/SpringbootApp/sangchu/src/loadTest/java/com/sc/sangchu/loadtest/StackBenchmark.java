@@ -0,0 +1,159 @@
+package com.sc.sangchu.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/*
+ * 블로킹(서블릿 + JDBC + RedisTemplate) / 논블로킹(/api/reactive/**, R2DBC + ReactiveRedisTemplate) 경로 비교
+ * 같은 요청 구성(stack-mix.txt)을 동시 사용자 수(concurrency) 단계마다 두 경로에 번갈아 보내고 다음을 기록
+ *   처리량 / p50 / p99 / 오류 : 동시 요청이 Tomcat 스레드 수(--tomcat-threads)나 연결 풀보다 많아질 때 어느 쪽이 먼저 밀리는지
+ *   Tomcat 스레드 : 측정 구간 동안 요청을 처리 중인(busy) Tomcat 스레드 수 평균 / 최대 (블로킹 경로는 요청 하나가 스레드 하나를 잡음)
+ *   heap / in-flight : 워밍업 막바지(부하 중) GC 후 힙 - 부하 전 GC 후 힙, 동시 요청 수로 나눔 (부하 발생기 쪽 객체 포함, 두 경로에 같은 조건)
+ *   alloc / request : 측정 구간 동안 앱 스레드(부하 발생기 / HttpClient 스레드 제외)가 할당한 바이트 / 요청 수
+ * 스레드 스택(기본 -Xss 1MB 예약)은 힙에 잡히지 않으므로 busy 스레드 수로 따로 봄
+ */
+@Slf4j
+final class StackBenchmark {
+    private static final String REACTIVE_PREFIX = "/api/reactive/";
+    // 힙 측정은 측정 구간이 아닌 워밍업 막바지에 (GC 정지가 응답 시간에 섞이지 않도록)
+    private static final double HEAP_PROBE_AT = 0.8;
+    private static final long SAMPLE_MILLIS = 20;
+
+    private final String baseUrl;
+    private final RequestMix servlet;
+    private final RequestMix reactive;
+    private final Duration warmup;
+    private final Duration duration;
+    private final IntSupplier busyThreads;
+
+    record Run(String stack, int concurrency, long requests, long errors, double throughput, double p50, double p99,
+               double max, double busyThreadsAvg, int busyThreadsMax, double heapPerInFlightKb, double allocPerRequestKb) {
+    }
+
+    // busyThreads : Tomcat 요청 처리 스레드 풀의 현재 활성 스레드 수 (스레드 모델 비교에서는 JVM 플랫폼 스레드 수)
+    StackBenchmark(String baseUrl, RequestMix servlet, Duration warmup, Duration duration, IntSupplier busyThreads) {
+        this.baseUrl = baseUrl;
+        this.busyThreads = busyThreads;
+        this.servlet = servlet;
+        this.reactive = servlet.rewrite("/api/", REACTIVE_PREFIX);
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    List<Run> run(int[] levels) throws InterruptedException {
+        List<Run> runs = new ArrayList<>();
+        for (int concurrency : levels) {
+            runs.add(run("servlet", servlet, concurrency));
+            runs.add(run("reactive", reactive, concurrency));
+        }
+        return runs;
+    }
+
+    // stack : 결과 표의 이름 (스레드 모델 비교에서는 platform / virtual)
+    Run run(String stack, RequestMix mix, int concurrency) throws InterruptedException {
+        log.info("stack {} concurrency {}", stack, concurrency);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long idleHeap = heapAfterGc(memory);
+
+        long[] loadedHeap = {idleHeap};
+        Thread probe = daemon("stack-benchmark-probe", () -> {
+            try {
+                Thread.sleep((long) (warmup.toMillis() * HEAP_PROBE_AT));
+            } catch (InterruptedException e) {
+                return;
+            }
+            loadedHeap[0] = heapAfterGc(memory);
+        });
+        probe.start();
+
+        Map<Long, Long> allocatedAtStart = new HashMap<>();
+        LongSummaryStatistics busy = new LongSummaryStatistics();
+        Thread sampler = daemon("stack-benchmark-sampler", () -> {
+            try {
+                while (true) {
+                    Thread.sleep(SAMPLE_MILLIS);
+                    busy.accept(busyThreads.getAsInt());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        LoadDriver.Result result = new LoadDriver(baseUrl, mix, concurrency, warmup, duration)
+                .onMeasureStart(() -> {
+                    allocatedAtStart.putAll(allocatedBytes());
+                    sampler.start();
+                })
+                .run();
+        sampler.interrupt();
+        sampler.join();
+        probe.join();
+        long allocated = allocatedSince(allocatedAtStart);
+
+        Histogram latency = result.latency();
+        long requests = latency.getTotalCount();
+        long errors = result.rows().values().stream().mapToLong(LoadDriver.Result.Row::errors).sum();
+        return new Run(stack, concurrency, requests, errors, requests / result.seconds(),
+                latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                latency.getMaxValue() / 1000.0, busy.getAverage(), (int) Math.max(0, busy.getMax()),
+                Math.max(0, loadedHeap[0] - idleHeap) / 1024.0 / concurrency,
+                requests == 0 ? 0 : allocated / 1024.0 / requests);
+    }
+
+    private static long heapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static Thread daemon(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    // 앱 스레드별 누적 할당 바이트 (부하 발생기 / HttpClient 스레드는 제외)
+    private static Map<Long, Long> allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> bytes = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (name.startsWith("load-driver-") || name.startsWith("HttpClient-")) continue;
+            long allocated = threads.getThreadAllocatedBytes(thread.getId());
+            if (allocated >= 0) bytes.put(thread.getId(), allocated);
+        }
+        return bytes;
+    }
+
+    // 측정 중에 생긴 스레드는 0 부터, 측정 중에 끝난 스레드는 빠짐 (Tomcat / Reactor / Lettuce 스레드는 풀에 남아 있음)
+    private static long allocatedSince(Map<Long, Long> start) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : allocatedBytes().entrySet()) {
+            total += Math.max(0, entry.getValue() - start.getOrDefault(entry.getKey(), 0L));
+        }
+        return total;
+    }
+
+    static String format(List<Run> runs, String settings) {
+        StringBuilder out = new StringBuilder();
+        out.append(settings).append(System.lineSeparator());
+        out.append(String.format("%-9s %6s %9s %7s %9s %9s %9s %9s %8s %8s %18s %14s%n", "stack", "conc", "requests",
+                "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "busyAvg", "busyMax", "heap/in-flight(KB)",
+                "alloc/req(KB)"));
+        for (Run run : runs) {
+            out.append(String.format("%-9s %6d %9d %7d %9.1f %9.2f %9.2f %9.2f %8.1f %8d %18.1f %14.1f%n", run.stack(),
+                    run.concurrency(), run.requests(), run.errors(), run.throughput(), run.p50(), run.p99(), run.max(),
+                    run.busyThreadsAvg(), run.busyThreadsMax(), run.heapPerInFlightKb(), run.allocPerRequestKb()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sc.sangchu.capture;
+
+/*
+ * 운영 요청 표본 한 건 (RequestLog 바이너리 레코드)
+ * query 는 ? 뒤 원문 그대로 (없으면 빈 문자열), accept 는 Accept 헤더 (CBOR / Smile 응답 경로가 달라서 보관, 없으면 빈 문자열)
+ * body 는 POST 등 요청 본문 (없으면 null)
+ */
+public record CapturedRequest(long epochMicros, int durationMicros, int status, String method, String path,
+                              String query, String accept, byte[] body) {
+
+    // 통계를 묶는 단위, /api/commdist/tiles/12/3490/1587.mvt -> GET:/api/commdist/tiles/{n}/{n}/{n}.mvt
+    public String endpoint() {
+        return method + ":" + path.replaceAll("/\\d+(?=[/.]|$)", "/{n}");
+    }
+
+    public String uri() {
+        return query.isEmpty() ? path : path + "?" + query;
+    }
+}
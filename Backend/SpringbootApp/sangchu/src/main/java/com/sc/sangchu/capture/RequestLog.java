@@ -0,0 +1,104 @@
+package com.sc.sangchu.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * 요청 표본 바이너리 로그 형식 (DataOutputStream, big-endian)
+ * 헤더   : int MAGIC, short VERSION, double 표본 비율, long 파일 생성 시각(epoch ms)
+ * 레코드 : long 시작 시각(epoch us), int 처리 시간(us), short 상태 코드, UTF 메서드, UTF 경로, UTF 쿼리, UTF Accept,
+ *          int 본문 길이(-1 이면 없음), 본문
+ * 앱이 비정상 종료되면 마지막 레코드가 잘릴 수 있어 읽을 때는 잘린 레코드 앞까지만 사용
+ */
+public final class RequestLog {
+    public static final String EXTENSION = ".bin";
+    private static final int MAGIC = 0x53435251; // SCRQ
+    private static final short VERSION = 1;
+
+    private RequestLog() {
+    }
+
+    static void writeHeader(DataOutputStream out, double sampleRate) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeDouble(sampleRate);
+        out.writeLong(System.currentTimeMillis());
+    }
+
+    static void write(DataOutputStream out, CapturedRequest request) throws IOException {
+        out.writeLong(request.epochMicros());
+        out.writeInt(request.durationMicros());
+        out.writeShort(request.status());
+        out.writeUTF(request.method());
+        out.writeUTF(request.path());
+        out.writeUTF(request.query());
+        out.writeUTF(request.accept());
+        if (request.body() == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(request.body().length);
+            out.write(request.body());
+        }
+    }
+
+    // 파일 또는 폴더(안의 *.bin 전부)를 읽어 시작 시각 순으로 정렬
+    public static List<CapturedRequest> read(Path path) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> list = Files.list(path)) {
+                files = list.filter(file -> file.getFileName().toString().endsWith(EXTENSION)).sorted().toList();
+            }
+        } else {
+            files = List.of(path);
+        }
+        List<CapturedRequest> requests = new ArrayList<>();
+        for (Path file : files) {
+            readFile(file, requests);
+        }
+        requests.sort((a, b) -> Long.compare(a.epochMicros(), b.epochMicros()));
+        return requests;
+    }
+
+    private static void readFile(Path file, List<CapturedRequest> requests) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) throw new IOException("요청 로그 파일이 아닙니다 : " + file);
+            short version = in.readShort();
+            if (version != VERSION) throw new IOException("지원하지 않는 요청 로그 버전 " + version + " : " + file);
+            in.readDouble();
+            in.readLong();
+            while (true) {
+                long epochMicros;
+                try {
+                    epochMicros = in.readLong();
+                } catch (EOFException e) {
+                    return;
+                }
+                try {
+                    int durationMicros = in.readInt();
+                    int status = in.readShort();
+                    String method = in.readUTF();
+                    String path = in.readUTF();
+                    String query = in.readUTF();
+                    String accept = in.readUTF();
+                    int length = in.readInt();
+                    byte[] body = null;
+                    if (length >= 0) {
+                        body = new byte[length];
+                        in.readFully(body);
+                    }
+                    requests.add(new CapturedRequest(epochMicros, durationMicros, status, method, path, query, accept, body));
+                } catch (EOFException e) {
+                    return; // 잘린 마지막 레코드
+                }
+            }
+        }
+    }
+}
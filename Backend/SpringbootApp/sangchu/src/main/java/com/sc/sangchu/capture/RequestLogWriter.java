@@ -0,0 +1,124 @@
+package com.sc.sangchu.capture;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * 요청 표본을 순환 바이너리 로그 파일에 쓰는 백그라운드 writer
+ * 요청 스레드는 큐에 넣기만 하고 (가득 차면 버림), 디스크 쓰기는 writer 스레드 하나가 모아서 함
+ * 파일이 maxFileBytes 를 넘으면 새 파일로 넘기고 오래된 파일부터 maxFiles 개만 남김
+ */
+@Slf4j
+public class RequestLogWriter implements AutoCloseable {
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final int QUEUE_SIZE = 8192;
+
+    private final Path directory;
+    private final double sampleRate;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final BlockingQueue<CapturedRequest> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private DataOutputStream out;
+    private long written;
+
+    public RequestLogWriter(Path directory, double sampleRate, long maxFileBytes, int maxFiles) {
+        this.directory = directory;
+        this.sampleRate = sampleRate;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.thread = new Thread(this::loop, "request-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // 큐가 가득 차면 false (요청 처리를 막지 않음)
+    public boolean offer(CapturedRequest request) {
+        return running && queue.offer(request);
+    }
+
+    private void loop() {
+        List<CapturedRequest> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                CapturedRequest first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException | RuntimeException e) {
+                log.error("request log write error", e);
+                closeFile();
+            } finally {
+                batch.clear();
+            }
+        }
+        closeFile();
+    }
+
+    private void write(List<CapturedRequest> batch) throws IOException {
+        for (CapturedRequest request : batch) {
+            if (out == null || written >= maxFileBytes) roll();
+            RequestLog.write(out, request);
+            written = out.size();
+        }
+        // 큐를 비울 때마다 flush 해서 실행 중에도 파일을 바로 읽을 수 있게 함
+        out.flush();
+    }
+
+    private void roll() throws IOException {
+        closeFile();
+        Path file = directory.resolve("requests-" + LocalDateTime.now().format(FILE_TIME) + RequestLog.EXTENSION);
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        RequestLog.writeHeader(out, sampleRate);
+        written = out.size();
+
+        try (Stream<Path> list = Files.list(directory)) {
+            List<Path> files = list.filter(path -> path.getFileName().toString().endsWith(RequestLog.EXTENSION))
+                    .sorted().toList();
+            for (int i = 0; i < files.size() - maxFiles; i++) {
+                Files.deleteIfExists(files.get(i));
+            }
+        }
+    }
+
+    private void closeFile() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.error("request log close error", e);
+        }
+        out = null;
+    }
+
+    // 큐에 남은 표본을 모두 쓰고 종료
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
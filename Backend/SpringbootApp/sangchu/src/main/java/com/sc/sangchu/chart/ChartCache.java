@@ -0,0 +1,162 @@
+package com.sc.sangchu.chart;
+
+import com.sc.sangchu.metrics.LayerMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 그래프 JSON 캐시, 값은 ChartJsonRedisSerializer 형식으로 저장 (이전 JSON 문자열 값도 그대로 읽음)
+ * get / set 은 app.layer{layer="redis", component=키 prefix} 타이머로 기록 (get 의 outcome 이 hit / miss)
+ * prefix 별 키 수는 chart.cache.size 게이지, 스크레이프마다 SCAN 하지 않도록 SIZE_REFRESH_MILLIS 동안 재사용
+ */
+@Component
+@Slf4j
+public class ChartCache {
+    private static final String LAYER = "redis";
+    private static final long SIZE_REFRESH_MILLIS = 60_000;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ChartJsonRedisSerializer chartJsonRedisSerializer;
+    private final MeterRegistry meterRegistry;
+    private final LayerMetrics layerMetrics;
+    private final Set<String> sizePrefixes = ConcurrentHashMap.newKeySet();
+    private volatile Map<String, Long> sizes;
+    private volatile long sizesAt;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public ChartCache(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                      ChartJsonRedisSerializer chartJsonRedisSerializer, MeterRegistry meterRegistry) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.chartJsonRedisSerializer = chartJsonRedisSerializer;
+        this.meterRegistry = meterRegistry;
+        this.layerMetrics = new LayerMetrics(meterRegistry);
+    }
+
+    // 읽을 수 없는 값은 캐시 미스로 처리
+    public ChartJson get(String cacheKey) {
+        String prefix = prefix(cacheKey);
+        registerSize(prefix);
+        long start = System.nanoTime();
+        String outcome = LayerMetrics.ERROR;
+        try {
+            ChartJson chartJson = chartJsonRedisSerializer.deserialize(binaryRedisTemplate.opsForValue().get(cacheKey));
+            outcome = chartJson == null ? LayerMetrics.MISS : LayerMetrics.HIT;
+            return chartJson;
+        } catch (RuntimeException e) {
+            log.error("chart cache get error: {}", cacheKey, e);
+        } finally {
+            layerMetrics.timer(LAYER, prefix, "get", outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return null;
+    }
+
+    public void put(String cacheKey, ChartJson chartJson) {
+        String prefix = prefix(cacheKey);
+        registerSize(prefix);
+        long start = System.nanoTime();
+        String outcome = LayerMetrics.ERROR;
+        byte[] bytes;
+        try {
+            bytes = chartJsonRedisSerializer.serialize(chartJson);
+            binaryRedisTemplate.opsForValue().set(cacheKey, bytes);
+            outcome = LayerMetrics.SUCCESS;
+        } finally {
+            layerMetrics.timer(LAYER, prefix, "set", outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // 키 prefix 별 저장 크기 (JSON 원본 대비)
+        summary("chart.cache.stored.bytes", prefix).record(bytes.length);
+        summary("chart.cache.json.bytes", prefix).record(chartJson.getJson().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    // consumerGraph:floatingPopulationAgeGraph:3110001:2023:3 -> consumerGraph:floatingPopulationAgeGraph
+    static String prefix(String cacheKey) {
+        int first = cacheKey.indexOf(':');
+        if (first < 0) return cacheKey;
+        int second = cacheKey.indexOf(':', first + 1);
+        return second < 0 ? cacheKey.substring(0, first) : cacheKey.substring(0, second);
+    }
+
+    private void registerSize(String prefix) {
+        if (sizePrefixes.add(prefix)) {
+            Gauge.builder("chart.cache.size", this, cache -> cache.size(prefix))
+                    .baseUnit("keys")
+                    .tag("prefix", prefix)
+                    .register(meterRegistry);
+        }
+    }
+
+    double size(String prefix) {
+        Map<String, Long> current = sizes;
+        if (current == null || System.currentTimeMillis() - sizesAt > SIZE_REFRESH_MILLIS) {
+            lock.lock();
+            try {
+                current = sizes;
+                if (current == null || System.currentTimeMillis() - sizesAt > SIZE_REFRESH_MILLIS) {
+                    current = scanSizes();
+                    sizes = current;
+                    sizesAt = System.currentTimeMillis();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current.getOrDefault(prefix, 0L);
+    }
+
+    // 등록된 prefix 마다 <prefix>:* 로 SCAN (키 공간 전체를 훑지 않음, KEYS 와 달리 Redis 를 막지 않음)
+    // 더 긴 prefix 의 키도 패턴에 걸리므로 prefix 가 정확히 같은 키만 셈
+    private Map<String, Long> scanSizes() {
+        Map<String, Long> counts = new HashMap<>();
+        for (String prefix : sizePrefixes) {
+            long count = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(escape(prefix) + ":*").count(1000).build();
+            try (Cursor<String> cursor = binaryRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    if (prefix.equals(prefix(cursor.next()))) count++;
+                }
+            } catch (RuntimeException e) {
+                log.error("chart cache size scan error: {}", prefix, e);
+                Map<String, Long> previous = sizes;
+                if (previous != null && previous.containsKey(prefix)) counts.put(prefix, previous.get(prefix));
+                continue;
+            }
+            counts.put(prefix, count);
+        }
+        return counts;
+    }
+
+    // SCAN MATCH 패턴의 glob 특수 문자 escape
+    static String escape(String prefix) {
+        StringBuilder sb = new StringBuilder(prefix.length());
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') sb.append('\\');
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private DistributionSummary summary(String name, String prefix) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("prefix", prefix)
+                .register(meterRegistry);
+    }
+}
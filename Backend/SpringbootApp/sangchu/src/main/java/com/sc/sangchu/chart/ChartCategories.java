@@ -0,0 +1,59 @@
+package com.sc.sangchu.chart;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+// 차트 x축 카테고리, 고정 카테고리는 상수로 한 번만 만들고 UTF-8 인코딩 결과까지 재사용
+public final class ChartCategories {
+    public static final ChartCategories AGE = of("10대", "20대", "30대", "40대", "50대", "60대 이상");
+    public static final ChartCategories FLOATING_TIME = of("0-6시", "6-11시", "11-14시", "14-17시", "17-21시", "21-24시");
+    public static final ChartCategories FLOATING_DAY = of("월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일");
+    public static final ChartCategories QUARTERLY_TRENDS = of("2022 1분기", "2022 2분기", "2022 3분기", "2022 4분기",
+            "2023 1분기", "2023 2분기", "2023 3분기");
+    public static final ChartCategories GENDER_AGE = of("10대 남성", "20대 남성", "30대 남성", "40대 남성", "50대 남성", "60대 이상 남성",
+            "10대 여성", "20대 여성", "30대 여성", "40대 여성", "50대 여성", "60대 이상 여성");
+    public static final ChartCategories APT_AREA = of("20평 미만", "20평~30평", "30평~40평", "40평~50평", "50평 이상");
+    public static final ChartCategories APT_PRICE = of("1억 미만", "1억~2억", "2억~3억", "3억~4억", "4억~5억", "5억~6억", "6억 이상");
+    public static final ChartCategories SALES_DAY = of("월", "화", "수", "목", "금", "토", "일");
+    public static final ChartCategories SALES_TIME = of("00~06시", "06~11시", "11~14시", "14~17시", "17~21시", "21~24시");
+    public static final ChartCategories SALES_AGE = of("10대", "20대", "30대", "40대", "50대", "60대이상");
+
+    private final SerializableString[] values;
+
+    private ChartCategories(SerializableString[] values) {
+        this.values = values;
+    }
+
+    public static ChartCategories of(String... values) {
+        SerializableString[] encoded = new SerializableString[values.length];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i] != null ? new SerializedString(values[i]) : null;
+        }
+        return new ChartCategories(encoded);
+    }
+
+    // 요청마다 달라지는 카테고리 (업종명, 연도-분기 등)
+    public static ChartCategories of(List<String> values) {
+        return of(values.toArray(new String[0]));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    void write(JsonGenerator gen) throws IOException {
+        gen.writeStartArray();
+        for (SerializableString value : values) {
+            if (value != null) {
+                gen.writeString(value);
+            } else {
+                gen.writeNull();
+            }
+        }
+        gen.writeEndArray();
+    }
+}
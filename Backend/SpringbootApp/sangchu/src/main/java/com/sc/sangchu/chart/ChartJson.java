@@ -0,0 +1,50 @@
+package com.sc.sangchu.chart;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+// 직렬화가 끝난 차트 JSON, 응답에는 다시 파싱하지 않고 그대로 기록
+public final class ChartJson implements JsonSerializable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String json;
+
+    public ChartJson(String json) {
+        this.json = json;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (gen instanceof JsonGeneratorImpl) {
+            gen.writeRawValue(json);
+            return;
+        }
+        // JSON 이 아닌 출력(TokenBuffer 등)은 토큰 단위로 복사
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
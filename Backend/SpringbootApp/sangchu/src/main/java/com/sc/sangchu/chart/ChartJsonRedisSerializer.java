@@ -0,0 +1,214 @@
+package com.sc.sangchu.chart;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/*
+ * 그래프 캐시 값 직렬화 : JSON 텍스트 대신 Smile 바이너리, 임계값 이상이면 LZ4 / Deflate 압축
+ *
+ * [0] MAGIC  [1] 포맷 버전  [2] 압축 방식  ([3..6] 압축 전 길이)  [...] Smile 본문
+ *
+ * MAGIC 으로 시작하지 않는 값은 이전 버전(Jackson2JsonRedisSerializer, StringRedisTemplate)이 저장한 JSON 문자열로 읽음
+ */
+public class ChartJsonRedisSerializer implements RedisSerializer<ChartJson> {
+    static final byte MAGIC = (byte) 0xCE;
+    static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = 4;
+    // 압축 전 길이 상한 (헤더가 깨졌을 때 큰 배열을 잡지 않도록, 그래프 하나는 수십 KB)
+    static final int MAX_LENGTH = 16 * 1024 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+
+    public enum Compression {
+        NONE(0), DEFLATE(1), LZ4(2);
+
+        private final byte id;
+
+        Compression(int id) {
+            this.id = (byte) id;
+        }
+
+        public static Compression from(String name) {
+            return valueOf(name.trim().toUpperCase());
+        }
+
+        private static Compression of(byte id) {
+            for (Compression compression : values()) {
+                if (compression.id == id) return compression;
+            }
+            throw new SerializationException("Unknown chart cache compression: " + id);
+        }
+    }
+
+    private final Compression compression;
+    private final int compressionThreshold;
+
+    public ChartJsonRedisSerializer(Compression compression, int compressionThreshold) {
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(ChartJson value) throws SerializationException {
+        if (value == null) return null;
+        byte[] smile = toSmile(value.getJson());
+
+        if (compression == Compression.NONE || smile.length < compressionThreshold) {
+            return uncompressed(smile);
+        }
+
+        byte[] compressed = compression == Compression.LZ4 ? lz4(smile) : deflate(smile);
+        // 압축 이득이 없으면 원본 저장
+        if (compressed.length >= smile.length) {
+            return uncompressed(smile);
+        }
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressed.length);
+        out.put(MAGIC).put(VERSION).put(compression.id).putInt(smile.length).put(compressed);
+        return out.array();
+    }
+
+    @Override
+    public ChartJson deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes[0] != MAGIC) {
+            return new ChartJson(new String(bytes, StandardCharsets.UTF_8));
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated chart cache value");
+        }
+        // 버전은 부호 없는 바이트 (0x80 이상이 음수로 읽혀 통과하지 않도록)
+        int version = bytes[1] & 0xFF;
+        if (version > VERSION) {
+            throw new SerializationException("Unsupported chart cache format version: " + version);
+        }
+
+        Compression applied = Compression.of(bytes[2]);
+        if (applied == Compression.NONE) {
+            return new ChartJson(fromSmile(Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length)));
+        }
+        if (bytes.length < HEADER_SIZE + LENGTH_SIZE) {
+            throw new SerializationException("Truncated chart cache value");
+        }
+        int length = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new SerializationException("Invalid chart cache value length: " + length);
+        }
+        int offset = HEADER_SIZE + LENGTH_SIZE;
+        byte[] smile = applied == Compression.LZ4
+                ? unlz4(bytes, offset, length)
+                : inflate(bytes, offset, length);
+        return new ChartJson(fromSmile(smile));
+    }
+
+    private byte[] uncompressed(byte[] smile) {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + smile.length);
+        out.put(MAGIC).put(VERSION).put(Compression.NONE.id).put(smile);
+        return out.array();
+    }
+
+    private byte[] toSmile(String json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length());
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator gen = SMILE_FACTORY.createGenerator(out)) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write chart cache value", e);
+        }
+        return out.toByteArray();
+    }
+
+    private String fromSmile(byte[] smile) {
+        StringWriter writer = new StringWriter(smile.length * 2);
+        try (JsonParser parser = SMILE_FACTORY.createParser(smile);
+             JsonGenerator gen = JSON_FACTORY.createGenerator(writer)) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read chart cache value", e);
+        }
+        return writer.toString();
+    }
+
+    private byte[] lz4(byte[] source) {
+        LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+        return compressor.compress(source);
+    }
+
+    private byte[] unlz4(byte[] source, int offset, int length) {
+        // 압축 본문 길이를 넘어 읽지 않는 safe 디코더 (fast 디코더는 깨진 값에서 버퍼 밖을 읽을 수 있음)
+        LZ4SafeDecompressor decompressor = LZ4Factory.fastestInstance().safeDecompressor();
+        byte[] out = new byte[length];
+        int read;
+        try {
+            read = decompressor.decompress(source, offset, source.length - offset, out, 0, length);
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Could not decompress chart cache value", e);
+        }
+        if (read != length) {
+            throw new SerializationException("Truncated chart cache value");
+        }
+        return out;
+    }
+
+    private byte[] deflate(byte[] source) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(source);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(source.length);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] source, int offset, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(source, offset, source.length - offset);
+            byte[] out = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(out, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != length) {
+                throw new SerializationException("Truncated chart cache value");
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new SerializationException("Could not inflate chart cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.sc.sangchu.chart;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 필드 순서가 유지되는 JSON 객체 (series 항목 등)
+public final class ChartObject {
+    private final List<String> names = new ArrayList<>(4);
+    private final List<Object> values = new ArrayList<>(4);
+
+    public ChartObject put(String name, String value) {
+        return add(name, value);
+    }
+
+    public ChartObject put(String name, Number value) {
+        return add(name, value);
+    }
+
+    // 숫자 배열 (null 원소는 null 로 기록)
+    public ChartObject putArray(String name, Number... values) {
+        return add(name, values);
+    }
+
+    public ChartObject putArray(String name, List<? extends Number> values) {
+        return add(name, values);
+    }
+
+    private ChartObject add(String name, Object value) {
+        names.add(name);
+        values.add(value);
+        return this;
+    }
+
+    void write(JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        for (int i = 0; i < names.size(); i++) {
+            gen.writeFieldName(names.get(i));
+            writeValue(gen, values.get(i));
+        }
+        gen.writeEndObject();
+    }
+
+    static void writeValue(JsonGenerator gen, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof String string) {
+            gen.writeString(string);
+        } else if (value instanceof Number number) {
+            writeNumber(gen, number);
+        } else if (value instanceof Number[] numbers) {
+            gen.writeStartArray();
+            for (Number number : numbers) {
+                writeNumber(gen, number);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof List<?> list) {
+            gen.writeStartArray();
+            for (Object element : list) {
+                writeNumber(gen, (Number) element);
+            }
+            gen.writeEndArray();
+        } else {
+            throw new IllegalArgumentException("Unsupported chart value: " + value.getClass());
+        }
+    }
+
+    // ObjectNode 의 IntNode / LongNode / DoubleNode 와 같은 형식으로 기록
+    static void writeNumber(JsonGenerator gen, Number number) throws IOException {
+        if (number == null) {
+            gen.writeNull();
+        } else if (number instanceof Integer) {
+            gen.writeNumber(number.intValue());
+        } else if (number instanceof Long) {
+            gen.writeNumber(number.longValue());
+        } else if (number instanceof Float) {
+            gen.writeNumber(number.floatValue());
+        } else {
+            gen.writeNumber(number.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.sc.sangchu.chart;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 그래프 응답 모델, ObjectNode 트리를 만들지 않고 JsonGenerator 로 바로 기록
+ * {
+ *   "chartType": "bar",
+ *   ...attributes (year, commDistrictName)
+ *   "data": {
+ *     "categories": [...],
+ *     "series": [...] 또는 {...}
+ *   }
+ * }
+ */
+public final class ChartSpec {
+    private static final SerializableString CHART_TYPE = new SerializedString("chartType");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString CATEGORIES = new SerializedString("categories");
+    private static final SerializableString SERIES = new SerializedString("series");
+
+    private final String chartType;
+    private final List<String> attributeNames = new ArrayList<>(2);
+    private final List<Object> attributeValues = new ArrayList<>(2);
+    private ChartCategories categories = ChartCategories.of();
+    private Object series;
+
+    private ChartSpec(String chartType) {
+        this.chartType = chartType;
+    }
+
+    public static ChartSpec of(String chartType) {
+        return new ChartSpec(chartType);
+    }
+
+    // chartType 다음, data 앞에 기록되는 속성
+    public ChartSpec attribute(String name, String value) {
+        attributeNames.add(name);
+        attributeValues.add(value);
+        return this;
+    }
+
+    public ChartSpec attribute(String name, Number value) {
+        attributeNames.add(name);
+        attributeValues.add(value);
+        return this;
+    }
+
+    public ChartSpec categories(ChartCategories categories) {
+        this.categories = categories;
+        return this;
+    }
+
+    // "series": [{...}, {...}]
+    public ChartSpec series(List<ChartObject> series) {
+        this.series = series;
+        return this;
+    }
+
+    // "series": [{...}]
+    public ChartSpec series(ChartObject series) {
+        this.series = List.of(series);
+        return this;
+    }
+
+    // "series": {...}
+    public ChartSpec seriesObject(ChartObject series) {
+        this.series = series;
+        return this;
+    }
+
+    // "series": [1.0, 2.0, ...]
+    public ChartSpec seriesValues(List<? extends Number> values) {
+        this.series = new ValueList(values);
+        return this;
+    }
+
+    public void writeTo(JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(CHART_TYPE);
+        gen.writeString(chartType);
+        for (int i = 0; i < attributeNames.size(); i++) {
+            gen.writeFieldName(attributeNames.get(i));
+            ChartObject.writeValue(gen, attributeValues.get(i));
+        }
+        gen.writeFieldName(DATA);
+        gen.writeStartObject();
+        gen.writeFieldName(CATEGORIES);
+        categories.write(gen);
+        gen.writeFieldName(SERIES);
+        writeSeries(gen);
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    public ChartJson toJson(JsonFactory factory) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator gen = factory.createGenerator(writer)) {
+            writeTo(gen);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ChartJson(writer.toString());
+    }
+
+    private void writeSeries(JsonGenerator gen) throws IOException {
+        if (series instanceof ChartObject object) {
+            object.write(gen);
+        } else if (series instanceof ValueList valueList) {
+            ChartObject.writeValue(gen, valueList.values);
+        } else {
+            gen.writeStartArray();
+            if (series != null) {
+                for (Object object : (List<?>) series) {
+                    ((ChartObject) object).write(gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static final class ValueList {
+        private final List<? extends Number> values;
+
+        private ValueList(List<? extends Number> values) {
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sc.sangchu.chart;
+
+import com.sc.sangchu.metrics.LayerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ChartCache 의 반응형 대응 (같은 키 / 같은 ChartJsonRedisSerializer 형식이라 두 경로가 캐시를 공유)
+ * 타이머도 같은 app.layer{layer="redis"} 로 기록, prefix 별 키 수 게이지는 ChartCache 쪽에서만 등록
+ */
+@Component
+@Slf4j
+public class ReactiveChartCache {
+    private static final String LAYER = "redis";
+
+    private final ReactiveRedisTemplate<String, byte[]> binaryReactiveRedisTemplate;
+    private final ChartJsonRedisSerializer chartJsonRedisSerializer;
+    private final LayerMetrics layerMetrics;
+
+    @Autowired
+    public ReactiveChartCache(ReactiveRedisTemplate<String, byte[]> binaryReactiveRedisTemplate,
+                              ChartJsonRedisSerializer chartJsonRedisSerializer, MeterRegistry meterRegistry) {
+        this.binaryReactiveRedisTemplate = binaryReactiveRedisTemplate;
+        this.chartJsonRedisSerializer = chartJsonRedisSerializer;
+        this.layerMetrics = new LayerMetrics(meterRegistry);
+    }
+
+    // 없는 키, 읽을 수 없는 값은 빈 Mono (캐시 미스)
+    public Mono<ChartJson> get(String cacheKey) {
+        String prefix = ChartCache.prefix(cacheKey);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return binaryReactiveRedisTemplate.opsForValue().get(cacheKey)
+                    .mapNotNull(chartJsonRedisSerializer::deserialize)
+                    .doOnSuccess(chartJson -> record(prefix, "get",
+                            chartJson == null ? LayerMetrics.MISS : LayerMetrics.HIT, start))
+                    .doOnError(e -> record(prefix, "get", LayerMetrics.ERROR, start));
+        }).onErrorResume(e -> {
+            log.error("chart cache get error: {}", cacheKey, e);
+            return Mono.empty();
+        });
+    }
+
+    public Mono<Void> put(String cacheKey, ChartJson chartJson) {
+        String prefix = ChartCache.prefix(cacheKey);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return binaryReactiveRedisTemplate.opsForValue().set(cacheKey, chartJsonRedisSerializer.serialize(chartJson))
+                    .doOnSuccess(ignored -> record(prefix, "set", LayerMetrics.SUCCESS, start))
+                    .doOnError(e -> record(prefix, "set", LayerMetrics.ERROR, start));
+        }).then();
+    }
+
+    private void record(String prefix, String operation, String outcome, long start) {
+        layerMetrics.timer(LAYER, prefix, operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,241 @@
+package com.sc.sangchu.concurrent;
+
+import com.sc.sangchu.sql.QueryStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+ * 요청 안의 독립 조회를 나눠 실행 (StructuredTaskScope.ShutdownOnFailure 와 같은 규칙, Java 17 에서도 동작)
+ *   try (FanOut.Scope scope = fanOut.open()) {
+ *       Supplier<A> a = scope.fork(() -> ...);
+ *       Supplier<B> b = scope.fork(() -> ...);
+ *       scope.join();   // 모두 끝날 때까지 대기, 하나라도 실패하거나 timeout 이 지나면 나머지를 취소하고 예외
+ *       ... a.get(), b.get()
+ *   }
+ * spring.threads.virtual.enabled 이고 Java 21 이상이면 조회마다 가상 스레드, 아니면 platform-threads 크기의 스레드 풀
+ * 요청 하나가 동시에 실행하는 조회는 parallelism 개까지 (fork 가 자리가 날 때까지 기다림, Hikari 풀을 한 요청이 독점하지 않도록)
+ * 모든 요청을 합쳐 동시에 실행하는 조회는 maxConcurrent 개까지 (기본 Hikari 풀 크기 - RESERVED_CONNECTIONS)
+ *   요청 스레드가 직접 하는 조회에 연결을 남겨 두어, 나눠 실행한 조회가 Hikari 연결 대기(connectionTimeout 30s)에 걸려
+ *   timeout 보다 오래 막히지 않게 함, 자리 대기도 timeout 안에서만
+ * 나눠 실행한 조회의 SQL 통계(QueryStats)는 join 한 스레드의 요청 통계에 합침
+ */
+@Component
+@Slf4j
+public class FanOut {
+    static final int RESERVED_CONNECTIONS = 2;
+
+    private final AsyncTaskExecutor executor;
+    private final boolean virtual;
+    private final int parallelism;
+    // 모든 scope 가 같이 쓰는 동시 조회 자리
+    private final Semaphore connections;
+    private final Duration timeout;
+
+    @Autowired
+    public FanOut(Environment environment,
+                  @Value("${fan-out.parallelism:8}") int parallelism,
+                  @Value("${fan-out.max-concurrent:0}") int maxConcurrent,
+                  @Value("${fan-out.timeout:5s}") Duration timeout,
+                  @Value("${fan-out.platform-threads:16}") int platformThreads) {
+        this(Threading.VIRTUAL.isActive(environment), parallelism,
+                maxConcurrent > 0 ? maxConcurrent : Math.max(1,
+                        environment.getProperty("spring.datasource.maximum-pool-size", Integer.class, 10) - RESERVED_CONNECTIONS),
+                timeout, platformThreads);
+        if (!virtual && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("spring.threads.virtual.enabled 이지만 Java {} 에서는 가상 스레드를 쓸 수 없어 플랫폼 스레드로 실행",
+                    Runtime.version().feature());
+        }
+    }
+
+    public FanOut(boolean virtual, int parallelism, int maxConcurrent, Duration timeout, int platformThreads) {
+        this.virtual = virtual;
+        this.parallelism = parallelism;
+        this.connections = new Semaphore(maxConcurrent);
+        this.timeout = timeout;
+        log.info("fan-out parallelism {}, max concurrent {}, timeout {}", parallelism, maxConcurrent, timeout);
+        if (virtual) {
+            SimpleAsyncTaskExecutor simple = new SimpleAsyncTaskExecutor("fan-out-");
+            simple.setVirtualThreads(true);
+            this.executor = simple;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("fan-out-");
+            pool.setCorePoolSize(platformThreads);
+            pool.setMaxPoolSize(platformThreads);
+            pool.setDaemon(true);
+            pool.initialize();
+            this.executor = pool;
+        }
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    // 지금 비어 있는 공유 자리 수 (테스트용)
+    int availablePermits() {
+        return connections.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) pool.shutdown();
+    }
+
+    public final class Scope implements AutoCloseable {
+        private final long deadline = System.nanoTime() + timeout.toNanos();
+        private final Semaphore permits = new Semaphore(parallelism);
+        // 끝난 조회마다 하나씩 (성공 / 실패 모두)
+        private final Semaphore finished = new Semaphore(0);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final List<Fork<?>> forks = new ArrayList<>();
+        private final QueryStats parentStats = QueryStats.current();
+        private final Thread owner = Thread.currentThread();
+        private boolean joined;
+
+        private Scope() {
+        }
+
+        // 실패 / timeout 이 이미 났으면 실행하지 않고, 결과는 join 이 끝난 뒤에만 꺼낼 수 있음
+        public <T> Supplier<T> fork(Callable<T> task) {
+            checkOwner();
+            Fork<T> fork = new Fork<>();
+            if (failure.get() != null) return fork;
+            if (!acquire(permits)) return fork;
+            if (!acquire(connections)) {
+                permits.release();
+                return fork;
+            }
+
+            try {
+                fork.future = submit(fork, task);
+            } catch (RuntimeException e) {
+                // 실행기가 거부하면 자리를 돌려주고 실패로 처리
+                connections.release();
+                permits.release();
+                failure.compareAndSet(null, e);
+                return fork;
+            }
+            forks.add(fork);
+            return fork;
+        }
+
+        // 남은 시간 안에 자리를 얻지 못하면 timeout 실패
+        private boolean acquire(Semaphore semaphore) {
+            try {
+                long left = deadline - System.nanoTime();
+                if (left > 0 && semaphore.tryAcquire(left, TimeUnit.NANOSECONDS)) return true;
+                failure.compareAndSet(null, new TimeoutException("fan-out timeout " + timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            }
+            return false;
+        }
+
+        private <T> Future<T> submit(Fork<T> fork, Callable<T> task) {
+            return executor.submit(() -> {
+                // 시작 전에 취소됐으면 cancel 이 자리를 돌려줌
+                if (!fork.started.compareAndSet(false, true)) return null;
+                QueryStats stats = parentStats != null ? QueryStats.start() : null;
+                try {
+                    fork.value = task.call();
+                    fork.done = true;
+                    return fork.value;
+                } catch (Throwable e) {
+                    // join 은 다음 finished 에서 실패를 보고 나머지 조회를 기다리지 않음
+                    failure.compareAndSet(null, e);
+                    throw e;
+                } finally {
+                    if (stats != null) fork.stats = QueryStats.stop();
+                    connections.release();
+                    permits.release();
+                    finished.release();
+                }
+            });
+        }
+
+        public void join() throws InterruptedException, TimeoutException, ExecutionException {
+            checkOwner();
+            joined = true;
+            int pending = forks.size();
+            while (pending > 0 && failure.get() == null) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0 || !finished.tryAcquire(left, TimeUnit.NANOSECONDS)) {
+                    failure.compareAndSet(null, new TimeoutException("fan-out timeout " + timeout));
+                    break;
+                }
+                pending--;
+            }
+
+            Throwable cause = failure.get();
+            if (cause == null) return;
+            cancel();
+            if (cause instanceof TimeoutException timeoutException) throw timeoutException;
+            if (cause instanceof InterruptedException interruptedException) throw interruptedException;
+            throw new ExecutionException(cause);
+        }
+
+        // 끝나지 않은 조회는 인터럽트로 취소 (실행 중인 JDBC 문장은 끝날 때까지 돌고 결과만 버림)
+        @Override
+        public void close() {
+            cancel();
+            if (parentStats == null) return;
+            for (Fork<?> fork : forks) {
+                if (fork.stats != null) parentStats.add(fork.stats);
+            }
+        }
+
+        // 시작하지 않은 조회는 실행되지 않으므로 공유 자리를 여기서 돌려줌 (돌려주지 않으면 다른 요청이 계속 기다림)
+        private void cancel() {
+            for (Fork<?> fork : forks) {
+                fork.future.cancel(true);
+                if (fork.started.compareAndSet(false, true)) connections.release();
+            }
+        }
+
+        private void checkOwner() {
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("fan-out scope 는 연 스레드에서만 사용");
+            }
+        }
+
+        // 결과는 finished 를 놓기 전에 저장 (Future 는 task 가 끝난 뒤에야 완료되므로 취소에만 씀)
+        private final class Fork<T> implements Supplier<T> {
+            private Future<T> future;
+            private volatile T value;
+            private volatile boolean done;
+            private volatile QueryStats stats;
+            private final AtomicBoolean started = new AtomicBoolean();
+
+            @Override
+            public T get() {
+                if (!joined || !done) {
+                    throw new IllegalStateException("join 이 성공한 뒤에만 결과를 꺼낼 수 있음");
+                }
+                return value;
+            }
+        }
+    }
+}
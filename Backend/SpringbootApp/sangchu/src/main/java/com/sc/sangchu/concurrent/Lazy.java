@@ -0,0 +1,59 @@
+package com.sc.sangchu.concurrent;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/*
+ * 처음 조회할 때 한 번 만드는 값 (메모리 색인 / 조회 테이블)
+ * 만드는 동안(DB 조회) 다른 요청은 lock 에서 대기, 가상 스레드에서도 캐리어 스레드를 붙잡지 않음 (synchronized 와 다름)
+ * reload 는 새 값을 다 만든 뒤 교체하므로 그동안 요청은 이전 값을 계속 사용
+ * loader 가 실패하면 값을 두지 않고 예외를 그대로 던져 다음 요청이 다시 만듦
+ */
+public final class Lazy<T> {
+    private final Supplier<T> loader;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T value;
+
+    public Lazy(Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    public T get() {
+        T current = value;
+        if (current == null) {
+            lock.lock();
+            try {
+                current = value;
+                if (current == null) {
+                    current = loader.get();
+                    value = current;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    // 데이터 적재 후 새로 만들어 교체
+    public T reload() {
+        lock.lock();
+        try {
+            T current = loader.get();
+            value = current;
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 버리고 다음 get 에서 다시 만듦
+    public void reset() {
+        lock.lock();
+        try {
+            value = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
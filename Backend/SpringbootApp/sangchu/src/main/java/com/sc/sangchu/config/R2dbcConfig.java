@@ -0,0 +1,104 @@
+package com.sc.sangchu.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/*
+ * 논블로킹 조회 경로(/api/reactive/**) 용 R2DBC 연결 풀
+ * 접속 정보는 JDBC 와 같은 DB_URL / DB_USERNAME / DB_PASSWORD 를 사용 (jdbc:postgresql://... -> r2dbc:postgresql://...)
+ * URL 의 sslmode 등 쿼리 파라미터는 R2DBC 옵션 이름으로 바꿔 넘김 (PARAMETERS)
+ * DatabaseClient 는 스프링 부트 자동 설정이 이 ConnectionFactory 로 만듦
+ */
+@Configuration
+@Slf4j
+public class R2dbcConfig {
+    @Value("${spring.datasource.jdbc-url}")
+    private String jdbcUrl;
+    @Value("${spring.datasource.username}")
+    private String username;
+    @Value("${spring.datasource.password:}")
+    private String password;
+    @Value("${reactive.r2dbc.pool.initial-size:2}")
+    private int initialSize;
+    @Value("${reactive.r2dbc.pool.max-size:10}")
+    private int maxSize;
+    @Value("${reactive.r2dbc.pool.max-acquire-time:5s}")
+    private Duration maxAcquireTime;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory() {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(toR2dbcUrl(jdbcUrl)).mutate()
+                .option(ConnectionFactoryOptions.USER, username);
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("r2dbc")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    // JDBC 쿼리 파라미터 -> R2DBC 옵션 이름 (PostgreSQL 드라이버 기준)
+    private static final Map<String, String> PARAMETERS = Map.of(
+            "sslmode", "sslMode",
+            "sslrootcert", "sslRootCert",
+            "sslcert", "sslCert",
+            "sslkey", "sslKey",
+            "sslpassword", "sslPassword",
+            "ApplicationName", "applicationName",
+            "currentSchema", "schema");
+
+    // 옵션 이름이 다른 파라미터는 바꿔서 넘기고, 대응하는 옵션이 없는 파라미터는 경고 로그 후 무시
+    // ssl 로 시작하는 파라미터만 옮기지 못하면 기동 실패 (조용히 버리면 sslmode=require 인 DB 에 R2DBC 만 평문으로 접속할 수 있음)
+    // ssl=true 는 JDBC 드라이버와 같이 sslmode 가 없을 때 verify-full
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalArgumentException("JDBC URL 형식이 아닙니다 : " + jdbcUrl);
+        }
+        int query = jdbcUrl.indexOf('?');
+        if (query < 0) return "r2dbc:" + jdbcUrl.substring(5);
+
+        Map<String, String> options = new LinkedHashMap<>();
+        String ssl = null;
+        for (String parameter : jdbcUrl.substring(query + 1).split("&")) {
+            if (parameter.isEmpty()) continue;
+            int eq = parameter.indexOf('=');
+            String name = eq < 0 ? parameter : parameter.substring(0, eq);
+            String value = eq < 0 ? "" : parameter.substring(eq + 1);
+            String option = PARAMETERS.get(name);
+            if (option != null) {
+                options.put(option, value);
+            } else if (name.equals("ssl")) {
+                ssl = value;
+            } else if (name.toLowerCase(Locale.ROOT).startsWith("ssl")) {
+                throw new IllegalArgumentException("R2DBC 로 옮길 수 없는 SSL 파라미터입니다 : " + name);
+            } else {
+                log.warn("R2DBC 로 옮길 수 없는 JDBC URL 파라미터는 무시 : {}", name);
+            }
+        }
+        if (ssl != null && !options.containsKey("sslMode")) {
+            options.put("sslMode", ssl.isEmpty() || Boolean.parseBoolean(ssl) ? "verify-full" : "disable");
+        }
+
+        StringJoiner joined = new StringJoiner("&", "?", "").setEmptyValue("");
+        options.forEach((option, value) -> joined.add(option + "=" + value));
+        return "r2dbc:" + jdbcUrl.substring(5, query) + joined;
+    }
+}
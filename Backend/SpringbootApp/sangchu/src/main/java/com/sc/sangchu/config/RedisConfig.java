@@ -1,16 +1,21 @@
 package com.sc.sangchu.config;
 
+import com.sc.sangchu.chart.ChartJsonRedisSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -24,9 +29,14 @@ public class RedisConfig {
     private int port;
     @Value("${REDIS_PASSWORD}")
     private String password;
+    @Value("${chart.cache.compression:lz4}")
+    private String chartCacheCompression;
+    @Value("${chart.cache.compression-threshold:512}")
+    private int chartCacheCompressionThreshold;
 
+    // Lettuce 는 블로킹 / 반응형 연결 팩토리를 함께 제공 (RedisTemplate, ReactiveRedisTemplate 공용)
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisConfiguration = new RedisStandaloneConfiguration();
         redisConfiguration.setHostName(host);
         redisConfiguration.setPort(port);
@@ -54,6 +64,35 @@ public class RedisConfig {
         return template;
     }
 
+    // 직렬화가 끝난 응답 바이트(CBOR, Smile)를 그대로 저장
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory factory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    // binaryRedisTemplate 의 반응형 대응 (ReactiveChartCache)
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> binaryReactiveRedisTemplate(ReactiveRedisConnectionFactory factory) {
+        RedisSerializationContext<String, byte[]> context = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                .value(RedisSerializer.byteArray())
+                .build();
+
+        return new ReactiveRedisTemplate<>(factory, context);
+    }
+
+    // 그래프 캐시 값 직렬화 (Smile + 임계값 이상 압축)
+    @Bean
+    public ChartJsonRedisSerializer chartJsonRedisSerializer() {
+        return new ChartJsonRedisSerializer(ChartJsonRedisSerializer.Compression.from(chartCacheCompression),
+                chartCacheCompressionThreshold);
+    }
+
     @Bean
     public ListOperations<String, Object> listOperations(RedisTemplate<String, Object> redisTemplate) {
         return redisTemplate.opsForList();
@@ -1,11 +1,21 @@
 package com.sc.sangchu.config;
 
+import com.sc.sangchu.postgresql.service.CommDistRefreshEndpoint;
+import com.sc.sangchu.profiling.JfrEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -15,6 +25,32 @@ import java.util.Arrays;
 
 @Configuration
 public class SecurityConfig {
+    // 관리자 actuator 엔드포인트(/actuator/jfr, /actuator/rebuild)는 HTTP Basic + ADMIN 역할, 나머지 체인보다 먼저 검사
+    @Bean
+    @Order(1)
+    public SecurityFilterChain adminFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(EndpointRequest.to(JfrEndpoint.class, CommDistRefreshEndpoint.class))
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(requests -> requests.anyRequest().hasRole("ADMIN"))
+                .sessionManagement(sessions -> sessions.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
+    // ADMIN_PASSWORD 가 없으면 계정을 만들지 않아 관리자 엔드포인트는 항상 401
+    @Bean
+    public UserDetailsService adminUserDetailsService(@Value("${admin.username:admin}") String username,
+                                                      @Value("${admin.password:}") String password) {
+        if (password.isBlank()) {
+            return new InMemoryUserDetailsManager();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(password))
+                .roles("ADMIN")
+                .build());
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
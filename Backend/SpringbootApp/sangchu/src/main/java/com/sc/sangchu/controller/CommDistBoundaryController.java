@@ -0,0 +1,96 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistLocateDTO;
+import com.sc.sangchu.dto.CoordinateDTO;
+import com.sc.sangchu.geo.BoundaryLevel;
+import com.sc.sangchu.postgresql.service.CommDistBoundaryService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 경계 컨트롤러", description = "줌 레벨별 상권 경계 GeoJSON 및 좌표 -> 상권 조회 컨트롤러")
+public class CommDistBoundaryController {
+    private static final MediaType GEO_JSON = MediaType.valueOf("application/geo+json");
+
+    private final CommDistBoundaryService commDistBoundaryService;
+
+    @Autowired
+    public CommDistBoundaryController(CommDistBoundaryService commDistBoundaryService) {
+        this.commDistBoundaryService = commDistBoundaryService;
+    }
+
+    // 줌 레벨별 상권 경계 조회
+    @GetMapping("/boundary")
+    @Operation(summary = "상권 경계 조회",
+            description = "지도 줌 레벨(10~17)에 맞게 단순화된 서울시 상권 경계 GeoJSON을 조회합니다. (Accept-Encoding: gzip 지원)")
+    public ResponseEntity<?> getBoundary(
+            @RequestParam(value = "zoom", defaultValue = "14") Integer zoom,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            BoundaryLevel boundaryLevel = commDistBoundaryService.getBoundaryGeoJson(zoom);
+            if(boundaryLevel == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistBoundaryController getBoundary NullException"));
+            }
+            if(boundaryLevel.getEtag().equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(boundaryLevel.getEtag()).build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(GEO_JSON)
+                    .eTag(boundaryLevel.getEtag())
+                    .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if(acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(boundaryLevel.getGzip());
+            }
+            return response.body(boundaryLevel.getGeoJson());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistBoundaryController getBoundary failure"));
+        }
+    }
+
+    // 좌표가 속한 상권 조회
+    @GetMapping("/locate")
+    @Operation(summary = "좌표로 상권 조회", description = "위도, 경도가 속한 상권을 상권 경계 폴리곤 기준으로 조회합니다. 상권 밖 좌표는 상권 코드가 null 입니다.")
+    public ResponseEntity<?> getCommDistByLocation(
+            @RequestParam(value = "latitude") Double latitude, @RequestParam(value = "longitude") Double longitude) {
+        try {
+            CommDistLocateDTO commDistLocateDTO = commDistBoundaryService.locate(latitude, longitude);
+            if(commDistLocateDTO == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistBoundaryController getCommDistByLocation NullException"));
+            }
+            return ResponseEntity.ok(commDistLocateDTO);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistBoundaryController getCommDistByLocation failure"));
+        }
+    }
+
+    // 여러 좌표의 상권 일괄 조회 (최대 5000개)
+    @PostMapping("/locate/batch")
+    @Operation(summary = "좌표 목록으로 상권 일괄 조회", description = "좌표 목록 각각이 속한 상권을 요청 순서대로 조회합니다. 상권 밖 좌표, 위도 / 경도가 빠진 좌표는 상권 코드가 null 입니다.")
+    public ResponseEntity<?> getCommDistByLocations(@RequestBody List<CoordinateDTO> coordinates) {
+        try {
+            List<CommDistLocateDTO> commDistLocateDTOs = commDistBoundaryService.locateAll(coordinates);
+            if(commDistLocateDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistBoundaryController getCommDistByLocations NullException"));
+            }
+            return ResponseEntity.ok(commDistLocateDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistBoundaryController getCommDistByLocations failure"));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistCatchmentDTO;
+import com.sc.sangchu.postgresql.service.CommDistCatchmentService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 반경 집계 컨트롤러", description = "지점 반경 안 상권들의 인구 / 매출 / 점포 거리 가중 집계 컨트롤러")
+public class CommDistCatchmentController {
+    private final CommDistCatchmentService commDistCatchmentService;
+
+    @Autowired
+    public CommDistCatchmentController(CommDistCatchmentService commDistCatchmentService) {
+        this.commDistCatchmentService = commDistCatchmentService;
+    }
+
+    // 반경 안 상권 지표 집계
+    @GetMapping("/catchment")
+    @Operation(summary = "반경 상권 집계",
+            description = "위도, 경도 기준 반경(최대 3000m) 안에 중심이 있는 상권들의 유동/상주/직장 인구, 업종별 매출, 점포 수를 거리 가중(중심 1 ~ 경계 0)으로 합산합니다.")
+    public ResponseEntity<?> getCatchment(
+            @RequestParam(value = "latitude") Double latitude,
+            @RequestParam(value = "longitude") Double longitude,
+            @RequestParam(value = "radius", defaultValue = "500") Integer radius) {
+        try {
+            CommDistCatchmentDTO commDistCatchmentDTO = commDistCatchmentService.getCatchment(latitude, longitude, radius);
+            if(commDistCatchmentDTO == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistCatchmentController getCatchment NullException"));
+            }
+            return ResponseEntity.ok(commDistCatchmentDTO);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistCatchmentController getCatchment failure"));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistClusterDTO;
+import com.sc.sangchu.postgresql.service.CommDistClusterService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 클러스터 컨트롤러", description = "줌 레벨별 상권 마커 클러스터 조회 컨트롤러")
+public class CommDistClusterController {
+    private final CommDistClusterService commDistClusterService;
+
+    @Autowired
+    public CommDistClusterController(CommDistClusterService commDistClusterService) {
+        this.commDistClusterService = commDistClusterService;
+    }
+
+    // 화면 범위, 줌 레벨별 상권 클러스터 조회
+    @GetMapping("/clusters")
+    @Operation(summary = "상권 클러스터 조회",
+            description = "지도 화면 범위 안의 상권 마커를 줌 레벨(8~16)에 맞게 묶어 상권 수, 평균/최고 점수와 함께 조회합니다. 줌 17 이상은 개별 상권을 반환합니다.")
+    public ResponseEntity<?> getClusters(
+            @RequestParam(value = "zoom") Integer zoom,
+            @RequestParam(value = "minLatitude") Double minLatitude,
+            @RequestParam(value = "minLongitude") Double minLongitude,
+            @RequestParam(value = "maxLatitude") Double maxLatitude,
+            @RequestParam(value = "maxLongitude") Double maxLongitude) {
+        try {
+            List<CommDistClusterDTO> commDistClusterDTOs =
+                    commDistClusterService.getClusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude);
+            if(commDistClusterDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistClusterController getClusters NullException"));
+            }
+            return ResponseEntity.ok(commDistClusterDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistClusterController getClusters failure"));
+        }
+    }
+}
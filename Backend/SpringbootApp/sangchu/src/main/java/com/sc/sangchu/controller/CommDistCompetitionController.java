@@ -0,0 +1,65 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistCompetitionDTO;
+import com.sc.sangchu.postgresql.service.CommDistCompetitionService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/commdist/competition")
+@CrossOrigin
+@Tag(name = "경쟁 밀도 컨트롤러", description = "업종별 상권 경쟁 밀도(점포 밀도, 점포당 매출, 프랜차이즈 비율) 조회 컨트롤러")
+public class CommDistCompetitionController {
+    private final CommDistCompetitionService commDistCompetitionService;
+
+    @Autowired
+    public CommDistCompetitionController(CommDistCompetitionService commDistCompetitionService) {
+        this.commDistCompetitionService = commDistCompetitionService;
+    }
+
+    // 업종별 상권 경쟁 지표 순위
+    @GetMapping("/rank")
+    @Operation(summary = "업종별 경쟁 지표 순위 조회",
+            description = "업종의 상권별 점포 밀도(storeDensity), 점포당 매출(salesPerStore), 프랜차이즈 비율(franchiseShare) 순위를 조회합니다. 자치구, 최소 점포 수로 필터링할 수 있습니다. (order: desc, asc / 최대 200개)")
+    public ResponseEntity<?> getRanking(
+            @RequestParam(value = "serviceCode") String serviceCode,
+            @RequestParam(value = "guCode", required = false) Long guCode,
+            @RequestParam(value = "minStoreCount", required = false) Long minStoreCount,
+            @RequestParam(value = "sort", defaultValue = "storeDensity") String sort,
+            @RequestParam(value = "order", defaultValue = "desc") String order,
+            @RequestParam(value = "limit", defaultValue = "20") Integer limit) {
+        try {
+            List<CommDistCompetitionDTO> commDistCompetitionDTOs =
+                    commDistCompetitionService.getRanking(serviceCode, guCode, minStoreCount, sort, order, limit);
+            if(commDistCompetitionDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistCompetitionController getRanking NullException"));
+            }
+            return ResponseEntity.ok(commDistCompetitionDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistCompetitionController getRanking failure"));
+        }
+    }
+
+    // 상권의 업종별 경쟁 지표
+    @GetMapping("/commercial")
+    @Operation(summary = "상권 경쟁 지표 조회", description = "상권의 업종별 점포 밀도, 점포당 매출, 프랜차이즈 비율과 서울시 백분위를 조회합니다.")
+    public ResponseEntity<?> getCommDistCompetition(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        try {
+            List<CommDistCompetitionDTO> commDistCompetitionDTOs =
+                    commDistCompetitionService.getCommDistCompetition(commercialDistrictCode);
+            if(commDistCompetitionDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistCompetitionController getCommDistCompetition NullException"));
+            }
+            return ResponseEntity.ok(commDistCompetitionDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistCompetitionController getCommDistCompetition failure"));
+        }
+    }
+}
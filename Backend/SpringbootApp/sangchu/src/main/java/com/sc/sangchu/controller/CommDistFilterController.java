@@ -0,0 +1,40 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistFilterRequestDTO;
+import com.sc.sangchu.dto.CommDistFilterResultDTO;
+import com.sc.sangchu.postgresql.service.CommDistFilterService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 필터 컨트롤러", description = "자치구, 상권변화지표, RDI 등급, 점수 구간, 아파트 시가, 지하철 유무 조합 상권 필터 컨트롤러")
+public class CommDistFilterController {
+    private final CommDistFilterService commDistFilterService;
+
+    @Autowired
+    public CommDistFilterController(CommDistFilterService commDistFilterService) {
+        this.commDistFilterService = commDistFilterService;
+    }
+
+    // 패싯 조합 상권 필터
+    @PostMapping("/filter")
+    @Operation(summary = "상권 패싯 필터",
+            description = "범주 패싯(gu, changeIndicator, rdiGrade, aptPrice, subway)과 수치 구간(commercialDistrictScore, salesScore, residentPopulationScore, floatingPopulationScore, rdiScore, rdi, aptAvgPrice, trainSubway) 조합으로 상권을 조회하고 패싯 값별 상권 수를 함께 반환합니다.")
+    public ResponseEntity<?> filterCommDist(@RequestBody CommDistFilterRequestDTO request) {
+        try {
+            CommDistFilterResultDTO commDistFilterResultDTO = commDistFilterService.filter(request);
+            if(commDistFilterResultDTO == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistFilterController filterCommDist NullException"));
+            }
+            return ResponseEntity.ok(commDistFilterResultDTO);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistFilterController filterCommDist failure"));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistServiceGapDTO;
+import com.sc.sangchu.postgresql.service.CommDistGapService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "수요-공급 분석 컨트롤러", description = "상권별 수요 대비 공급이 부족한 업종 추천 컨트롤러")
+public class CommDistGapController {
+    private final CommDistGapService commDistGapService;
+
+    @Autowired
+    public CommDistGapController(CommDistGapService commDistGapService) {
+        this.commDistGapService = commDistGapService;
+    }
+
+    // 상권의 공급 부족 업종 순위
+    @GetMapping("/gap")
+    @Operation(summary = "공급 부족 업종 추천",
+            description = "상권의 유동/직장/상주 인구와 소득으로 본 수요에 비해 점포 수가 적고 점포당 매출이 높은 업종 순으로 조회합니다. (최대 50개)")
+    public ResponseEntity<?> getServiceGaps(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit) {
+        try {
+            List<CommDistServiceGapDTO> commDistServiceGapDTOs = commDistGapService.getServiceGaps(commercialDistrictCode, limit);
+            if(commDistServiceGapDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistGapController getServiceGaps NullException"));
+            }
+            return ResponseEntity.ok(commDistServiceGapDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistGapController getServiceGaps failure"));
+        }
+    }
+}
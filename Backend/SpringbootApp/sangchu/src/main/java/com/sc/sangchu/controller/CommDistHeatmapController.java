@@ -0,0 +1,52 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.postgresql.service.CommDistHeatmapService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 히트맵 컨트롤러", description = "서울시 격자별 매출 / 유동인구 히트맵 컨트롤러")
+public class CommDistHeatmapController {
+    private final CommDistHeatmapService commDistHeatmapService;
+
+    @Autowired
+    public CommDistHeatmapController(CommDistHeatmapService commDistHeatmapService) {
+        this.commDistHeatmapService = commDistHeatmapService;
+    }
+
+    // 격자 히트맵 조회
+    @GetMapping("/heatmap")
+    @Operation(summary = "격자 히트맵 조회",
+            description = "상권별 월 매출(sales) 또는 총 유동인구(floatingPopulation)를 서울시 고정 격자(250, 500, 1000, 2000m)에 합산한 float32 격자를 바이너리로 조회합니다. (encoding: raw, rle / serviceCode 는 매출에만 적용 / year, quarter 는 적재된 기간만, 기본값은 작년 3분기)")
+    public ResponseEntity<?> getHeatmap(
+            @RequestParam(value = "metric", defaultValue = "sales") String metric,
+            @RequestParam(value = "resolution", defaultValue = "500") Integer resolution,
+            @RequestParam(value = "serviceCode", required = false) String serviceCode,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "quarter", required = false) Integer quarter,
+            @RequestParam(value = "encoding", defaultValue = "rle") String encoding) {
+        try {
+            byte[] heatmap = commDistHeatmapService.getHeatmap(metric, resolution, serviceCode, year, quarter,
+                    !"raw".equals(encoding));
+            if(heatmap == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistHeatmapController getHeatmap NullException"));
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+                    .body(heatmap);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistHeatmapController getHeatmap failure"));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistLeaderboardDTO;
+import com.sc.sangchu.postgresql.service.CommDistLeaderboardService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/commdist/leaderboard")
+@CrossOrigin
+@Tag(name = "상권 순위표 컨트롤러", description = "지표별(매출, 유동인구, 상주인구, 매출 증가율, RDI) 상권 순위표 조회 컨트롤러")
+public class CommDistLeaderboardController {
+    private final CommDistLeaderboardService commDistLeaderboardService;
+
+    @Autowired
+    public CommDistLeaderboardController(CommDistLeaderboardService commDistLeaderboardService) {
+        this.commDistLeaderboardService = commDistLeaderboardService;
+    }
+
+    // 지표별 상권 순위표
+    @GetMapping
+    @Operation(summary = "지표별 상권 순위표 조회",
+            description = "monthlySales, floatingPopulation, residentPopulation, salesGrowth, rdi 중 하나의 지표로 서울시 전체 또는 자치구 / 업종 범위 상권 순위를 페이지 단위로 조회합니다. 업종 범위는 monthlySales, salesGrowth 만 지원합니다. (order: desc, asc / 페이지당 최대 100개)")
+    public ResponseEntity<?> getLeaderboard(
+            @RequestParam(value = "metric", defaultValue = "monthlySales") String metric,
+            @RequestParam(value = "guCode", required = false) Long guCode,
+            @RequestParam(value = "serviceCode", required = false) String serviceCode,
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "size", defaultValue = "20") Integer size,
+            @RequestParam(value = "order", defaultValue = "desc") String order) {
+        try {
+            CommDistLeaderboardDTO commDistLeaderboardDTO =
+                    commDistLeaderboardService.getLeaderboard(metric, guCode, serviceCode, page, size, order);
+            if(commDistLeaderboardDTO == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistLeaderboardController getLeaderboard NullException"));
+            }
+            return ResponseEntity.ok(commDistLeaderboardDTO);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistLeaderboardController getLeaderboard failure"));
+        }
+    }
+
+    // 상권의 순위와 해당 페이지
+    @GetMapping("/rank")
+    @Operation(summary = "상권 순위 조회",
+            description = "상권의 지표별 순위와 그 상권이 포함된 순위표 페이지를 조회합니다. 순위표에 없는 상권이면 rank 가 비어 있습니다.")
+    public ResponseEntity<?> getRank(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode,
+            @RequestParam(value = "metric", defaultValue = "monthlySales") String metric,
+            @RequestParam(value = "guCode", required = false) Long guCode,
+            @RequestParam(value = "serviceCode", required = false) String serviceCode,
+            @RequestParam(value = "size", defaultValue = "20") Integer size,
+            @RequestParam(value = "order", defaultValue = "desc") String order) {
+        try {
+            CommDistLeaderboardDTO commDistLeaderboardDTO =
+                    commDistLeaderboardService.getRank(commercialDistrictCode, metric, guCode, serviceCode, size, order);
+            if(commDistLeaderboardDTO == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistLeaderboardController getRank NullException"));
+            }
+            return ResponseEntity.ok(commDistLeaderboardDTO);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistLeaderboardController getRank failure"));
+        }
+    }
+}
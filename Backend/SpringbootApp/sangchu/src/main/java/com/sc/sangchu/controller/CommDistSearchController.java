@@ -0,0 +1,43 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistSuggestionDTO;
+import com.sc.sangchu.postgresql.service.CommDistSearchService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 검색 컨트롤러", description = "상권명 / 행정동명 / 자치구명 자동완성 컨트롤러")
+public class CommDistSearchController {
+    private final CommDistSearchService commDistSearchService;
+
+    @Autowired
+    public CommDistSearchController(CommDistSearchService commDistSearchService) {
+        this.commDistSearchService = commDistSearchService;
+    }
+
+    // 자동완성 검색
+    @GetMapping("/search")
+    @Operation(summary = "상권 자동완성 검색",
+            description = "상권명, 행정동명, 자치구명을 앞/중간 일치, 자모 단위 부분 입력(예: 강ㄴ), 초성(예: ㄱㄴㅇ)으로 검색해 상권 점수 순으로 최대 10개 조회합니다.")
+    public ResponseEntity<?> suggest(
+            @RequestParam(value = "query") String query,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit) {
+        try {
+            List<CommDistSuggestionDTO> commDistSuggestionDTOs = commDistSearchService.suggest(query, limit);
+            if(commDistSuggestionDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistSearchController suggest NullException"));
+            }
+            return ResponseEntity.ok(commDistSuggestionDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistSearchController suggest failure"));
+        }
+    }
+}
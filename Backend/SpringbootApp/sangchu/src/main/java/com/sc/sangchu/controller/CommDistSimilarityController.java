@@ -0,0 +1,44 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.dto.CommDistSimilarDTO;
+import com.sc.sangchu.postgresql.service.CommDistSimilarityService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "유사 상권 컨트롤러", description = "상권 특성 벡터 기반 유사 상권 조회 컨트롤러")
+public class CommDistSimilarityController {
+    private final CommDistSimilarityService commDistSimilarityService;
+
+    @Autowired
+    public CommDistSimilarityController(CommDistSimilarityService commDistSimilarityService) {
+        this.commDistSimilarityService = commDistSimilarityService;
+    }
+
+    // 특정 상권과 유사한 상권 조회
+    @GetMapping("/similar")
+    @Operation(summary = "유사 상권 조회",
+            description = "점수, 연령/시간대/요일별 매출 비율, 인구 구성, 집객시설로 만든 특성 벡터 기준 가장 가까운 상권 k개를 조회합니다. (metric: euclidean, manhattan, cosine)")
+    public ResponseEntity<?> getSimilarCommDist(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode,
+            @RequestParam(value = "k", defaultValue = "10") Integer k,
+            @RequestParam(value = "metric", defaultValue = "euclidean") String metric) {
+        try {
+            List<CommDistSimilarDTO> commDistSimilarDTOs = commDistSimilarityService.getSimilarCommDist(commercialDistrictCode, k, metric);
+            if(commDistSimilarDTOs == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistSimilarityController getSimilarCommDist NullException"));
+            }
+            return ResponseEntity.ok(commDistSimilarDTOs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistSimilarityController getSimilarCommDist failure"));
+        }
+    }
+}
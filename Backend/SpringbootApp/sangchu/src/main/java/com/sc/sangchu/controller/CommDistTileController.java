@@ -0,0 +1,48 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.postgresql.service.CommDistTileService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/commdist")
+@CrossOrigin
+@Tag(name = "상권 벡터 타일 컨트롤러", description = "상권 점수 지도용 Mapbox 벡터 타일 컨트롤러")
+public class CommDistTileController {
+    private static final MediaType MAPBOX_VECTOR_TILE = MediaType.valueOf("application/vnd.mapbox-vector-tile");
+
+    private final CommDistTileService commDistTileService;
+
+    @Autowired
+    public CommDistTileController(CommDistTileService commDistTileService) {
+        this.commDistTileService = commDistTileService;
+    }
+
+    // 상권 점수 벡터 타일 조회
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    @Operation(summary = "상권 점수 벡터 타일 조회",
+            description = "z/x/y 타일 범위의 상권을 점수 속성과 함께 Mapbox 벡터 타일로 조회합니다. 줌 12 이상은 상권 경계(districts), 그 미만은 상권 중심점(district_centroids) 레이어입니다. 줌은 0~17 이며 더 큰 줌은 17 타일을 확대해 사용합니다.")
+    public ResponseEntity<?> getTile(@PathVariable("z") Integer z, @PathVariable("x") Integer x,
+                                     @PathVariable("y") Integer y) {
+        try {
+            byte[] tile = commDistTileService.getTile(z, x, y);
+            if(tile == null) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("commDistTileController getTile NullException"));
+            }
+            return ResponseEntity.ok()
+                    .contentType(MAPBOX_VECTOR_TILE)
+                    .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS))
+                    .body(tile);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("commDistTileController getTile failure"));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.postgresql.service.ReactiveCommDistService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/*
+ * /api/commdist 상권 조회의 논블로킹 버전, 응답 형식 / 오류 응답은 CommDistController 와 같음
+ * Mono 반환은 Spring MVC 비동기 처리로 응답하므로 DB 를 기다리는 동안 Tomcat 요청 스레드를 잡지 않음
+ */
+@RestController
+@RequestMapping("/api/reactive/commdist")
+@CrossOrigin
+@Tag(name = "상권 컨트롤러 (논블로킹)", description = "R2DBC 로 조회하는 상권 / 업종별 상권 컨트롤러")
+public class ReactiveCommDistController {
+    private final ReactiveCommDistService reactiveCommDistService;
+
+    @Autowired
+    public ReactiveCommDistController(ReactiveCommDistService reactiveCommDistService) {
+        this.reactiveCommDistService = reactiveCommDistService;
+    }
+
+    @GetMapping("/commercial")
+    @Operation(summary = "상권 정보 조회", description = "상권 ID를 기반으로 상권 정보를 조회합니다.")
+    public Mono<ResponseEntity<?>> getCommDistByCommercialDistrictCode(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommDistService.getCommDist(commercialDistrictCode),
+                "getCommDistByCommercialDistrictCode", false);
+    }
+
+    @GetMapping("/gu")
+    @Operation(summary = "자치구 별 상권 정보 조회", description = "자치구를 기반으로 상권 정보를 조회합니다.")
+    public Mono<ResponseEntity<?>> getCommDistByGuCode(
+            @RequestParam(value = "guCode") Long guCode) {
+        return respond(reactiveCommDistService.getCommDistByGuCode(guCode), "getCommDistByGuCode", true);
+    }
+
+    @GetMapping("/gu/top")
+    @Operation(summary = "자치구 별 상위 상권 정보 조회", description = "자치구를 기반으로 상권 정보 중 coScore가 높은 상위 10개를 조회합니다.")
+    public Mono<ResponseEntity<?>> getTopCommDistByGuCode(
+            @RequestParam(value = "guCode") Long guCode) {
+        return respond(reactiveCommDistService.getTopCommDistByGuCodeAndCoScore(guCode), "getTopCommDistByGuCode", true);
+    }
+
+    @GetMapping("/gu/service")
+    @Operation(summary = "자치구 및 업종별 상권 정보 조회", description = "업종과 자치구를 기반으로 상권 정보를 조회합니다.")
+    public Mono<ResponseEntity<?>> getGuServiceCommDist(
+            @RequestParam(value = "guCode") Long guCode, @RequestParam(value = "serviceCode") String serviceCode) {
+        return respond(reactiveCommDistService.getGuServiceCommDist(guCode, serviceCode), "getGuServiceCommDist", true);
+    }
+
+    @GetMapping("/service")
+    @Operation(summary = "업종 기반 해당 상권 정보 조회", description = "업종과 상권코드를 기반으로 해당 상권 정보를 조회합니다.")
+    public Mono<ResponseEntity<?>> getServiceCommDist(
+            @RequestParam(value = "commCode") Long commCode, @RequestParam(value = "serviceCode") String serviceCode) {
+        return respond(reactiveCommDistService.getServiceCommDist(commCode, serviceCode), "getServiceCommDist", false);
+    }
+
+    @GetMapping("/district-rank")
+    @Operation(summary = "카테고리별 top 상권 점수 정보 조회", description = "업종과 자치구를 기반으로 해당 상권 점수 정보를 조회합니다.")
+    public Mono<ResponseEntity<?>> getDistrictRank(
+            @RequestParam(value = "guCode") Long guCode, @RequestParam(value = "serviceCode") String serviceCode) {
+        return respond(reactiveCommDistService.getDistrictRank(guCode, serviceCode), "getDistrictRank", false);
+    }
+
+    // 빈 결과(rejectEmpty 면 빈 목록도)는 NullException, 예외는 failure (블로킹 컨트롤러와 같은 badRequest 응답)
+    private static Mono<ResponseEntity<?>> respond(Mono<?> result, String method, boolean rejectEmpty) {
+        return result.filter(body -> !(rejectEmpty && body instanceof Collection<?> list && list.isEmpty()))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.badRequest()
+                        .body(new ErrorResponse("reactiveCommDistController " + method + " NullException")))
+                .onErrorReturn(ResponseEntity.badRequest()
+                        .body(new ErrorResponse("reactiveCommDistController " + method + " failure")));
+    }
+}
@@ -0,0 +1,79 @@
+package com.sc.sangchu.controller;
+
+import com.sc.sangchu.postgresql.service.ReactiveCommSalesGraphService;
+import com.sc.sangchu.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/*
+ * /api/sales 의 논블로킹 버전, 응답 형식 / 오류 응답은 CommSalesGraphController 와 같음
+ * Mono 반환은 Spring MVC 비동기 처리로 응답하므로 DB / Redis 를 기다리는 동안 Tomcat 요청 스레드를 잡지 않음
+ */
+@RestController
+@RequestMapping("/api/reactive/sales")
+@CrossOrigin
+@Tag(name = "상권 매출 그래프 컨트롤러 (논블로킹)", description = "R2DBC / 반응형 Redis 로 조회하는 상권 매출 그래프 컨트롤러")
+public class ReactiveCommSalesGraphController {
+
+    private final ReactiveCommSalesGraphService reactiveCommSalesGraphService;
+
+    @Autowired
+    public ReactiveCommSalesGraphController(ReactiveCommSalesGraphService reactiveCommSalesGraphService) {
+        this.reactiveCommSalesGraphService = reactiveCommSalesGraphService;
+    }
+
+    @GetMapping("")
+    @Operation(summary = "특정 상권 매출 금액 조회", description = "월평균, 주중, 주말 매출 금액(23년 3분기) 조회")
+    public Mono<ResponseEntity<?>> getSales(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommSalesGraphService.getSalesData(commercialDistrictCode), "getSales");
+    }
+
+    @GetMapping("/graph/quarterly")
+    @Operation(summary = "특정 상권 분기별 매출 금액 조회", description = "분기별 월평균(주중, 주말) 매출 그래프 (22~23년) 조회")
+    public Mono<ResponseEntity<?>> getQuarterlyGraph(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommSalesGraphService.getQuarterlyGraphData(commercialDistrictCode), "getQuarterlyGraph");
+    }
+
+    @GetMapping("/graph/day")
+    @Operation(summary = "특정 상권 요일별 매출 금액 조회", description = "요일별 매출 그래프 (23년) 조회")
+    public Mono<ResponseEntity<?>> getDayGraph(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommSalesGraphService.getDayGraphData(commercialDistrictCode), "getDayGraph");
+    }
+
+    @GetMapping("/graph/time")
+    @Operation(summary = "특정 상권 시간대별 매출 금액 조회", description = "시간대별 매출 그래프 (23년) 조회")
+    public Mono<ResponseEntity<?>> getTimeGraph(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommSalesGraphService.getTimeGraphData(commercialDistrictCode), "getTimeGraph");
+    }
+
+    @GetMapping("/graph/age")
+    @Operation(summary = "특정 상권 연령별 매출 금액 조회", description = "연령별 매출 그래프 (23년) 조회")
+    public Mono<ResponseEntity<?>> getAgeGraph(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommSalesGraphService.getAgeGraphData(commercialDistrictCode), "getAgeGraph");
+    }
+
+    @GetMapping("/graph/ratio-industry")
+    @Operation(summary = "서비스 업종별 매출 비율 조회", description = "서비스 업종별 매출 비율 그래프 (23년) 조회")
+    public Mono<ResponseEntity<?>> getSalesRatioByService(
+            @RequestParam(value = "commercialDistrictCode") Long commercialDistrictCode) {
+        return respond(reactiveCommSalesGraphService.getSalesRatioByService(commercialDistrictCode), "getSalesRatioByService");
+    }
+
+    // 빈 결과는 NullException, 예외는 failure (블로킹 컨트롤러와 같은 badRequest 응답)
+    private static Mono<ResponseEntity<?>> respond(Mono<?> result, String method) {
+        return result.<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.badRequest()
+                        .body(new ErrorResponse("ReactiveCommSalesGraphController " + method + " NullException")))
+                .onErrorReturn(ResponseEntity.badRequest()
+                        .body(new ErrorResponse("ReactiveCommSalesGraphController " + method + " failure")));
+    }
+}
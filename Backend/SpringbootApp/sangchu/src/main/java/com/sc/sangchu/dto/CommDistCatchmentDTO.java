@@ -0,0 +1,26 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CommDistCatchmentDTO {
+    private Double latitude;
+    private Double longitude;
+    // 반경(m)
+    private Integer radius;
+    private Integer yearCode;
+    private Integer quarterCode;
+    // 거리 가중 합계 (가중치 = 1 - 거리 / 반경)
+    private Double floatingPopulation;
+    private Double residentPopulation;
+    private Double workingPopulation;
+    private Double sales;
+    private Double storeCount;
+    private Double franchiseStoreCount;
+    private List<CommDistCatchmentServiceDTO> services;
+    private List<CommDistCatchmentDistrictDTO> districts;
+}
@@ -0,0 +1,14 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistCatchmentDistrictDTO {
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    // 기준점에서 상권 중심까지 거리(m)
+    private Double distance;
+    private Double weight;
+}
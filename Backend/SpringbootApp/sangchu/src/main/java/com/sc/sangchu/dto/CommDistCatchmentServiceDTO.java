@@ -0,0 +1,15 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistCatchmentServiceDTO {
+    private String serviceCode;
+    private String serviceName;
+    // 거리 가중 합계
+    private Double sales;
+    private Double storeCount;
+    private Double franchiseStoreCount;
+}
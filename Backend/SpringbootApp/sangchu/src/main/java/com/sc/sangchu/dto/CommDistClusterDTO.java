@@ -0,0 +1,21 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistClusterDTO {
+    // 클러스터 중심 (상권 하나면 상권 좌표)
+    private Double latitude;
+    private Double longitude;
+    // 묶인 상권 수
+    private Integer count;
+    // 클릭 시 클러스터가 펼쳐지는 줌 레벨 (상권 하나면 null)
+    private Integer expansionZoom;
+    // count 가 1 일 때만 채워짐
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    private Double averageScore;
+    private Double maxScore;
+}
@@ -0,0 +1,26 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistCompetitionDTO {
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    private Long guCode;
+    private String guName;
+    private String serviceCode;
+    private String serviceName;
+    private Long storeCount;
+    private Long franchiseStoreCount;
+    // 1km² 당 점포 수
+    private Double storeDensity;
+    // 점포당 월 매출
+    private Double salesPerStore;
+    // 프랜차이즈 점포 비율 (0 ~ 1)
+    private Double franchiseShare;
+    // 같은 업종 서울시 상권 중 백분위 (0 ~ 100, 높을수록 값이 큼)
+    private Double storeDensityPercentile;
+    private Double salesPerStorePercentile;
+}
@@ -0,0 +1,23 @@
+package com.sc.sangchu.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class CommDistFilterRequestDTO {
+    // 범주 패싯 -> 선택 값 (같은 패싯 안은 OR, 패싯끼리는 AND)
+    // gu, changeIndicator, rdiGrade, aptPrice, subway
+    private Map<String, List<String>> facets;
+    // 수치 패싯 -> 구간 (양 끝 포함)
+    // commercialDistrictScore, salesScore, residentPopulationScore, floatingPopulationScore, rdiScore, rdi, aptAvgPrice, trainSubway
+    private Map<String, RangeDTO> ranges;
+    // 정렬 기준 수치 패싯 (기본 commercialDistrictScore), order : desc, asc
+    private String sort;
+    private String order;
+    private Integer offset;
+    private Integer limit;
+}
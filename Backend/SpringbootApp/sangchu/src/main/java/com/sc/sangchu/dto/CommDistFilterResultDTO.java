@@ -0,0 +1,18 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class CommDistFilterResultDTO {
+    // 조건에 맞는 전체 상권 수
+    private Integer total;
+    // offset, limit 로 자른 상권 목록
+    private List<CommDistDTO> commDists;
+    // 패싯 -> 값 -> 상권 수 (해당 패싯을 제외한 나머지 조건 적용 기준)
+    private Map<String, Map<String, Integer>> facetCounts;
+}
@@ -0,0 +1,23 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CommDistLeaderboardDTO {
+    private String metric;
+    // 둘 다 null 이면 서울시 전체 순위
+    private Long guCode;
+    private String serviceCode;
+    private String order;
+    // 순위표에 오른 상권 수
+    private Long total;
+    private Integer page;
+    private Integer size;
+    // 상권 순위 조회일 때만 채워짐, 순위표에 없으면 null
+    private Long rank;
+    private List<CommDistLeaderboardEntryDTO> entries;
+}
@@ -0,0 +1,15 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistLeaderboardEntryDTO {
+    // 1 부터 시작
+    private Long rank;
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    private String guName;
+    private Double value;
+}
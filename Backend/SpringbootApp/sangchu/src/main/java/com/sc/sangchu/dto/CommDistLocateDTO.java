@@ -0,0 +1,18 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistLocateDTO {
+    private Double latitude;
+    private Double longitude;
+    // 어느 상권에도 속하지 않으면 null
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    private Long guCode;
+    private String guName;
+    private Long dongCode;
+    private String dongName;
+}
@@ -0,0 +1,25 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistServiceGapDTO {
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    private String serviceCode;
+    private String serviceName;
+    // 수요 - 경쟁 + 점포당 매출 (표준점수 합, 클수록 공급 부족)
+    private Double gapScore;
+    // 유동/직장/상주 인구, 소득 기반 상권 수요 표준점수 (업종 무관)
+    private Double demandScore;
+    // 같은 업종 서울시 상권 대비 점포 수 표준점수
+    private Double competitionScore;
+    // 같은 업종 서울시 상권 대비 점포당 매출 표준점수
+    private Double salesPerStoreScore;
+    private Long storeCount;
+    private Double salesPerStore;
+    // 같은 업종 서울시 상권 점포당 매출 중앙값
+    private Double seoulMedianSalesPerStore;
+}
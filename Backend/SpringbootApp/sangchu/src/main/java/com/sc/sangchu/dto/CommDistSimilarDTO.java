@@ -0,0 +1,19 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistSimilarDTO {
+    private Long commercialDistrictCode;
+    private String commercialDistrictName;
+    private Double latitude;
+    private Double longitude;
+    private Long guCode;
+    private String guName;
+    private String dongName;
+    private Double commercialDistrictScore;
+    // 선택한 거리 척도 기준 거리 (작을수록 유사)
+    private Double distance;
+}
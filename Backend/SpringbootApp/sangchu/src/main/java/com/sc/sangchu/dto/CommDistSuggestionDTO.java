@@ -0,0 +1,22 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommDistSuggestionDTO {
+    // commercialDistrict, dong, gu
+    private String type;
+    private String name;
+    // type 이 commercialDistrict 일 때만 채워짐
+    private Long commercialDistrictCode;
+    private Double latitude;
+    private Double longitude;
+    private Long guCode;
+    private String guName;
+    private Long dongCode;
+    private String dongName;
+    // 상권은 상권 점수, 행정동 / 자치구는 소속 상권 중 최고 점수
+    private Double commercialDistrictScore;
+}
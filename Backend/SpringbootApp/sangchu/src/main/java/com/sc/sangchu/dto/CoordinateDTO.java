@@ -0,0 +1,13 @@
+package com.sc.sangchu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoordinateDTO {
+    private Double latitude;
+    private Double longitude;
+}
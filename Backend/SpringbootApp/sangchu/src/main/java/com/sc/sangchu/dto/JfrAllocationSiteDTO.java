@@ -0,0 +1,16 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JfrAllocationSiteDTO {
+    // 메서드:줄 번호
+    private String site;
+    private Long bytes;
+    // 전체 할당 바이트 대비 %
+    private Double percent;
+    // 이 위치에서 가장 많이 할당한 클래스
+    private String objectClass;
+}
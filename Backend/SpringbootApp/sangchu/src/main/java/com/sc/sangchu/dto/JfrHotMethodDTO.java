@@ -0,0 +1,17 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JfrHotMethodDTO {
+    // com.sc.sangchu.postgresql.service.CommSalesGraphService.calcTimeSalesSum
+    private String method;
+    // 이 메서드가 스택 위쪽에서 처음 만나는 앱 프레임인 샘플 수 (아래에서 부른 JDK / 라이브러리 시간 포함)
+    private Long samples;
+    // 이 메서드 자체가 실행 중이던 샘플 수
+    private Long selfSamples;
+    // 전체 실행 샘플 대비 %
+    private Double percent;
+}
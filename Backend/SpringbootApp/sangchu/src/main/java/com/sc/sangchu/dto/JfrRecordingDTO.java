@@ -0,0 +1,18 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JfrRecordingDTO {
+    private Long id;
+    // JFR 설정 이름 (default: 상시 켜 둘 정도의 부하, profile: 샘플링 간격이 더 촘촘함)
+    private String profile;
+    // NEW, RUNNING, STOPPED, CLOSED
+    private String state;
+    private String startTime;
+    private Long durationSeconds;
+    // 녹화 파일 크기, 끝나기 전에는 null
+    private Long sizeBytes;
+}
@@ -0,0 +1,20 @@
+package com.sc.sangchu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class JfrSummaryDTO {
+    private JfrRecordingDTO recording;
+    // 전체 실행 샘플 수 / 그중 스택에 com.sc.sangchu 프레임이 있는 샘플 수
+    private Long executionSamples;
+    private Long appExecutionSamples;
+    // 할당 샘플로 추정한 할당 바이트 / 그중 com.sc.sangchu 프레임에 귀속된 바이트
+    private Long allocationBytes;
+    private Long appAllocationBytes;
+    private List<JfrHotMethodDTO> hotMethods;
+    private List<JfrAllocationSiteDTO> allocationSites;
+}
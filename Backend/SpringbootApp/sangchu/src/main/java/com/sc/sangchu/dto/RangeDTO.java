@@ -0,0 +1,14 @@
+package com.sc.sangchu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RangeDTO {
+    // null 이면 제한 없음
+    private Double min;
+    private Double max;
+}
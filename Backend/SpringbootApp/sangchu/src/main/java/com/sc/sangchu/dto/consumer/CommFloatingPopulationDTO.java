@@ -1,14 +1,14 @@
 package com.sc.sangchu.dto.consumer;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.sc.sangchu.chart.ChartJson;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
 public class CommFloatingPopulationDTO {
-    private JsonNode age;
-    private JsonNode time;
-    private JsonNode day;
-    private JsonNode quarterlyTrends;
+    private ChartJson age;
+    private ChartJson time;
+    private ChartJson day;
+    private ChartJson quarterlyTrends;
 }
@@ -1,12 +1,12 @@
 package com.sc.sangchu.dto.consumer;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.sc.sangchu.chart.ChartJson;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
 public class CommWorkingPopulationDTO {
-    private JsonNode genderAge;
-    private JsonNode quarterlyTrends;
+    private ChartJson genderAge;
+    private ChartJson quarterlyTrends;
 }
@@ -1,6 +1,6 @@
 package com.sc.sangchu.dto.infra;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.sc.sangchu.chart.ChartJson;
 import lombok.Builder;
 import lombok.Data;
 
@@ -10,6 +10,6 @@ public class CommAptDTO {
     private Long apartmentComplexes;
     private Long aptAvgArea;
     private Long aptAvgPrice;
-    private JsonNode areaGraph;
-    private JsonNode priceGraph;
+    private ChartJson areaGraph;
+    private ChartJson priceGraph;
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package com.sc.sangchu.dto.infra;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.sc.sangchu.chart.ChartJson;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
 public class CommStoreDTO {
-    private JsonNode storeGraph;
+    private ChartJson storeGraph;
 }
@@ -1,11 +1,11 @@
 package com.sc.sangchu.dto.sales;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.sc.sangchu.chart.ChartJson;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
 public class CommSalesRatioByServiceJsonDTO {
-    private JsonNode graphJson;
+    private ChartJson graphJson;
 }
@@ -0,0 +1,166 @@
+package com.sc.sangchu.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 그래프, 랭킹 API 의 바이너리(CBOR, Smile) 응답 캐시
+ * 직렬화가 끝난 응답 바이트를 Accept 형식별로 저장해서 캐시 히트 시 JSON -> 바이너리 변환 없이 그대로 응답
+ * JSON 요청은 기존 서비스 캐시를 그대로 사용
+ * 키는 경로 + 핸들러가 쓰는 파라미터만 (순서 / 추가 파라미터가 달라도 같은 키), ttl 이 지나면 만료
+ */
+@Component
+@Slf4j
+public class BinaryResponseCacheFilter extends OncePerRequestFilter {
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final List<MediaType> BINARY_TYPES = List.of(MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+    // 경로 -> 핸들러의 @RequestParam 이름
+    private static final Map<String, List<String>> CACHED_PATHS = Map.of(
+            "/api/sales/graph/", List.of("commercialDistrictCode"),
+            "/api/consumer/graph/", List.of("commercialDistrictCode"),
+            "/api/infra/graph/", List.of("commercialDistrictCode"),
+            "/api/commdist/top", List.of(),
+            "/api/commdist/gu/top", List.of("guCode"),
+            "/api/commdist/district-rank", List.of("guCode", "serviceCode"));
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final Duration ttl;
+
+    @Autowired
+    public BinaryResponseCacheFilter(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                                     @Value("${cache.binary-response.ttl:1d}") Duration ttl) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || parameters(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        MediaType binaryType = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (binaryType == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String cacheKey = cacheKey(request, binaryType);
+        if (cacheKey == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        byte[] cached = get(cacheKey);
+        if (cached != null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(binaryType.toString());
+            response.setContentLength(cached.length);
+            response.getOutputStream().write(cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpStatus.OK.value() && wrapper.getContentSize() > 0
+                && isType(wrapper.getContentType(), binaryType)) {
+            put(cacheKey, wrapper.getContentAsByteArray());
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    // q 값이 가장 높은 형식이 CBOR, Smile 일 때만 바이너리 캐시 사용
+    static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) return null;
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+
+        MediaType best = null;
+        for (MediaType mediaType : mediaTypes) {
+            if (best == null || mediaType.getQualityValue() > best.getQualityValue()) {
+                best = mediaType;
+            }
+        }
+        if (best == null) return null;
+        for (MediaType binaryType : BINARY_TYPES) {
+            if (binaryType.equalsTypeAndSubtype(best)) return binaryType;
+        }
+        return null;
+    }
+
+    private static List<String> parameters(String uri) {
+        for (Map.Entry<String, List<String>> entry : CACHED_PATHS.entrySet()) {
+            if (uri.startsWith(entry.getKey())) return entry.getValue();
+        }
+        return null;
+    }
+
+    // 핸들러 파라미터가 빠진 요청(400)은 캐시하지 않음
+    private static String cacheKey(HttpServletRequest request, MediaType binaryType) {
+        StringBuilder key = new StringBuilder("binaryResponse:").append(binaryType.getSubtype()).append(':')
+                .append(request.getRequestURI());
+        char separator = '?';
+        for (String name : parameters(request.getRequestURI())) {
+            String value = request.getParameter(name);
+            if (value == null || value.isBlank()) return null;
+            key.append(separator).append(name).append('=').append(URLEncoder.encode(value.trim(), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return key.append(':').append(YEAR).append(':').append(QUARTER).toString();
+    }
+
+    private boolean isType(String contentType, MediaType binaryType) {
+        try {
+            return contentType != null && binaryType.equalsTypeAndSubtype(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    // Redis 장애 시에도 응답은 정상 처리
+    private byte[] get(String cacheKey) {
+        try {
+            return binaryRedisTemplate.opsForValue().get(cacheKey);
+        } catch (Exception e) {
+            log.error("binary response cache get error", e);
+        }
+        return null;
+    }
+
+    private void put(String cacheKey, byte[] body) {
+        try {
+            binaryRedisTemplate.opsForValue().set(cacheKey, body, ttl);
+        } catch (Exception e) {
+            log.error("binary response cache put error", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.sc.sangchu.filter;
+
+import com.sc.sangchu.sql.QueryStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * API 요청별 SQL 실행 횟수 / 읽은 행 수 / DB 시간
+ * 컨트롤러 메서드(CommDistController.getDistrictRank) 태그로 Micrometer 에 기록
+ * sql.stats.expose-headers 를 켰을 때만 응답 헤더(X-Sql-*)로도 내려줌 (부하 테스트 / 로컬용, 기본 꺼짐)
+ *   헤더를 본문보다 먼저 쓰도록 응답을 버퍼링하므로 꺼져 있으면 응답을 감싸지 않음
+ * 같은 SQL 이 repeat-threshold 번 이상 반복되면 N+1 의심으로 컨트롤러 메서드마다 한 번 경고 로그
+ */
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryStatsFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_HEADER = "X-Sql-Query-Count";
+    public static final String ROW_COUNT_HEADER = "X-Sql-Row-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+    private final int repeatThreshold;
+    private final Set<String> warnedHandlers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QueryStatsFilter(MeterRegistry meterRegistry,
+                            @Value("${sql.stats.expose-headers:false}") boolean exposeHeaders,
+                            @Value("${sql.stats.repeat-threshold:10}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = exposeHeaders;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    // Mono 를 반환하는 컨트롤러(/api/reactive/**)는 비동기 디스패치에서 응답 본문을 씀
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = !exposeHeaders ? null
+                : isAsyncDispatch(request) ? WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class)
+                : new ContentCachingResponseWrapper(response);
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            QueryStats.stop();
+            // 비동기 처리가 시작됐으면 기록 / 본문 복사는 비동기 디스패치에서 (R2DBC 조회는 집계되지 않음)
+            if (!isAsyncStarted(request)) {
+                record(handler(request), stats);
+                if (wrapper != null) {
+                    wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getQueries()));
+                    wrapper.setHeader(ROW_COUNT_HEADER, String.valueOf(stats.getRows()));
+                    wrapper.setHeader(TIME_HEADER, String.format("%.3f", stats.getNanos() / 1e6));
+                    wrapper.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void record(String handler, QueryStats stats) {
+        Meters handlerMeters = meters.computeIfAbsent(handler, this::meters);
+        handlerMeters.queries.record(stats.getQueries());
+        handlerMeters.rows.record(stats.getRows());
+        handlerMeters.time.record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatThreshold) {
+            handlerMeters.repeated.increment();
+            if (warnedHandlers.add(handler)) {
+                log.warn("possible N+1 in {}: {} queries, same statement {} times: {}", handler, stats.getQueries(),
+                        repeated.getValue(), repeated.getKey());
+            }
+        }
+    }
+
+    // 매핑된 컨트롤러 메서드, 매핑 전에 끝난 요청(404 등)은 none
+    private static String handler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+
+    private Meters meters(String handler) {
+        return new Meters(
+                DistributionSummary.builder("sql.request.queries").tag("handler", handler).register(meterRegistry),
+                DistributionSummary.builder("sql.request.rows").tag("handler", handler).register(meterRegistry),
+                Timer.builder("sql.request.time").tag("handler", handler).register(meterRegistry),
+                Counter.builder("sql.request.repeated").description("같은 SQL 이 반복 실행된(N+1 의심) 요청 수")
+                        .tag("handler", handler).register(meterRegistry));
+    }
+
+    private record Meters(DistributionSummary queries, DistributionSummary rows, Timer time, Counter repeated) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.sc.sangchu.filter;
+
+import com.sc.sangchu.capture.CapturedRequest;
+import com.sc.sangchu.capture.RequestLogWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 운영 API 요청 표본 기록 (capture.enabled=true 일 때만 등록)
+ * sample-rate 비율의 요청만 메서드 / 경로 / 쿼리 / Accept / 본문 / 처리 시간 / 상태 코드를 RequestLogWriter 큐에 넣음
+ * 표본이 아닌 요청은 난수 하나 외에 추가 비용 없음, 본문은 표본이고 본문이 있는 요청만 MAX_BODY 까지 버퍼링
+ * Mono 를 반환하는 컨트롤러(/api/reactive/**)는 표본 정보를 요청 속성에 두고 비동기 디스패치가 끝날 때 기록
+ *   (첫 디스패치 종료 시점에는 상태 코드 / 처리 시간이 정해지지 않음)
+ * 기록한 로그는 loadTest 의 ReplayMain 으로 테스트 인스턴스에 다시 보냄
+ */
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(prefix = "capture", name = "enabled", havingValue = "true")
+public class RequestCaptureFilter extends OncePerRequestFilter {
+    private static final int MAX_BODY = 64 * 1024;
+    // DataOutputStream.writeUTF 한도보다 충분히 작게
+    private static final int MAX_URI = 8 * 1024;
+    private static final String SAMPLE_ATTRIBUTE = RequestCaptureFilter.class.getName() + ".SAMPLE";
+
+    private final double sampleRate;
+    private final RequestLogWriter writer;
+    private final Counter dropped;
+
+    @Autowired
+    public RequestCaptureFilter(MeterRegistry meterRegistry,
+                                @Value("${capture.sample-rate:0.1}") double sampleRate,
+                                @Value("${capture.directory}") String directory,
+                                @Value("${capture.max-file-size:64MB}") DataSize maxFileSize,
+                                @Value("${capture.max-files:20}") int maxFiles) {
+        this.sampleRate = sampleRate;
+        this.writer = new RequestLogWriter(Path.of(directory), sampleRate, maxFileSize.toBytes(), maxFiles);
+        this.dropped = Counter.builder("request.capture.dropped")
+                .description("writer 큐가 가득 차서 버린 요청 표본 수")
+                .register(meterRegistry);
+        log.info("request capture enabled: sample-rate={}, directory={}", sampleRate, directory);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Sample sample;
+        if (isAsyncDispatch(request)) {
+            // 첫 디스패치에서 표본으로 뽑힌 요청만 기록
+            sample = (Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+            if (sample == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+        } else {
+            if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            sample = new Sample(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()), System.nanoTime(),
+                    request.getContentLengthLong() != 0 && !"GET".equals(request.getMethod())
+                            ? new ContentCachingRequestWrapper(request, MAX_BODY) : null);
+        }
+        try {
+            filterChain.doFilter(sample.body != null && !isAsyncDispatch(request) ? sample.body : request, response);
+        } finally {
+            if (isAsyncStarted(request)) {
+                request.setAttribute(SAMPLE_ATTRIBUTE, sample);
+            } else {
+                record(request, response, sample);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, Sample sample) {
+        String query = request.getQueryString() == null ? "" : request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT) == null ? "" : request.getHeader(HttpHeaders.ACCEPT);
+        if (request.getRequestURI().length() + query.length() + accept.length() < MAX_URI) {
+            CapturedRequest captured = new CapturedRequest(sample.epochMicros,
+                    (int) Math.min(Integer.MAX_VALUE, (System.nanoTime() - sample.start) / 1000), response.getStatus(),
+                    request.getMethod(), request.getRequestURI(), query, accept,
+                    sample.body != null ? sample.body.getContentAsByteArray() : null);
+            if (!writer.offer(captured)) dropped.increment();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            writer.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 표본 요청의 시작 시각 / 본문 버퍼 (비동기 디스패치까지 유지)
+    private record Sample(long epochMicros, long start, ContentCachingRequestWrapper body) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.sc.sangchu.geo;
+
+// 줌 레벨별로 단순화된 상권 경계 GeoJSON (원본 / gzip)
+public final class BoundaryLevel {
+    private final int zoom;
+    private final byte[] geoJson;
+    private final byte[] gzip;
+    private final String etag;
+
+    public BoundaryLevel(int zoom, byte[] geoJson, byte[] gzip, String etag) {
+        this.zoom = zoom;
+        this.geoJson = geoJson;
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    public byte[] getGeoJson() {
+        return geoJson;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
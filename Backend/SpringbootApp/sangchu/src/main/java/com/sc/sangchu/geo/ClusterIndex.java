@@ -0,0 +1,183 @@
+package com.sc.sangchu.geo;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/*
+ * supercluster 방식의 계층형 마커 클러스터
+ * maxZoom + 1 레벨(원본 점)부터 minZoom 까지 한 단계씩 올라가며
+ * 화면 반경(radius px) 안의 점을 가중 중심으로 합침, 각 레벨은 StrTree 로 색인
+ * 좌표는 웹 메르카토르 정규 좌표(0 ~ 1)
+ */
+public final class ClusterIndex {
+    private final int minZoom;
+    private final int maxZoom;
+    private final Level[] levels;
+
+    // 한 레벨의 클러스터 (열 단위 배열)
+    public static final class Level {
+        private final double[] x;
+        private final double[] y;
+        private final int[] count;
+        private final double[] scoreSum;
+        private final double[] scoreMax;
+        // 점 하나짜리면 원본 점 번호, 아니면 -1
+        private final int[] point;
+        // 클릭 시 펼쳐지는 줌 (점 하나짜리는 -1)
+        private final int[] expansionZoom;
+        private final int size;
+        private final StrTree index;
+
+        private Level(double[] x, double[] y, int[] count, double[] scoreSum, double[] scoreMax,
+                      int[] point, int[] expansionZoom, int size) {
+            this.x = x;
+            this.y = y;
+            this.count = count;
+            this.scoreSum = scoreSum;
+            this.scoreMax = scoreMax;
+            this.point = point;
+            this.expansionZoom = expansionZoom;
+            this.size = size;
+            double[] boxes = new double[size * 4];
+            for (int i = 0; i < size; i++) {
+                boxes[i * 4] = boxes[i * 4 + 2] = x[i];
+                boxes[i * 4 + 1] = boxes[i * 4 + 3] = y[i];
+            }
+            this.index = new StrTree(boxes);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public double lon(int i) {
+            return WebMercator.lon(x[i], 0);
+        }
+
+        public double lat(int i) {
+            return WebMercator.lat(y[i], 0);
+        }
+
+        public int count(int i) {
+            return count[i];
+        }
+
+        public double scoreSum(int i) {
+            return scoreSum[i];
+        }
+
+        public double scoreMax(int i) {
+            return scoreMax[i];
+        }
+
+        public int point(int i) {
+            return point[i];
+        }
+
+        public int expansionZoom(int i) {
+            return expansionZoom[i];
+        }
+    }
+
+    // lon, lat, score : 원본 점별 값, radius : 합칠 화면 반경(px), extent : 타일 한 변 픽셀 수
+    public ClusterIndex(double[] lon, double[] lat, double[] score, int minZoom, int maxZoom,
+                        double radius, double extent) {
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.levels = new Level[maxZoom - minZoom + 2];
+
+        int n = lon.length;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        int[] count = new int[n];
+        int[] point = new int[n];
+        int[] expansionZoom = new int[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = WebMercator.tileX(lon[i], 0);
+            y[i] = WebMercator.tileY(lat[i], 0);
+            count[i] = 1;
+            point[i] = i;
+            expansionZoom[i] = -1;
+        }
+        Level level = new Level(x, y, count, score.clone(), score.clone(), point, expansionZoom, n);
+        levels[levels.length - 1] = level;
+
+        for (int zoom = maxZoom; zoom >= minZoom; zoom--) {
+            level = cluster(level, zoom, radius / (extent * Math.pow(2, zoom)));
+            levels[zoom - minZoom] = level;
+        }
+    }
+
+    // 아래 레벨의 클러스터를 방문하지 않은 순서대로 반경 안 이웃과 합침
+    private static Level cluster(Level child, int zoom, double r) {
+        int n = child.size;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        int[] count = new int[n];
+        double[] scoreSum = new double[n];
+        double[] scoreMax = new double[n];
+        int[] point = new int[n];
+        int[] expansionZoom = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] neighbors = new int[n];
+        double r2 = r * r;
+        int size = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (visited[i]) continue;
+            visited[i] = true;
+            double cx = child.x[i], cy = child.y[i];
+            int[] neighborCount = {0};
+            child.index.query(cx - r, cy - r, cx + r, cy + r, j -> {
+                if (!visited[j]) {
+                    double dx = child.x[j] - cx, dy = child.y[j] - cy;
+                    if (dx * dx + dy * dy <= r2) neighbors[neighborCount[0]++] = j;
+                }
+                return true;
+            });
+            int found = neighborCount[0];
+
+            int weight = child.count[i];
+            double wx = cx * weight, wy = cy * weight;
+            double sum = child.scoreSum[i];
+            double max = child.scoreMax[i];
+            for (int k = 0; k < found; k++) {
+                int j = neighbors[k];
+                visited[j] = true;
+                weight += child.count[j];
+                wx += child.x[j] * child.count[j];
+                wy += child.y[j] * child.count[j];
+                sum += child.scoreSum[j];
+                max = Math.max(max, child.scoreMax[j]);
+            }
+
+            x[size] = wx / weight;
+            y[size] = wy / weight;
+            count[size] = weight;
+            scoreSum[size] = sum;
+            scoreMax[size] = max;
+            point[size] = found == 0 ? child.point[i] : -1;
+            // 이 줌에서 새로 합쳐졌으면 한 단계 확대 시 펼쳐짐
+            expansionZoom[size] = found == 0 ? child.expansionZoom[i] : zoom + 1;
+            size++;
+        }
+        return new Level(Arrays.copyOf(x, size), Arrays.copyOf(y, size), Arrays.copyOf(count, size),
+                Arrays.copyOf(scoreSum, size), Arrays.copyOf(scoreMax, size), Arrays.copyOf(point, size),
+                Arrays.copyOf(expansionZoom, size), size);
+    }
+
+    // 줌 레벨의 클러스터 중 화면 범위(경위도) 안에 있는 번호를 visitor 에 전달
+    public Level query(int zoom, double minLon, double minLat, double maxLon, double maxLat, IntPredicate visitor) {
+        Level level = level(zoom);
+        double minX = WebMercator.tileX(minLon, 0), maxX = WebMercator.tileX(maxLon, 0);
+        // 위도가 커질수록 y 는 작아짐
+        double minY = WebMercator.tileY(maxLat, 0), maxY = WebMercator.tileY(minLat, 0);
+        level.index.query(minX, minY, maxX, maxY, visitor);
+        return level;
+    }
+
+    public Level level(int zoom) {
+        int clamped = Math.max(minZoom, Math.min(maxZoom + 1, zoom));
+        return levels[clamped - minZoom];
+    }
+}
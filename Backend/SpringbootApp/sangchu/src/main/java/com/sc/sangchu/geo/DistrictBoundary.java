@@ -0,0 +1,115 @@
+package com.sc.sangchu.geo;
+
+import java.util.List;
+
+/*
+ * 상권 경계 폴리곤 (경위도)
+ * polygons : 폴리곤별 [외곽 링, 구멍 링...], 링은 경도, 위도 교차 배열이며 첫 점과 끝 점이 같음
+ */
+public final class DistrictBoundary {
+    private final Long commercialDistrictCode;
+    private final String commercialDistrictName;
+    private final Long guCode;
+    private final String guName;
+    private final Long dongCode;
+    private final String dongName;
+    private final List<double[][]> polygons;
+    private final double minLon;
+    private final double minLat;
+    private final double maxLon;
+    private final double maxLat;
+
+    public DistrictBoundary(Long commercialDistrictCode, String commercialDistrictName, Long guCode, String guName,
+                            Long dongCode, String dongName, List<double[][]> polygons) {
+        this.commercialDistrictCode = commercialDistrictCode;
+        this.commercialDistrictName = commercialDistrictName;
+        this.guCode = guCode;
+        this.guName = guName;
+        this.dongCode = dongCode;
+        this.dongName = dongName;
+        this.polygons = polygons;
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (double[][] polygon : polygons) {
+            double[] shell = polygon[0];
+            for (int i = 0; i < shell.length; i += 2) {
+                minX = Math.min(minX, shell[i]);
+                maxX = Math.max(maxX, shell[i]);
+                minY = Math.min(minY, shell[i + 1]);
+                maxY = Math.max(maxY, shell[i + 1]);
+            }
+        }
+        this.minLon = minX;
+        this.minLat = minY;
+        this.maxLon = maxX;
+        this.maxLat = maxY;
+    }
+
+    // even-odd 규칙 : 모든 링(구멍 포함)을 가로지르는 횟수가 홀수면 내부
+    public boolean contains(double lon, double lat) {
+        if (lon < minLon || lon > maxLon || lat < minLat || lat > maxLat) return false;
+        boolean inside = false;
+        for (double[][] polygon : polygons) {
+            for (double[] ring : polygon) {
+                for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+                    double yi = ring[i + 1];
+                    double yj = ring[j + 1];
+                    if ((yi > lat) != (yj > lat)
+                            && lon < ring[i] + (lat - yi) / (yj - yi) * (ring[j] - ring[i])) {
+                        inside = !inside;
+                    }
+                }
+            }
+        }
+        return inside;
+    }
+
+    public double boxArea() {
+        return (maxLon - minLon) * (maxLat - minLat);
+    }
+
+    public Long getCommercialDistrictCode() {
+        return commercialDistrictCode;
+    }
+
+    public String getCommercialDistrictName() {
+        return commercialDistrictName;
+    }
+
+    public Long getGuCode() {
+        return guCode;
+    }
+
+    public String getGuName() {
+        return guName;
+    }
+
+    public Long getDongCode() {
+        return dongCode;
+    }
+
+    public String getDongName() {
+        return dongName;
+    }
+
+    public List<double[][]> getPolygons() {
+        return polygons;
+    }
+
+    public double getMinLon() {
+        return minLon;
+    }
+
+    public double getMinLat() {
+        return minLat;
+    }
+
+    public double getMaxLon() {
+        return maxLon;
+    }
+
+    public double getMaxLat() {
+        return maxLat;
+    }
+}
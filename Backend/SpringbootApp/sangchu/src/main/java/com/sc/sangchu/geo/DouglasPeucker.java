@@ -0,0 +1,68 @@
+package com.sc.sangchu.geo;
+
+// Douglas-Peucker 선 단순화 (x, y 교차 배열, 재귀 대신 스택 사용)
+public final class DouglasPeucker {
+
+    private DouglasPeucker() {
+    }
+
+    // tolerance 이내로 벗어나는 점을 제거, 첫 점과 끝 점은 유지
+    public static double[] simplify(double[] points, double tolerance) {
+        int n = points.length / 2;
+        if (n <= 2 || tolerance <= 0) return points;
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        double toleranceSquared = tolerance * tolerance;
+
+        int[] stack = new int[Math.max(2, n * 2)];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            int index = -1;
+            double max = toleranceSquared;
+            for (int i = first + 1; i < last; i++) {
+                double d = segmentDistanceSquared(points, i, first, last);
+                if (d > max) {
+                    max = d;
+                    index = i;
+                }
+            }
+            if (index >= 0) {
+                keep[index] = true;
+                stack[top++] = first;
+                stack[top++] = index;
+                stack[top++] = index;
+                stack[top++] = last;
+            }
+        }
+
+        int kept = 0;
+        for (boolean k : keep) if (k) kept++;
+        double[] result = new double[kept * 2];
+        for (int i = 0, j = 0; i < n; i++) {
+            if (keep[i]) {
+                result[j++] = points[i * 2];
+                result[j++] = points[i * 2 + 1];
+            }
+        }
+        return result;
+    }
+
+    // 닫힌 링(첫 점 = 끝 점)에서도 선분 길이가 0이면 점까지의 거리로 계산
+    private static double segmentDistanceSquared(double[] p, int i, int a, int b) {
+        double x = p[i * 2], y = p[i * 2 + 1];
+        double ax = p[a * 2], ay = p[a * 2 + 1];
+        double dx = p[b * 2] - ax, dy = p[b * 2 + 1] - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? ((x - ax) * dx + (y - ay) * dy) / lengthSquared : 0;
+        t = Math.max(0, Math.min(1, t));
+        double ex = ax + t * dx - x;
+        double ey = ay + t * dy - y;
+        return ex * ex + ey * ey;
+    }
+}
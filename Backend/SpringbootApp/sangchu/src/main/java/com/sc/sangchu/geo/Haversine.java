@@ -0,0 +1,26 @@
+package com.sc.sangchu.geo;
+
+// 구면 위 두 경위도 사이 거리(m)
+public final class Haversine {
+    public static final double EARTH_RADIUS = 6_371_008.8;
+
+    private Haversine() {
+    }
+
+    public static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 반경(m)을 덮는 위도 / 경도 폭(도), R-tree 후보 검색용
+    public static double latitudeSpan(double meters) {
+        return Math.toDegrees(meters / EARTH_RADIUS);
+    }
+
+    public static double longitudeSpan(double meters, double latitude) {
+        return latitudeSpan(meters) / Math.cos(Math.toRadians(latitude));
+    }
+}
@@ -0,0 +1,135 @@
+package com.sc.sangchu.geo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * 서울 전역 고정 격자 (경위도), 셀 크기는 resolution 미터
+ * values 는 행 우선(북쪽 행부터) float 배열
+ *
+ * 전송 형식 (little endian, 헤더 52바이트 뒤 본문은 4바이트 정렬이라 클라이언트에서 Float32Array 로 바로 읽음)
+ * "HMAP" | version(u8) | encoding(u8, 0 raw / 1 rle) | resolution(u16) | cols(i32) | rows(i32)
+ * | minLon, maxLat, cellLon, cellLat(f64) | max(f32)
+ * raw : float32[cols * rows]
+ * rle : (zeroRun(i32), valueCount(i32), float32[valueCount]) 반복
+ */
+public final class HeatmapGrid {
+    public static final double MIN_LON = 126.76;
+    public static final double MAX_LON = 127.19;
+    public static final double MIN_LAT = 37.41;
+    public static final double MAX_LAT = 37.72;
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 52;
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final int resolution;
+    private final int cols;
+    private final int rows;
+    private final double cellLon;
+    private final double cellLat;
+    private final float[] values;
+
+    private HeatmapGrid(int resolution, int cols, int rows, double cellLon, double cellLat, float[] values) {
+        this.resolution = resolution;
+        this.cols = cols;
+        this.rows = rows;
+        this.cellLon = cellLon;
+        this.cellLat = cellLat;
+        this.values = values;
+    }
+
+    // 셀이 대략 resolution 미터 정사각형이 되도록 서울 중심 위도 기준으로 경도 간격 보정
+    public static HeatmapGrid empty(int resolution) {
+        double cellLat = resolution / METERS_PER_DEGREE;
+        double cellLon = resolution / (METERS_PER_DEGREE * Math.cos(Math.toRadians((MIN_LAT + MAX_LAT) / 2)));
+        int cols = (int) Math.ceil((MAX_LON - MIN_LON) / cellLon);
+        int rows = (int) Math.ceil((MAX_LAT - MIN_LAT) / cellLat);
+        return new HeatmapGrid(resolution, cols, rows, cellLon, cellLat, new float[cols * rows]);
+    }
+
+    // 같은 격자에 값만 바꾼 격자
+    public HeatmapGrid withValues(float[] values) {
+        if (values.length != this.values.length) throw new IllegalArgumentException("grid size mismatch");
+        return new HeatmapGrid(resolution, cols, rows, cellLon, cellLat, values);
+    }
+
+    // 좌표가 속한 셀 번호, 격자 밖이면 -1
+    public int cell(double lon, double lat) {
+        int col = (int) Math.floor((lon - MIN_LON) / cellLon);
+        int row = (int) Math.floor((MAX_LAT - lat) / cellLat);
+        if (col < 0 || col >= cols || row < 0 || row >= rows) return -1;
+        return row * cols + col;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public byte[] encode(boolean rle) {
+        return rle ? encodeRle() : encodeRaw();
+    }
+
+    private byte[] encodeRaw() {
+        ByteBuffer buffer = header(HEADER_SIZE + values.length * 4, 0);
+        buffer.asFloatBuffer().put(values);
+        return buffer.array();
+    }
+
+    // 빈 셀(0)이 대부분이라 0 구간 길이와 값 구간으로 나눠 기록
+    private byte[] encodeRle() {
+        int length = HEADER_SIZE;
+        for (int i = 0; i < values.length; ) {
+            while (i < values.length && values[i] == 0) i++;
+            int from = i;
+            while (i < values.length && values[i] != 0) i++;
+            length += 8 + (i - from) * 4;
+        }
+
+        ByteBuffer buffer = header(length, 1);
+        for (int i = 0; i < values.length; ) {
+            int zeroStart = i;
+            while (i < values.length && values[i] == 0) i++;
+            int from = i;
+            while (i < values.length && values[i] != 0) i++;
+            buffer.putInt(from - zeroStart);
+            buffer.putInt(i - from);
+            for (int j = from; j < i; j++) buffer.putFloat(values[j]);
+        }
+        return buffer.array();
+    }
+
+    private ByteBuffer header(int length, int encoding) {
+        float max = 0;
+        for (float value : values) max = Math.max(max, value);
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 'H').put((byte) 'M').put((byte) 'A').put((byte) 'P');
+        buffer.put(VERSION);
+        buffer.put((byte) encoding);
+        buffer.putShort((short) resolution);
+        buffer.putInt(cols);
+        buffer.putInt(rows);
+        buffer.putDouble(MIN_LON);
+        buffer.putDouble(MAX_LAT);
+        buffer.putDouble(cellLon);
+        buffer.putDouble(cellLat);
+        buffer.putFloat(max);
+        return buffer;
+    }
+
+    public int getResolution() {
+        return resolution;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sc.sangchu.geo;
+
+/*
+ * Korea 2000 중부원점 TM (GRS80, 원점 38N 127E, 가산 200000 / 500000) <-> 경위도 변환
+ * 서울시 상권분석서비스 영역 데이터(.shp) 좌표계
+ */
+public final class KoreaTmProjection {
+    private static final double A = 6378137.0;
+    private static final double F = 1 / 298.257222101;
+    private static final double E2 = F * (2 - F);
+    private static final double EP2 = E2 / (1 - E2);
+    private static final double K0 = 1.0;
+    private static final double LAT0 = Math.toRadians(38.0);
+    private static final double LON0 = Math.toRadians(127.0);
+    private static final double FALSE_EASTING = 200000.0;
+    private static final double FALSE_NORTHING = 500000.0;
+
+    private static final double E4 = E2 * E2;
+    private static final double E6 = E4 * E2;
+    private static final double M1 = 1 - E2 / 4 - 3 * E4 / 64 - 5 * E6 / 256;
+    private static final double M2 = 3 * E2 / 8 + 3 * E4 / 32 + 45 * E6 / 1024;
+    private static final double M3 = 15 * E4 / 256 + 45 * E6 / 1024;
+    private static final double M4 = 35 * E6 / 3072;
+    private static final double MERIDIAN_ORIGIN = meridianArc(LAT0);
+    private static final double E1 = (1 - Math.sqrt(1 - E2)) / (1 + Math.sqrt(1 - E2));
+
+    private KoreaTmProjection() {
+    }
+
+    // TM (x, y) -> out[offset] = 경도, out[offset + 1] = 위도
+    public static void toLonLat(double x, double y, double[] out, int offset) {
+        double m = MERIDIAN_ORIGIN + (y - FALSE_NORTHING) / K0;
+        double mu = m / (A * M1);
+        double phi1 = mu
+                + (3 * E1 / 2 - 27 * Math.pow(E1, 3) / 32) * Math.sin(2 * mu)
+                + (21 * E1 * E1 / 16 - 55 * Math.pow(E1, 4) / 32) * Math.sin(4 * mu)
+                + (151 * Math.pow(E1, 3) / 96) * Math.sin(6 * mu)
+                + (1097 * Math.pow(E1, 4) / 512) * Math.sin(8 * mu);
+
+        double sin = Math.sin(phi1);
+        double cos = Math.cos(phi1);
+        double tan = Math.tan(phi1);
+        double c1 = EP2 * cos * cos;
+        double t1 = tan * tan;
+        double n1 = A / Math.sqrt(1 - E2 * sin * sin);
+        double r1 = A * (1 - E2) / Math.pow(1 - E2 * sin * sin, 1.5);
+        double d = (x - FALSE_EASTING) / (n1 * K0);
+        double d2 = d * d;
+
+        double lat = phi1 - (n1 * tan / r1) * (d2 / 2
+                - (5 + 3 * t1 + 10 * c1 - 4 * c1 * c1 - 9 * EP2) * d2 * d2 / 24
+                + (61 + 90 * t1 + 298 * c1 + 45 * t1 * t1 - 252 * EP2 - 3 * c1 * c1) * d2 * d2 * d2 / 720);
+        double lon = LON0 + (d
+                - (1 + 2 * t1 + c1) * d2 * d / 6
+                + (5 - 2 * c1 + 28 * t1 - 3 * c1 * c1 + 8 * EP2 + 24 * t1 * t1) * d2 * d2 * d / 120) / cos;
+
+        out[offset] = Math.toDegrees(lon);
+        out[offset + 1] = Math.toDegrees(lat);
+    }
+
+    private static double meridianArc(double phi) {
+        return A * (M1 * phi - M2 * Math.sin(2 * phi) + M3 * Math.sin(4 * phi) - M4 * Math.sin(6 * phi));
+    }
+}
@@ -0,0 +1,177 @@
+package com.sc.sangchu.geo;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/*
+ * Mapbox Vector Tile 2.1 인코더 (protobuf 직접 기록)
+ * Tile { Layer layers = 3; }
+ * Layer { version = 15; name = 1; features = 2; keys = 3; values = 4; extent = 5; }
+ * Feature { id = 1; tags = 2 (packed); type = 3; geometry = 4 (packed); }
+ */
+public final class MvtEncoder {
+    private static final int POINT = 1;
+    private static final int POLYGON = 3;
+    private static final int MOVE_TO = 1;
+    private static final int LINE_TO = 2;
+    private static final int CLOSE_PATH = 7;
+
+    private final int extent;
+    private final List<Layer> layers = new ArrayList<>();
+
+    public MvtEncoder(int extent) {
+        this.extent = extent;
+    }
+
+    public Layer layer(String name) {
+        Layer layer = new Layer(name);
+        layers.add(layer);
+        return layer;
+    }
+
+    // 피처가 없는 레이어는 생략, 모두 비어 있으면 길이 0 배열
+    public byte[] encode() {
+        ProtoWriter tile = new ProtoWriter();
+        for (Layer layer : layers) {
+            if (layer.features.isEmpty()) continue;
+            tile.message(3, layer.encode(extent));
+        }
+        return tile.toByteArray();
+    }
+
+    public static final class Layer {
+        private final String name;
+        private final List<byte[]> features = new ArrayList<>();
+        private final Map<String, Integer> keys = new LinkedHashMap<>();
+        private final Map<Object, Integer> values = new LinkedHashMap<>();
+
+        private Layer(String name) {
+            this.name = name;
+        }
+
+        public void addPoint(long id, int x, int y, Map<String, Object> attributes) {
+            int[] geometry = {command(MOVE_TO, 1), zigzag(x), zigzag(y)};
+            addFeature(id, POINT, geometry, geometry.length, attributes);
+        }
+
+        // rings : 외곽 링(시계 방향) 다음에 그 구멍(반시계 방향)이 오는 열린 링 목록
+        public void addPolygon(long id, List<int[]> rings, Map<String, Object> attributes) {
+            int length = 0;
+            for (int[] ring : rings) length += ring.length + 3;
+            int[] geometry = new int[length];
+            int size = 0;
+            int cursorX = 0, cursorY = 0;
+            for (int[] ring : rings) {
+                int points = ring.length / 2;
+                geometry[size++] = command(MOVE_TO, 1);
+                geometry[size++] = zigzag(ring[0] - cursorX);
+                geometry[size++] = zigzag(ring[1] - cursorY);
+                geometry[size++] = command(LINE_TO, points - 1);
+                for (int i = 1; i < points; i++) {
+                    geometry[size++] = zigzag(ring[i * 2] - ring[i * 2 - 2]);
+                    geometry[size++] = zigzag(ring[i * 2 + 1] - ring[i * 2 - 1]);
+                }
+                geometry[size++] = command(CLOSE_PATH, 1);
+                cursorX = ring[ring.length - 2];
+                cursorY = ring[ring.length - 1];
+            }
+            addFeature(id, POLYGON, geometry, size, attributes);
+        }
+
+        private void addFeature(long id, int type, int[] geometry, int geometryLength, Map<String, Object> attributes) {
+            ProtoWriter tags = new ProtoWriter();
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                if (attribute.getValue() == null) continue;
+                tags.varint(keys.computeIfAbsent(attribute.getKey(), k -> keys.size()));
+                tags.varint(values.computeIfAbsent(attribute.getValue(), v -> values.size()));
+            }
+            ProtoWriter packedGeometry = new ProtoWriter();
+            for (int i = 0; i < geometryLength; i++) packedGeometry.varint(Integer.toUnsignedLong(geometry[i]));
+
+            ProtoWriter feature = new ProtoWriter();
+            feature.tag(1, 0).varint(id);
+            feature.message(2, tags.toByteArray());
+            feature.tag(3, 0).varint(type);
+            feature.message(4, packedGeometry.toByteArray());
+            features.add(feature.toByteArray());
+        }
+
+        private byte[] encode(int extent) {
+            ProtoWriter layer = new ProtoWriter();
+            layer.tag(15, 0).varint(2);
+            layer.string(1, name);
+            for (byte[] feature : features) layer.message(2, feature);
+            for (String key : keys.keySet()) layer.string(3, key);
+            for (Object value : values.keySet()) layer.message(4, encodeValue(value));
+            layer.tag(5, 0).varint(extent);
+            return layer.toByteArray();
+        }
+
+        // Value { string = 1; float = 2; double = 3; int = 4; uint = 5; sint = 6; bool = 7; }
+        private static byte[] encodeValue(Object value) {
+            ProtoWriter writer = new ProtoWriter();
+            if (value instanceof String string) {
+                writer.string(1, string);
+            } else if (value instanceof Double || value instanceof Float) {
+                writer.tag(3, 1).fixed64(Double.doubleToLongBits(((Number) value).doubleValue()));
+            } else if (value instanceof Boolean bool) {
+                writer.tag(7, 0).varint(bool ? 1 : 0);
+            } else {
+                long number = ((Number) value).longValue();
+                if (number >= 0) {
+                    writer.tag(5, 0).varint(number);
+                } else {
+                    writer.tag(6, 0).varint((number << 1) ^ (number >> 63));
+                }
+            }
+            return writer.toByteArray();
+        }
+
+        private static int command(int id, int count) {
+            return (id & 0x7) | (count << 3);
+        }
+
+        private static int zigzag(int n) {
+            return (n << 1) ^ (n >> 31);
+        }
+    }
+
+    private static final class ProtoWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+
+        private ProtoWriter tag(int field, int wireType) {
+            return varint(((long) field << 3) | wireType);
+        }
+
+        private ProtoWriter varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+            return this;
+        }
+
+        private ProtoWriter fixed64(long value) {
+            out.writeBytes(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array());
+            return this;
+        }
+
+        private ProtoWriter message(int field, byte[] bytes) {
+            tag(field, 2).varint(bytes.length);
+            out.writeBytes(bytes);
+            return this;
+        }
+
+        private ProtoWriter string(int field, String value) {
+            return message(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.sc.sangchu.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ESRI Shapefile 폴리곤(.shp) + 속성(.dbf) 리더
+ * 폴리곤(type 5) 레코드만 지원, 좌표는 파일 좌표계 그대로 반환
+ */
+public final class ShapefileReader {
+    private static final int FILE_HEADER_SIZE = 100;
+    private static final int SHAPE_NULL = 0;
+    private static final int SHAPE_POLYGON = 5;
+
+    private ShapefileReader() {
+    }
+
+    public static final class Shape {
+        private final Map<String, String> attributes;
+        // 파트(링)별 x, y 교차 배열
+        private final List<double[]> parts;
+
+        private Shape(Map<String, String> attributes, List<double[]> parts) {
+            this.attributes = attributes;
+            this.parts = parts;
+        }
+
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+
+        public List<double[]> getParts() {
+            return parts;
+        }
+    }
+
+    // xxx.shp 경로를 받아 같은 이름의 .dbf, .cpg 를 함께 읽음
+    public static List<Shape> read(Path shp) throws IOException {
+        String base = shp.getFileName().toString().replaceFirst("\\.shp$", "");
+        Path dbf = shp.resolveSibling(base + ".dbf");
+        Path cpg = shp.resolveSibling(base + ".cpg");
+        Charset charset = Files.exists(cpg)
+                ? Charset.forName(Files.readString(cpg, StandardCharsets.US_ASCII).trim())
+                : Charset.forName("MS949");
+
+        List<List<double[]>> geometries = readGeometries(ByteBuffer.wrap(Files.readAllBytes(shp)));
+        List<Map<String, String>> records = readAttributes(ByteBuffer.wrap(Files.readAllBytes(dbf)), charset);
+        if (geometries.size() != records.size()) {
+            throw new IOException("shp/dbf record count mismatch: " + geometries.size() + " / " + records.size());
+        }
+
+        List<Shape> shapes = new ArrayList<>(geometries.size());
+        for (int i = 0; i < geometries.size(); i++) {
+            shapes.add(new Shape(records.get(i), geometries.get(i)));
+        }
+        return shapes;
+    }
+
+    private static List<List<double[]>> readGeometries(ByteBuffer buffer) throws IOException {
+        List<List<double[]>> geometries = new ArrayList<>();
+        int position = FILE_HEADER_SIZE;
+        while (position + 8 <= buffer.limit()) {
+            // 레코드 헤더 : 번호, 길이(16bit word) - big endian
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            int contentLength = buffer.getInt(position + 4) * 2;
+            int content = position + 8;
+            position = content + contentLength;
+
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int shapeType = buffer.getInt(content);
+            if (shapeType == SHAPE_NULL) {
+                geometries.add(List.of());
+                continue;
+            }
+            if (shapeType != SHAPE_POLYGON) {
+                throw new IOException("Unsupported shape type: " + shapeType);
+            }
+
+            // type(4) + bbox(32) 이후 파트 수, 점 수, 파트 시작 인덱스, 점 목록
+            int numParts = buffer.getInt(content + 36);
+            int numPoints = buffer.getInt(content + 40);
+            int partsOffset = content + 44;
+            int pointsOffset = partsOffset + numParts * 4;
+
+            List<double[]> parts = new ArrayList<>(numParts);
+            for (int p = 0; p < numParts; p++) {
+                int start = buffer.getInt(partsOffset + p * 4);
+                int end = p + 1 < numParts ? buffer.getInt(partsOffset + (p + 1) * 4) : numPoints;
+                double[] ring = new double[(end - start) * 2];
+                for (int i = start; i < end; i++) {
+                    int offset = pointsOffset + i * 16;
+                    ring[(i - start) * 2] = buffer.getDouble(offset);
+                    ring[(i - start) * 2 + 1] = buffer.getDouble(offset + 8);
+                }
+                parts.add(ring);
+            }
+            geometries.add(parts);
+        }
+        return geometries;
+    }
+
+    private static List<Map<String, String>> readAttributes(ByteBuffer buffer, Charset charset) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int numRecords = buffer.getInt(4);
+        int headerLength = Short.toUnsignedInt(buffer.getShort(8));
+        int recordLength = Short.toUnsignedInt(buffer.getShort(10));
+
+        List<String> names = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        for (int offset = 32; buffer.get(offset) != 0x0D; offset += 32) {
+            byte[] name = new byte[11];
+            buffer.get(offset, name);
+            int end = 0;
+            while (end < name.length && name[end] != 0) end++;
+            names.add(new String(name, 0, end, StandardCharsets.US_ASCII));
+            lengths.add(Byte.toUnsignedInt(buffer.get(offset + 16)));
+        }
+
+        List<Map<String, String>> records = new ArrayList<>(numRecords);
+        for (int r = 0; r < numRecords; r++) {
+            int offset = headerLength + r * recordLength + 1; // 첫 바이트는 삭제 플래그
+            Map<String, String> record = new HashMap<>(names.size() * 2);
+            for (int f = 0; f < names.size(); f++) {
+                byte[] value = new byte[lengths.get(f)];
+                buffer.get(offset, value);
+                record.put(names.get(f), new String(value, charset).trim());
+                offset += value.length;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+}
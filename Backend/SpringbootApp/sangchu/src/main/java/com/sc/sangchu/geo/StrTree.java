@@ -0,0 +1,139 @@
+package com.sc.sangchu.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/*
+ * STR(Sort-Tile-Recursive) 방식으로 한 번에 적재하는 정적 R-tree
+ * 각 레벨의 노드를 x 중심 기준 세로 띠로 나눈 뒤 띠 안에서 y 중심 순으로 정렬해 NODE_CAPACITY 개씩 묶음
+ */
+public final class StrTree {
+    private static final int NODE_CAPACITY = 16;
+
+    // levels.get(0) 이 리프(항목), 마지막이 루트
+    private final List<Level> levels = new ArrayList<>();
+
+    private static final class Level {
+        private final double[] boxes; // minX, minY, maxX, maxY
+        private final int[] childStart; // 리프 레벨은 항목 번호
+        private final int[] childEnd;
+        private final int size;
+
+        private Level(double[] boxes, int[] childStart, int[] childEnd, int size) {
+            this.boxes = boxes;
+            this.childStart = childStart;
+            this.childEnd = childEnd;
+            this.size = size;
+        }
+    }
+
+    // boxes : 항목별 minX, minY, maxX, maxY
+    public StrTree(double[] boxes) {
+        int size = boxes.length / 4;
+        int[] items = new int[size];
+        for (int i = 0; i < size; i++) items[i] = i;
+        Level level = sortTile(new Level(boxes.clone(), items, items.clone(), size));
+        levels.add(level);
+
+        while (level.size > 1) {
+            int parentSize = (level.size + NODE_CAPACITY - 1) / NODE_CAPACITY;
+            double[] parentBoxes = new double[parentSize * 4];
+            int[] start = new int[parentSize];
+            int[] end = new int[parentSize];
+            for (int p = 0; p < parentSize; p++) {
+                start[p] = p * NODE_CAPACITY;
+                end[p] = Math.min(start[p] + NODE_CAPACITY, level.size);
+                union(level.boxes, start[p], end[p], parentBoxes, p);
+            }
+            level = parentSize > 1 ? sortTile(new Level(parentBoxes, start, end, parentSize))
+                    : new Level(parentBoxes, start, end, parentSize);
+            levels.add(level);
+        }
+    }
+
+    public int size() {
+        return levels.isEmpty() ? 0 : levels.get(0).size;
+    }
+
+    // 점을 포함하는 항목 번호를 visitor 에 전달, visitor 가 false 를 반환하면 탐색 중단
+    public void query(double x, double y, IntPredicate visitor) {
+        query(x, y, x, y, visitor);
+    }
+
+    // 사각형과 겹치는 항목 번호를 visitor 에 전달
+    public void query(double minX, double minY, double maxX, double maxY, IntPredicate visitor) {
+        if (size() == 0) return;
+        int[] stack = new int[levels.size() * NODE_CAPACITY * 2];
+        int top = 0;
+        int rootLevel = levels.size() - 1;
+        for (int i = 0; i < levels.get(rootLevel).size; i++) {
+            stack[top++] = rootLevel;
+            stack[top++] = i;
+        }
+
+        while (top > 0) {
+            int index = stack[--top];
+            int depth = stack[--top];
+            Level level = levels.get(depth);
+            if (!intersects(level.boxes, index, minX, minY, maxX, maxY)) continue;
+            if (depth == 0) {
+                if (!visitor.test(level.childStart[index])) return;
+                continue;
+            }
+            for (int child = level.childStart[index]; child < level.childEnd[index]; child++) {
+                stack[top++] = depth - 1;
+                stack[top++] = child;
+            }
+        }
+    }
+
+    private static boolean intersects(double[] boxes, int index, double minX, double minY, double maxX, double maxY) {
+        int o = index * 4;
+        return maxX >= boxes[o] && maxY >= boxes[o + 1] && minX <= boxes[o + 2] && minY <= boxes[o + 3];
+    }
+
+    private static void union(double[] boxes, int from, int to, double[] out, int index) {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            minX = Math.min(minX, boxes[i * 4]);
+            minY = Math.min(minY, boxes[i * 4 + 1]);
+            maxX = Math.max(maxX, boxes[i * 4 + 2]);
+            maxY = Math.max(maxY, boxes[i * 4 + 3]);
+        }
+        out[index * 4] = minX;
+        out[index * 4 + 1] = minY;
+        out[index * 4 + 2] = maxX;
+        out[index * 4 + 3] = maxY;
+    }
+
+    // 한 레벨의 노드를 STR 순서로 재배치
+    private static Level sortTile(Level level) {
+        int n = level.size;
+        int leafCount = (n + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        double[] boxes = level.boxes;
+        Arrays.sort(order, (a, b) -> Double.compare(boxes[a * 4] + boxes[a * 4 + 2], boxes[b * 4] + boxes[b * 4 + 2]));
+        for (int from = 0; from < n; from += sliceSize) {
+            Arrays.sort(order, from, Math.min(from + sliceSize, n),
+                    (a, b) -> Double.compare(boxes[a * 4 + 1] + boxes[a * 4 + 3], boxes[b * 4 + 1] + boxes[b * 4 + 3]));
+        }
+
+        double[] sortedBoxes = new double[n * 4];
+        int[] start = new int[n];
+        int[] end = new int[n];
+        for (int i = 0; i < n; i++) {
+            int source = order[i];
+            System.arraycopy(boxes, source * 4, sortedBoxes, i * 4, 4);
+            start[i] = level.childStart[source];
+            end[i] = level.childEnd[source];
+        }
+        return new Level(sortedBoxes, start, end, n);
+    }
+}
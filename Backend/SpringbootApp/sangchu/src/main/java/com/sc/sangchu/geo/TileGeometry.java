@@ -0,0 +1,138 @@
+package com.sc.sangchu.geo;
+
+import java.util.Arrays;
+
+/*
+ * 한 타일(z/x/y) 안의 좌표 변환 및 클리핑
+ * 경위도 -> 타일 내부 좌표(0 ~ extent, y 는 아래 방향) -> 버퍼를 포함한 타일 경계로 자른 정수 좌표
+ */
+public final class TileGeometry {
+    private final int z;
+    private final int x;
+    private final int y;
+    private final int extent;
+    private final int buffer;
+    private final double tolerance;
+
+    public TileGeometry(int z, int x, int y, int extent, int buffer, double tolerance) {
+        this.z = z;
+        this.x = x;
+        this.y = y;
+        this.extent = extent;
+        this.buffer = buffer;
+        this.tolerance = tolerance;
+    }
+
+    // 버퍼를 포함한 타일 범위(경위도) : minLon, minLat, maxLon, maxLat
+    public double[] bounds() {
+        double pad = (double) buffer / extent;
+        return new double[]{
+                WebMercator.lon(x - pad, z), WebMercator.lat(y + 1 + pad, z),
+                WebMercator.lon(x + 1 + pad, z), WebMercator.lat(y - pad, z)};
+    }
+
+    // 점이 타일(버퍼 제외) 안이면 정수 좌표, 아니면 null
+    public int[] point(double lon, double lat) {
+        double px = (WebMercator.tileX(lon, z) - x) * extent;
+        double py = (WebMercator.tileY(lat, z) - y) * extent;
+        if (px < 0 || py < 0 || px >= extent || py >= extent) return null;
+        return new int[]{(int) Math.floor(px), (int) Math.floor(py)};
+    }
+
+    /*
+     * 폴리곤 링(경위도, 닫힌 링) -> 타일 좌표 링(열린 링, x, y 교차)
+     * 클리핑 / 단순화 후 면적이 0 이면 null
+     * GeoJSON 외곽 링(반시계)은 y 축이 뒤집혀 MVT 규칙대로 시계 방향이 됨
+     */
+    public int[] ring(double[] lonLatRing) {
+        int n = lonLatRing.length / 2 - 1; // 마지막 점 = 첫 점
+        if (n < 3) return null;
+        double[] projected = new double[n * 2];
+        for (int i = 0; i < n; i++) {
+            projected[i * 2] = (WebMercator.tileX(lonLatRing[i * 2], z) - x) * extent;
+            projected[i * 2 + 1] = (WebMercator.tileY(lonLatRing[i * 2 + 1], z) - y) * extent;
+        }
+
+        double[] clipped = clip(projected);
+        if (clipped.length < 6) return null;
+
+        // 단순화는 닫힌 링 기준으로 수행
+        double[] closed = Arrays.copyOf(clipped, clipped.length + 2);
+        closed[clipped.length] = clipped[0];
+        closed[clipped.length + 1] = clipped[1];
+        double[] simplified = DouglasPeucker.simplify(closed, tolerance);
+
+        int[] out = new int[simplified.length - 2];
+        int size = 0;
+        for (int i = 0; i < simplified.length - 2; i += 2) {
+            int px = (int) Math.round(simplified[i]);
+            int py = (int) Math.round(simplified[i + 1]);
+            if (size > 0 && out[size - 2] == px && out[size - 1] == py) continue;
+            out[size++] = px;
+            out[size++] = py;
+        }
+        if (size >= 4 && out[0] == out[size - 2] && out[1] == out[size - 1]) size -= 2;
+        if (size < 6) return null;
+        int[] ring = Arrays.copyOf(out, size);
+        return area(ring) != 0 ? ring : null;
+    }
+
+    // 화면 좌표(y 아래) 기준 면적, 양수면 시계 방향
+    public static long area(int[] ring) {
+        long sum = 0;
+        for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+            sum += (long) ring[j] * ring[i + 1] - (long) ring[i] * ring[j + 1];
+        }
+        return sum;
+    }
+
+    // Sutherland-Hodgman, 버퍼를 포함한 타일 사각형으로 자름
+    private double[] clip(double[] ring) {
+        double min = -buffer;
+        double max = extent + buffer;
+        double[] current = ring;
+        for (int edge = 0; edge < 4 && current.length > 0; edge++) {
+            int n = current.length / 2;
+            // 변마다 최대 한 점이 추가됨
+            double[] output = new double[current.length * 2];
+            int size = 0;
+            for (int i = 0; i < n; i++) {
+                int j = (i + n - 1) % n;
+                double ax = current[j * 2], ay = current[j * 2 + 1];
+                double bx = current[i * 2], by = current[i * 2 + 1];
+                boolean aIn = inside(edge, ax, ay, min, max);
+                boolean bIn = inside(edge, bx, by, min, max);
+                if (aIn != bIn) {
+                    size = intersect(edge, ax, ay, bx, by, edge % 2 == 0 ? min : max, output, size);
+                }
+                if (bIn) {
+                    output[size++] = bx;
+                    output[size++] = by;
+                }
+            }
+            current = Arrays.copyOf(output, size);
+        }
+        return current;
+    }
+
+    private static boolean inside(int edge, double px, double py, double min, double max) {
+        return switch (edge) {
+            case 0 -> px >= min;
+            case 1 -> px <= max;
+            case 2 -> py >= min;
+            default -> py <= max;
+        };
+    }
+
+    private static int intersect(int edge, double ax, double ay, double bx, double by, double bound,
+                                 double[] output, int size) {
+        if (edge < 2) {
+            output[size++] = bound;
+            output[size++] = ay + (bound - ax) / (bx - ax) * (by - ay);
+        } else {
+            output[size++] = ax + (bound - ay) / (by - ay) * (bx - ax);
+            output[size++] = bound;
+        }
+        return size;
+    }
+}
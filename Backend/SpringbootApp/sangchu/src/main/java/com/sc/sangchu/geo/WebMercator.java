@@ -0,0 +1,29 @@
+package com.sc.sangchu.geo;
+
+// 웹 메르카토르(EPSG:3857) 타일 좌표 <-> 경위도
+public final class WebMercator {
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private WebMercator() {
+    }
+
+    // 줌 레벨 z 의 전역 타일 좌표 (정수부가 타일 번호)
+    public static double tileX(double lon, int z) {
+        return (lon + 180.0) / 360.0 * (1L << z);
+    }
+
+    public static double tileY(double lat, int z) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat));
+        double rad = Math.toRadians(clamped);
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * (1L << z);
+    }
+
+    public static double lon(double tileX, int z) {
+        return tileX / (1L << z) * 360.0 - 180.0;
+    }
+
+    public static double lat(double tileY, int z) {
+        double n = Math.PI * (1 - 2 * tileY / (1L << z));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
@@ -0,0 +1,163 @@
+package com.sc.sangchu.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/*
+ * 불변 정수 집합 비트맵 (Roaring 의 컨테이너 하나와 같은 방식)
+ * 원소가 적으면 정렬된 int 배열, 많으면 long 비트셋으로 저장해 더 작은 쪽을 사용
+ * 상권 행 번호처럼 universe(최대값 + 1)가 작은 집합용
+ */
+public final class Bitmap {
+    private final int universe;
+    private final int cardinality;
+    // 둘 중 하나만 사용
+    private final int[] array;
+    private final long[] words;
+
+    private Bitmap(int universe, int cardinality, int[] array, long[] words) {
+        this.universe = universe;
+        this.cardinality = cardinality;
+        this.array = array;
+        this.words = words;
+    }
+
+    public static Bitmap of(int universe, int[] sortedValues, int size) {
+        return fromArray(universe, Arrays.copyOf(sortedValues, size));
+    }
+
+    // 정렬되지 않은 values[from, to) 로 생성 (중복 없음)
+    public static Bitmap ofUnsorted(int universe, int[] values, int from, int to) {
+        long[] words = new long[wordCount(universe)];
+        for (int i = from; i < to; i++) words[values[i] >>> 6] |= 1L << values[i];
+        return fromWords(universe, words);
+    }
+
+    public static Bitmap full(int universe) {
+        long[] words = new long[wordCount(universe)];
+        Arrays.fill(words, -1L);
+        if (universe % 64 != 0 && words.length > 0) words[words.length - 1] = (1L << (universe % 64)) - 1;
+        return fromWords(universe, words);
+    }
+
+    public static Bitmap empty(int universe) {
+        return new Bitmap(universe, 0, new int[0], null);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        if (words != null) return (words[value >>> 6] & (1L << value)) != 0;
+        return Arrays.binarySearch(array, value) >= 0;
+    }
+
+    public Bitmap and(Bitmap other) {
+        if (words != null && other.words != null) {
+            long[] result = new long[words.length];
+            for (int i = 0; i < result.length; i++) result[i] = words[i] & other.words[i];
+            return fromWords(universe, result);
+        }
+        // 배열 쪽을 돌며 상대에 있는 값만 남김
+        Bitmap small = words == null ? this : other;
+        Bitmap large = small == this ? other : this;
+        int[] result = new int[small.cardinality];
+        int size = 0;
+        for (int value : small.array) {
+            if (large.contains(value)) result[size++] = value;
+        }
+        return fromArray(universe, Arrays.copyOf(result, size));
+    }
+
+    public Bitmap or(Bitmap other) {
+        long[] result = toWords();
+        if (other.words != null) {
+            for (int i = 0; i < result.length; i++) result[i] |= other.words[i];
+        } else {
+            for (int value : other.array) result[value >>> 6] |= 1L << value;
+        }
+        return fromWords(universe, result);
+    }
+
+    // and 결과를 만들지 않고 교집합 크기만 계산 (패싯 개수용)
+    public int andCardinality(Bitmap other) {
+        if (words != null && other.words != null) {
+            int count = 0;
+            for (int i = 0; i < words.length; i++) count += Long.bitCount(words[i] & other.words[i]);
+            return count;
+        }
+        Bitmap small = words == null ? this : other;
+        Bitmap large = small == this ? other : this;
+        int count = 0;
+        for (int value : small.array) {
+            if (large.contains(value)) count++;
+        }
+        return count;
+    }
+
+    // 오름차순 순회
+    public void forEach(IntConsumer consumer) {
+        if (words == null) {
+            for (int value : array) consumer.accept(value);
+            return;
+        }
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept(i * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    // 저장 크기(바이트), 배열은 원소당 4바이트, 비트셋은 universe / 8
+    public int sizeInBytes() {
+        return words != null ? words.length * 8 : array.length * 4;
+    }
+
+    private long[] toWords() {
+        if (words != null) return words.clone();
+        long[] result = new long[wordCount(universe)];
+        for (int value : array) result[value >>> 6] |= 1L << value;
+        return result;
+    }
+
+    private static Bitmap fromWords(int universe, long[] words) {
+        int cardinality = 0;
+        for (long word : words) cardinality += Long.bitCount(word);
+        if (useArray(universe, cardinality)) {
+            int[] array = new int[cardinality];
+            int size = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array[size++] = i * 64 + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return new Bitmap(universe, cardinality, array, null);
+        }
+        return new Bitmap(universe, cardinality, null, words);
+    }
+
+    private static Bitmap fromArray(int universe, int[] array) {
+        if (useArray(universe, array.length)) return new Bitmap(universe, array.length, array, null);
+        long[] words = new long[wordCount(universe)];
+        for (int value : array) words[value >>> 6] |= 1L << value;
+        return new Bitmap(universe, array.length, null, words);
+    }
+
+    // 배열(원소당 32비트)이 비트셋(universe 비트)보다 작으면 배열
+    private static boolean useArray(int universe, int cardinality) {
+        return (long) cardinality * 32 < (long) wordCount(universe) * 64;
+    }
+
+    private static int wordCount(int universe) {
+        return (universe + 63) >>> 6;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sc.sangchu.index;
+
+import java.util.*;
+
+/*
+ * 자동완성용 정적 트라이
+ * 노드마다 하위 키 전체에서 가중치 상위 TOP_K 개 항목을 미리 계산해 두어
+ * 검색은 접두어 길이만큼 내려간 뒤 그 노드의 목록을 그대로 반환 (하위 트리를 순회하지 않음)
+ * 노드는 배열로 압축 : 자식은 문자 순으로 연속 저장, 자식 탐색은 이분 탐색
+ */
+public final class CompletionTrie {
+    public static final int TOP_K = 10;
+
+    private final int[] childStart;
+    private final int[] childCount;
+    private final char[] label; // 노드로 들어오는 간선 문자
+    private final int[] topStart;
+    private final int[] topCount;
+    private final int[] topItems;
+
+    private CompletionTrie(int[] childStart, int[] childCount, char[] label,
+                           int[] topStart, int[] topCount, int[] topItems) {
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.label = label;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.topItems = topItems;
+    }
+
+    // 접두어로 시작하는 키의 항목을 가중치 순으로 최대 limit 개
+    public int[] search(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        if (node < 0) return new int[0];
+        int count = Math.min(limit, topCount[node]);
+        return Arrays.copyOfRange(topItems, topStart[node], topStart[node] + count);
+    }
+
+    public int nodeCount() {
+        return label.length;
+    }
+
+    private int child(int node, char c) {
+        int lo = childStart[node], hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (label[mid] < c) lo = mid + 1;
+            else if (label[mid] > c) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    public static final class Builder {
+        private final Node root = new Node();
+        private int nodes = 1;
+
+        private static final class Node {
+            private final TreeMap<Character, Node> children = new TreeMap<>();
+            // 이 노드에서 끝나는 키의 항목 -> 가중치
+            private Map<Integer, Double> items;
+        }
+
+        // 같은 항목이 여러 키로 들어오면 가장 큰 가중치 사용
+        public Builder add(String key, int item, double weight) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                Node next = node.children.get(key.charAt(i));
+                if (next == null) {
+                    next = new Node();
+                    node.children.put(key.charAt(i), next);
+                    nodes++;
+                }
+                node = next;
+            }
+            if (node.items == null) node.items = new HashMap<>(2);
+            node.items.merge(item, weight, Math::max);
+            return this;
+        }
+
+        // 너비 우선으로 번호를 매겨 자식이 연속되도록 배치
+        public CompletionTrie build() {
+            int[] childStart = new int[nodes];
+            int[] childCount = new int[nodes];
+            char[] label = new char[nodes];
+            Node[] order = new Node[nodes];
+            order[0] = root;
+            int size = 1;
+            for (int i = 0; i < size; i++) {
+                childStart[i] = size;
+                childCount[i] = order[i].children.size();
+                for (Map.Entry<Character, Node> child : order[i].children.entrySet()) {
+                    label[size] = child.getKey();
+                    order[size++] = child.getValue();
+                }
+            }
+
+            // 자식이 항상 뒤 번호라 역순으로 상위 목록 계산
+            int[][] tops = new int[nodes][];
+            double[][] topWeights = new double[nodes][];
+            for (int i = nodes - 1; i >= 0; i--) {
+                Map<Integer, Double> candidates = new HashMap<>();
+                if (order[i].items != null) candidates.putAll(order[i].items);
+                for (int c = childStart[i]; c < childStart[i] + childCount[i]; c++) {
+                    for (int k = 0; k < tops[c].length; k++) candidates.merge(tops[c][k], topWeights[c][k], Math::max);
+                }
+                List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(candidates.entrySet());
+                ranked.sort(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()));
+                int count = Math.min(TOP_K, ranked.size());
+                tops[i] = new int[count];
+                topWeights[i] = new double[count];
+                for (int k = 0; k < count; k++) {
+                    tops[i][k] = ranked.get(k).getKey();
+                    topWeights[i][k] = ranked.get(k).getValue();
+                }
+            }
+
+            int[] topStart = new int[nodes];
+            int[] topCount = new int[nodes];
+            int total = 0;
+            for (int[] top : tops) total += top.length;
+            int[] topItems = new int[total];
+            int offset = 0;
+            for (int i = 0; i < nodes; i++) {
+                topStart[i] = offset;
+                topCount[i] = tops[i].length;
+                System.arraycopy(tops[i], 0, topItems, offset, tops[i].length);
+                offset += tops[i].length;
+            }
+            return new CompletionTrie(childStart, childCount, label, topStart, topCount, topItems);
+        }
+    }
+}
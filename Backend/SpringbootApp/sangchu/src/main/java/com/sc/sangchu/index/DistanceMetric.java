@@ -0,0 +1,66 @@
+package com.sc.sangchu.index;
+
+// float[] 행렬의 두 행 사이 거리 계산 (mds_맨해튼거리.py, mds_유클리드.py 에서 사용한 거리와 동일)
+public enum DistanceMetric {
+    EUCLIDEAN(true) {
+        @Override
+        public float distance(float[] a, int aOffset, float[] b, int bOffset, int dim) {
+            float sum = 0f;
+            for (int i = 0; i < dim; i++) {
+                float diff = a[aOffset + i] - b[bOffset + i];
+                sum += diff * diff;
+            }
+            return (float) Math.sqrt(sum);
+        }
+    },
+    MANHATTAN(true) {
+        @Override
+        public float distance(float[] a, int aOffset, float[] b, int bOffset, int dim) {
+            float sum = 0f;
+            for (int i = 0; i < dim; i++) {
+                sum += Math.abs(a[aOffset + i] - b[bOffset + i]);
+            }
+            return sum;
+        }
+    },
+    // 1 - 코사인 유사도, 삼각 부등식을 만족하지 않으므로 VP-tree 가지치기에 사용할 수 없음
+    COSINE(false) {
+        @Override
+        public float distance(float[] a, int aOffset, float[] b, int bOffset, int dim) {
+            float dot = 0f;
+            float normA = 0f;
+            float normB = 0f;
+            for (int i = 0; i < dim; i++) {
+                float x = a[aOffset + i];
+                float y = b[bOffset + i];
+                dot += x * y;
+                normA += x * x;
+                normB += y * y;
+            }
+            if (normA == 0f || normB == 0f) {
+                return 1f;
+            }
+            return 1f - dot / (float) Math.sqrt((double) normA * normB);
+        }
+    };
+
+    private final boolean metric;
+
+    DistanceMetric(boolean metric) {
+        this.metric = metric;
+    }
+
+    public abstract float distance(float[] a, int aOffset, float[] b, int bOffset, int dim);
+
+    // 삼각 부등식 만족 여부 (true 인 경우에만 VP-tree 사용)
+    public boolean isMetric() {
+        return metric;
+    }
+
+    public static DistanceMetric from(String name) {
+        if (name == null || name.isBlank()) {
+            return EUCLIDEAN;
+        }
+        return DistanceMetric.valueOf(name.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,138 @@
+package com.sc.sangchu.index;
+
+/*
+ * 한글 음절 -> 자판 입력 단위 호환 자모 분해
+ * 겹모음(ㅘ -> ㅗㅏ), 겹받침(ㄳ -> ㄱㅅ)까지 풀어서 입력 중인 글자("고" -> "과", "갑" -> "값")도 앞부분이 일치하도록 함
+ * 공백은 제거하고 영문은 소문자로 바꿈
+ */
+public final class HangulJamo {
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String[] CHOSUNG = split("ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ");
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    // 단독으로 입력된 겹자모 (ㄳ, ㅘ 등) 분해용, 호환 자모 U+3131 ~ U+3163
+    private static final String[] COMPATIBILITY = new String[0x3163 - 0x3131 + 1];
+
+    static {
+        for (String jamo : JUNGSUNG) register(jamo);
+        for (String jamo : JONGSUNG) register(jamo);
+    }
+
+    private HangulJamo() {
+    }
+
+    // 음절 경계마다 시작 위치를 기록한 분해 결과 (중간 검색 키용)
+    public static final class Decomposed {
+        private final String jamo;
+        private final int[] syllableStarts;
+
+        private Decomposed(String jamo, int[] syllableStarts) {
+            this.jamo = jamo;
+            this.syllableStarts = syllableStarts;
+        }
+
+        public String getJamo() {
+            return jamo;
+        }
+
+        public int[] getSyllableStarts() {
+            return syllableStarts;
+        }
+    }
+
+    public static String decompose(String text) {
+        return decomposeWithStarts(text).jamo;
+    }
+
+    public static Decomposed decomposeWithStarts(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        int[] starts = new int[text.length()];
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            starts[count++] = jamo.length();
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                jamo.append(CHOSUNG[index / 588]).append(JUNGSUNG[index % 588 / 28]).append(JONGSUNG[index % 28]);
+            } else if (c >= 0x3131 && c <= 0x3163 && COMPATIBILITY[c - 0x3131] != null) {
+                jamo.append(COMPATIBILITY[c - 0x3131]);
+            } else {
+                jamo.append(Character.toLowerCase(c));
+            }
+        }
+        int[] syllableStarts = new int[count];
+        System.arraycopy(starts, 0, syllableStarts, 0, count);
+        return new Decomposed(jamo.toString(), syllableStarts);
+    }
+
+    // 초성만 추출 ("강남역" -> "ㄱㄴㅇ"), 한글이 아닌 글자는 그대로
+    public static String chosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                result.append(CHOSUNG[(c - SYLLABLE_BASE) / 588]);
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    // 공백을 뺀 모든 글자가 자음(ㄱ ~ ㅎ)인지, 초성 검색 여부 판단용
+    public static boolean isChosungOnly(String text) {
+        boolean any = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c < 0x3131 || c > 0x314E) return false;
+            any = true;
+        }
+        return any;
+    }
+
+    // 분해된 겹자모 "ㅗㅏ" 를 원래 호환 자모 "ㅘ" 에 대응
+    private static void register(String decomposed) {
+        if (decomposed.length() != 2) return;
+        char composed = compose(decomposed);
+        if (composed != 0) COMPATIBILITY[composed - 0x3131] = decomposed;
+    }
+
+    private static char compose(String decomposed) {
+        return switch (decomposed) {
+            case "ㄱㅅ" -> 'ㄳ';
+            case "ㄴㅈ" -> 'ㄵ';
+            case "ㄴㅎ" -> 'ㄶ';
+            case "ㄹㄱ" -> 'ㄺ';
+            case "ㄹㅁ" -> 'ㄻ';
+            case "ㄹㅂ" -> 'ㄼ';
+            case "ㄹㅅ" -> 'ㄽ';
+            case "ㄹㅌ" -> 'ㄾ';
+            case "ㄹㅍ" -> 'ㄿ';
+            case "ㄹㅎ" -> 'ㅀ';
+            case "ㅂㅅ" -> 'ㅄ';
+            case "ㅗㅏ" -> 'ㅘ';
+            case "ㅗㅐ" -> 'ㅙ';
+            case "ㅗㅣ" -> 'ㅚ';
+            case "ㅜㅓ" -> 'ㅝ';
+            case "ㅜㅔ" -> 'ㅞ';
+            case "ㅜㅣ" -> 'ㅟ';
+            case "ㅡㅣ" -> 'ㅢ';
+            default -> 0;
+        };
+    }
+
+    private static String[] split(String chars) {
+        String[] result = new String[chars.length()];
+        for (int i = 0; i < chars.length(); i++) result[i] = String.valueOf(chars.charAt(i));
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package com.sc.sangchu.index;
+
+// 크기가 k 로 제한된 최대 힙, 가장 먼 후보를 루트에 두어 k 개를 넘으면 바로 교체
+public final class KnnHeap {
+    private final int[] rows;
+    private final float[] distances;
+    private final int capacity;
+    private final int excludedRow;
+    private int size;
+
+    public KnnHeap(int capacity, int excludedRow) {
+        this.capacity = capacity;
+        this.excludedRow = excludedRow;
+        this.rows = new int[capacity];
+        this.distances = new float[capacity];
+    }
+
+    public void offer(int row, float distance) {
+        if (row == excludedRow || capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            rows[size] = row;
+            distances[size] = distance;
+            siftUp(size++);
+        } else if (distance < distances[0]) {
+            rows[0] = row;
+            distances[0] = distance;
+            siftDown(0);
+        }
+    }
+
+    // 현재 탐색 반경, 힙이 가득 차기 전에는 무한대 (capacity 0 이면 더 찾을 것이 없으므로 음의 무한대)
+    public float radius() {
+        if (capacity == 0) {
+            return Float.NEGATIVE_INFINITY;
+        }
+        return size < capacity ? Float.POSITIVE_INFINITY : distances[0];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 가까운 순서로 정렬된 결과를 반환 (힙은 비워짐)
+    public Neighbors drain() {
+        int n = size;
+        int[] sortedRows = new int[n];
+        float[] sortedDistances = new float[n];
+        for (int i = n - 1; i >= 0; i--) {
+            sortedRows[i] = rows[0];
+            sortedDistances[i] = distances[0];
+            size--;
+            rows[0] = rows[size];
+            distances[0] = distances[size];
+            siftDown(0);
+        }
+        return new Neighbors(sortedRows, sortedDistances);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (distances[parent] >= distances[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int largest = left;
+            int right = left + 1;
+            if (right < size && distances[right] > distances[left]) {
+                largest = right;
+            }
+            if (distances[i] >= distances[largest]) {
+                return;
+            }
+            swap(i, largest);
+            i = largest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        float distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+
+    public static final class Neighbors {
+        private final int[] rows;
+        private final float[] distances;
+
+        Neighbors(int[] rows, float[] distances) {
+            this.rows = rows;
+            this.distances = distances;
+        }
+
+        public int size() {
+            return rows.length;
+        }
+
+        public int row(int i) {
+            return rows[i];
+        }
+
+        public float distance(int i) {
+            return distances[i];
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.sc.sangchu.index;
+
+import java.util.Arrays;
+
+/*
+ * 수치 패싯용 정렬 인덱스
+ * 값 오름차순으로 정렬한 (값, 행 번호) 쌍을 이분 탐색해 [min, max] 구간의 행 번호 비트맵을 만듦
+ * 값이 없는(NaN) 행은 인덱스에 넣지 않음
+ */
+public final class RangeIndex {
+    private final int universe;
+    private final double[] values;
+    private final int[] rows;
+
+    public RangeIndex(double[] columnValues) {
+        this.universe = columnValues.length;
+        Integer[] order = new Integer[columnValues.length];
+        int size = 0;
+        for (int row = 0; row < columnValues.length; row++) {
+            if (!Double.isNaN(columnValues[row])) order[size++] = row;
+        }
+        Arrays.sort(order, 0, size, (a, b) -> Double.compare(columnValues[a], columnValues[b]));
+        this.values = new double[size];
+        this.rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = order[i];
+            values[i] = columnValues[order[i]];
+        }
+    }
+
+    // min, max 가 null 이면 해당 방향 제한 없음
+    public Bitmap between(Double min, Double max) {
+        int from = min == null ? 0 : lowerBound(min);
+        int to = max == null ? values.length : upperBound(max);
+        if (from >= to) return Bitmap.empty(universe);
+        return Bitmap.ofUnsorted(universe, rows, from, to);
+    }
+
+    public double min() {
+        return values.length == 0 ? Double.NaN : values[0];
+    }
+
+    public double max() {
+        return values.length == 0 ? Double.NaN : values[values.length - 1];
+    }
+
+    // value 이상인 첫 위치
+    private int lowerBound(double value) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // value 초과인 첫 위치
+    private int upperBound(double value) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
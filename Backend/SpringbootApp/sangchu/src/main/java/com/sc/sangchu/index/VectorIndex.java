@@ -0,0 +1,53 @@
+package com.sc.sangchu.index;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 행 우선(row-major) 연속 float[] 행렬 위의 k-최근접 이웃 검색
+public final class VectorIndex {
+    private final float[] data;
+    private final int dim;
+    private final int size;
+    private final Map<DistanceMetric, VpTree> trees = new EnumMap<>(DistanceMetric.class);
+
+    public VectorIndex(float[] data, int dim) {
+        if (dim <= 0 || data.length % dim != 0) {
+            throw new IllegalArgumentException("data length " + data.length + " is not a multiple of dim " + dim);
+        }
+        this.data = data;
+        this.dim = dim;
+        this.size = data.length / dim;
+        for (DistanceMetric metric : DistanceMetric.values()) {
+            if (metric.isMetric()) {
+                trees.put(metric, new VpTree(data, dim, size, metric));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dim() {
+        return dim;
+    }
+
+    public float get(int row, int column) {
+        return data[row * dim + column];
+    }
+
+    // row 번째 행과 가장 가까운 k 개의 행 (자기 자신 제외)
+    public KnnHeap.Neighbors nearest(int row, int k, DistanceMetric metric) {
+        KnnHeap heap = new KnnHeap(Math.max(0, Math.min(k, size - 1)), row);
+        int offset = row * dim;
+        VpTree tree = trees.get(metric);
+        if (tree != null) {
+            tree.search(data, offset, heap);
+        } else {
+            for (int i = 0; i < size; i++) {
+                heap.offer(i, metric.distance(data, offset, data, i * dim, dim));
+            }
+        }
+        return heap.drain();
+    }
+}
@@ -0,0 +1,114 @@
+package com.sc.sangchu.index;
+
+/*
+ * Vantage-point tree
+ * 노드 [lo, hi) 의 기준점은 items[lo], 나머지는 기준점과의 거리 중앙값(thresholds[lo])으로
+ * 안쪽 [lo + 1, mid) 과 바깥쪽 [mid, hi) 으로 나뉨. 포인터 없이 배열 하나로 트리를 표현한다.
+ */
+public final class VpTree {
+    private static final int LEAF_SIZE = 8;
+
+    private final float[] data;
+    private final int dim;
+    private final DistanceMetric metric;
+    private final int[] items;
+    private final float[] thresholds;
+
+    public VpTree(float[] data, int dim, int size, DistanceMetric metric) {
+        if (!metric.isMetric()) {
+            throw new IllegalArgumentException("VP-tree requires a metric distance: " + metric);
+        }
+        this.data = data;
+        this.dim = dim;
+        this.metric = metric;
+        this.items = new int[size];
+        this.thresholds = new float[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+        }
+        float[] scratch = new float[size];
+        build(0, size, scratch);
+    }
+
+    public void search(float[] query, int queryOffset, KnnHeap heap) {
+        search(0, items.length, query, queryOffset, heap);
+    }
+
+    private void build(int lo, int hi, float[] scratch) {
+        if (hi - lo <= LEAF_SIZE) {
+            return;
+        }
+        int vpOffset = items[lo] * dim;
+        for (int i = lo + 1; i < hi; i++) {
+            scratch[i] = metric.distance(data, vpOffset, data, items[i] * dim, dim);
+        }
+        int mid = lo + 1 + (hi - lo - 1) / 2;
+        select(lo + 1, hi - 1, mid, scratch);
+        thresholds[lo] = scratch[mid];
+        build(lo + 1, mid, scratch);
+        build(mid, hi, scratch);
+    }
+
+    private void search(int lo, int hi, float[] query, int queryOffset, KnnHeap heap) {
+        if (hi - lo <= LEAF_SIZE) {
+            for (int i = lo; i < hi; i++) {
+                heap.offer(items[i], metric.distance(query, queryOffset, data, items[i] * dim, dim));
+            }
+            return;
+        }
+        float d = metric.distance(query, queryOffset, data, items[lo] * dim, dim);
+        heap.offer(items[lo], d);
+
+        int mid = lo + 1 + (hi - lo - 1) / 2;
+        float mu = thresholds[lo];
+        if (d < mu) {
+            if (d - heap.radius() <= mu) {
+                search(lo + 1, mid, query, queryOffset, heap);
+            }
+            if (d + heap.radius() >= mu) {
+                search(mid, hi, query, queryOffset, heap);
+            }
+        } else {
+            if (d + heap.radius() >= mu) {
+                search(mid, hi, query, queryOffset, heap);
+            }
+            if (d - heap.radius() <= mu) {
+                search(lo + 1, mid, query, queryOffset, heap);
+            }
+        }
+    }
+
+    // items[left..right] 를 거리 기준으로 부분 정렬하여 k 번째 원소를 제자리에 둠 (quickselect)
+    private void select(int left, int right, int k, float[] distances) {
+        while (left < right) {
+            float pivot = distances[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (distances[i] < pivot) i++;
+                while (distances[j] > pivot) j--;
+                if (i <= j) {
+                    swap(i, j, distances);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b, float[] distances) {
+        int item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        float distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+}
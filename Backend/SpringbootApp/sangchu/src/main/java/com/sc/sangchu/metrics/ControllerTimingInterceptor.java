@@ -0,0 +1,49 @@
+package com.sc.sangchu.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 컨트롤러 메서드 타이머 app.layer{layer="controller"}
+ * 핸들러 호출부터 응답 변환까지 (필터 / 보안 체인은 http.server.requests 에만 포함)
+ * 컨트롤러가 예외를 잡아 badRequest 로 내려주므로 outcome 은 응답 상태 코드로 판단
+ */
+@Component
+public class ControllerTimingInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = ControllerTimingInterceptor.class.getName() + ".start";
+
+    private final LayerMetrics layerMetrics;
+
+    @Autowired
+    public ControllerTimingInterceptor(MeterRegistry meterRegistry) {
+        this.layerMetrics = new LayerMetrics(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Mono 등 비동기 응답은 async dispatch 에서 preHandle 이 다시 불리므로 첫 dispatch 의 시작 시각을 유지
+        if (handler instanceof HandlerMethod && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        String outcome = ex == null && response.getStatus() < 400 ? LayerMetrics.SUCCESS : LayerMetrics.ERROR;
+        Timer timer = layerMetrics.timer("controller", handlerMethod.getBeanType().getSimpleName(),
+                handlerMethod.getMethod().getName(), outcome);
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sc.sangchu.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 계층별 응답 시간 타이머 app.layer (controller / repository / redis)
+ * 모든 계층이 같은 태그 layer, component, operation, outcome 를 써서 대시보드에서 계층끼리 p99 를 바로 비교
+ * repository 계층은 Spring Data 의 repository 메트릭 이름을 app.layer 로 바꾸고 LayerRepositoryTagsProvider 로 같은 태그를 붙임
+ * 히스토그램 버킷은 management.metrics.distribution.percentiles-histogram.app.layer 로 켬
+ */
+public class LayerMetrics {
+    public static final String METRIC = "app.layer";
+    public static final String LAYER = "layer";
+    public static final String COMPONENT = "component";
+    public static final String OPERATION = "operation";
+    public static final String OUTCOME = "outcome";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+
+    private final MeterRegistry meterRegistry;
+    // 요청마다 Meter.Id 를 새로 만들지 않도록 태그 조합별로 보관
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+
+    public LayerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer timer(String layer, String component, String operation, String outcome) {
+        return timers.computeIfAbsent(List.of(layer, component, operation, outcome), key -> Timer.builder(METRIC)
+                .tag(LAYER, layer)
+                .tag(COMPONENT, component)
+                .tag(OPERATION, operation)
+                .tag(OUTCOME, outcome)
+                .register(meterRegistry));
+    }
+}
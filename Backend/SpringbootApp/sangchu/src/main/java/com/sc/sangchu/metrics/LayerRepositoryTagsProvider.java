@@ -0,0 +1,23 @@
+package com.sc.sangchu.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+import org.springframework.stereotype.Component;
+
+// Spring Data repository 호출 타이머(app.layer)에 controller / redis 계층과 같은 태그를 붙임
+@Component
+public class LayerRepositoryTagsProvider implements RepositoryTagsProvider {
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        State state = invocation.getResult() == null ? State.SUCCESS : invocation.getResult().getState();
+        return Tags.of(
+                LayerMetrics.LAYER, "repository",
+                LayerMetrics.COMPONENT, invocation.getRepositoryInterface().getSimpleName(),
+                LayerMetrics.OPERATION, invocation.getMethod().getName(),
+                LayerMetrics.OUTCOME, state == State.SUCCESS ? LayerMetrics.SUCCESS : LayerMetrics.ERROR);
+    }
+}
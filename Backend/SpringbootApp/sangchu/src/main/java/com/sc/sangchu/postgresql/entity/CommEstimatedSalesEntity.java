@@ -3,6 +3,7 @@ package com.sc.sangchu.postgresql.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.*;
 
@@ -11,7 +12,9 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "comm_estimated_sales_tb")
+// 분기 / 업종별 상권 매출 조회 (업종 순위, 상권 코드 IN)
+@Table(name = "comm_estimated_sales_tb",
+        indexes = @Index(name = "idx_comm_estimated_sales_period_service", columnList = "year_code, quarter_code, service_code, commercial_district_code"))
 public class CommEstimatedSalesEntity {
 
     @Id
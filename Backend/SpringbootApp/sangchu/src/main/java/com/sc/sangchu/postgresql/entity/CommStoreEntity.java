@@ -3,6 +3,7 @@ package com.sc.sangchu.postgresql.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.*;
 
@@ -11,7 +12,9 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "comm_store_tb")
+// 분기별 상권 점포 수 조회 (상권 코드 IN)
+@Table(name = "comm_store_tb",
+        indexes = @Index(name = "idx_comm_store_period_district", columnList = "year_code, quarter_code, commercial_district_code"))
 public class CommStoreEntity {
     @Id
     @Column(name = "id")
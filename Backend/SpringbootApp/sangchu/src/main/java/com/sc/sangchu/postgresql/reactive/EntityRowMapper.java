@@ -0,0 +1,64 @@
+package com.sc.sangchu.postgresql.reactive;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import jakarta.persistence.Column;
+import jakarta.persistence.Table;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/*
+ * JPA 엔티티의 @Table / @Column 매핑 그대로 R2DBC 행을 엔티티로 변환
+ * Spring Data R2DBC 매핑(카멜 -> 스네이크 변환)은 major_category_code_name 처럼 필드 이름과 다른 컬럼을 못 따라가므로
+ * JPA 매핑을 한 곳에서 유지하고 반응형 조회도 같은 엔티티 타입을 돌려줌 (계산 로직 공유)
+ */
+final class EntityRowMapper<T> implements BiFunction<Row, RowMetadata, T> {
+    private final String table;
+    private final Constructor<T> constructor;
+    private final List<Field> fields = new ArrayList<>();
+    private final List<String> columns = new ArrayList<>();
+
+    EntityRowMapper(Class<T> entity) {
+        this.table = entity.getAnnotation(Table.class).name();
+        try {
+            this.constructor = entity.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(entity.getName() + " 에 기본 생성자가 없습니다.", e);
+        }
+        for (Field field : entity.getDeclaredFields()) {
+            Column column = field.getAnnotation(Column.class);
+            if (column == null) continue;
+            field.setAccessible(true);
+            fields.add(field);
+            columns.add(column.name());
+        }
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    // SELECT 목록 (엔티티에 매핑된 컬럼만)
+    String getColumns() {
+        return String.join(", ", columns);
+    }
+
+    @Override
+    public T apply(Row row, RowMetadata metadata) {
+        try {
+            T entity = constructor.newInstance();
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                field.set(entity, row.get(i, field.getType()));
+            }
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(table + " 행을 엔티티로 변환하지 못했습니다.", e);
+        }
+    }
+}
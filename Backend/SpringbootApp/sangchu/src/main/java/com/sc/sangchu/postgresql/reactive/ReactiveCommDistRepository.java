@@ -0,0 +1,98 @@
+package com.sc.sangchu.postgresql.reactive;
+
+import com.sc.sangchu.dto.infra.CommStoreTotalCountDTO;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
+import com.sc.sangchu.postgresql.entity.CommResidentPopulationEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/*
+ * 상권 / 상권별 지표 R2DBC 조회 (CommDistRepository, CommStoreRepository, Comm*PopulationRepository 의 반응형 대응)
+ */
+@Repository
+public class ReactiveCommDistRepository {
+    private static final EntityRowMapper<CommDistEntity> COMM_DIST = new EntityRowMapper<>(CommDistEntity.class);
+    private static final EntityRowMapper<CommFloatingPopulationEntity> FLOATING =
+            new EntityRowMapper<>(CommFloatingPopulationEntity.class);
+    private static final EntityRowMapper<CommResidentPopulationEntity> RESIDENT =
+            new EntityRowMapper<>(CommResidentPopulationEntity.class);
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveCommDistRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<CommDistEntity> findByCommercialDistrictCode(Long commercialDistrictCode) {
+        return databaseClient.sql("SELECT " + COMM_DIST.getColumns() + " FROM " + COMM_DIST.getTable()
+                        + " WHERE commercial_district_code = :commCode")
+                .bind("commCode", commercialDistrictCode)
+                .map(COMM_DIST)
+                .first();
+    }
+
+    public Flux<CommDistEntity> findByGuCode(Long guCode) {
+        return databaseClient.sql("SELECT " + COMM_DIST.getColumns() + " FROM " + COMM_DIST.getTable()
+                        + " WHERE gu_code = :guCode")
+                .bind("guCode", guCode)
+                .map(COMM_DIST)
+                .all();
+    }
+
+    // 자치구 상권 중 총점 상위 limit 개 (정렬 / 자르기를 DB 에서)
+    public Flux<CommDistEntity> findTopByGuCode(Long guCode, int limit) {
+        return databaseClient.sql("SELECT " + COMM_DIST.getColumns() + " FROM " + COMM_DIST.getTable()
+                        + " WHERE gu_code = :guCode ORDER BY commercial_district_total_score DESC NULLS LAST LIMIT :limit")
+                .bind("guCode", guCode)
+                .bind("limit", limit)
+                .map(COMM_DIST)
+                .all();
+    }
+
+    // 상권 코드 목록의 업종 점포 수 합계 (상권당 한 행)
+    public Flux<CommStoreTotalCountDTO> findStoreTotalCounts(Integer year, Integer quarter, Collection<Long> commCodes) {
+        return databaseClient.sql("""
+                        SELECT commercial_district_code, SUM(store_count)::bigint AS total_store_count
+                          FROM comm_store_tb
+                         WHERE commercial_district_code IN (:commCodes)
+                           AND year_code = :year
+                           AND quarter_code = :quarter
+                         GROUP BY commercial_district_code""")
+                .bind("commCodes", commCodes)
+                .bind("year", year)
+                .bind("quarter", quarter)
+                .map(row -> CommStoreTotalCountDTO.builder()
+                        .commCode(row.get(0, Long.class))
+                        .totalStoreCount(row.get(1, Long.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<CommFloatingPopulationEntity> findFloatingPopulations(Collection<Long> commCodes, Integer year,
+                                                                      Integer quarter) {
+        return findQuarterly(FLOATING, commCodes, year, quarter);
+    }
+
+    public Flux<CommResidentPopulationEntity> findResidentPopulations(Collection<Long> commCodes, Integer year,
+                                                                      Integer quarter) {
+        return findQuarterly(RESIDENT, commCodes, year, quarter);
+    }
+
+    private <T> Flux<T> findQuarterly(EntityRowMapper<T> mapper, Collection<Long> commCodes, Integer year,
+                                      Integer quarter) {
+        return databaseClient.sql("SELECT " + mapper.getColumns() + " FROM " + mapper.getTable()
+                        + " WHERE commercial_district_code IN (:commCodes) AND year_code = :year AND quarter_code = :quarter")
+                .bind("commCodes", commCodes)
+                .bind("year", year)
+                .bind("quarter", quarter)
+                .map(mapper)
+                .all();
+    }
+}
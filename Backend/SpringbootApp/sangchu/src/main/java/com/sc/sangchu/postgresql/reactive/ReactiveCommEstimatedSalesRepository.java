@@ -0,0 +1,103 @@
+package com.sc.sangchu.postgresql.reactive;
+
+import com.sc.sangchu.dto.CommDistSetRankDTO;
+import com.sc.sangchu.dto.sales.CommQuarterlyGraphDTO;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * 추정 매출 R2DBC 조회 (CommEstimatedSalesRepository 의 반응형 대응, 같은 조건 / 같은 결과 타입)
+ */
+@Repository
+public class ReactiveCommEstimatedSalesRepository {
+    private static final EntityRowMapper<CommEstimatedSalesEntity> SALES =
+            new EntityRowMapper<>(CommEstimatedSalesEntity.class);
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveCommEstimatedSalesRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<CommEstimatedSalesEntity> findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            int year, Long commCode, String majorCategory) {
+        return databaseClient.sql("SELECT " + SALES.getColumns() + " FROM " + SALES.getTable()
+                        + " WHERE year_code = :year AND commercial_district_code = :commCode"
+                        + " AND major_category_code_name = :majorCategory")
+                .bind("year", year)
+                .bind("commCode", commCode)
+                .bind("majorCategory", majorCategory)
+                .map(SALES)
+                .all();
+    }
+
+    public Mono<CommEstimatedSalesEntity> findByYearCodeAndQuarterCodeAndCommercialDistrictCodeAndServiceCode(
+            int year, int quarter, Long commCode, String serviceCode) {
+        return databaseClient.sql("SELECT " + SALES.getColumns() + " FROM " + SALES.getTable()
+                        + " WHERE year_code = :year AND quarter_code = :quarter"
+                        + " AND commercial_district_code = :commCode AND service_code = :serviceCode")
+                .bind("year", year)
+                .bind("quarter", quarter)
+                .bind("commCode", commCode)
+                .bind("serviceCode", serviceCode)
+                .map(SALES)
+                .first();
+    }
+
+    // 상권 코드 목록의 업종 매출 (자치구 단위 조회를 한 번에)
+    public Flux<CommEstimatedSalesEntity> findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+            int year, int quarter, String serviceCode, Collection<Long> commCodes) {
+        return databaseClient.sql("SELECT " + SALES.getColumns() + " FROM " + SALES.getTable()
+                        + " WHERE year_code = :year AND quarter_code = :quarter"
+                        + " AND service_code = :serviceCode AND commercial_district_code IN (:commCodes)")
+                .bind("year", year)
+                .bind("quarter", quarter)
+                .bind("serviceCode", serviceCode)
+                .bind("commCodes", commCodes)
+                .map(SALES)
+                .all();
+    }
+
+    public Flux<CommQuarterlyGraphDTO> findByQuarterlyData(Long commCode, String majorCategory, List<Integer> years) {
+        return databaseClient.sql("""
+                        SELECT year_code, quarter_code, SUM(week_days_sales), SUM(weekend_sales)
+                          FROM comm_estimated_sales_tb
+                         WHERE commercial_district_code = :commCode
+                           AND major_category_code_name = :majorCategory
+                           AND year_code IN (:years)
+                         GROUP BY year_code, quarter_code
+                         ORDER BY year_code, quarter_code""")
+                .bind("commCode", commCode)
+                .bind("majorCategory", majorCategory)
+                .bind("years", years)
+                .map(row -> new CommQuarterlyGraphDTO(row.get(0, Integer.class), row.get(1, Integer.class),
+                        row.get(2, Double.class), row.get(3, Double.class)))
+                .all();
+    }
+
+    public Flux<CommDistSetRankDTO> findByRank(int year, int quarter, String serviceCode) {
+        return databaseClient.sql("""
+                        SELECT commercial_district_code,
+                               row_number() OVER (ORDER BY commercial_service_total_score DESC)
+                          FROM comm_estimated_sales_tb
+                         WHERE year_code = :year
+                           AND quarter_code = :quarter
+                           AND service_code = :serviceCode""")
+                .bind("year", year)
+                .bind("quarter", quarter)
+                .bind("serviceCode", serviceCode)
+                .map(row -> CommDistSetRankDTO.builder()
+                        .commCode(row.get(0, Long.class))
+                        .rank(row.get(1, Long.class))
+                        .build())
+                .all();
+    }
+}
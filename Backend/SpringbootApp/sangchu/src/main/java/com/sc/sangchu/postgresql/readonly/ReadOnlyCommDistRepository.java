@@ -0,0 +1,52 @@
+package com.sc.sangchu.postgresql.readonly;
+
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/*
+ * 상권 전체 조회용 읽기 전용 저장소 (CommDistRepository.findAll 대체)
+ * 인덱스 / 스냅샷 생성처럼 전체를 목록으로 쓰는 곳은 findAll, 한 행씩 변환하면 되는 곳은 streamAll
+ */
+@Repository
+public class ReadOnlyCommDistRepository {
+    private final StatelessReads statelessReads;
+
+    @Autowired
+    public ReadOnlyCommDistRepository(StatelessReads statelessReads) {
+        this.statelessReads = statelessReads;
+    }
+
+    public List<CommDistEntity> findAll() {
+        return statelessReads.read(session -> session
+                .createSelectionQuery("FROM CommDistEntity", CommDistEntity.class)
+                .setFetchSize(statelessReads.getFetchSize())
+                .getResultList());
+    }
+
+    // stream 은 reader 안에서만 유효 (끝나면 커서와 연결을 닫음), 변환한 결과만 밖으로 돌려줄 것
+    public <R> R streamAll(Function<Stream<CommDistEntity>, R> reader) {
+        return statelessReads.read(session -> {
+            try (Stream<CommDistEntity> stream = session
+                    .createSelectionQuery("FROM CommDistEntity", CommDistEntity.class)
+                    .setFetchSize(statelessReads.getFetchSize())
+                    .getResultStream()) {
+                return reader.apply(stream);
+            }
+        });
+    }
+
+    // 상권 총점 상위 limit 개 (정렬은 DB 에서, 점수 없는 상권은 뒤로)
+    public List<CommDistEntity> findTopByCommercialDistrictScore(int limit) {
+        return statelessReads.read(session -> session
+                .createSelectionQuery("""
+                        FROM CommDistEntity c
+                        ORDER BY c.commercialDistrictScore DESC NULLS LAST""", CommDistEntity.class)
+                .setMaxResults(limit)
+                .getResultList());
+    }
+}
@@ -0,0 +1,36 @@
+package com.sc.sangchu.postgresql.readonly;
+
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/*
+ * 추정 매출(61개 컬럼) 그래프 조회용 읽기 전용 저장소
+ * 조건 / 결과는 CommEstimatedSalesRepository 의 같은 이름 메서드와 같음
+ */
+@Repository
+public class ReadOnlyCommEstimatedSalesRepository {
+    private final StatelessReads statelessReads;
+
+    @Autowired
+    public ReadOnlyCommEstimatedSalesRepository(StatelessReads statelessReads) {
+        this.statelessReads = statelessReads;
+    }
+
+    public List<CommEstimatedSalesEntity> findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            int year, Long commCode, String majorCategory) {
+        return statelessReads.read(session -> session
+                .createSelectionQuery("""
+                        FROM CommEstimatedSalesEntity c
+                        WHERE c.yearCode = :year
+                          AND c.commercialDistrictCode = :commCode
+                          AND c.majorCategoryName = :majorCategory""", CommEstimatedSalesEntity.class)
+                .setParameter("year", year)
+                .setParameter("commCode", commCode)
+                .setParameter("majorCategory", majorCategory)
+                .setFetchSize(statelessReads.getFetchSize())
+                .getResultList());
+    }
+}
@@ -0,0 +1,51 @@
+package com.sc.sangchu.postgresql.readonly;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/*
+ * 영속성 컨텍스트 없이 읽는 조회 (Hibernate StatelessSession)
+ * 엔티티를 1차 캐시에 올리지 않아 EntityEntry / 스냅샷이 없고, open-in-view 로 요청이 끝날 때까지 붙잡히지도 않음
+ * 조회마다 읽기 전용 트랜잭션(BEGIN READ ONLY) 안에서 fetchSize 행씩 가져옴
+ * (PostgreSQL 드라이버는 자동 커밋이면 fetchSize 를 무시하고 결과 전체를 한 번에 메모리로 읽음)
+ * 돌려주는 엔티티는 detached 상태라 변경해도 DB 에 반영되지 않음
+ */
+@Component
+public class StatelessReads {
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+
+    @Autowired
+    public StatelessReads(EntityManagerFactory entityManagerFactory,
+                          @Value("${sql.read.fetch-size:256}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public <R> R read(Function<StatelessSession, R> work) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            // 트랜잭션 시작 전에만 바꿀 수 있음, 연결을 풀에 돌려줄 때 Hikari 가 원래대로 되돌림
+            session.doWork(connection -> connection.setReadOnly(true));
+            Transaction transaction = session.beginTransaction();
+            try {
+                R result = work.apply(session);
+                transaction.commit();
+                return result;
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) transaction.rollback();
+                throw e;
+            }
+        }
+    }
+}
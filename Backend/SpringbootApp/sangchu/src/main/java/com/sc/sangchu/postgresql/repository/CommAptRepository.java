@@ -4,7 +4,10 @@ import com.sc.sangchu.postgresql.entity.CommAptEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CommAptRepository extends JpaRepository<CommAptEntity, Integer> {
     CommAptEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCode (Long commercialDistrictCode, Integer year, Integer quarter);
+    List<CommAptEntity> findAllByYearCodeAndQuarterCode (Integer year, Integer quarter);
 }
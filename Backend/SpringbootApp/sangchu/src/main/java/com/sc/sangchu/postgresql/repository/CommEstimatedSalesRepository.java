@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,12 @@ public interface CommEstimatedSalesRepository extends JpaRepository<CommEstimate
 
     List<CommEstimatedSalesEntity> findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(int year, Long commCode, String majorCategory);
 
+    List<CommEstimatedSalesEntity> findByYearCodeAndQuarterCode(int year, int quarter);
+
+    // 적재된 기간 (연도 * 10 + 분기)
+    @Query("SELECT DISTINCT c.yearCode * 10 + c.quarterCode FROM CommEstimatedSalesEntity c")
+    List<Integer> findPeriods();
+
     @Query("""
             SELECT new com.sc.sangchu.dto.sales.CommQuarterlyGraphDTO(c.yearCode, c.quarterCode, sum(c.weekDaysSales), sum(c.weekendSales))
             FROM CommEstimatedSalesEntity c
@@ -31,6 +38,10 @@ public interface CommEstimatedSalesRepository extends JpaRepository<CommEstimate
 
     CommEstimatedSalesEntity findByYearCodeAndQuarterCodeAndCommercialDistrictCodeAndServiceCode(int year, int quarter, Long commCode, String serviceCode);
 
+    // 여러 상권의 업종 매출을 한 번에 조회 (상권별 조회 N+1 대신 IN)
+    List<CommEstimatedSalesEntity> findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+            int year, int quarter, String serviceCode, Collection<Long> commCodes);
+
     @Query("""
             SELECT new com.sc.sangchu.dto.CommDistSetRankDTO(c.commercialDistrictCode ,row_number() over (order by c.commercialServiceTotalScore DESC))
               FROM CommEstimatedSalesEntity c 
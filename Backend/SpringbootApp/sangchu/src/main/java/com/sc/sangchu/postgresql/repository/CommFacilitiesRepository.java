@@ -4,7 +4,10 @@ import com.sc.sangchu.postgresql.entity.CommFacilitiesEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CommFacilitiesRepository extends JpaRepository<CommFacilitiesEntity, Integer> {
     CommFacilitiesEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCode(Long commercialDistrictCode, Integer year, Integer quarter);
+    List<CommFacilitiesEntity> findAllByYearCodeAndQuarterCode(Integer year, Integer quarter);
 }
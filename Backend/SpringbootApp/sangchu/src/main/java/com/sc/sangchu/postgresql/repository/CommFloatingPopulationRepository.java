@@ -2,12 +2,20 @@ package com.sc.sangchu.postgresql.repository;
 
 import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommFloatingPopulationRepository extends JpaRepository<CommFloatingPopulationEntity, Integer> {
     CommFloatingPopulationEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCode(Long commCode, Integer year, Integer quarter);
+    List<CommFloatingPopulationEntity> findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(Integer year, Integer quarter, Collection<Long> commCodes);
     List<CommFloatingPopulationEntity> findAllByCommercialDistrictCode(Long commCode);
+    List<CommFloatingPopulationEntity> findAllByYearCodeAndQuarterCode(Integer year, Integer quarter);
+
+    // 적재된 기간 (연도 * 10 + 분기)
+    @Query("SELECT DISTINCT c.yearCode * 10 + c.quarterCode FROM CommFloatingPopulationEntity c")
+    List<Integer> findPeriods();
 }
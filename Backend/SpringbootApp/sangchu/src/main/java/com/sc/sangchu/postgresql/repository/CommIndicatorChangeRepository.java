@@ -4,8 +4,11 @@ import com.sc.sangchu.postgresql.entity.CommIndicatorChangeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CommIndicatorChangeRepository extends JpaRepository<CommIndicatorChangeEntity, Integer> {
     // 조회
     CommIndicatorChangeEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCode (Long commercialDistrictCode, Integer year, Integer quarter);
+    List<CommIndicatorChangeEntity> findAllByYearCodeAndQuarterCode (Integer year, Integer quarter);
 }
@@ -3,10 +3,13 @@ package com.sc.sangchu.postgresql.repository;
 import com.sc.sangchu.postgresql.entity.CommResidentPopulationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommResidentPopulationRepository extends JpaRepository<CommResidentPopulationEntity, Integer> {
     CommResidentPopulationEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCode(Long commCode, Integer year, Integer quarter);
+    List<CommResidentPopulationEntity> findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(Integer year, Integer quarter, Collection<Long> commCodes);
     List<CommResidentPopulationEntity> findAllByCommercialDistrictCode(Long commCode);
+    List<CommResidentPopulationEntity> findAllByYearCodeAndQuarterCode(Integer year, Integer quarter);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,8 @@ public interface CommStoreRepository extends JpaRepository<CommStoreEntity, Inte
     List<CommStoreEntity> findByCommercialDistrictCodeAndYearCodeAndQuarterCode(
             Long commercialDistrictCode, Integer year, Integer quarter);
 
+    List<CommStoreEntity> findAllByYearCodeAndQuarterCode(Integer year, Integer quarter);
+
     CommStoreEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCodeAndServiceCode(
             Long commercialDistrictCode, Integer year, Integer quarter, String serviceCode
     );
@@ -28,4 +31,16 @@ public interface CommStoreRepository extends JpaRepository<CommStoreEntity, Inte
             """)
     CommStoreTotalCountDTO findStoreTotalCount(@Param("year")Integer year, @Param("quarter") Integer quarter,
                                                @Param("commCode")Long commCode);
+
+    // 여러 상권의 총 점포 수를 한 번에 조회
+    @Query("""
+            SELECT new com.sc.sangchu.dto.infra.CommStoreTotalCountDTO(c.commercialDistrictCode, SUM(c.storeCount))
+            FROM CommStoreEntity c
+            WHERE c.commercialDistrictCode IN :commCodes
+            AND c.yearCode = :year
+            AND c.quarterCode = :quarter
+            GROUP BY c.commercialDistrictCode
+            """)
+    List<CommStoreTotalCountDTO> findStoreTotalCounts(@Param("year")Integer year, @Param("quarter") Integer quarter,
+                                                      @Param("commCodes") Collection<Long> commCodes);
 }
@@ -10,4 +10,5 @@ import java.util.List;
 public interface CommWorkingPopulationRepository extends JpaRepository<CommWorkingPopulationEntity, Integer> {
     CommWorkingPopulationEntity findByCommercialDistrictCodeAndYearCodeAndQuarterCode(Long commCode, Integer year, Integer quarter);
     List<CommWorkingPopulationEntity> findAllByCommercialDistrictCode(Long commCode);
+    List<CommWorkingPopulationEntity> findAllByYearCodeAndQuarterCode(Integer year, Integer quarter);
 }
@@ -1,9 +1,7 @@
 package com.sc.sangchu.postgresql.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sc.sangchu.chart.*;
 import com.sc.sangchu.dto.consumer.CommFloatingPopulationDTO;
 import com.sc.sangchu.dto.consumer.CommResidentPopulationDTO;
 import com.sc.sangchu.dto.consumer.CommWorkingPopulationDTO;
@@ -14,7 +12,6 @@ import com.sc.sangchu.postgresql.repository.CommFloatingPopulationRepository;
 import com.sc.sangchu.postgresql.repository.CommResidentPopulationRepository;
 import com.sc.sangchu.postgresql.repository.CommWorkingPopulationRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -27,7 +24,7 @@ public class CommConsumerGraphService {
     private final CommFloatingPopulationRepository commFloatingPopulationRepository;
     private final CommResidentPopulationRepository commResidentPopulationRepository;
     private final CommWorkingPopulationRepository commWorkingPopulationRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChartCache chartCache;
     private final ObjectMapper objectMapper;
     private static final Integer YEAR_LIMIT = LocalDate.now().getYear()-2;
     private static final Integer YEAR = LocalDate.now().getYear()-1;
@@ -36,12 +33,12 @@ public class CommConsumerGraphService {
     public CommConsumerGraphService(CommFloatingPopulationRepository commFloatingPopulationRepository,
                                     ObjectMapper objectMapper,
                                     CommResidentPopulationRepository commResidentPopulationRepository,
-                                    CommWorkingPopulationRepository commWorkingPopulationRepository, RedisTemplate<String, Object> redisTemplate) {
+                                    CommWorkingPopulationRepository commWorkingPopulationRepository, ChartCache chartCache) {
         this.commFloatingPopulationRepository = commFloatingPopulationRepository;
         this.objectMapper = objectMapper;
         this.commResidentPopulationRepository = commResidentPopulationRepository;
         this.commWorkingPopulationRepository = commWorkingPopulationRepository;
-        this.redisTemplate = redisTemplate;
+        this.chartCache = chartCache;
     }
 
     // 연령별 유동인구 그래프
@@ -50,11 +47,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommFloatingPopulationDTO.builder()
                         .age(cachedData)
                         .build();
@@ -63,38 +58,20 @@ public class CommConsumerGraphService {
                     commFloatingPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                         YEAR, QUARTER);
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("10대");
-            categories.add("20대");
-            categories.add("30대");
-            categories.add("40대");
-            categories.add("50대");
-            categories.add("60대 이상");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "유동인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(entity.getAge10FloatingPopulation());
-            seriesDataNode.add(entity.getAge20FloatingPopulation());
-            seriesDataNode.add(entity.getAge30FloatingPopulation());
-            seriesDataNode.add(entity.getAge40FloatingPopulation());
-            seriesDataNode.add(entity.getAge50FloatingPopulation());
-            seriesDataNode.add(entity.getAgeOver60FloatingPopulation());
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.AGE)
+                    .series(new ChartObject()
+                            .put("name", "유동인구 수")
+                            .putArray("data", entity.getAge10FloatingPopulation(),
+                                    entity.getAge20FloatingPopulation(),
+                                    entity.getAge30FloatingPopulation(),
+                                    entity.getAge40FloatingPopulation(),
+                                    entity.getAge50FloatingPopulation(),
+                                    entity.getAgeOver60FloatingPopulation()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommFloatingPopulationDTO.builder()
                     .age(chartData)
@@ -111,11 +88,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommFloatingPopulationDTO.builder()
                         .time(cachedData)
                         .build();
@@ -125,38 +100,20 @@ public class CommConsumerGraphService {
                     commFloatingPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                         YEAR, QUARTER);
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("0-6시");
-            categories.add("6-11시");
-            categories.add("11-14시");
-            categories.add("14-17시");
-            categories.add("17-21시");
-            categories.add("21-24시");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "유동인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(entity.getTime00To06FloatingPopulation());
-            seriesDataNode.add(entity.getTime06To11FloatingPopulation());
-            seriesDataNode.add(entity.getTime11To14FloatingPopulation());
-            seriesDataNode.add(entity.getTime14To17FloatingPopulation());
-            seriesDataNode.add(entity.getTime17To21FloatingPopulation());
-            seriesDataNode.add(entity.getTime21To24FloatingPopulation());
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.FLOATING_TIME)
+                    .series(new ChartObject()
+                            .put("name", "유동인구 수")
+                            .putArray("data", entity.getTime00To06FloatingPopulation(),
+                                    entity.getTime06To11FloatingPopulation(),
+                                    entity.getTime11To14FloatingPopulation(),
+                                    entity.getTime14To17FloatingPopulation(),
+                                    entity.getTime17To21FloatingPopulation(),
+                                    entity.getTime21To24FloatingPopulation()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommFloatingPopulationDTO.builder()
                     .time(chartData)
@@ -173,11 +130,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommFloatingPopulationDTO.builder()
                         .day(cachedData)
                         .build();
@@ -187,40 +142,21 @@ public class CommConsumerGraphService {
                     commFloatingPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                         YEAR, QUARTER);
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("월요일");
-            categories.add("화요일");
-            categories.add("수요일");
-            categories.add("목요일");
-            categories.add("금요일");
-            categories.add("토요일");
-            categories.add("일요일");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "유동인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(entity.getMonFloatingPopulation());
-            seriesDataNode.add(entity.getTueFloatingPopulation());
-            seriesDataNode.add(entity.getWedFloatingPopulation());
-            seriesDataNode.add(entity.getThuFloatingPopulation());
-            seriesDataNode.add(entity.getFriFloatingPopulation());
-            seriesDataNode.add(entity.getSatFloatingPopulation());
-            seriesDataNode.add(entity.getSunFloatingPopulation());
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.FLOATING_DAY)
+                    .series(new ChartObject()
+                            .put("name", "유동인구 수")
+                            .putArray("data", entity.getMonFloatingPopulation(),
+                                    entity.getTueFloatingPopulation(),
+                                    entity.getWedFloatingPopulation(),
+                                    entity.getThuFloatingPopulation(),
+                                    entity.getFriFloatingPopulation(),
+                                    entity.getSatFloatingPopulation(),
+                                    entity.getSunFloatingPopulation()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommFloatingPopulationDTO.builder()
                     .day(chartData)
@@ -238,11 +174,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommFloatingPopulationDTO.builder()
                         .quarterlyTrends(cachedData)
                         .build();
@@ -257,37 +191,17 @@ public class CommConsumerGraphService {
                             .thenComparing(CommFloatingPopulationEntity::getQuarterCode))
                     .toList();
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("2022 1분기");
-            categories.add("2022 2분기");
-            categories.add("2022 3분기");
-            categories.add("2022 4분기");
-            categories.add("2023 1분기");
-            categories.add("2023 2분기");
-            categories.add("2023 3분기");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "유동인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-
-            for (CommFloatingPopulationEntity entity : sortedEntities)
-                seriesDataNode.add(entity.getTotalFloatingPopulation());
-
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.QUARTERLY_TRENDS)
+                    .series(new ChartObject()
+                            .put("name", "유동인구 수")
+                            .putArray("data", sortedEntities.stream()
+                                            .map(CommFloatingPopulationEntity::getTotalFloatingPopulation)
+                                            .toList()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommFloatingPopulationDTO.builder()
                     .quarterlyTrends(chartData)
@@ -305,11 +219,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommResidentPopulationDTO.builder()
                         .genderAge(cachedData)
                         .build();
@@ -318,51 +230,26 @@ public class CommConsumerGraphService {
                     commResidentPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                         YEAR, QUARTER);
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("10대 남성");
-            categories.add("20대 남성");
-            categories.add("30대 남성");
-            categories.add("40대 남성");
-            categories.add("50대 남성");
-            categories.add("60대 이상 남성");
-            categories.add("10대 여성");
-            categories.add("20대 여성");
-            categories.add("30대 여성");
-            categories.add("40대 여성");
-            categories.add("50대 여성");
-            categories.add("60대 이상 여성");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "상주인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(entity.getMaleAge10ResidentPopulation());
-            seriesDataNode.add(entity.getMaleAge20ResidentPopulation());
-            seriesDataNode.add(entity.getMaleAge30ResidentPopulation());
-            seriesDataNode.add(entity.getMaleAge40ResidentPopulation());
-            seriesDataNode.add(entity.getMaleAge50ResidentPopulation());
-            seriesDataNode.add(entity.getMaleAgeOver60ResidentPopulation());
-            seriesDataNode.add(entity.getFemaleAge10ResidentPopulation());
-            seriesDataNode.add(entity.getFemaleAge20ResidentPopulation());
-            seriesDataNode.add(entity.getFemaleAge30ResidentPopulation());
-            seriesDataNode.add(entity.getFemaleAge40ResidentPopulation());
-            seriesDataNode.add(entity.getFemaleAge50ResidentPopulation());
-            seriesDataNode.add(entity.getFemaleAgeOver60ResidentPopulation());
-
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.GENDER_AGE)
+                    .series(new ChartObject()
+                            .put("name", "상주인구 수")
+                            .putArray("data", entity.getMaleAge10ResidentPopulation(),
+                                    entity.getMaleAge20ResidentPopulation(),
+                                    entity.getMaleAge30ResidentPopulation(),
+                                    entity.getMaleAge40ResidentPopulation(),
+                                    entity.getMaleAge50ResidentPopulation(),
+                                    entity.getMaleAgeOver60ResidentPopulation(),
+                                    entity.getFemaleAge10ResidentPopulation(),
+                                    entity.getFemaleAge20ResidentPopulation(),
+                                    entity.getFemaleAge30ResidentPopulation(),
+                                    entity.getFemaleAge40ResidentPopulation(),
+                                    entity.getFemaleAge50ResidentPopulation(),
+                                    entity.getFemaleAgeOver60ResidentPopulation()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommResidentPopulationDTO.builder()
                     .genderAge(chartData)
@@ -380,11 +267,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommResidentPopulationDTO.builder()
                         .quarterlyTrends(cachedData)
                         .build();
@@ -399,37 +284,17 @@ public class CommConsumerGraphService {
                             .thenComparing(CommResidentPopulationEntity::getQuarterCode))
                     .toList();
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("2022 1분기");
-            categories.add("2022 2분기");
-            categories.add("2022 3분기");
-            categories.add("2022 4분기");
-            categories.add("2023 1분기");
-            categories.add("2023 2분기");
-            categories.add("2023 3분기");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "상주 인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-
-            for (CommResidentPopulationEntity entity : sortedEntities)
-                seriesDataNode.add(entity.getTotalResidentPopulation());
-
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.QUARTERLY_TRENDS)
+                    .series(new ChartObject()
+                            .put("name", "상주 인구 수")
+                            .putArray("data", sortedEntities.stream()
+                                            .map(CommResidentPopulationEntity::getTotalResidentPopulation)
+                                            .toList()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommResidentPopulationDTO.builder()
                     .quarterlyTrends(chartData)
@@ -446,11 +311,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommWorkingPopulationDTO.builder()
                         .genderAge(cachedData)
                         .build();
@@ -460,51 +323,26 @@ public class CommConsumerGraphService {
                     commWorkingPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                         YEAR, QUARTER);
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("10대 남성");
-            categories.add("20대 남성");
-            categories.add("30대 남성");
-            categories.add("40대 남성");
-            categories.add("50대 남성");
-            categories.add("60대 이상 남성");
-            categories.add("10대 여성");
-            categories.add("20대 여성");
-            categories.add("30대 여성");
-            categories.add("40대 여성");
-            categories.add("50대 여성");
-            categories.add("60대 이상 여성");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "직장인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(entity.getMaleAge10WorkingPopulation());
-            seriesDataNode.add(entity.getMaleAge20WorkingPopulation());
-            seriesDataNode.add(entity.getMaleAge30WorkingPopulation());
-            seriesDataNode.add(entity.getMaleAge40WorkingPopulation());
-            seriesDataNode.add(entity.getMaleAge50WorkingPopulation());
-            seriesDataNode.add(entity.getMaleAgeOver60WorkingPopulation());
-            seriesDataNode.add(entity.getFemaleAge10WorkingPopulation());
-            seriesDataNode.add(entity.getFemaleAge20WorkingPopulation());
-            seriesDataNode.add(entity.getFemaleAge30WorkingPopulation());
-            seriesDataNode.add(entity.getFemaleAge40WorkingPopulation());
-            seriesDataNode.add(entity.getFemaleAge50WorkingPopulation());
-            seriesDataNode.add(entity.getFemaleAgeOver60WorkingPopulation());
-
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.GENDER_AGE)
+                    .series(new ChartObject()
+                            .put("name", "직장인구 수")
+                            .putArray("data", entity.getMaleAge10WorkingPopulation(),
+                                    entity.getMaleAge20WorkingPopulation(),
+                                    entity.getMaleAge30WorkingPopulation(),
+                                    entity.getMaleAge40WorkingPopulation(),
+                                    entity.getMaleAge50WorkingPopulation(),
+                                    entity.getMaleAgeOver60WorkingPopulation(),
+                                    entity.getFemaleAge10WorkingPopulation(),
+                                    entity.getFemaleAge20WorkingPopulation(),
+                                    entity.getFemaleAge30WorkingPopulation(),
+                                    entity.getFemaleAge40WorkingPopulation(),
+                                    entity.getFemaleAge50WorkingPopulation(),
+                                    entity.getFemaleAgeOver60WorkingPopulation()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommWorkingPopulationDTO.builder()
                     .genderAge(chartData)
@@ -522,11 +360,9 @@ public class CommConsumerGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommWorkingPopulationDTO.builder()
                         .quarterlyTrends(cachedData)
                         .build();
@@ -541,37 +377,17 @@ public class CommConsumerGraphService {
                             .thenComparing(CommWorkingPopulationEntity::getQuarterCode))
                     .toList();
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("2022 1분기");
-            categories.add("2022 2분기");
-            categories.add("2022 3분기");
-            categories.add("2022 4분기");
-            categories.add("2023 1분기");
-            categories.add("2023 2분기");
-            categories.add("2023 3분기");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "직장 인구 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-
-            for (CommWorkingPopulationEntity entity : sortedEntities)
-                seriesDataNode.add(entity.getTotalWorkingPopulation());
-
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.QUARTERLY_TRENDS)
+                    .series(new ChartObject()
+                            .put("name", "직장 인구 수")
+                            .putArray("data", sortedEntities.stream()
+                                            .map(CommWorkingPopulationEntity::getTotalWorkingPopulation)
+                                            .toList()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommWorkingPopulationDTO.builder()
                     .quarterlyTrends(chartData)
@@ -0,0 +1,332 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistLocateDTO;
+import com.sc.sangchu.dto.CoordinateDTO;
+import com.sc.sangchu.geo.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@Slf4j
+public class CommDistBoundaryService {
+    public static final int MIN_ZOOM = 10;
+    public static final int MAX_ZOOM = 17;
+    // 한 화면 픽셀 이하의 굴곡은 제거
+    private static final double PIXEL_TOLERANCE = 1.0;
+    private static final Integer MAX_BATCH = 5000;
+
+    private final String shapefile;
+    private final JsonFactory jsonFactory;
+
+    private final Lazy<BoundarySet> boundarySet = new Lazy<>(this::load);
+
+    @Autowired
+    public CommDistBoundaryService(@Value("${geo.district-boundary.shapefile:}") String shapefile,
+                                   ObjectMapper objectMapper) {
+        this.shapefile = shapefile;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    // 줌 레벨에 맞게 단순화된 상권 경계 GeoJSON 조회
+    public BoundaryLevel getBoundaryGeoJson(Integer zoom) {
+        try {
+            BoundarySet current = boundarySet.get();
+            if (current.boundaries.isEmpty()) return null;
+            int level = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+            return current.levels[level - MIN_ZOOM];
+        } catch (Exception e) {
+            log.error("getBoundaryGeoJson error", e);
+        }
+        return null;
+    }
+
+    // 좌표가 속한 상권 조회, 상권 밖 좌표는 상권 코드가 null (일괄 조회와 같음)
+    public CommDistLocateDTO locate(Double latitude, Double longitude) {
+        try {
+            return toLocateDTO(latitude, longitude, find(boundarySet.get(), latitude, longitude));
+        } catch (Exception e) {
+            log.error("locate error", e);
+        }
+        return null;
+    }
+
+    // 여러 좌표를 한 번에 조회, 상권 밖 좌표와 위도 / 경도가 빠진 좌표는 상권 코드가 null (요청 순서 유지)
+    public List<CommDistLocateDTO> locateAll(List<CoordinateDTO> coordinates) {
+        try {
+            if (coordinates.size() > MAX_BATCH) return null;
+            BoundarySet current = boundarySet.get();
+            List<CommDistLocateDTO> result = new ArrayList<>(coordinates.size());
+            for (CoordinateDTO coordinate : coordinates) {
+                if (coordinate == null) {
+                    result.add(toLocateDTO(null, null, null));
+                    continue;
+                }
+                Double latitude = coordinate.getLatitude();
+                Double longitude = coordinate.getLongitude();
+                DistrictBoundary boundary = latitude == null || longitude == null ? null : find(current, latitude, longitude);
+                result.add(toLocateDTO(latitude, longitude, boundary));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("locateAll error", e);
+        }
+        return null;
+    }
+
+    // R-tree 로 경계 상자 후보를 고른 뒤 폴리곤 내부 판정, 겹치는 상권은 범위가 가장 작은 상권 선택
+    private DistrictBoundary find(BoundarySet current, double latitude, double longitude) {
+        DistrictBoundary[] found = new DistrictBoundary[1];
+        current.index.query(longitude, latitude, item -> {
+            DistrictBoundary candidate = current.boundaries.get(item);
+            if (candidate.contains(longitude, latitude)
+                    && (found[0] == null || candidate.boxArea() < found[0].boxArea())) {
+                found[0] = candidate;
+            }
+            return true;
+        });
+        return found[0];
+    }
+
+    private CommDistLocateDTO toLocateDTO(Double latitude, Double longitude, DistrictBoundary boundary) {
+        CommDistLocateDTO.CommDistLocateDTOBuilder builder = CommDistLocateDTO.builder()
+                .latitude(latitude)
+                .longitude(longitude);
+        if (boundary != null) {
+            builder.commercialDistrictCode(boundary.getCommercialDistrictCode())
+                    .commercialDistrictName(boundary.getCommercialDistrictName())
+                    .guCode(boundary.getGuCode())
+                    .guName(boundary.getGuName())
+                    .dongCode(boundary.getDongCode())
+                    .dongName(boundary.getDongName());
+        }
+        return builder.build();
+    }
+
+    // 원본 해상도 상권 경계
+    public List<DistrictBoundary> getBoundaries() {
+        return boundarySet.get().boundaries;
+    }
+
+    // 경계 상자가 범위(경위도)와 겹치는 상권 경계
+    public List<DistrictBoundary> findInBox(double minLon, double minLat, double maxLon, double maxLat) {
+        BoundarySet current = boundarySet.get();
+        List<DistrictBoundary> result = new ArrayList<>();
+        current.index.query(minLon, minLat, maxLon, maxLat, item -> result.add(current.boundaries.get(item)));
+        return result;
+    }
+
+    // 경계 데이터 교체 후 재적재
+    public void reload() {
+        boundarySet.reload();
+    }
+
+    private BoundarySet load() {
+        if (shapefile == null || shapefile.isBlank() || !Files.exists(Path.of(shapefile))) {
+            log.warn("district boundary shapefile not found: {}", shapefile);
+            return new BoundarySet(List.of(), new BoundaryLevel[0], new StrTree(new double[0]));
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<DistrictBoundary> boundaries = new ArrayList<>();
+            for (ShapefileReader.Shape shape : ShapefileReader.read(Path.of(shapefile))) {
+                List<double[][]> polygons = toPolygons(shape.getParts());
+                if (polygons.isEmpty()) continue;
+                boundaries.add(new DistrictBoundary(
+                        parseCode(shape.attribute("TRDAR_CD")),
+                        shape.attribute("TRDAR_CD_N"),
+                        parseCode(shape.attribute("SIGNGU_CD")),
+                        shape.attribute("SIGNGU_CD_"),
+                        parseCode(shape.attribute("ADSTRD_CD")),
+                        shape.attribute("ADSTRD_CD_"),
+                        polygons));
+            }
+
+            BoundaryLevel[] levels = new BoundaryLevel[MAX_ZOOM - MIN_ZOOM + 1];
+            for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+                levels[zoom - MIN_ZOOM] = buildLevel(boundaries, zoom);
+            }
+            double[] boxes = new double[boundaries.size() * 4];
+            for (int i = 0; i < boundaries.size(); i++) {
+                DistrictBoundary boundary = boundaries.get(i);
+                boxes[i * 4] = boundary.getMinLon();
+                boxes[i * 4 + 1] = boundary.getMinLat();
+                boxes[i * 4 + 2] = boundary.getMaxLon();
+                boxes[i * 4 + 3] = boundary.getMaxLat();
+            }
+            StrTree index = new StrTree(boxes);
+
+            log.info("district boundaries loaded: {} districts, zoom {}~{}, {} ms", boundaries.size(), MIN_ZOOM, MAX_ZOOM,
+                    (System.nanoTime() - start) / 1_000_000);
+            return new BoundarySet(boundaries, levels, index);
+        } catch (IOException e) {
+            throw new IllegalStateException("district boundary load failure: " + shapefile, e);
+        }
+    }
+
+    /*
+     * shapefile 링(TM) -> 경위도 폴리곤
+     * shapefile 은 외곽 링이 시계 방향, 구멍이 반시계 방향이며 구멍은 자신을 감싸는 외곽 링 뒤에 옴
+     * GeoJSON(RFC 7946) 방향에 맞춰 외곽 링은 반시계, 구멍은 시계 방향으로 뒤집어 저장
+     */
+    private List<double[][]> toPolygons(List<double[]> parts) {
+        List<List<double[]>> polygons = new ArrayList<>();
+        for (double[] part : parts) {
+            if (part.length < 8) continue;
+            boolean shell = signedArea(part) <= 0 || polygons.isEmpty();
+            double[] ring = new double[part.length];
+            for (int i = 0, j = part.length - 2; i < part.length; i += 2, j -= 2) {
+                KoreaTmProjection.toLonLat(part[j], part[j + 1], ring, i);
+            }
+            if (shell) {
+                polygons.add(new ArrayList<>());
+            }
+            polygons.get(polygons.size() - 1).add(ring);
+        }
+        return polygons.stream()
+                .map(rings -> rings.toArray(new double[0][]))
+                .toList();
+    }
+
+    private BoundaryLevel buildLevel(List<DistrictBoundary> boundaries, int zoom) throws IOException {
+        // 줌 레벨의 픽셀 크기(도) : 360 / (256 * 2^zoom)
+        double tolerance = 360.0 / (256L << zoom) * PIXEL_TOLERANCE;
+        double scale = Math.pow(10, Math.min(7, (int) Math.ceil(-Math.log10(tolerance)) + 1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+        try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("type", "FeatureCollection");
+            gen.writeNumberField("zoom", zoom);
+            gen.writeArrayFieldStart("features");
+            for (DistrictBoundary boundary : boundaries) {
+                List<List<double[]>> polygons = new ArrayList<>();
+                for (double[][] polygon : boundary.getPolygons()) {
+                    List<double[]> rings = new ArrayList<>(polygon.length);
+                    for (double[] ring : polygon) {
+                        double[] simplified = simplifyRing(ring, tolerance, scale);
+                        if (simplified != null) {
+                            rings.add(simplified);
+                        } else if (rings.isEmpty()) {
+                            break; // 외곽 링이 사라지면 폴리곤 전체 생략
+                        }
+                    }
+                    if (!rings.isEmpty()) polygons.add(rings);
+                }
+                if (polygons.isEmpty()) continue;
+                writeFeature(gen, boundary, polygons);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        byte[] geoJson = out.toByteArray();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(geoJson.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(geoJson);
+        }
+        String etag = "\"boundary-" + zoom + "-" + Integer.toHexString(Arrays.hashCode(geoJson)) + "\"";
+        return new BoundaryLevel(zoom, geoJson, compressed.toByteArray(), etag);
+    }
+
+    // 단순화 후 좌표 자릿수를 줄이고 연속 중복 점 제거, 삼각형도 못 만들면 null
+    private double[] simplifyRing(double[] ring, double tolerance, double scale) {
+        double[] simplified = DouglasPeucker.simplify(ring, tolerance);
+        double[] rounded = new double[simplified.length];
+        int size = 0;
+        for (int i = 0; i < simplified.length; i += 2) {
+            double lon = Math.round(simplified[i] * scale) / scale;
+            double lat = Math.round(simplified[i + 1] * scale) / scale;
+            if (size > 0 && rounded[size - 2] == lon && rounded[size - 1] == lat) continue;
+            rounded[size++] = lon;
+            rounded[size++] = lat;
+        }
+        return size >= 8 ? Arrays.copyOf(rounded, size) : null;
+    }
+
+    private void writeFeature(JsonGenerator gen, DistrictBoundary boundary, List<List<double[]>> polygons)
+            throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("type", "Feature");
+        writeCode(gen, "id", boundary.getCommercialDistrictCode());
+        gen.writeObjectFieldStart("properties");
+        writeCode(gen, "commercialDistrictCode", boundary.getCommercialDistrictCode());
+        gen.writeStringField("commercialDistrictName", boundary.getCommercialDistrictName());
+        writeCode(gen, "guCode", boundary.getGuCode());
+        gen.writeStringField("guName", boundary.getGuName());
+        writeCode(gen, "dongCode", boundary.getDongCode());
+        gen.writeStringField("dongName", boundary.getDongName());
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("geometry");
+        boolean multi = polygons.size() > 1;
+        gen.writeStringField("type", multi ? "MultiPolygon" : "Polygon");
+        gen.writeFieldName("coordinates");
+        if (multi) gen.writeStartArray();
+        for (List<double[]> polygon : polygons) {
+            gen.writeStartArray();
+            for (double[] ring : polygon) {
+                gen.writeStartArray();
+                for (int i = 0; i < ring.length; i += 2) {
+                    gen.writeStartArray();
+                    gen.writeNumber(ring[i]);
+                    gen.writeNumber(ring[i + 1]);
+                    gen.writeEndArray();
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndArray();
+        }
+        if (multi) gen.writeEndArray();
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    // 신발끈 공식, 양수면 반시계 방향
+    private double signedArea(double[] ring) {
+        double sum = 0;
+        for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+            sum += ring[j] * ring[i + 1] - ring[i] * ring[j + 1];
+        }
+        return sum / 2;
+    }
+
+    private void writeCode(JsonGenerator gen, String name, Long code) throws IOException {
+        if (code != null) {
+            gen.writeNumberField(name, code);
+        } else {
+            gen.writeNullField(name);
+        }
+    }
+
+    private Long parseCode(String value) {
+        return value == null || value.isBlank() ? null : Long.parseLong(value);
+    }
+
+    private static final class BoundarySet {
+        private final List<DistrictBoundary> boundaries;
+        private final BoundaryLevel[] levels;
+        private final StrTree index;
+
+        private BoundarySet(List<DistrictBoundary> boundaries, BoundaryLevel[] levels, StrTree index) {
+            this.boundaries = boundaries;
+            this.levels = levels;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.dto.CommDistCatchmentDTO;
+import com.sc.sangchu.dto.CommDistCatchmentDistrictDTO;
+import com.sc.sangchu.dto.CommDistCatchmentServiceDTO;
+import com.sc.sangchu.geo.Haversine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@Slf4j
+public class CommDistCatchmentService {
+    private final CommDistSnapshotService commDistSnapshotService;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    // 반경 상한(m)
+    private static final Integer MAX_RADIUS = 3000;
+
+    @Autowired
+    public CommDistCatchmentService(CommDistSnapshotService commDistSnapshotService) {
+        this.commDistSnapshotService = commDistSnapshotService;
+    }
+
+    /*
+     * 기준점 반경 안에 중심이 있는 상권들의 지표를 거리 가중 합산
+     * 가중치는 중심에서 1, 반경 경계에서 0 으로 선형 감소
+     */
+    public CommDistCatchmentDTO getCatchment(Double latitude, Double longitude, Integer radius) {
+        try {
+            if (radius <= 0 || radius > MAX_RADIUS) return null;
+            CommDistSnapshotService.Snapshot snapshot = commDistSnapshotService.getSnapshot(YEAR, QUARTER);
+
+            double latSpan = Haversine.latitudeSpan(radius);
+            double lonSpan = Haversine.longitudeSpan(radius, latitude);
+            List<Integer> rows = new ArrayList<>();
+            List<Double> distances = new ArrayList<>();
+            snapshot.index().query(longitude - lonSpan, latitude - latSpan, longitude + lonSpan, latitude + latSpan,
+                    row -> {
+                        double distance = Haversine.distance(latitude, longitude,
+                                snapshot.latitude(row), snapshot.longitude(row));
+                        if (distance <= radius) {
+                            rows.add(row);
+                            distances.add(distance);
+                        }
+                        return true;
+                    });
+
+            int serviceCount = snapshot.serviceCount();
+            double[] serviceSales = new double[serviceCount];
+            double[] serviceStores = new double[serviceCount];
+            double[] serviceFranchises = new double[serviceCount];
+            double floating = 0, resident = 0, working = 0;
+            List<CommDistCatchmentDistrictDTO> districts = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                int row = rows.get(i);
+                double weight = 1 - distances.get(i) / radius;
+                floating += weight * snapshot.floatingPopulation(row);
+                resident += weight * snapshot.residentPopulation(row);
+                working += weight * snapshot.workingPopulation(row);
+                for (int s = 0; s < serviceCount; s++) {
+                    serviceSales[s] += weight * snapshot.sales(row, s);
+                    serviceStores[s] += weight * snapshot.storeCount(row, s);
+                    serviceFranchises[s] += weight * snapshot.franchiseStoreCount(row, s);
+                }
+                districts.add(CommDistCatchmentDistrictDTO.builder()
+                        .commercialDistrictCode(snapshot.district(row).getCommercialDistrictCode())
+                        .commercialDistrictName(snapshot.district(row).getCommercialDistrictName())
+                        .distance(distances.get(i))
+                        .weight(weight)
+                        .build());
+            }
+            districts.sort(Comparator.comparing(CommDistCatchmentDistrictDTO::getDistance));
+
+            List<CommDistCatchmentServiceDTO> services = new ArrayList<>();
+            double sales = 0, stores = 0, franchises = 0;
+            for (int s = 0; s < serviceCount; s++) {
+                sales += serviceSales[s];
+                stores += serviceStores[s];
+                franchises += serviceFranchises[s];
+                if (serviceSales[s] == 0 && serviceStores[s] == 0) continue;
+                services.add(CommDistCatchmentServiceDTO.builder()
+                        .serviceCode(snapshot.serviceCode(s))
+                        .serviceName(snapshot.serviceName(s))
+                        .sales(serviceSales[s])
+                        .storeCount(serviceStores[s])
+                        .franchiseStoreCount(serviceFranchises[s])
+                        .build());
+            }
+            services.sort(Comparator.comparing(CommDistCatchmentServiceDTO::getSales).reversed());
+
+            return CommDistCatchmentDTO.builder()
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .radius(radius)
+                    .yearCode(snapshot.getYear())
+                    .quarterCode(snapshot.getQuarter())
+                    .floatingPopulation(floating)
+                    .residentPopulation(resident)
+                    .workingPopulation(working)
+                    .sales(sales)
+                    .storeCount(stores)
+                    .franchiseStoreCount(franchises)
+                    .services(services)
+                    .districts(districts)
+                    .build();
+        } catch (Exception e) {
+            log.error("getCatchment error", e);
+        }
+        return null;
+    }
+}
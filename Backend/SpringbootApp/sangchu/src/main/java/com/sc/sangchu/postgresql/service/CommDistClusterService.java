@@ -0,0 +1,111 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistClusterDTO;
+import com.sc.sangchu.geo.ClusterIndex;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Slf4j
+public class CommDistClusterService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+
+    public static final int MIN_ZOOM = 8;
+    // 이 줌을 넘으면 클러스터 없이 상권을 그대로 반환
+    public static final int MAX_ZOOM = 16;
+    // 화면 기준 40px 안의 마커를 합침 (512px 타일 기준)
+    private static final double RADIUS = 40;
+    private static final double EXTENT = 512;
+
+    private final Lazy<ClusterSet> clusterSet = new Lazy<>(this::buildClusterSet);
+
+    @Autowired
+    public CommDistClusterService(ReadOnlyCommDistRepository commDistRepository) {
+        this.commDistRepository = commDistRepository;
+    }
+
+    // 화면 범위와 줌 레벨에 해당하는 상권 클러스터 조회
+    public List<CommDistClusterDTO> getClusters(Integer zoom, Double minLatitude, Double minLongitude,
+                                                Double maxLatitude, Double maxLongitude) {
+        try {
+            if (minLatitude > maxLatitude || minLongitude > maxLongitude) return null;
+            ClusterSet current = clusterSet.get();
+            List<Integer> found = new ArrayList<>();
+            ClusterIndex.Level level = current.index.query(zoom, minLongitude, minLatitude, maxLongitude, maxLatitude,
+                    found::add);
+
+            List<CommDistClusterDTO> result = new ArrayList<>(found.size());
+            for (int i : found) {
+                result.add(toClusterDTO(current, level, i));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("getClusters error", e);
+        }
+        return null;
+    }
+
+    private CommDistClusterDTO toClusterDTO(ClusterSet current, ClusterIndex.Level level, int i) {
+        int count = level.count(i);
+        CommDistClusterDTO.CommDistClusterDTOBuilder builder = CommDistClusterDTO.builder()
+                .latitude(level.lat(i))
+                .longitude(level.lon(i))
+                .count(count)
+                .averageScore(level.scoreSum(i) / count)
+                .maxScore(level.scoreMax(i));
+        if (level.point(i) >= 0) {
+            CommDistEntity entity = current.districts.get(level.point(i));
+            builder.commercialDistrictCode(entity.getCommercialDistrictCode())
+                    .commercialDistrictName(entity.getCommercialDistrictName())
+                    // 투영 왕복 오차 없이 원본 좌표 사용
+                    .latitude(entity.getLatitude())
+                    .longitude(entity.getLongitude());
+        } else {
+            builder.expansionZoom(level.expansionZoom(i));
+        }
+        return builder.build();
+    }
+
+    // 데이터 적재 후 클러스터 재생성
+    public void rebuild() {
+        clusterSet.reload();
+    }
+
+    private ClusterSet buildClusterSet() {
+        long start = System.nanoTime();
+        List<CommDistEntity> districts = commDistRepository.findAll().stream()
+                .filter(entity -> entity.getLatitude() != null && entity.getLongitude() != null)
+                .toList();
+        int n = districts.size();
+        double[] lon = new double[n];
+        double[] lat = new double[n];
+        double[] score = new double[n];
+        for (int i = 0; i < n; i++) {
+            CommDistEntity entity = districts.get(i);
+            lon[i] = entity.getLongitude();
+            lat[i] = entity.getLatitude();
+            score[i] = entity.getCommercialDistrictScore() == null ? 0 : entity.getCommercialDistrictScore();
+        }
+        ClusterIndex index = new ClusterIndex(lon, lat, score, MIN_ZOOM, MAX_ZOOM, RADIUS, EXTENT);
+        log.info("district clusters built: {} districts, zoom {}~{}, {} ms", n, MIN_ZOOM, MAX_ZOOM,
+                (System.nanoTime() - start) / 1_000_000);
+        return new ClusterSet(districts, index);
+    }
+
+    private static final class ClusterSet {
+        private final List<CommDistEntity> districts;
+        private final ClusterIndex index;
+
+        private ClusterSet(List<CommDistEntity> districts, ClusterIndex index) {
+            this.districts = districts;
+            this.index = index;
+        }
+    }
+}
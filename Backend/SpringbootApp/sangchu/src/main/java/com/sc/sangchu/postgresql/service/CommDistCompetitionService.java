@@ -0,0 +1,198 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistCompetitionDTO;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.IntStream;
+
+@Service
+@Slf4j
+public class CommDistCompetitionService {
+    private final CommDistSnapshotService commDistSnapshotService;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    private static final Integer MAX_LIMIT = 200;
+    private static final double SQUARE_METERS_PER_KM2 = 1_000_000;
+
+    private final Lazy<CompetitionTable> table = new Lazy<>(this::buildTable);
+
+    @Autowired
+    public CommDistCompetitionService(CommDistSnapshotService commDistSnapshotService) {
+        this.commDistSnapshotService = commDistSnapshotService;
+    }
+
+    /*
+     * 업종의 상권별 경쟁 지표 순위
+     * sort : storeDensity, salesPerStore, franchiseShare / order : desc, asc
+     * guCode, minStoreCount 로 필터, 점포가 없는 상권은 제외
+     */
+    public List<CommDistCompetitionDTO> getRanking(String serviceCode, Long guCode, Long minStoreCount, String sort,
+                                                   String order, Integer limit) {
+        try {
+            CompetitionTable current = table.get();
+            Integer service = current.snapshot.service(serviceCode);
+            if (service == null) return null;
+            float[] key = switch (sort) {
+                case "storeDensity" -> current.storeDensity;
+                case "salesPerStore" -> current.salesPerStore;
+                case "franchiseShare" -> current.franchiseShare;
+                default -> null;
+            };
+            if (key == null) return null;
+            long minStores = minStoreCount == null ? 1 : Math.max(1, minStoreCount);
+
+            CommDistSnapshotService.Snapshot snapshot = current.snapshot;
+            int serviceCount = snapshot.serviceCount();
+            List<Integer> rows = new ArrayList<>();
+            for (int row = 0; row < snapshot.size(); row++) {
+                if (snapshot.storeCount(row, service) < minStores) continue;
+                if (Float.isNaN(key[row * serviceCount + service])) continue;
+                if (guCode != null && !guCode.equals(snapshot.district(row).getGuCode())) continue;
+                rows.add(row);
+            }
+            Comparator<Integer> comparator = Comparator.comparingDouble(row -> key[row * serviceCount + service]);
+            rows.sort("asc".equals(order) ? comparator : comparator.reversed());
+
+            return rows.stream()
+                    .limit(Math.min(limit, MAX_LIMIT))
+                    .map(row -> toCompetitionDTO(current, row, service))
+                    .toList();
+        } catch (Exception e) {
+            log.error("getRanking error", e);
+        }
+        return null;
+    }
+
+    // 상권의 업종별 경쟁 지표 (점포가 있는 업종만)
+    public List<CommDistCompetitionDTO> getCommDistCompetition(Long commCode) {
+        try {
+            CompetitionTable current = table.get();
+            Integer row = current.snapshot.row(commCode);
+            if (row == null) return null;
+            List<CommDistCompetitionDTO> result = new ArrayList<>();
+            for (int service = 0; service < current.snapshot.serviceCount(); service++) {
+                if (current.snapshot.storeCount(row, service) <= 0) continue;
+                result.add(toCompetitionDTO(current, row, service));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("getCommDistCompetition error", e);
+        }
+        return null;
+    }
+
+    private CommDistCompetitionDTO toCompetitionDTO(CompetitionTable current, int row, int service) {
+        CommDistSnapshotService.Snapshot snapshot = current.snapshot;
+        CommDistEntity district = snapshot.district(row);
+        int cell = row * snapshot.serviceCount() + service;
+        return CommDistCompetitionDTO.builder()
+                .commercialDistrictCode(district.getCommercialDistrictCode())
+                .commercialDistrictName(district.getCommercialDistrictName())
+                .guCode(district.getGuCode())
+                .guName(district.getGuName())
+                .serviceCode(snapshot.serviceCode(service))
+                .serviceName(snapshot.serviceName(service))
+                .storeCount((long) snapshot.storeCount(row, service))
+                .franchiseStoreCount((long) snapshot.franchiseStoreCount(row, service))
+                .storeDensity(valueOrNull(current.storeDensity[cell]))
+                .salesPerStore(valueOrNull(current.salesPerStore[cell]))
+                .franchiseShare(valueOrNull(current.franchiseShare[cell]))
+                .storeDensityPercentile(valueOrNull(current.storeDensityPercentile[cell]))
+                .salesPerStorePercentile(valueOrNull(current.salesPerStorePercentile[cell]))
+                .build();
+    }
+
+    private Double valueOrNull(float value) {
+        return Float.isNaN(value) ? null : (double) value;
+    }
+
+    // 분기 데이터 적재 후 호출
+    public void rebuild() {
+        table.reload();
+    }
+
+    // 업종 단위로 병렬 처리, 업종마다 전 상권 지표 계산 후 백분위 산출
+    private CompetitionTable buildTable() {
+        long start = System.nanoTime();
+        CommDistSnapshotService.Snapshot snapshot = commDistSnapshotService.getSnapshot(YEAR, QUARTER);
+        CompetitionTable result = new CompetitionTable(snapshot);
+        IntStream.range(0, snapshot.serviceCount()).parallel().forEach(service -> computeService(result, service));
+        log.info("competition index built: {}/{}, {} districts x {} services, {} ms", YEAR, QUARTER,
+                snapshot.size(), snapshot.serviceCount(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private void computeService(CompetitionTable table, int service) {
+        CommDistSnapshotService.Snapshot snapshot = table.snapshot;
+        int serviceCount = snapshot.serviceCount();
+        int[] rows = new int[snapshot.size()];
+        int size = 0;
+        for (int row = 0; row < snapshot.size(); row++) {
+            int cell = row * serviceCount + service;
+            float stores = snapshot.storeCount(row, service);
+            if (stores <= 0) {
+                table.storeDensity[cell] = Float.NaN;
+                table.salesPerStore[cell] = Float.NaN;
+                table.franchiseShare[cell] = Float.NaN;
+                table.storeDensityPercentile[cell] = Float.NaN;
+                table.salesPerStorePercentile[cell] = Float.NaN;
+                continue;
+            }
+            double area = snapshot.areaSize(row) / SQUARE_METERS_PER_KM2;
+            table.storeDensity[cell] = area > 0 ? (float) (stores / area) : Float.NaN;
+            table.salesPerStore[cell] = snapshot.sales(row, service) / stores;
+            table.franchiseShare[cell] = snapshot.franchiseStoreCount(row, service) / stores;
+            rows[size++] = row;
+        }
+        percentile(table.storeDensity, table.storeDensityPercentile, rows, size, serviceCount, service);
+        percentile(table.salesPerStore, table.salesPerStorePercentile, rows, size, serviceCount, service);
+    }
+
+    // 중간 순위 백분위 : (작은 값 수 + 같은 값 수 / 2) / 전체 * 100
+    private void percentile(float[] values, float[] out, int[] rows, int size, int serviceCount, int service) {
+        Integer[] order = new Integer[size];
+        int valid = 0;
+        for (int i = 0; i < size; i++) {
+            int cell = rows[i] * serviceCount + service;
+            if (Float.isNaN(values[cell])) {
+                out[cell] = Float.NaN;
+            } else {
+                order[valid++] = cell;
+            }
+        }
+        Arrays.sort(order, 0, valid, Comparator.comparingDouble(cell -> values[cell]));
+        for (int from = 0; from < valid; ) {
+            int to = from;
+            while (to < valid && values[order[to]] == values[order[from]]) to++;
+            float rank = (from + (to - from) / 2f) / valid * 100;
+            for (int i = from; i < to; i++) out[order[i]] = rank;
+            from = to;
+        }
+    }
+
+    private static final class CompetitionTable {
+        private final CommDistSnapshotService.Snapshot snapshot;
+        // [상권 행 * 업종 수 + 업종], 점포가 없으면 NaN
+        private final float[] storeDensity;
+        private final float[] salesPerStore;
+        private final float[] franchiseShare;
+        private final float[] storeDensityPercentile;
+        private final float[] salesPerStorePercentile;
+
+        private CompetitionTable(CommDistSnapshotService.Snapshot snapshot) {
+            int cells = snapshot.size() * snapshot.serviceCount();
+            this.snapshot = snapshot;
+            this.storeDensity = new float[cells];
+            this.salesPerStore = new float[cells];
+            this.franchiseShare = new float[cells];
+            this.storeDensityPercentile = new float[cells];
+            this.salesPerStorePercentile = new float[cells];
+        }
+    }
+}
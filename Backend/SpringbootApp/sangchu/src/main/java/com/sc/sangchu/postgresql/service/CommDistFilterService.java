@@ -0,0 +1,315 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistDTO;
+import com.sc.sangchu.dto.CommDistFilterRequestDTO;
+import com.sc.sangchu.dto.CommDistFilterResultDTO;
+import com.sc.sangchu.dto.RangeDTO;
+import com.sc.sangchu.index.Bitmap;
+import com.sc.sangchu.index.RangeIndex;
+import com.sc.sangchu.postgresql.entity.*;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class CommDistFilterService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+    private final CommIndicatorChangeRepository commIndicatorChangeRepository;
+    private final CommAptRepository commAptRepository;
+    private final CommFacilitiesRepository commFacilitiesRepository;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    private static final Integer MAX_LIMIT = 500;
+    private static final String NONE = "없음";
+    private static final long HUNDRED_MILLION = 100_000_000L;
+
+    private final Lazy<FilterIndex> filterIndex = new Lazy<>(this::buildFilterIndex);
+
+    @Autowired
+    public CommDistFilterService(ReadOnlyCommDistRepository commDistRepository,
+                                 CommIndicatorChangeRepository commIndicatorChangeRepository,
+                                 CommAptRepository commAptRepository,
+                                 CommFacilitiesRepository commFacilitiesRepository) {
+        this.commDistRepository = commDistRepository;
+        this.commIndicatorChangeRepository = commIndicatorChangeRepository;
+        this.commAptRepository = commAptRepository;
+        this.commFacilitiesRepository = commFacilitiesRepository;
+    }
+
+    // 패싯 조건으로 상권 필터링, 결과와 함께 패싯 값별 상권 수 반환
+    public CommDistFilterResultDTO filter(CommDistFilterRequestDTO request) {
+        try {
+            FilterIndex current = filterIndex.get();
+            int n = current.districts.size();
+
+            Bitmap rangeMask = Bitmap.full(n);
+            if (request.getRanges() != null) {
+                for (Map.Entry<String, RangeDTO> range : request.getRanges().entrySet()) {
+                    RangeIndex index = current.ranges.get(range.getKey());
+                    if (index == null || range.getValue() == null) return null;
+                    rangeMask = rangeMask.and(index.between(range.getValue().getMin(), range.getValue().getMax()));
+                }
+            }
+
+            // 패싯별 선택 값 OR
+            Map<String, Bitmap> facetMasks = new HashMap<>();
+            if (request.getFacets() != null) {
+                for (Map.Entry<String, List<String>> facet : request.getFacets().entrySet()) {
+                    Map<String, Bitmap> values = current.facets.get(facet.getKey());
+                    if (values == null) return null;
+                    if (facet.getValue() == null || facet.getValue().isEmpty()) continue;
+                    Bitmap mask = Bitmap.empty(n);
+                    for (String value : facet.getValue()) {
+                        Bitmap bitmap = values.get(value);
+                        if (bitmap != null) mask = mask.or(bitmap);
+                    }
+                    facetMasks.put(facet.getKey(), mask);
+                }
+            }
+
+            Bitmap result = rangeMask;
+            for (Bitmap mask : facetMasks.values()) result = result.and(mask);
+
+            // 패싯 값별 개수는 자기 패싯 조건만 뺀 나머지 조건 기준 (선택을 바꿨을 때의 결과 수)
+            Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, Bitmap>> facet : current.facets.entrySet()) {
+                Bitmap base = rangeMask;
+                for (Map.Entry<String, Bitmap> mask : facetMasks.entrySet()) {
+                    if (!mask.getKey().equals(facet.getKey())) base = base.and(mask.getValue());
+                }
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (Map.Entry<String, Bitmap> value : facet.getValue().entrySet()) {
+                    counts.put(value.getKey(), base.andCardinality(value.getValue()));
+                }
+                facetCounts.put(facet.getKey(), counts);
+            }
+
+            return CommDistFilterResultDTO.builder()
+                    .total(result.cardinality())
+                    .commDists(page(current, result, request))
+                    .facetCounts(facetCounts)
+                    .build();
+        } catch (Exception e) {
+            log.error("filter error", e);
+        }
+        return null;
+    }
+
+    private List<CommDistDTO> page(FilterIndex current, Bitmap result, CommDistFilterRequestDTO request) {
+        String sort = request.getSort() == null ? "commercialDistrictScore" : request.getSort();
+        double[] column = current.columns.get(sort);
+        if (column == null) throw new IllegalArgumentException("unknown sort: " + sort);
+        boolean ascending = "asc".equals(request.getOrder());
+        int offset = request.getOffset() == null ? 0 : Math.max(0, request.getOffset());
+        int limit = request.getLimit() == null ? 20 : Math.min(request.getLimit(), MAX_LIMIT);
+
+        List<Integer> rows = new ArrayList<>(result.cardinality());
+        result.forEach(rows::add);
+        // 값이 없는 상권은 정렬 방향과 관계없이 뒤로
+        Comparator<Integer> comparator = Comparator.comparingDouble(row -> column[row]);
+        if (!ascending) comparator = comparator.reversed();
+        Comparator<Integer> byValue = comparator;
+        rows.sort((a, b) -> {
+            boolean aMissing = Double.isNaN(column[a]), bMissing = Double.isNaN(column[b]);
+            if (aMissing || bMissing) return Boolean.compare(aMissing, bMissing);
+            return byValue.compare(a, b);
+        });
+
+        return rows.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(row -> toCommDistDTO(current.districts.get(row)))
+                .toList();
+    }
+
+    private CommDistDTO toCommDistDTO(CommDistEntity entity) {
+        return CommDistDTO.builder()
+                .commercialDistrictCode(entity.getCommercialDistrictCode())
+                .commercialDistrictName(entity.getCommercialDistrictName())
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
+                .guCode(entity.getGuCode())
+                .guName(entity.getGuName())
+                .dongCode(entity.getDongCode())
+                .dongName(entity.getDongName())
+                .areaSize(entity.getAreaSize())
+                .commercialDistrictScore(entity.getCommercialDistrictScore())
+                .salesScore(entity.getSalesScore())
+                .residentPopulationScore(entity.getResidentPopulationScore())
+                .floatingPopulationScore(entity.getFloatingPopulationScore())
+                .rdiScore(entity.getRdiScore())
+                .build();
+    }
+
+    // 분기 데이터 적재 후 인덱스 재생성
+    public void rebuild() {
+        filterIndex.reload();
+    }
+
+    private FilterIndex buildFilterIndex() {
+        long start = System.nanoTime();
+        List<CommDistEntity> districts = commDistRepository.findAll();
+        int n = districts.size();
+        Map<Long, Integer> rowByCode = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) rowByCode.put(districts.get(i).getCommercialDistrictCode(), i);
+
+        Map<String, double[]> columns = new LinkedHashMap<>();
+        columns.put("commercialDistrictScore", column(districts, CommDistEntity::getCommercialDistrictScore));
+        columns.put("salesScore", column(districts, CommDistEntity::getSalesScore));
+        columns.put("residentPopulationScore", column(districts, CommDistEntity::getResidentPopulationScore));
+        columns.put("floatingPopulationScore", column(districts, CommDistEntity::getFloatingPopulationScore));
+        columns.put("rdiScore", column(districts, CommDistEntity::getRdiScore));
+        double[] rdi = missing(n);
+        double[] aptAvgPrice = missing(n);
+        double[] trainSubway = missing(n);
+        columns.put("rdi", rdi);
+        columns.put("aptAvgPrice", aptAvgPrice);
+        columns.put("trainSubway", trainSubway);
+
+        String[] gu = new String[n];
+        String[] changeIndicator = new String[n];
+        for (int i = 0; i < n; i++) {
+            gu[i] = Objects.requireNonNullElse(districts.get(i).getGuName(), NONE);
+            changeIndicator[i] = NONE;
+        }
+        for (CommIndicatorChangeEntity indicator : commIndicatorChangeRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(indicator.getCommercialDistrictCode());
+            if (row == null) continue;
+            if (indicator.getCommChangeIndicatorName() != null) changeIndicator[row] = indicator.getCommChangeIndicatorName();
+            if (indicator.getRdi() != null) rdi[row] = indicator.getRdi();
+        }
+        for (CommAptEntity apt : commAptRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(apt.getCommercialDistrictCode());
+            if (row != null && apt.getAptAvgPrice() != null) aptAvgPrice[row] = apt.getAptAvgPrice();
+        }
+        for (CommFacilitiesEntity facilities : commFacilitiesRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(facilities.getCommercialDistrictCode());
+            if (row != null && facilities.getTrainSubway() != null) trainSubway[row] = facilities.getTrainSubway();
+        }
+
+        String[] rdiGrade = rdiGrades(rdi);
+        String[] aptPrice = new String[n];
+        String[] subway = new String[n];
+        for (int i = 0; i < n; i++) {
+            aptPrice[i] = aptPriceBracket(aptAvgPrice[i]);
+            subway[i] = trainSubway[i] > 0 ? "있음" : NONE;
+        }
+
+        Map<String, Map<String, Bitmap>> facets = new LinkedHashMap<>();
+        facets.put("gu", facet(gu));
+        facets.put("changeIndicator", facet(changeIndicator));
+        facets.put("rdiGrade", facet(rdiGrade));
+        facets.put("aptPrice", facet(aptPrice));
+        facets.put("subway", facet(subway));
+
+        Map<String, RangeIndex> ranges = new HashMap<>();
+        for (Map.Entry<String, double[]> column : columns.entrySet()) {
+            ranges.put(column.getKey(), new RangeIndex(column.getValue()));
+        }
+
+        long bytes = facets.values().stream().flatMap(values -> values.values().stream())
+                .mapToLong(Bitmap::sizeInBytes).sum();
+        log.info("district filter index built: {} districts, {} facet bitmaps ({} bytes), {} ranges, {} ms", n,
+                facets.values().stream().mapToInt(Map::size).sum(), bytes, ranges.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new FilterIndex(districts, facets, ranges, columns);
+    }
+
+    // 값별 행 번호 비트맵 (값은 가나다 순)
+    private Map<String, Bitmap> facet(String[] values) {
+        int n = values.length;
+        Map<String, int[]> rows = new TreeMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        for (int row = 0; row < n; row++) {
+            int[] list = rows.computeIfAbsent(values[row], v -> new int[n]);
+            int size = sizes.merge(values[row], 1, Integer::sum);
+            list[size - 1] = row;
+        }
+        Map<String, Bitmap> result = new LinkedHashMap<>();
+        for (Map.Entry<String, int[]> entry : rows.entrySet()) {
+            result.put(entry.getKey(), Bitmap.of(n, entry.getValue(), sizes.get(entry.getKey())));
+        }
+        return result;
+    }
+
+    // 분기 RDI 사분위 등급 (하, 중, 상, 최상), 상권 인프라 RDI 등급과 같은 중앙값 분할 방식
+    private String[] rdiGrades(double[] rdi) {
+        double[] sorted = Arrays.stream(rdi).filter(value -> !Double.isNaN(value)).sorted().toArray();
+        String[] grades = new String[rdi.length];
+        if (sorted.length == 0) {
+            Arrays.fill(grades, NONE);
+            return grades;
+        }
+        double median = median(sorted, 0, sorted.length);
+        int lowerEnd = 0;
+        while (lowerEnd < sorted.length && sorted[lowerEnd] < median) lowerEnd++;
+        int upperStart = lowerEnd;
+        while (upperStart < sorted.length && sorted[upperStart] <= median) upperStart++;
+        double lowerMedian = lowerEnd > 0 ? median(sorted, 0, lowerEnd) : median;
+        double upperMedian = upperStart < sorted.length ? median(sorted, upperStart, sorted.length) : median;
+
+        for (int i = 0; i < rdi.length; i++) {
+            double value = rdi[i];
+            if (Double.isNaN(value)) grades[i] = NONE;
+            else if (value < lowerMedian) grades[i] = "하";
+            else if (value < median) grades[i] = "중";
+            else if (value < upperMedian) grades[i] = "상";
+            else grades[i] = "최상";
+        }
+        return grades;
+    }
+
+    private double median(double[] sorted, int from, int to) {
+        int size = to - from;
+        return size % 2 == 1 ? sorted[from + size / 2] : (sorted[from + size / 2 - 1] + sorted[from + size / 2]) / 2;
+    }
+
+    // 아파트 평균 시가 구간 (아파트 가격대별 세대 수 구간과 같은 1억 단위)
+    private String aptPriceBracket(double price) {
+        if (Double.isNaN(price)) return NONE;
+        long bracket = (long) (price / HUNDRED_MILLION);
+        if (bracket < 1) return "1억 미만";
+        if (bracket >= 6) return "6억 이상";
+        return bracket + "억~" + (bracket + 1) + "억";
+    }
+
+    private double[] column(List<CommDistEntity> districts, Function<CommDistEntity, Double> getter) {
+        double[] result = new double[districts.size()];
+        for (int i = 0; i < result.length; i++) {
+            Double value = getter.apply(districts.get(i));
+            result[i] = value == null ? Double.NaN : value;
+        }
+        return result;
+    }
+
+    private double[] missing(int n) {
+        double[] result = new double[n];
+        Arrays.fill(result, Double.NaN);
+        return result;
+    }
+
+    private static final class FilterIndex {
+        private final List<CommDistEntity> districts;
+        // 패싯 -> 값 -> 행 번호 비트맵
+        private final Map<String, Map<String, Bitmap>> facets;
+        private final Map<String, RangeIndex> ranges;
+        // 정렬용 원본 수치 열 (값이 없으면 NaN)
+        private final Map<String, double[]> columns;
+
+        private FilterIndex(List<CommDistEntity> districts, Map<String, Map<String, Bitmap>> facets,
+                            Map<String, RangeIndex> ranges, Map<String, double[]> columns) {
+            this.districts = districts;
+            this.facets = facets;
+            this.ranges = ranges;
+            this.columns = columns;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistServiceGapDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Service
+@Slf4j
+public class CommDistGapService {
+    private final CommDistSnapshotService commDistSnapshotService;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    private static final Integer MAX_LIMIT = 50;
+    // 서울시 분포를 만들 수 있도록 점포가 있는 상권이 이 수 이상인 업종만 추천
+    private static final int MIN_DISTRICTS = 30;
+
+    // 수요 가중치 : 유동인구, 직장인구, 상주인구, 소득
+    private static final float FLOATING_WEIGHT = 0.4f;
+    private static final float WORKING_WEIGHT = 0.25f;
+    private static final float RESIDENT_WEIGHT = 0.2f;
+    private static final float INCOME_WEIGHT = 0.15f;
+
+    private final Lazy<GapTable> table = new Lazy<>(this::buildTable);
+
+    @Autowired
+    public CommDistGapService(CommDistSnapshotService commDistSnapshotService) {
+        this.commDistSnapshotService = commDistSnapshotService;
+    }
+
+    // 상권에서 수요 대비 경쟁이 적은 업종 순위
+    public List<CommDistServiceGapDTO> getServiceGaps(Long commCode, Integer limit) {
+        try {
+            GapTable current = table.get();
+            CommDistSnapshotService.Snapshot snapshot = current.snapshot;
+            Integer row = snapshot.row(commCode);
+            if (row == null) return null;
+            int serviceCount = snapshot.serviceCount();
+
+            List<Integer> services = new ArrayList<>();
+            for (int service = 0; service < serviceCount; service++) {
+                if (current.eligible[service]) services.add(service);
+            }
+            services.sort(Comparator.comparingDouble((Integer service) -> current.gap[row * serviceCount + service])
+                    .reversed());
+
+            return services.stream()
+                    .limit(Math.min(limit, MAX_LIMIT))
+                    .map(service -> toServiceGapDTO(current, row, service))
+                    .toList();
+        } catch (Exception e) {
+            log.error("getServiceGaps error", e);
+        }
+        return null;
+    }
+
+    private CommDistServiceGapDTO toServiceGapDTO(GapTable current, int row, int service) {
+        CommDistSnapshotService.Snapshot snapshot = current.snapshot;
+        int cell = row * snapshot.serviceCount() + service;
+        float stores = snapshot.storeCount(row, service);
+        return CommDistServiceGapDTO.builder()
+                .commercialDistrictCode(snapshot.district(row).getCommercialDistrictCode())
+                .commercialDistrictName(snapshot.district(row).getCommercialDistrictName())
+                .serviceCode(snapshot.serviceCode(service))
+                .serviceName(snapshot.serviceName(service))
+                .gapScore((double) current.gap[cell])
+                .demandScore((double) current.demand[row])
+                .competitionScore((double) current.competition[cell])
+                .salesPerStoreScore((double) current.salesPerStore[cell])
+                .storeCount((long) stores)
+                .salesPerStore(stores > 0 ? (double) (snapshot.sales(row, service) / stores) : null)
+                .seoulMedianSalesPerStore((double) current.medianSalesPerStore[service])
+                .build();
+    }
+
+    // 분기 데이터 적재 후 호출
+    public void rebuild() {
+        table.reload();
+    }
+
+    /*
+     * 전 상권 x 전 업종 점수를 열 배열에서 한 번에 계산
+     * 수요 : 인구 / 소득 열을 log 변환 후 표준점수로 만들어 가중합
+     * 경쟁 : 업종별 log(점포 수 + 1) 표준점수, 점포당 매출 : 업종별 log(점포당 매출 + 1) 표준점수 (점포가 없으면 0)
+     * 공급 부족 점수 = 수요 - 경쟁 + 점포당 매출
+     */
+    private GapTable buildTable() {
+        long start = System.nanoTime();
+        CommDistSnapshotService.Snapshot snapshot = commDistSnapshotService.getSnapshot(YEAR, QUARTER);
+        GapTable result = new GapTable(snapshot);
+        int n = snapshot.size();
+
+        float[] column = new float[n];
+        for (int row = 0; row < n; row++) column[row] = log(snapshot.floatingPopulation(row));
+        addStandardized(result.demand, column, n, FLOATING_WEIGHT);
+        for (int row = 0; row < n; row++) column[row] = log(snapshot.workingPopulation(row));
+        addStandardized(result.demand, column, n, WORKING_WEIGHT);
+        for (int row = 0; row < n; row++) column[row] = log(snapshot.residentPopulation(row));
+        addStandardized(result.demand, column, n, RESIDENT_WEIGHT);
+        for (int row = 0; row < n; row++) column[row] = log(snapshot.income(row));
+        addStandardized(result.demand, column, n, INCOME_WEIGHT);
+
+        IntStream.range(0, snapshot.serviceCount()).parallel().forEach(service -> computeService(result, service));
+        log.info("service gap table built: {}/{}, {} districts x {} services, {} ms", YEAR, QUARTER,
+                n, snapshot.serviceCount(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private void computeService(GapTable table, int service) {
+        CommDistSnapshotService.Snapshot snapshot = table.snapshot;
+        int n = snapshot.size();
+        int serviceCount = snapshot.serviceCount();
+
+        float[] stores = new float[n];
+        float[] salesPerStore = new float[n];
+        float[] withStores = new float[n];
+        int storeDistricts = 0;
+        for (int row = 0; row < n; row++) {
+            float count = snapshot.storeCount(row, service);
+            stores[row] = log(count);
+            if (count > 0) {
+                salesPerStore[row] = snapshot.sales(row, service) / count;
+                withStores[storeDistricts++] = salesPerStore[row];
+            }
+        }
+        if (storeDistricts < MIN_DISTRICTS) return;
+        table.eligible[service] = true;
+
+        Arrays.sort(withStores, 0, storeDistricts);
+        table.medianSalesPerStore[service] = storeDistricts % 2 == 1
+                ? withStores[storeDistricts / 2]
+                : (withStores[storeDistricts / 2 - 1] + withStores[storeDistricts / 2]) / 2;
+
+        // 점포당 매출 표준점수는 점포가 있는 상권끼리만 비교
+        double sum = 0, squareSum = 0;
+        for (int i = 0; i < storeDistricts; i++) {
+            double value = log(withStores[i]);
+            sum += value;
+            squareSum += value * value;
+        }
+        double mean = sum / storeDistricts;
+        double std = Math.sqrt(Math.max(0, squareSum / storeDistricts - mean * mean));
+
+        float[] competition = new float[n];
+        addStandardized(competition, stores, n, 1f);
+        for (int row = 0; row < n; row++) {
+            int cell = row * serviceCount + service;
+            float salesScore = salesPerStore[row] > 0 && std > 0
+                    ? (float) ((log(salesPerStore[row]) - mean) / std) : 0f;
+            table.competition[cell] = competition[row];
+            table.salesPerStore[cell] = salesScore;
+            table.gap[cell] = table.demand[row] - competition[row] + salesScore;
+        }
+    }
+
+    // target += weight * (values - 평균) / 표준편차
+    private void addStandardized(float[] target, float[] values, int n, float weight) {
+        double sum = 0, squareSum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += values[i];
+            squareSum += (double) values[i] * values[i];
+        }
+        double mean = sum / n;
+        double std = Math.sqrt(Math.max(0, squareSum / n - mean * mean));
+        if (std == 0) return;
+        float scale = (float) (weight / std);
+        float offset = (float) mean;
+        for (int i = 0; i < n; i++) target[i] += (values[i] - offset) * scale;
+    }
+
+    private float log(float value) {
+        return (float) Math.log1p(Math.max(0, value));
+    }
+
+    private static final class GapTable {
+        private final CommDistSnapshotService.Snapshot snapshot;
+        private final float[] demand;
+        // [상권 행 * 업종 수 + 업종]
+        private final float[] competition;
+        private final float[] salesPerStore;
+        private final float[] gap;
+        private final float[] medianSalesPerStore;
+        private final boolean[] eligible;
+
+        private GapTable(CommDistSnapshotService.Snapshot snapshot) {
+            int cells = snapshot.size() * snapshot.serviceCount();
+            this.snapshot = snapshot;
+            this.demand = new float[snapshot.size()];
+            this.competition = new float[cells];
+            this.salesPerStore = new float[cells];
+            this.gap = new float[cells];
+            this.medianSalesPerStore = new float[snapshot.serviceCount()];
+            this.eligible = new boolean[snapshot.serviceCount()];
+        }
+    }
+}
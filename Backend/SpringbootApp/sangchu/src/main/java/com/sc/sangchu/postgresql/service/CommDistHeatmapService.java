@@ -0,0 +1,206 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.geo.HeatmapGrid;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.repository.CommEstimatedSalesRepository;
+import com.sc.sangchu.postgresql.repository.CommFloatingPopulationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+@Service
+@Slf4j
+public class CommDistHeatmapService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+    private final CommEstimatedSalesRepository commEstimatedSalesRepository;
+    private final CommFloatingPopulationRepository commFloatingPopulationRepository;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+
+    // 격자 셀 한 변 길이(m)
+    public static final Set<Integer> RESOLUTIONS = Set.of(250, 500, 1000, 2000);
+    public static final String SALES = "sales";
+    public static final String FLOATING_POPULATION = "floatingPopulation";
+    // 분기별 원천 데이터 / 격자 캐시 최대 개수
+    private static final int MAX_SOURCES = 4;
+    private static final int MAX_GRIDS = 256;
+
+    // 기간별 적재 작업, 같은 기간 요청은 먼저 시작한 적재를 기다리고 다른 기간 적재는 막지 않음
+    private final Map<String, CompletableFuture<HeatmapSource>> sources = lruMap(MAX_SOURCES);
+    private final Map<String, HeatmapGrid> grids = lruMap(MAX_GRIDS);
+    // 매출 / 유동인구가 적재된 기간 (연도 * 10 + 분기), 없는 기간 요청은 적재하지 않고 거절
+    private final Lazy<Set<Integer>> periods = new Lazy<>(this::loadPeriods);
+
+    @Autowired
+    public CommDistHeatmapService(ReadOnlyCommDistRepository commDistRepository,
+                                  CommEstimatedSalesRepository commEstimatedSalesRepository,
+                                  CommFloatingPopulationRepository commFloatingPopulationRepository) {
+        this.commDistRepository = commDistRepository;
+        this.commEstimatedSalesRepository = commEstimatedSalesRepository;
+        this.commFloatingPopulationRepository = commFloatingPopulationRepository;
+    }
+
+    // 매출(sales) 또는 유동인구(floatingPopulation) 격자 히트맵 조회, serviceCode 는 매출에만 적용
+    // 적재되지 않은 기간(분기 1~4 밖 포함)은 null
+    public byte[] getHeatmap(String metric, Integer resolution, String serviceCode, Integer year, Integer quarter,
+                             boolean rle) {
+        try {
+            HeatmapGrid grid = getGrid(metric, resolution, serviceCode,
+                    year == null ? YEAR : year, quarter == null ? QUARTER : quarter);
+            return grid == null ? null : grid.encode(rle);
+        } catch (Exception e) {
+            log.error("getHeatmap error", e);
+        }
+        return null;
+    }
+
+    private HeatmapGrid getGrid(String metric, Integer resolution, String serviceCode, int year, int quarter) {
+        if (!RESOLUTIONS.contains(resolution)) return null;
+        if (!SALES.equals(metric) && !FLOATING_POPULATION.equals(metric)) return null;
+        if (quarter < 1 || quarter > 4 || !periods.get().contains(year * 10 + quarter)) return null;
+        String service = SALES.equals(metric) && serviceCode != null && !serviceCode.isBlank() ? serviceCode : "all";
+
+        String key = year + ":" + quarter + ":" + metric + ":" + service + ":" + resolution;
+        HeatmapGrid cached = grids.get(key);
+        if (cached != null) return cached;
+
+        HeatmapSource source = getSource(year, quarter);
+        float[] column;
+        if (FLOATING_POPULATION.equals(metric)) {
+            column = source.floatingPopulation;
+        } else if ("all".equals(service)) {
+            column = source.salesTotal;
+        } else {
+            column = source.salesByService.get(service);
+            if (column == null) return null;
+        }
+        HeatmapGrid grid = aggregate(source, column, resolution);
+        grids.put(key, grid);
+        return grid;
+    }
+
+    // 상권 중심점이 속한 셀에 값을 더함, 스레드별 부분 격자를 만든 뒤 합침
+    private HeatmapGrid aggregate(HeatmapSource source, float[] column, int resolution) {
+        HeatmapGrid empty = HeatmapGrid.empty(resolution);
+        int[] cells = new int[source.size];
+        for (int i = 0; i < source.size; i++) {
+            cells[i] = empty.cell(source.longitude[i], source.latitude[i]);
+        }
+        float[] values = IntStream.range(0, source.size).parallel()
+                .collect(() -> new float[empty.size()],
+                        (grid, i) -> {
+                            if (cells[i] >= 0) grid[cells[i]] += column[i];
+                        },
+                        (a, b) -> {
+                            for (int i = 0; i < a.length; i++) a[i] += b[i];
+                        });
+        return empty.withValues(values);
+    }
+
+    // 분기 데이터 적재 후 호출
+    public void rebuild() {
+        periods.reset();
+        sources.clear();
+        grids.clear();
+    }
+
+    private Set<Integer> loadPeriods() {
+        Set<Integer> result = new HashSet<>(commEstimatedSalesRepository.findPeriods());
+        result.addAll(commFloatingPopulationRepository.findPeriods());
+        return result;
+    }
+
+    // 적재는 잠금 밖에서 요청한 스레드가 수행, 실패하면 다음 요청이 다시 적재
+    private HeatmapSource getSource(int year, int quarter) {
+        String key = year + ":" + quarter;
+        CompletableFuture<HeatmapSource> created = new CompletableFuture<>();
+        CompletableFuture<HeatmapSource> future = sources.putIfAbsent(key, created);
+        if (future == null) {
+            future = created;
+            try {
+                created.complete(loadSource(year, quarter));
+            } catch (RuntimeException e) {
+                sources.remove(key, created);
+                created.completeExceptionally(e);
+            }
+        }
+        return future.join();
+    }
+
+    // 상권별 열 데이터 (업종별 매출, 전체 매출, 유동인구)
+    private HeatmapSource loadSource(int year, int quarter) {
+        long start = System.nanoTime();
+        List<CommDistEntity> districts = commDistRepository.findAll().stream()
+                .filter(entity -> entity.getLatitude() != null && entity.getLongitude() != null)
+                .toList();
+        int n = districts.size();
+        Map<Long, Integer> rowByCode = new HashMap<>(n * 2);
+        double[] longitude = new double[n];
+        double[] latitude = new double[n];
+        for (int i = 0; i < n; i++) {
+            CommDistEntity entity = districts.get(i);
+            rowByCode.put(entity.getCommercialDistrictCode(), i);
+            longitude[i] = entity.getLongitude();
+            latitude[i] = entity.getLatitude();
+        }
+
+        float[] salesTotal = new float[n];
+        Map<String, float[]> salesByService = new HashMap<>();
+        for (CommEstimatedSalesEntity sales : commEstimatedSalesRepository.findByYearCodeAndQuarterCode(year, quarter)) {
+            Integer row = rowByCode.get(sales.getCommercialDistrictCode());
+            if (row == null || sales.getMonthlySales() == null) continue;
+            float value = sales.getMonthlySales().floatValue();
+            salesTotal[row] += value;
+            salesByService.computeIfAbsent(sales.getServiceCode(), code -> new float[n])[row] += value;
+        }
+
+        float[] floatingPopulation = new float[n];
+        for (CommFloatingPopulationEntity population :
+                commFloatingPopulationRepository.findAllByYearCodeAndQuarterCode(year, quarter)) {
+            Integer row = rowByCode.get(population.getCommercialDistrictCode());
+            if (row == null || population.getTotalFloatingPopulation() == null) continue;
+            floatingPopulation[row] += population.getTotalFloatingPopulation();
+        }
+
+        log.info("heatmap source loaded: {}/{}, {} districts, {} services, {} ms", year, quarter, n,
+                salesByService.size(), (System.nanoTime() - start) / 1_000_000);
+        return new HeatmapSource(n, longitude, latitude, salesTotal, salesByService, floatingPopulation);
+    }
+
+    private static <V> Map<String, V> lruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private static final class HeatmapSource {
+        private final int size;
+        private final double[] longitude;
+        private final double[] latitude;
+        private final float[] salesTotal;
+        private final Map<String, float[]> salesByService;
+        private final float[] floatingPopulation;
+
+        private HeatmapSource(int size, double[] longitude, double[] latitude, float[] salesTotal,
+                              Map<String, float[]> salesByService, float[] floatingPopulation) {
+            this.size = size;
+            this.longitude = longitude;
+            this.latitude = latitude;
+            this.salesTotal = salesTotal;
+            this.salesByService = salesByService;
+            this.floatingPopulation = floatingPopulation;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.dto.CommDistLeaderboardDTO;
+import com.sc.sangchu.dto.CommDistLeaderboardEntryDTO;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.entity.CommIndicatorChangeEntity;
+import com.sc.sangchu.postgresql.repository.CommIndicatorChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 지표별 상권 순위표 (Redis sorted set)
+ * (분기, 범위, 지표) 마다 sorted set 하나 : 상권 코드 -> 지표 값
+ * 범위 : 서울시 전체, 자치구, 업종, 자치구 + 업종 (업종 범위는 업종별 지표만)
+ * 순위 조회는 ZREVRANK / ZREVRANGE 로 O(log n), DB 윈도 함수를 쓰지 않음
+ * 순위표는 ttl 뒤 만료, 만료 후 첫 요청 또는 POST /actuator/rebuild (CommDistRefreshService) 에서 다시 만듦
+ * 여러 인스턴스 중 하나만 만들도록 Redis 잠금(SET NX PX), 잠금이 풀려 겹쳐 만들어도 빌드마다 임시 키가 달라 서로 덮어쓰지 않음
+ */
+@Service
+@Slf4j
+public class CommDistLeaderboardService {
+    private final CommDistSnapshotService commDistSnapshotService;
+    private final CommIndicatorChangeRepository commIndicatorChangeRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    private static final Integer MAX_SIZE = 100;
+    // 파이프라인 한 번에 보낼 ZADD 멤버 수
+    private static final int BATCH = 5000;
+    private static final String PREFIX = "leaderboard:commdist:";
+    // 잠금 값이 자기 것일 때만 해제 (잠금이 만료된 뒤 다른 인스턴스가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    public static final Set<String> METRICS =
+            Set.of("monthlySales", "floatingPopulation", "residentPopulation", "salesGrowth", "rdi");
+    // 업종 / 자치구 + 업종 범위에서도 순위표를 만드는 지표
+    public static final Set<String> SERVICE_METRICS = Set.of("monthlySales", "salesGrowth");
+
+    private final Duration ttl;
+    private final Duration buildTimeout;
+    // 이 시각까지는 순위표가 있다고 보고 Redis 에 묻지 않음 (완료 표시 키의 만료 시각)
+    private volatile long builtUntil;
+    // 같은 인스턴스 안의 요청은 한 번만 확인 / 적재
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public CommDistLeaderboardService(CommDistSnapshotService commDistSnapshotService,
+                                      CommIndicatorChangeRepository commIndicatorChangeRepository,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      @Value("${cache.leaderboard.ttl:1d}") Duration ttl,
+                                      @Value("${cache.leaderboard.build-timeout:5m}") Duration buildTimeout) {
+        this.commDistSnapshotService = commDistSnapshotService;
+        this.commIndicatorChangeRepository = commIndicatorChangeRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+        this.buildTimeout = buildTimeout;
+    }
+
+    /*
+     * 순위표 페이지 조회
+     * metric : monthlySales, floatingPopulation, residentPopulation, salesGrowth, rdi / order : desc, asc
+     */
+    public CommDistLeaderboardDTO getLeaderboard(String metric, Long guCode, String serviceCode,
+                                                 Integer page, Integer size, String order) {
+        try {
+            String key = key(metric, guCode, serviceCode);
+            if (key == null) return null;
+            ensureBuilt();
+            int pageSize = Math.max(1, Math.min(size, MAX_SIZE));
+            int pageIndex = Math.max(0, page);
+            return leaderboard(key, metric, guCode, serviceCode, pageIndex, pageSize, order, null);
+        } catch (Exception e) {
+            log.error("getLeaderboard error", e);
+        }
+        return null;
+    }
+
+    // 상권 순위와 그 상권이 속한 페이지 조회
+    public CommDistLeaderboardDTO getRank(Long commercialDistrictCode, String metric, Long guCode, String serviceCode,
+                                          Integer size, String order) {
+        try {
+            String key = key(metric, guCode, serviceCode);
+            if (key == null) return null;
+            ensureBuilt();
+            int pageSize = Math.max(1, Math.min(size, MAX_SIZE));
+            String member = String.valueOf(commercialDistrictCode);
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            Long index = "asc".equals(order) ? zSet.rank(key, member) : zSet.reverseRank(key, member);
+            if (index == null) {
+                return CommDistLeaderboardDTO.builder()
+                        .metric(metric).guCode(guCode).serviceCode(serviceCode).order(order)
+                        .total(zSet.zCard(key)).size(pageSize)
+                        .entries(List.of())
+                        .build();
+            }
+            return leaderboard(key, metric, guCode, serviceCode, (int) (index / pageSize), pageSize, order, index + 1);
+        } catch (Exception e) {
+            log.error("getRank error", e);
+        }
+        return null;
+    }
+
+    /*
+     * 분기 데이터 적재 후 호출 (CommDistRefreshService)
+     * 이번 빌드만의 임시 키에 파이프라인으로 나눠 쓰고 RENAME 으로 교체 (교체 전까지 이전 순위표 그대로 조회)
+     * 다른 인스턴스가 만드는 중이면 건너뜀
+     */
+    public void rebuild() {
+        lock.lock();
+        try {
+            String token = UUID.randomUUID().toString();
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey(), token, buildTimeout))) {
+                log.info("district leaderboards rebuild skipped: {}/{} is being built by another instance", YEAR, QUARTER);
+                return;
+            }
+            try {
+                build(token);
+            } finally {
+                stringRedisTemplate.execute(UNLOCK, List.of(lockKey()), token);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void build(String token) {
+        long start = System.nanoTime();
+        Writer writer = new Writer(":tmp:" + token);
+        writeLeaderboards(writer);
+        writer.flush();
+
+        Set<String> existing = existingKeys();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String key : writer.keys) {
+                redis.rename(key + writer.suffix, key);
+                redis.pExpire(key, ttl.toMillis());
+            }
+            // 이번에 값이 하나도 없는 범위의 이전 순위표 삭제
+            for (String key : existing) {
+                if (!writer.keys.contains(key)) redis.del(key);
+            }
+            redis.pSetEx(builtKey(), ttl.toMillis(), token);
+            return null;
+        });
+        builtUntil = System.currentTimeMillis() + ttl.toMillis();
+        log.info("district leaderboards rebuilt: {}/{}, {} sets, {} members, {} ms", YEAR, QUARTER,
+                writer.keys.size(), writer.members, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 완료 표시 키가 없으면(처음 / 만료) 다시 만듦, 다른 인스턴스가 만드는 중이면 기존 순위표로 응답
+    void ensureBuilt() {
+        if (System.currentTimeMillis() < builtUntil) return;
+        lock.lock();
+        try {
+            if (System.currentTimeMillis() < builtUntil) return;
+            Long remaining = stringRedisTemplate.getExpire(builtKey(), TimeUnit.MILLISECONDS);
+            if (remaining != null && remaining > 0) {
+                builtUntil = System.currentTimeMillis() + remaining;
+                return;
+            }
+            rebuild();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 분기의 순위표 키 (다른 빌드의 임시 키 제외), KEYS 대신 SCAN
+    private Set<String> existingKeys() {
+        Set<String> keys = new HashSet<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(
+                ScanOptions.scanOptions().match(PREFIX + YEAR + ":" + QUARTER + ":*").count(1000).build())) {
+            cursor.forEachRemaining(key -> {
+                if (!key.contains(":tmp:")) keys.add(key);
+            });
+        }
+        return keys;
+    }
+
+    private static String lockKey() {
+        return PREFIX + "lock:" + YEAR + ":" + QUARTER;
+    }
+
+    private static String builtKey() {
+        return PREFIX + "built:" + YEAR + ":" + QUARTER;
+    }
+
+    private CommDistLeaderboardDTO leaderboard(String key, String metric, Long guCode, String serviceCode,
+                                               int page, int size, String order, Long rank) {
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        long from = (long) page * size;
+        long to = from + size - 1;
+        Set<ZSetOperations.TypedTuple<String>> tuples = "asc".equals(order)
+                ? zSet.rangeWithScores(key, from, to)
+                : zSet.reverseRangeWithScores(key, from, to);
+        if (tuples == null) tuples = Set.of();
+
+        CommDistSnapshotService.Snapshot snapshot = commDistSnapshotService.getSnapshot(YEAR, QUARTER);
+        List<CommDistLeaderboardEntryDTO> entries = new ArrayList<>();
+        long position = from;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            Long code = Long.valueOf(tuple.getValue());
+            Integer row = snapshot.row(code);
+            CommDistEntity entity = row == null ? null : snapshot.district(row);
+            entries.add(CommDistLeaderboardEntryDTO.builder()
+                    .rank(++position)
+                    .commercialDistrictCode(code)
+                    .commercialDistrictName(entity == null ? null : entity.getCommercialDistrictName())
+                    .guName(entity == null ? null : entity.getGuName())
+                    .value(tuple.getScore())
+                    .build());
+        }
+        return CommDistLeaderboardDTO.builder()
+                .metric(metric)
+                .guCode(guCode)
+                .serviceCode(serviceCode)
+                .order(order)
+                .total(zSet.zCard(key))
+                .page(page)
+                .size(size)
+                .rank(rank)
+                .entries(entries)
+                .build();
+    }
+
+    private void writeLeaderboards(Writer writer) {
+        CommDistSnapshotService.Snapshot current = commDistSnapshotService.getSnapshot(YEAR, QUARTER);
+        CommDistSnapshotService.Snapshot previous = QUARTER == 1
+                ? commDistSnapshotService.getSnapshot(YEAR - 1, 4)
+                : commDistSnapshotService.getSnapshot(YEAR, QUARTER - 1);
+
+        Map<Long, Double> rdi = new HashMap<>();
+        for (CommIndicatorChangeEntity indicator : commIndicatorChangeRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            if (indicator.getRdi() != null) rdi.put(indicator.getCommercialDistrictCode(), indicator.getRdi());
+        }
+
+        // 이전 분기 업종 번호 (분기마다 업종 목록이 다를 수 있음)
+        int serviceCount = current.serviceCount();
+        int[] previousService = new int[serviceCount];
+        for (int s = 0; s < serviceCount; s++) {
+            Integer service = previous.service(current.serviceCode(s));
+            previousService[s] = service == null ? -1 : service;
+        }
+
+        for (int row = 0; row < current.size(); row++) {
+            CommDistEntity entity = current.district(row);
+            String member = String.valueOf(entity.getCommercialDistrictCode());
+            Long guCode = entity.getGuCode();
+            Integer previousRow = previous.row(entity.getCommercialDistrictCode());
+
+            double sales = 0, previousSales = 0;
+            for (int s = 0; s < serviceCount; s++) {
+                double serviceSales = current.sales(row, s);
+                double previousServiceSales = previousRow == null || previousService[s] < 0
+                        ? 0 : previous.sales(previousRow, previousService[s]);
+                sales += serviceSales;
+                previousSales += previousServiceSales;
+
+                String serviceCode = current.serviceCode(s);
+                if (serviceSales > 0) writer.add(member, "monthlySales", guCode, serviceCode, serviceSales);
+                if (previousServiceSales > 0) {
+                    writer.add(member, "salesGrowth", guCode, serviceCode, serviceSales / previousServiceSales - 1);
+                }
+            }
+
+            if (sales > 0) writer.add(member, "monthlySales", guCode, null, sales);
+            if (previousSales > 0) writer.add(member, "salesGrowth", guCode, null, sales / previousSales - 1);
+            if (current.floatingPopulation(row) > 0) {
+                writer.add(member, "floatingPopulation", guCode, null, current.floatingPopulation(row));
+            }
+            if (current.residentPopulation(row) > 0) {
+                writer.add(member, "residentPopulation", guCode, null, current.residentPopulation(row));
+            }
+            Double districtRdi = rdi.get(entity.getCommercialDistrictCode());
+            if (districtRdi != null) writer.add(member, "rdi", guCode, null, districtRdi);
+        }
+    }
+
+    // 지원하지 않는 지표 / 범위 조합이면 null
+    private String key(String metric, Long guCode, String serviceCode) {
+        if (!METRICS.contains(metric)) return null;
+        if (serviceCode != null && !SERVICE_METRICS.contains(metric)) return null;
+        StringBuilder key = new StringBuilder(PREFIX).append(YEAR).append(':').append(QUARTER).append(':');
+        if (guCode == null && serviceCode == null) key.append("all:");
+        if (guCode != null) key.append("gu:").append(guCode).append(':');
+        if (serviceCode != null) key.append("service:").append(serviceCode).append(':');
+        return key.append(metric).toString();
+    }
+
+    // 순위표 멤버를 모아 BATCH 개마다 파이프라인으로 임시 키(키 + suffix)에 기록
+    private final class Writer {
+        private final String suffix;
+        private final Set<String> keys = new HashSet<>();
+        private final Map<String, Set<StringTuple>> pending = new HashMap<>();
+        private int pendingCount;
+        private long members;
+
+        private Writer(String suffix) {
+            this.suffix = suffix;
+        }
+
+        // 전체 / 자치구 범위, serviceCode 가 있으면 업종 / 자치구 + 업종 범위에 추가
+        private void add(String member, String metric, Long guCode, String serviceCode, double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) return;
+            if (serviceCode == null) {
+                add(key(metric, null, null), member, value);
+                if (guCode != null) add(key(metric, guCode, null), member, value);
+            } else {
+                add(key(metric, null, serviceCode), member, value);
+                if (guCode != null) add(key(metric, guCode, serviceCode), member, value);
+            }
+        }
+
+        private void add(String key, String member, double value) {
+            pending.computeIfAbsent(key, k -> new HashSet<>()).add(new DefaultStringTuple(member, value));
+            members++;
+            if (++pendingCount >= BATCH) flush();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) return;
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (Map.Entry<String, Set<StringTuple>> entry : pending.entrySet()) {
+                    String temporary = entry.getKey() + suffix;
+                    redis.zAdd(temporary, entry.getValue());
+                    // 빌드가 중간에 죽으면 임시 키는 잠금과 함께 만료
+                    if (keys.add(entry.getKey())) redis.pExpire(temporary, buildTimeout.toMillis());
+                }
+                return null;
+            });
+            pending.clear();
+            pendingCount = 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sc.sangchu.postgresql.service;
 
+import com.sc.sangchu.concurrent.FanOut;
 import com.sc.sangchu.dto.CommDistDTO;
 import com.sc.sangchu.dto.CommDistRankDTO;
 import com.sc.sangchu.dto.CommDistRankDTO.ValueScoreDouble;
@@ -11,13 +12,21 @@ import com.sc.sangchu.postgresql.entity.CommDistEntity;
 import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
 import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
 import com.sc.sangchu.postgresql.entity.CommResidentPopulationEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
 import com.sc.sangchu.postgresql.repository.*;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,22 +36,27 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class CommDistRecommendService {
     private final CommDistRepository commDistRepository;
+    private final ReadOnlyCommDistRepository readOnlyCommDistRepository;
     private final CommEstimatedSalesRepository commEstimatedSalesRepository;
     private final CommFloatingPopulationRepository commFloatingPopulationRepository;
     private final CommResidentPopulationRepository commResidentPopulationRepository;
     private final CommStoreRepository commStoreRepository;
+    private final FanOut fanOut;
     private static final Integer YEAR = LocalDate.now().getYear()-1;
     private static final Integer QUARTER = 3;
     private static final Integer RANK_LIMIT = 10;
 
     @Autowired
-    public CommDistRecommendService(CommDistRepository commDistRepository,
-                                    CommEstimatedSalesRepository commEstimatedSalesRepository, CommFloatingPopulationRepository commFloatingPopulationRepository, CommResidentPopulationRepository commResidentPopulationRepository, CommStoreRepository commStoreRepository) {
+    public CommDistRecommendService(CommDistRepository commDistRepository, ReadOnlyCommDistRepository readOnlyCommDistRepository,
+                                    CommEstimatedSalesRepository commEstimatedSalesRepository, CommFloatingPopulationRepository commFloatingPopulationRepository, CommResidentPopulationRepository commResidentPopulationRepository, CommStoreRepository commStoreRepository,
+                                    FanOut fanOut) {
         this.commDistRepository = commDistRepository;
+        this.readOnlyCommDistRepository = readOnlyCommDistRepository;
         this.commEstimatedSalesRepository = commEstimatedSalesRepository;
         this.commFloatingPopulationRepository = commFloatingPopulationRepository;
         this.commResidentPopulationRepository = commResidentPopulationRepository;
         this.commStoreRepository = commStoreRepository;
+        this.fanOut = fanOut;
     }
 
     // 상권 코드로 상권 데이터 조회
@@ -72,12 +86,12 @@ public class CommDistRecommendService {
         return null;
     }
 
-    // 모든 상권 데이터 조회
+    // 모든 상권 데이터 조회 (영속성 컨텍스트 없이 한 행씩 DTO 로 변환)
     public List <CommDistDTO> getAllCommDist() {
         try {
-            List <CommDistEntity> commDistEntities = commDistRepository.findAll();
-
-            return setCommDistDtoList(commDistEntities);
+            return readOnlyCommDistRepository.streamAll(stream -> stream
+                    .map(this::setCommDistDto)
+                    .toList());
         } catch (Exception e) {
             log.error("getAllCommDist error", e);
         }
@@ -97,14 +111,10 @@ public class CommDistRecommendService {
         return null;
     }
 
-    // 서울시 전체 상권을 조회 후 총점 기준으로 10개만 정렬
+    // 서울시 전체 상권 중 총점 상위 10개 (정렬은 DB 에서)
     public List<CommDistDTO> getTopCommDistByCoScore() {
         try {
-            List<CommDistEntity> sortedEntities = commDistRepository.findAll()
-                    .stream()
-                    .sorted(Comparator.comparing(CommDistEntity::getCommercialDistrictScore).reversed())
-                    .limit(RANK_LIMIT)
-                    .toList();
+            List<CommDistEntity> sortedEntities = readOnlyCommDistRepository.findTopByCommercialDistrictScore(RANK_LIMIT);
             if(sortedEntities.isEmpty()) return Collections.emptyList();
 
             return setCommDistDtoList(sortedEntities);
@@ -143,27 +153,8 @@ public class CommDistRecommendService {
                         YEAR, QUARTER, commCode, serviceCode);
             if(commEstimatedSalesEntity == null) return CommDistServiceScoreDTO.builder().build();
 
-            return CommDistServiceScoreDTO.builder()
-                    .commercialDistrictName(commDistEntity.getCommercialDistrictName())
-                    .latitude(commDistEntity.getLatitude())
-                    .longitude(commDistEntity.getLongitude())
-                    .guCode(commDistEntity.getGuCode())
-                    .guName(commDistEntity.getGuName())
-                    .dongCode(commDistEntity.getDongCode())
-                    .dongName(commDistEntity.getDongName())
-                    .areaSize(commDistEntity.getAreaSize())
-                    .commercialDistrictScore(commDistEntity.getCommercialDistrictScore())
-                    .salesScore(commEstimatedSalesEntity.getSalesScore())
-                    .residentPopulationScore(commDistEntity.getResidentPopulationScore())
-                    .floatingPopulationScore(commDistEntity.getFloatingPopulationScore())
-                    .rdiScore(commDistEntity.getRdiScore())
-                    .serviceBigCategory(commEstimatedSalesEntity.getMajorCategoryCode())
-                    .serviceCode(commEstimatedSalesEntity.getServiceCode())
-                    .serviceCodeName(commEstimatedSalesEntity.getServiceName())
-                    .serviceBigCategoryName(commEstimatedSalesEntity.getMajorCategoryName())
-                    .serviceMcategory(commEstimatedSalesEntity.getMiddleCategoryCode())
-                    .serviceMcategoryName(commEstimatedSalesEntity.getMiddleCategoryName())
-                    .build();
+            return setCommDistServiceScoreDTO(commDistEntity, commEstimatedSalesEntity,
+                    commDistEntity.getCommercialDistrictScore());
         } catch (Exception e) {
             log.error("getServiceCommDist error", e);
         }
@@ -177,38 +168,21 @@ public class CommDistRecommendService {
             if(commDistEntities.isEmpty()) return Collections.emptyList();
             List <CommDistServiceScoreDTO> commDistServiceScoreDTOS = new ArrayList<>();
 
-            for(CommDistEntity entity : commDistEntities) {
-                Long commCode = entity.getCommercialDistrictCode();
+            // 자치구 상권들의 업종 매출은 IN 으로 한 번에 조회
+            Map<Long, CommEstimatedSalesEntity> salesByCode = byCode(
+                    commEstimatedSalesRepository.findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+                            YEAR, QUARTER, serviceCode, codes(commDistEntities, CommDistEntity::getCommercialDistrictCode)),
+                    CommEstimatedSalesEntity::getCommercialDistrictCode);
 
-                CommEstimatedSalesEntity commEstimatedSalesEntity =
-                        commEstimatedSalesRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeAndServiceCode(
-                            YEAR, QUARTER, commCode, serviceCode);
+            for(CommDistEntity entity : commDistEntities) {
+                CommEstimatedSalesEntity commEstimatedSalesEntity = salesByCode.get(entity.getCommercialDistrictCode());
 
                 if(commEstimatedSalesEntity == null) {
                     continue;
                 }
 
-                CommDistServiceScoreDTO dto = CommDistServiceScoreDTO.builder()
-                        .commercialDistrictName(entity.getCommercialDistrictName())
-                        .latitude(entity.getLatitude())
-                        .longitude(entity.getLongitude())
-                        .guCode(entity.getGuCode())
-                        .guName(entity.getGuName())
-                        .dongCode(entity.getDongCode())
-                        .dongName(entity.getDongName())
-                        .areaSize(entity.getAreaSize())
-                        .commercialDistrictScore(commEstimatedSalesEntity.getCommercialServiceTotalScore())
-                        .salesScore(commEstimatedSalesEntity.getSalesScore())
-                        .residentPopulationScore(entity.getResidentPopulationScore())
-                        .floatingPopulationScore(entity.getFloatingPopulationScore())
-                        .rdiScore(entity.getRdiScore())
-                        .serviceBigCategory(commEstimatedSalesEntity.getMajorCategoryCode())
-                        .serviceCode(commEstimatedSalesEntity.getServiceCode())
-                        .serviceCodeName(commEstimatedSalesEntity.getServiceName())
-                        .serviceBigCategoryName(commEstimatedSalesEntity.getMajorCategoryName())
-                        .serviceMcategory(commEstimatedSalesEntity.getMiddleCategoryCode())
-                        .serviceMcategoryName(commEstimatedSalesEntity.getMiddleCategoryName())
-                        .build();
+                CommDistServiceScoreDTO dto = setCommDistServiceScoreDTO(entity, commEstimatedSalesEntity,
+                        commEstimatedSalesEntity.getCommercialServiceTotalScore());
 
                 commDistServiceScoreDTOS.add(dto);
             }
@@ -239,88 +213,144 @@ public class CommDistRecommendService {
         List<CommDistDTO> commDistDTOS = new ArrayList<>();
 
         for(CommDistEntity entity : list) {
-            CommDistDTO dto;
-
-            dto = CommDistDTO.builder()
-                    .commercialDistrictCode(entity.getCommercialDistrictCode())
-                    .commercialDistrictName(entity.getCommercialDistrictName())
-                    .latitude(entity.getLatitude())
-                    .longitude(entity.getLongitude())
-                    .guCode(entity.getGuCode())
-                    .guName(entity.getGuName())
-                    .dongCode(entity.getDongCode())
-                    .dongName(entity.getDongName())
-                    .areaSize(entity.getAreaSize())
-                    .commercialDistrictScore(entity.getCommercialDistrictScore())
-                    .salesScore(entity.getSalesScore())
-                    .residentPopulationScore(entity.getResidentPopulationScore())
-                    .floatingPopulationScore(entity.getFloatingPopulationScore())
-                    .rdiScore(entity.getRdiScore())
-                    .build();
-
-            commDistDTOS.add(dto);
+            commDistDTOS.add(setCommDistDto(entity));
         }
         return commDistDTOS;
     }
 
-    public List<CommDistRankDTO> setCommDistRankDTOs(List<CommDistDTO> commDistList, String serviceCode){
-
-
-        return commDistList.stream()
-                .map(dto -> {
-                    Long cdCode = dto.getCommercialDistrictCode();
-                    String name = dto.getCommercialDistrictName();
-
-                    // 현재 분기 매출
-                    CommEstimatedSalesEntity estimatedSalesEntity = commEstimatedSalesRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeAndServiceCode(
-                        YEAR, QUARTER, cdCode,serviceCode);
-
-                    // 현재 분기 총 업종 점포 수
-                    CommStoreTotalCountDTO commStoreTotalCountDTO = commStoreRepository.findStoreTotalCount(
-                        YEAR, QUARTER, cdCode);
-
-                    // 현재 분기 유동 인구 수
-                    CommFloatingPopulationEntity commFloatingPopulationEntity = commFloatingPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(cdCode,
-                        YEAR, QUARTER);
-
-                    // 현재 분기 상주 인구 수
-                    CommResidentPopulationEntity commResidentPopulationEntity = commResidentPopulationRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(cdCode,
-                        YEAR, QUARTER);
-
-                    Long totalScoreRank = commEstimatedSalesRepository.findByRank(
-                            YEAR, QUARTER, serviceCode
-                            )
-                            .stream()
-                            .filter(f -> f.getCommCode().equals(cdCode))
-                            .mapToLong(CommDistSetRankDTO::getRank)
-                            .findFirst()
-                            .orElse(0L);
-
-                    return CommDistRankDTO.builder()
-                            .cdCode(dto.getCommercialDistrictCode())
-                            .name(name)
-                            .totalScore(ValueScoreLong.builder()
-                                    .value(totalScoreRank)
-                                    .score(estimatedSalesEntity != null ? estimatedSalesEntity.getCommercialServiceTotalScore() : 0D)
-                                    .build())
-                            .sales(ValueScoreDouble.builder()
-                                    .value(estimatedSalesEntity != null ? estimatedSalesEntity.getMonthlySales() : 0D)
-                                    .score(estimatedSalesEntity != null ? estimatedSalesEntity.getSalesScore() : 0D)
-                                    .build())
-                            .businessDiversity(ValueScoreLong.builder()
-                                    .value(commStoreTotalCountDTO != null ? commStoreTotalCountDTO.getTotalStoreCount() : 0L)
-                                    .score(dto.getRdiScore())
-                                    .build())
-                            .footTraffic(ValueScoreLong.builder()
-                                    .value(commFloatingPopulationEntity != null ? commFloatingPopulationEntity.getTotalFloatingPopulation() : 0L)
-                                    .score(dto.getFloatingPopulationScore())
-                                    .build())
-                            .residentialPopulation(ValueScoreLong.builder()
-                                    .value(commResidentPopulationEntity != null ? commResidentPopulationEntity.getTotalResidentPopulation() : 0L)
-                                    .score(dto.getResidentPopulationScore())
-                                    .build())
-                            .build();
-                })
-                .toList();
+    public CommDistDTO setCommDistDto(CommDistEntity entity) {
+        return CommDistDTO.builder()
+                .commercialDistrictCode(entity.getCommercialDistrictCode())
+                .commercialDistrictName(entity.getCommercialDistrictName())
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
+                .guCode(entity.getGuCode())
+                .guName(entity.getGuName())
+                .dongCode(entity.getDongCode())
+                .dongName(entity.getDongName())
+                .areaSize(entity.getAreaSize())
+                .commercialDistrictScore(entity.getCommercialDistrictScore())
+                .salesScore(entity.getSalesScore())
+                .residentPopulationScore(entity.getResidentPopulationScore())
+                .floatingPopulationScore(entity.getFloatingPopulationScore())
+                .rdiScore(entity.getRdiScore())
+                .build();
+    }
+
+    /*
+     * 업종 순위 / 매출 / 점포 수 / 유동 인구 / 상주 인구를 상권 코드 IN 으로 한 번씩 조회해 나눠 실행 (FanOut, 시간 제한)
+     * 상권 수와 상관없이 요청당 조회 5개 (상권마다 4개씩 조회하던 N+1 제거)
+     */
+    public List<CommDistRankDTO> setCommDistRankDTOs(List<CommDistDTO> commDistList, String serviceCode)
+            throws InterruptedException, TimeoutException, ExecutionException {
+        List<Long> commCodes = codes(commDistList, CommDistDTO::getCommercialDistrictCode);
+        try (FanOut.Scope scope = fanOut.open()) {
+            Supplier<Map<Long, Long>> ranks = scope.fork(() -> commEstimatedSalesRepository.findByRank(
+                            YEAR, QUARTER, serviceCode)
+                    .stream()
+                    .collect(Collectors.toMap(CommDistSetRankDTO::getCommCode, CommDistSetRankDTO::getRank,
+                            (first, second) -> first)));
+            // 현재 분기 매출
+            Supplier<Map<Long, CommEstimatedSalesEntity>> sales = scope.fork(() -> byCode(
+                    commEstimatedSalesRepository.findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+                            YEAR, QUARTER, serviceCode, commCodes),
+                    CommEstimatedSalesEntity::getCommercialDistrictCode));
+            // 현재 분기 총 업종 점포 수
+            Supplier<Map<Long, CommStoreTotalCountDTO>> storeTotalCounts = scope.fork(() -> byCode(
+                    commStoreRepository.findStoreTotalCounts(YEAR, QUARTER, commCodes),
+                    CommStoreTotalCountDTO::getCommCode));
+            // 현재 분기 유동 인구 수
+            Supplier<Map<Long, CommFloatingPopulationEntity>> floatingPopulations = scope.fork(() -> byCode(
+                    commFloatingPopulationRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(
+                            YEAR, QUARTER, commCodes),
+                    CommFloatingPopulationEntity::getCommercialDistrictCode));
+            // 현재 분기 상주 인구 수
+            Supplier<Map<Long, CommResidentPopulationEntity>> residentPopulations = scope.fork(() -> byCode(
+                    commResidentPopulationRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(
+                            YEAR, QUARTER, commCodes),
+                    CommResidentPopulationEntity::getCommercialDistrictCode));
+            scope.join();
+
+            Map<Long, Long> rankByCode = ranks.get();
+            return commDistList.stream()
+                    .map(dto -> {
+                        Long cdCode = dto.getCommercialDistrictCode();
+                        return setCommDistRankDTO(dto, sales.get().get(cdCode), storeTotalCounts.get().get(cdCode),
+                                floatingPopulations.get().get(cdCode), residentPopulations.get().get(cdCode),
+                                rankByCode.getOrDefault(cdCode, 0L));
+                    })
+                    .toList();
+        }
+    }
+
+    private static <T> List<Long> codes(List<T> list, Function<T, Long> code) {
+        return list.stream().map(code).distinct().toList();
+    }
+
+    // 상권 코드별 한 행 (같은 상권이 여러 행이면 첫 행)
+    private static <T> Map<Long, T> byCode(List<T> rows, Function<T, Long> code) {
+        Map<Long, T> map = new HashMap<>();
+        for (T row : rows) {
+            map.putIfAbsent(code.apply(row), row);
+        }
+        return map;
+    }
+
+    // 업종별 상권 점수 (상권 총점은 호출하는 쪽에서 상권 / 업종 기준 중 선택)
+    public CommDistServiceScoreDTO setCommDistServiceScoreDTO(CommDistEntity entity, CommEstimatedSalesEntity salesEntity,
+                                                              Double commercialDistrictScore) {
+        return CommDistServiceScoreDTO.builder()
+                .commercialDistrictName(entity.getCommercialDistrictName())
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
+                .guCode(entity.getGuCode())
+                .guName(entity.getGuName())
+                .dongCode(entity.getDongCode())
+                .dongName(entity.getDongName())
+                .areaSize(entity.getAreaSize())
+                .commercialDistrictScore(commercialDistrictScore)
+                .salesScore(salesEntity.getSalesScore())
+                .residentPopulationScore(entity.getResidentPopulationScore())
+                .floatingPopulationScore(entity.getFloatingPopulationScore())
+                .rdiScore(entity.getRdiScore())
+                .serviceBigCategory(salesEntity.getMajorCategoryCode())
+                .serviceCode(salesEntity.getServiceCode())
+                .serviceCodeName(salesEntity.getServiceName())
+                .serviceBigCategoryName(salesEntity.getMajorCategoryName())
+                .serviceMcategory(salesEntity.getMiddleCategoryCode())
+                .serviceMcategoryName(salesEntity.getMiddleCategoryName())
+                .build();
+    }
+
+    // 조회하지 못한 지표(null)는 0
+    public CommDistRankDTO setCommDistRankDTO(CommDistDTO dto, CommEstimatedSalesEntity estimatedSalesEntity,
+                                              CommStoreTotalCountDTO commStoreTotalCountDTO,
+                                              CommFloatingPopulationEntity commFloatingPopulationEntity,
+                                              CommResidentPopulationEntity commResidentPopulationEntity,
+                                              Long totalScoreRank) {
+        return CommDistRankDTO.builder()
+                .cdCode(dto.getCommercialDistrictCode())
+                .name(dto.getCommercialDistrictName())
+                .totalScore(ValueScoreLong.builder()
+                        .value(totalScoreRank)
+                        .score(estimatedSalesEntity != null ? estimatedSalesEntity.getCommercialServiceTotalScore() : 0D)
+                        .build())
+                .sales(ValueScoreDouble.builder()
+                        .value(estimatedSalesEntity != null ? estimatedSalesEntity.getMonthlySales() : 0D)
+                        .score(estimatedSalesEntity != null ? estimatedSalesEntity.getSalesScore() : 0D)
+                        .build())
+                .businessDiversity(ValueScoreLong.builder()
+                        .value(commStoreTotalCountDTO != null ? commStoreTotalCountDTO.getTotalStoreCount() : 0L)
+                        .score(dto.getRdiScore())
+                        .build())
+                .footTraffic(ValueScoreLong.builder()
+                        .value(commFloatingPopulationEntity != null ? commFloatingPopulationEntity.getTotalFloatingPopulation() : 0L)
+                        .score(dto.getFloatingPopulationScore())
+                        .build())
+                .residentialPopulation(ValueScoreLong.builder()
+                        .value(commResidentPopulationEntity != null ? commResidentPopulationEntity.getTotalResidentPopulation() : 0L)
+                        .score(dto.getResidentPopulationScore())
+                        .build())
+                .build();
     }
 }
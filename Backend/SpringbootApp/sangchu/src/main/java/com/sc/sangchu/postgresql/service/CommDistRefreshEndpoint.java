@@ -0,0 +1,29 @@
+package com.sc.sangchu.postgresql.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * 분기 데이터 적재 작업이 끝난 뒤 호출하는 갱신 엔드포인트 (ADMIN 계정만, SecurityConfig)
+ * POST /actuator/rebuild  메모리 색인 재생성, 분기 캐시(스냅샷 / 히트맵 / 타일) 비움, 단계별 소요 시간 반환
+ * 인스턴스마다 메모리 색인을 따로 가지므로 인스턴스별로 호출
+ */
+@Component
+@WebEndpoint(id = "rebuild")
+public class CommDistRefreshEndpoint {
+    private final CommDistRefreshService commDistRefreshService;
+
+    @Autowired
+    public CommDistRefreshEndpoint(CommDistRefreshService commDistRefreshService) {
+        this.commDistRefreshService = commDistRefreshService;
+    }
+
+    @WriteOperation
+    public Map<String, String> rebuild() {
+        return commDistRefreshService.refreshAll();
+    }
+}
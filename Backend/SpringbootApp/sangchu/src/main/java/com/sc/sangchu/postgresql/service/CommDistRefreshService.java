@@ -0,0 +1,119 @@
+package com.sc.sangchu.postgresql.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 메모리 색인 / 캐시를 한 곳에서 갱신
+ *   기동 직후(ApplicationReadyEvent) 메모리 색인을 미리 만들어 첫 요청이 적재를 기다리지 않게 함 (index.warm-up.enabled)
+ *   분기 데이터 적재 후 POST /actuator/rebuild (CommDistRefreshEndpoint) 로 전체 갱신
+ * 단계 하나가 실패해도 나머지는 계속 진행, 실패한 색인은 이전 값을 유지
+ */
+@Service
+@Slf4j
+public class CommDistRefreshService {
+    private final CommDistSnapshotService commDistSnapshotService;
+    private final CommDistFilterService commDistFilterService;
+    private final CommDistSearchService commDistSearchService;
+    private final CommDistSimilarityService commDistSimilarityService;
+    private final CommDistClusterService commDistClusterService;
+    private final CommDistGapService commDistGapService;
+    private final CommDistCompetitionService commDistCompetitionService;
+    private final CommDistBoundaryService commDistBoundaryService;
+    private final CommDistHeatmapService commDistHeatmapService;
+    private final CommDistTileService commDistTileService;
+    private final CommDistLeaderboardService commDistLeaderboardService;
+    private final boolean warmUp;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public CommDistRefreshService(CommDistSnapshotService commDistSnapshotService,
+                                  CommDistFilterService commDistFilterService,
+                                  CommDistSearchService commDistSearchService,
+                                  CommDistSimilarityService commDistSimilarityService,
+                                  CommDistClusterService commDistClusterService,
+                                  CommDistGapService commDistGapService,
+                                  CommDistCompetitionService commDistCompetitionService,
+                                  CommDistBoundaryService commDistBoundaryService,
+                                  CommDistHeatmapService commDistHeatmapService,
+                                  CommDistTileService commDistTileService,
+                                  CommDistLeaderboardService commDistLeaderboardService,
+                                  @Value("${index.warm-up.enabled:true}") boolean warmUp) {
+        this.commDistSnapshotService = commDistSnapshotService;
+        this.commDistFilterService = commDistFilterService;
+        this.commDistSearchService = commDistSearchService;
+        this.commDistSimilarityService = commDistSimilarityService;
+        this.commDistClusterService = commDistClusterService;
+        this.commDistGapService = commDistGapService;
+        this.commDistCompetitionService = commDistCompetitionService;
+        this.commDistBoundaryService = commDistBoundaryService;
+        this.commDistHeatmapService = commDistHeatmapService;
+        this.commDistTileService = commDistTileService;
+        this.commDistLeaderboardService = commDistLeaderboardService;
+        this.warmUp = warmUp;
+    }
+
+    // 기동 시에는 메모리 색인만 만듦 (Redis 타일 캐시는 다른 인스턴스도 쓰므로 지우지 않고, 순위표는 없을 때만 만듦)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) return;
+        lock.lock();
+        try {
+            Map<String, String> result = new LinkedHashMap<>();
+            run(result, "filter", commDistFilterService::rebuild);
+            run(result, "search", commDistSearchService::rebuild);
+            run(result, "similarity", commDistSimilarityService::rebuild);
+            run(result, "cluster", commDistClusterService::rebuild);
+            run(result, "gap", commDistGapService::rebuild);
+            run(result, "competition", commDistCompetitionService::rebuild);
+            run(result, "boundary", commDistBoundaryService::reload);
+            run(result, "leaderboard", commDistLeaderboardService::ensureBuilt);
+            log.info("index warm-up: {}", result);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 분기 데이터 적재 후 전체 갱신, 단계별 소요 시간(ms) 또는 실패 메시지
+    public Map<String, String> refreshAll() {
+        lock.lock();
+        try {
+            Map<String, String> result = new LinkedHashMap<>();
+            // gap / competition 은 snapshot 을 읽으므로 snapshot 을 먼저 비움
+            run(result, "snapshot", commDistSnapshotService::rebuild);
+            run(result, "filter", commDistFilterService::rebuild);
+            run(result, "search", commDistSearchService::rebuild);
+            run(result, "similarity", commDistSimilarityService::rebuild);
+            run(result, "cluster", commDistClusterService::rebuild);
+            run(result, "gap", commDistGapService::rebuild);
+            run(result, "competition", commDistCompetitionService::rebuild);
+            run(result, "boundary", commDistBoundaryService::reload);
+            run(result, "heatmap", commDistHeatmapService::rebuild);
+            run(result, "tile", commDistTileService::rebuild);
+            run(result, "leaderboard", commDistLeaderboardService::rebuild);
+            log.info("index refresh: {}", result);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void run(Map<String, String> result, String name, Runnable step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+            result.put(name, (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (Exception e) {
+            log.error("index refresh error: {}", name, e);
+            result.put(name, "error: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistSuggestionDTO;
+import com.sc.sangchu.index.CompletionTrie;
+import com.sc.sangchu.index.HangulJamo;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+@Slf4j
+public class CommDistSearchService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+    private static final Integer MAX_QUERY_LENGTH = 30;
+    // 이름 맨 앞부터 일치하면 중간 일치보다 항상 위 (점수는 0 ~ 100)
+    private static final double PREFIX_BONUS = 1000;
+
+    private final Lazy<SearchIndex> searchIndex = new Lazy<>(this::buildSearchIndex);
+
+    @Autowired
+    public CommDistSearchService(ReadOnlyCommDistRepository commDistRepository) {
+        this.commDistRepository = commDistRepository;
+    }
+
+    /*
+     * 상권명, 행정동명, 자치구명 자동완성
+     * 자모 단위 앞/중간 일치 ("강ㄴ", "남역"), 초성만 입력하면 초성 일치 ("ㄱㄴㅇ") 결과를 먼저 반환
+     */
+    public List<CommDistSuggestionDTO> suggest(String query, Integer limit) {
+        try {
+            if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) return List.of();
+            SearchIndex current = searchIndex.get();
+            int size = Math.max(1, Math.min(limit, CompletionTrie.TOP_K));
+
+            LinkedHashSet<Integer> items = new LinkedHashSet<>();
+            if (HangulJamo.isChosungOnly(query)) {
+                for (int item : current.chosung.search(HangulJamo.chosung(query), size)) items.add(item);
+            }
+            for (int item : current.jamo.search(HangulJamo.decompose(query), size)) items.add(item);
+
+            return items.stream()
+                    .limit(size)
+                    .map(current.items::get)
+                    .toList();
+        } catch (Exception e) {
+            log.error("suggest error", e);
+        }
+        return null;
+    }
+
+    // 상권 데이터 변경 후 인덱스 재생성
+    public void rebuild() {
+        searchIndex.reload();
+    }
+
+    private SearchIndex buildSearchIndex() {
+        long start = System.nanoTime();
+        List<CommDistEntity> districts = commDistRepository.findAll();
+        List<CommDistSuggestionDTO> items = new ArrayList<>();
+        Map<Long, CommDistSuggestionDTO> dongs = new LinkedHashMap<>();
+        Map<Long, CommDistSuggestionDTO> gus = new LinkedHashMap<>();
+
+        for (CommDistEntity entity : districts) {
+            double score = entity.getCommercialDistrictScore() == null ? 0 : entity.getCommercialDistrictScore();
+            items.add(CommDistSuggestionDTO.builder()
+                    .type("commercialDistrict")
+                    .name(entity.getCommercialDistrictName())
+                    .commercialDistrictCode(entity.getCommercialDistrictCode())
+                    .latitude(entity.getLatitude())
+                    .longitude(entity.getLongitude())
+                    .guCode(entity.getGuCode())
+                    .guName(entity.getGuName())
+                    .dongCode(entity.getDongCode())
+                    .dongName(entity.getDongName())
+                    .commercialDistrictScore(score)
+                    .build());
+            if (entity.getDongCode() != null && entity.getDongName() != null) {
+                CommDistSuggestionDTO dong = dongs.computeIfAbsent(entity.getDongCode(), code -> CommDistSuggestionDTO.builder()
+                        .type("dong")
+                        .name(entity.getDongName())
+                        .guCode(entity.getGuCode())
+                        .guName(entity.getGuName())
+                        .dongCode(entity.getDongCode())
+                        .dongName(entity.getDongName())
+                        .commercialDistrictScore(score)
+                        .build());
+                dong.setCommercialDistrictScore(Math.max(dong.getCommercialDistrictScore(), score));
+            }
+            if (entity.getGuCode() != null && entity.getGuName() != null) {
+                CommDistSuggestionDTO gu = gus.computeIfAbsent(entity.getGuCode(), code -> CommDistSuggestionDTO.builder()
+                        .type("gu")
+                        .name(entity.getGuName())
+                        .guCode(entity.getGuCode())
+                        .guName(entity.getGuName())
+                        .commercialDistrictScore(score)
+                        .build());
+                gu.setCommercialDistrictScore(Math.max(gu.getCommercialDistrictScore(), score));
+            }
+        }
+        items.addAll(dongs.values());
+        items.addAll(gus.values());
+
+        // 음절 경계마다 시작하는 접미사를 모두 키로 넣어 중간 일치도 접두어 검색으로 처리
+        CompletionTrie.Builder jamo = new CompletionTrie.Builder();
+        CompletionTrie.Builder chosung = new CompletionTrie.Builder();
+        for (int item = 0; item < items.size(); item++) {
+            CommDistSuggestionDTO suggestion = items.get(item);
+            if (suggestion.getName() == null) continue;
+            double weight = suggestion.getCommercialDistrictScore();
+
+            HangulJamo.Decomposed decomposed = HangulJamo.decomposeWithStarts(suggestion.getName());
+            int[] starts = decomposed.getSyllableStarts();
+            for (int i = 0; i < starts.length; i++) {
+                jamo.add(decomposed.getJamo().substring(starts[i]), item, i == 0 ? weight + PREFIX_BONUS : weight);
+            }
+            String initials = HangulJamo.chosung(suggestion.getName());
+            for (int i = 0; i < initials.length(); i++) {
+                chosung.add(initials.substring(i), item, i == 0 ? weight + PREFIX_BONUS : weight);
+            }
+        }
+
+        SearchIndex result = new SearchIndex(items, jamo.build(), chosung.build());
+        log.info("district search index built: {} items, {} jamo nodes, {} chosung nodes, {} ms", items.size(),
+                result.jamo.nodeCount(), result.chosung.nodeCount(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private static final class SearchIndex {
+        private final List<CommDistSuggestionDTO> items;
+        private final CompletionTrie jamo;
+        private final CompletionTrie chosung;
+
+        private SearchIndex(List<CommDistSuggestionDTO> items, CompletionTrie jamo, CompletionTrie chosung) {
+            this.items = items;
+            this.jamo = jamo;
+            this.chosung = chosung;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.dto.CommDistSimilarDTO;
+import com.sc.sangchu.index.DistanceMetric;
+import com.sc.sangchu.index.KnnHeap;
+import com.sc.sangchu.index.VectorIndex;
+import com.sc.sangchu.postgresql.entity.*;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class CommDistSimilarityService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+    private final CommEstimatedSalesRepository commEstimatedSalesRepository;
+    private final CommFloatingPopulationRepository commFloatingPopulationRepository;
+    private final CommResidentPopulationRepository commResidentPopulationRepository;
+    private final CommWorkingPopulationRepository commWorkingPopulationRepository;
+    private final CommFacilitiesRepository commFacilitiesRepository;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    private static final Integer MAX_K = 50;
+
+    // 특성 그룹별 열 수 : 점수 5, 연령/시간대/요일 매출 비율 6 + 6 + 7, 인구 구성 4, 집객시설 5
+    private static final int[] FEATURE_GROUPS = {5, 19, 4, 5};
+    private static final int DIM = 33;
+
+    private final Lazy<SimilarityIndex> index = new Lazy<>(this::buildIndex);
+
+    @Autowired
+    public CommDistSimilarityService(ReadOnlyCommDistRepository commDistRepository,
+                                     CommEstimatedSalesRepository commEstimatedSalesRepository,
+                                     CommFloatingPopulationRepository commFloatingPopulationRepository,
+                                     CommResidentPopulationRepository commResidentPopulationRepository,
+                                     CommWorkingPopulationRepository commWorkingPopulationRepository,
+                                     CommFacilitiesRepository commFacilitiesRepository) {
+        this.commDistRepository = commDistRepository;
+        this.commEstimatedSalesRepository = commEstimatedSalesRepository;
+        this.commFloatingPopulationRepository = commFloatingPopulationRepository;
+        this.commResidentPopulationRepository = commResidentPopulationRepository;
+        this.commWorkingPopulationRepository = commWorkingPopulationRepository;
+        this.commFacilitiesRepository = commFacilitiesRepository;
+    }
+
+    // 특정 상권과 유사한 상권 k개 조회
+    public List<CommDistSimilarDTO> getSimilarCommDist(Long commCode, Integer k, String metricName) {
+        try {
+            DistanceMetric metric = DistanceMetric.from(metricName);
+            SimilarityIndex current = index.get();
+            Integer row = current.rowByCode.get(commCode);
+            if (row == null) return null;
+
+            int limit = Math.max(1, Math.min(k, MAX_K));
+            KnnHeap.Neighbors neighbors = current.vectors.nearest(row, limit, metric);
+            List<CommDistSimilarDTO> result = new ArrayList<>(neighbors.size());
+            for (int i = 0; i < neighbors.size(); i++) {
+                CommDistEntity entity = current.districts.get(neighbors.row(i));
+                result.add(CommDistSimilarDTO.builder()
+                        .commercialDistrictCode(entity.getCommercialDistrictCode())
+                        .commercialDistrictName(entity.getCommercialDistrictName())
+                        .latitude(entity.getLatitude())
+                        .longitude(entity.getLongitude())
+                        .guCode(entity.getGuCode())
+                        .guName(entity.getGuName())
+                        .dongName(entity.getDongName())
+                        .commercialDistrictScore(entity.getCommercialDistrictScore())
+                        .distance((double) neighbors.distance(i))
+                        .build());
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("getSimilarCommDist error", e);
+        }
+        return null;
+    }
+
+    // 데이터 적재 후 인덱스 재생성
+    public void rebuild() {
+        index.reload();
+    }
+
+    private SimilarityIndex buildIndex() {
+        long start = System.nanoTime();
+        List<CommDistEntity> districts = commDistRepository.findAll();
+        int n = districts.size();
+        Map<Long, Integer> rowByCode = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            rowByCode.put(districts.get(i).getCommercialDistrictCode(), i);
+        }
+
+        float[] data = new float[n * DIM];
+
+        // 점수
+        for (int i = 0; i < n; i++) {
+            CommDistEntity entity = districts.get(i);
+            int offset = i * DIM;
+            data[offset] = value(entity.getCommercialDistrictScore());
+            data[offset + 1] = value(entity.getSalesScore());
+            data[offset + 2] = value(entity.getResidentPopulationScore());
+            data[offset + 3] = value(entity.getFloatingPopulationScore());
+            data[offset + 4] = value(entity.getRdiScore());
+        }
+
+        // 연령, 시간대, 요일별 매출 (업종 합산 후 비율로 변환)
+        for (CommEstimatedSalesEntity sales : commEstimatedSalesRepository.findByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(sales.getCommercialDistrictCode());
+            if (row == null) continue;
+            int offset = row * DIM + 5;
+            data[offset] += value(sales.getAge10Sales());
+            data[offset + 1] += value(sales.getAge20Sales());
+            data[offset + 2] += value(sales.getAge30Sales());
+            data[offset + 3] += value(sales.getAge40Sales());
+            data[offset + 4] += value(sales.getAge50Sales());
+            data[offset + 5] += value(sales.getAgeOver60Sales());
+            data[offset + 6] += value(sales.getTime00To06Sales());
+            data[offset + 7] += value(sales.getTime06To11Sales());
+            data[offset + 8] += value(sales.getTime11To14Sales());
+            data[offset + 9] += value(sales.getTime14To17Sales());
+            data[offset + 10] += value(sales.getTime17To21Sales());
+            data[offset + 11] += value(sales.getTime21To24Sales());
+            data[offset + 12] += value(sales.getMonSales());
+            data[offset + 13] += value(sales.getTueSales());
+            data[offset + 14] += value(sales.getWedSales());
+            data[offset + 15] += value(sales.getThuSales());
+            data[offset + 16] += value(sales.getFriSales());
+            data[offset + 17] += value(sales.getSatSales());
+            data[offset + 18] += value(sales.getSunSales());
+        }
+        for (int i = 0; i < n; i++) {
+            int offset = i * DIM + 5;
+            toShare(data, offset, 6);
+            toShare(data, offset + 6, 6);
+            toShare(data, offset + 12, 7);
+        }
+
+        // 인구 구성 : 유동/상주/직장 인구 비율 + 전체 인구 규모(log)
+        float[] population = new float[n * 3];
+        for (CommFloatingPopulationEntity entity : commFloatingPopulationRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(entity.getCommercialDistrictCode());
+            if (row != null) population[row * 3] = value(entity.getTotalFloatingPopulation());
+        }
+        for (CommResidentPopulationEntity entity : commResidentPopulationRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(entity.getCommercialDistrictCode());
+            if (row != null) population[row * 3 + 1] = value(entity.getTotalResidentPopulation());
+        }
+        for (CommWorkingPopulationEntity entity : commWorkingPopulationRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(entity.getCommercialDistrictCode());
+            if (row != null) population[row * 3 + 2] = value(entity.getTotalWorkingPopulation());
+        }
+        for (int i = 0; i < n; i++) {
+            int offset = i * DIM + 24;
+            float total = population[i * 3] + population[i * 3 + 1] + population[i * 3 + 2];
+            System.arraycopy(population, i * 3, data, offset, 3);
+            toShare(data, offset, 3);
+            data[offset + 3] = (float) Math.log1p(total);
+        }
+
+        // 집객시설 (log 스케일)
+        for (CommFacilitiesEntity entity : commFacilitiesRepository.findAllByYearCodeAndQuarterCode(YEAR, QUARTER)) {
+            Integer row = rowByCode.get(entity.getCommercialDistrictCode());
+            if (row == null) continue;
+            int offset = row * DIM + 28;
+            data[offset] = (float) Math.log1p(value(entity.getFacilities()));
+            data[offset + 1] = (float) Math.log1p(value(entity.getBus()));
+            data[offset + 2] = (float) Math.log1p(value(entity.getCulTouristFacilities()));
+            data[offset + 3] = (float) Math.log1p(value(entity.getEducationalFacilities()));
+            data[offset + 4] = (float) Math.log1p(value(entity.getTrainSubway()));
+        }
+
+        standardize(data, n);
+
+        SimilarityIndex built = new SimilarityIndex(districts, rowByCode, new VectorIndex(data, DIM));
+        log.info("similarity index built: {} districts, {} dims, {} ms", n, DIM, (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    // 열마다 z-score 표준화 후, 열 수가 많은 그룹이 거리를 지배하지 않도록 그룹 크기의 제곱근으로 나눔
+    private void standardize(float[] data, int n) {
+        if (n == 0) return;
+        int column = 0;
+        for (int groupSize : FEATURE_GROUPS) {
+            float groupWeight = (float) (1.0 / Math.sqrt(groupSize));
+            for (int g = 0; g < groupSize; g++, column++) {
+                double sum = 0;
+                double squareSum = 0;
+                for (int i = 0; i < n; i++) {
+                    double v = data[i * DIM + column];
+                    sum += v;
+                    squareSum += v * v;
+                }
+                double mean = sum / n;
+                double std = Math.sqrt(Math.max(squareSum / n - mean * mean, 0));
+                float scale = std > 0 ? (float) (groupWeight / std) : 0f;
+                for (int i = 0; i < n; i++) {
+                    int idx = i * DIM + column;
+                    data[idx] = (float) (data[idx] - mean) * scale;
+                }
+            }
+        }
+    }
+
+    private void toShare(float[] data, int offset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) sum += data[offset + i];
+        if (sum <= 0f) return;
+        for (int i = 0; i < length; i++) data[offset + i] /= sum;
+    }
+
+    private float value(Number number) {
+        return number != null ? number.floatValue() : 0f;
+    }
+
+    private static final class SimilarityIndex {
+        private final List<CommDistEntity> districts;
+        private final Map<Long, Integer> rowByCode;
+        private final VectorIndex vectors;
+
+        private SimilarityIndex(List<CommDistEntity> districts, Map<Long, Integer> rowByCode, VectorIndex vectors) {
+            this.districts = districts;
+            this.rowByCode = rowByCode;
+            this.vectors = vectors;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.geo.StrTree;
+import com.sc.sangchu.postgresql.entity.*;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 분기별 상권 지표 스냅샷 (메모리)
+ * 상권 하나가 한 행인 열 배열, 업종별 지표는 [행 * 업종 수 + 업종] 으로 저장
+ * 반경 집계, 경쟁 밀도, 수요-공급 분석처럼 전 상권을 훑는 계산이 요청마다 쿼리하지 않도록 분기별로 한 번만 적재
+ */
+@Service
+@Slf4j
+public class CommDistSnapshotService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+    private final CommEstimatedSalesRepository commEstimatedSalesRepository;
+    private final CommStoreRepository commStoreRepository;
+    private final CommFloatingPopulationRepository commFloatingPopulationRepository;
+    private final CommResidentPopulationRepository commResidentPopulationRepository;
+    private final CommWorkingPopulationRepository commWorkingPopulationRepository;
+    private final CommIncomeRepository commIncomeRepository;
+    private static final int MAX_SNAPSHOTS = 4;
+
+    // 분기별 적재 결과, 적재 중인 분기는 완료되지 않은 future
+    private final Map<String, CompletableFuture<Snapshot>> snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Snapshot>> eldest) {
+            return size() > MAX_SNAPSHOTS;
+        }
+    };
+    // snapshots 조회 / 등록에만 잡는 짧은 lock (적재는 lock 밖에서), 가상 스레드에서도 캐리어 스레드를 붙잡지 않음
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public CommDistSnapshotService(ReadOnlyCommDistRepository commDistRepository,
+                                   CommEstimatedSalesRepository commEstimatedSalesRepository,
+                                   CommStoreRepository commStoreRepository,
+                                   CommFloatingPopulationRepository commFloatingPopulationRepository,
+                                   CommResidentPopulationRepository commResidentPopulationRepository,
+                                   CommWorkingPopulationRepository commWorkingPopulationRepository,
+                                   CommIncomeRepository commIncomeRepository) {
+        this.commDistRepository = commDistRepository;
+        this.commEstimatedSalesRepository = commEstimatedSalesRepository;
+        this.commStoreRepository = commStoreRepository;
+        this.commFloatingPopulationRepository = commFloatingPopulationRepository;
+        this.commResidentPopulationRepository = commResidentPopulationRepository;
+        this.commWorkingPopulationRepository = commWorkingPopulationRepository;
+        this.commIncomeRepository = commIncomeRepository;
+    }
+
+    // 적재는 lock 밖에서 처음 요청한 스레드가 수행, 같은 분기를 요청한 스레드만 그 적재를 기다림
+    // 실패하면 등록을 지워 다음 요청이 다시 적재
+    public Snapshot getSnapshot(int year, int quarter) {
+        String key = year + ":" + quarter;
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> future;
+        lock.lock();
+        try {
+            future = snapshots.putIfAbsent(key, created);
+        } finally {
+            lock.unlock();
+        }
+        if (future == null) {
+            future = created;
+            try {
+                created.complete(load(year, quarter));
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    snapshots.remove(key, created);
+                } finally {
+                    lock.unlock();
+                }
+                created.completeExceptionally(e);
+            }
+        }
+        return future.join();
+    }
+
+    // 분기 데이터 적재 후 호출
+    public void rebuild() {
+        lock.lock();
+        try {
+            snapshots.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot load(int year, int quarter) {
+        long start = System.nanoTime();
+        List<CommDistEntity> districts = commDistRepository.findAll().stream()
+                .filter(entity -> entity.getLatitude() != null && entity.getLongitude() != null)
+                .toList();
+        Snapshot snapshot = new Snapshot(year, quarter, districts);
+
+        // 업종 목록 (매출 / 점포 어느 쪽에만 있는 업종도 포함)
+        List<CommEstimatedSalesEntity> salesRows = commEstimatedSalesRepository.findByYearCodeAndQuarterCode(year, quarter);
+        List<CommStoreEntity> storeRows = commStoreRepository.findAllByYearCodeAndQuarterCode(year, quarter);
+        Map<String, String> services = new TreeMap<>();
+        for (CommEstimatedSalesEntity sales : salesRows) services.putIfAbsent(sales.getServiceCode(), sales.getServiceName());
+        for (CommStoreEntity store : storeRows) services.putIfAbsent(store.getServiceCode(), store.getServiceName());
+        snapshot.setServices(services);
+
+        int n = snapshot.size;
+        int s = snapshot.serviceCount;
+        for (CommEstimatedSalesEntity sales : salesRows) {
+            Integer row = snapshot.rowByCode.get(sales.getCommercialDistrictCode());
+            if (row == null) continue;
+            snapshot.sales[row * s + snapshot.serviceIndex.get(sales.getServiceCode())] += value(sales.getMonthlySales());
+        }
+        for (CommStoreEntity store : storeRows) {
+            Integer row = snapshot.rowByCode.get(store.getCommercialDistrictCode());
+            if (row == null) continue;
+            int cell = row * s + snapshot.serviceIndex.get(store.getServiceCode());
+            snapshot.storeCount[cell] += value(store.getStoreCount());
+            snapshot.franchiseStoreCount[cell] += value(store.getFranchiseStoreCount());
+        }
+        for (CommFloatingPopulationEntity population :
+                commFloatingPopulationRepository.findAllByYearCodeAndQuarterCode(year, quarter)) {
+            Integer row = snapshot.rowByCode.get(population.getCommercialDistrictCode());
+            if (row != null) snapshot.floatingPopulation[row] += value(population.getTotalFloatingPopulation());
+        }
+        for (CommResidentPopulationEntity population :
+                commResidentPopulationRepository.findAllByYearCodeAndQuarterCode(year, quarter)) {
+            Integer row = snapshot.rowByCode.get(population.getCommercialDistrictCode());
+            if (row != null) snapshot.residentPopulation[row] += value(population.getTotalResidentPopulation());
+        }
+        for (CommWorkingPopulationEntity population :
+                commWorkingPopulationRepository.findAllByYearCodeAndQuarterCode(year, quarter)) {
+            Integer row = snapshot.rowByCode.get(population.getCommercialDistrictCode());
+            if (row != null) snapshot.workingPopulation[row] += value(population.getTotalWorkingPopulation());
+        }
+        for (CommIncomeEntity income : commIncomeRepository.findAllByYearCodeAndQuarterCode(year, quarter)) {
+            Integer row = snapshot.rowByCode.get(income.getCommercialDistrictCode());
+            if (row != null) snapshot.income[row] = value(income.getMonthlyAverageIncomeAmount());
+        }
+
+        log.info("district snapshot loaded: {}/{}, {} districts, {} services, {} ms", year, quarter, n, s,
+                (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    private float value(Number number) {
+        return number == null ? 0f : number.floatValue();
+    }
+
+    public static final class Snapshot {
+        private final int year;
+        private final int quarter;
+        private final int size;
+        private final List<CommDistEntity> districts;
+        private final Map<Long, Integer> rowByCode;
+        private final double[] latitude;
+        private final double[] longitude;
+        // 상권 면적(m²)
+        private final double[] areaSize;
+        private final float[] floatingPopulation;
+        private final float[] residentPopulation;
+        private final float[] workingPopulation;
+        // 월 평균 소득
+        private final float[] income;
+        // 상권 중심점 R-tree (경위도)
+        private final StrTree index;
+
+        private int serviceCount;
+        private String[] serviceCodes;
+        private String[] serviceNames;
+        private Map<String, Integer> serviceIndex;
+        private float[] sales;
+        private float[] storeCount;
+        private float[] franchiseStoreCount;
+
+        private Snapshot(int year, int quarter, List<CommDistEntity> districts) {
+            this.year = year;
+            this.quarter = quarter;
+            this.size = districts.size();
+            this.districts = districts;
+            this.rowByCode = new HashMap<>(size * 2);
+            this.latitude = new double[size];
+            this.longitude = new double[size];
+            this.areaSize = new double[size];
+            this.floatingPopulation = new float[size];
+            this.residentPopulation = new float[size];
+            this.workingPopulation = new float[size];
+            this.income = new float[size];
+            double[] boxes = new double[size * 4];
+            for (int i = 0; i < size; i++) {
+                CommDistEntity entity = districts.get(i);
+                rowByCode.put(entity.getCommercialDistrictCode(), i);
+                latitude[i] = entity.getLatitude();
+                longitude[i] = entity.getLongitude();
+                areaSize[i] = entity.getAreaSize() == null ? 0 : entity.getAreaSize();
+                boxes[i * 4] = boxes[i * 4 + 2] = longitude[i];
+                boxes[i * 4 + 1] = boxes[i * 4 + 3] = latitude[i];
+            }
+            this.index = new StrTree(boxes);
+        }
+
+        private void setServices(Map<String, String> services) {
+            serviceCount = services.size();
+            serviceCodes = services.keySet().toArray(new String[0]);
+            serviceNames = services.values().toArray(new String[0]);
+            serviceIndex = new HashMap<>(serviceCount * 2);
+            for (int i = 0; i < serviceCount; i++) serviceIndex.put(serviceCodes[i], i);
+            sales = new float[size * serviceCount];
+            storeCount = new float[size * serviceCount];
+            franchiseStoreCount = new float[size * serviceCount];
+        }
+
+        public int getYear() {
+            return year;
+        }
+
+        public int getQuarter() {
+            return quarter;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public CommDistEntity district(int row) {
+            return districts.get(row);
+        }
+
+        // 상권 코드 -> 행 번호, 없으면 null
+        public Integer row(Long commercialDistrictCode) {
+            return rowByCode.get(commercialDistrictCode);
+        }
+
+        public double latitude(int row) {
+            return latitude[row];
+        }
+
+        public double longitude(int row) {
+            return longitude[row];
+        }
+
+        public double areaSize(int row) {
+            return areaSize[row];
+        }
+
+        public float floatingPopulation(int row) {
+            return floatingPopulation[row];
+        }
+
+        public float residentPopulation(int row) {
+            return residentPopulation[row];
+        }
+
+        public float workingPopulation(int row) {
+            return workingPopulation[row];
+        }
+
+        public float income(int row) {
+            return income[row];
+        }
+
+        public StrTree index() {
+            return index;
+        }
+
+        public int serviceCount() {
+            return serviceCount;
+        }
+
+        public String serviceCode(int service) {
+            return serviceCodes[service];
+        }
+
+        public String serviceName(int service) {
+            return serviceNames[service];
+        }
+
+        // 업종 코드 -> 업종 번호, 없으면 null
+        public Integer service(String serviceCode) {
+            return serviceIndex.get(serviceCode);
+        }
+
+        public float sales(int row, int service) {
+            return sales[row * serviceCount + service];
+        }
+
+        public float storeCount(int row, int service) {
+            return storeCount[row * serviceCount + service];
+        }
+
+        public float franchiseStoreCount(int row, int service) {
+            return franchiseStoreCount[row * serviceCount + service];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.Lazy;
+import com.sc.sangchu.geo.DistrictBoundary;
+import com.sc.sangchu.geo.MvtEncoder;
+import com.sc.sangchu.geo.TileGeometry;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+@Slf4j
+public class CommDistTileService {
+    private final ReadOnlyCommDistRepository commDistRepository;
+    private final CommDistBoundaryService commDistBoundaryService;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final Duration ttl;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+
+    // 경계 단순화 단계의 최대 줌까지만 생성, 더 큰 줌은 클라이언트가 이 줌 타일을 확대(overzoom)해 사용
+    public static final int MAX_ZOOM = CommDistBoundaryService.MAX_ZOOM;
+    private static final int DELETE_BATCH = 1000;
+    // 이 줌 미만에서는 폴리곤 대신 상권 중심점만 내려줌
+    private static final int POLYGON_MIN_ZOOM = 12;
+    private static final int EXTENT = 4096;
+    // 경계선이 타일 이음매에서 끊겨 보이지 않도록 타일 밖 여유 영역(타일 좌표)
+    private static final int BUFFER = 64;
+    // 타일 좌표 기준 단순화 허용 오차 (256px 타일에서 약 1/4 px)
+    private static final double TOLERANCE = 4.0;
+
+    private final Lazy<Map<Long, CommDistEntity>> districts = new Lazy<>(this::loadDistricts);
+
+    @Autowired
+    public CommDistTileService(ReadOnlyCommDistRepository commDistRepository,
+                               CommDistBoundaryService commDistBoundaryService,
+                               RedisTemplate<String, byte[]> binaryRedisTemplate,
+                               @Value("${cache.tile.ttl:1d}") Duration ttl) {
+        this.commDistRepository = commDistRepository;
+        this.commDistBoundaryService = commDistBoundaryService;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    // 상권 점수 벡터 타일 조회, 범위를 벗어난 타일(줌 0~MAX_ZOOM)은 null, 피처가 없는 타일은 길이 0 배열
+    public byte[] getTile(Integer z, Integer x, Integer y) {
+        try {
+            if (z < 0 || z > MAX_ZOOM) return null;
+            int max = 1 << z;
+            if (x < 0 || x >= max || y < 0 || y >= max) return null;
+
+            String cacheKey = keyPrefix() + z + ":" + x + ":" + y;
+            byte[] cached = binaryRedisTemplate.opsForValue().get(cacheKey);
+            if (cached != null) return cached;
+
+            // 빈 타일(상권 밖 바다 / 시 외곽)은 만들기 싸고 수가 많아 캐시하지 않음
+            byte[] tile = buildTile(z, x, y);
+            if (tile.length > 0) binaryRedisTemplate.opsForValue().set(cacheKey, tile, ttl);
+            return tile;
+        } catch (Exception e) {
+            log.error("getTile error", e);
+        }
+        return null;
+    }
+
+    private byte[] buildTile(int z, int x, int y) {
+        TileGeometry geometry = new TileGeometry(z, x, y, EXTENT, BUFFER, TOLERANCE);
+        double[] bounds = geometry.bounds();
+        Map<Long, CommDistEntity> current = districts.get();
+        MvtEncoder encoder = new MvtEncoder(EXTENT);
+        int features = 0;
+
+        List<DistrictBoundary> boundaries = z >= POLYGON_MIN_ZOOM
+                ? commDistBoundaryService.findInBox(bounds[0], bounds[1], bounds[2], bounds[3])
+                : List.of();
+        if (!boundaries.isEmpty()) {
+            MvtEncoder.Layer layer = encoder.layer("districts");
+            for (DistrictBoundary boundary : boundaries) {
+                List<int[]> rings = new ArrayList<>();
+                for (double[][] polygon : boundary.getPolygons()) {
+                    int[] shell = geometry.ring(polygon[0]);
+                    if (shell == null) continue; // 외곽 링이 잘려 사라지면 구멍도 생략
+                    rings.add(shell);
+                    for (int i = 1; i < polygon.length; i++) {
+                        int[] hole = geometry.ring(polygon[i]);
+                        if (hole != null) rings.add(hole);
+                    }
+                }
+                if (rings.isEmpty()) continue;
+                Long code = boundary.getCommercialDistrictCode();
+                layer.addPolygon(code == null ? 0 : code, rings, attributes(current.get(code), boundary));
+                features++;
+            }
+            return features == 0 ? new byte[0] : encoder.encode();
+        }
+
+        MvtEncoder.Layer layer = encoder.layer("district_centroids");
+        for (CommDistEntity entity : current.values()) {
+            if (entity.getLatitude() == null || entity.getLongitude() == null) continue;
+            int[] point = geometry.point(entity.getLongitude(), entity.getLatitude());
+            if (point == null) continue;
+            layer.addPoint(entity.getCommercialDistrictCode(), point[0], point[1], attributes(entity, null));
+            features++;
+        }
+        return features == 0 ? new byte[0] : encoder.encode();
+    }
+
+    // 점수가 없는 상권(경계만 있는 상권)은 경계 데이터의 이름만 기록
+    private Map<String, Object> attributes(CommDistEntity entity, DistrictBoundary boundary) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if (entity == null) {
+            attributes.put("commercialDistrictCode", boundary.getCommercialDistrictCode());
+            attributes.put("commercialDistrictName", boundary.getCommercialDistrictName());
+            attributes.put("guName", boundary.getGuName());
+            return attributes;
+        }
+        attributes.put("commercialDistrictCode", entity.getCommercialDistrictCode());
+        attributes.put("commercialDistrictName", entity.getCommercialDistrictName());
+        attributes.put("guName", entity.getGuName());
+        attributes.put("commercialDistrictScore", entity.getCommercialDistrictScore());
+        attributes.put("salesScore", entity.getSalesScore());
+        attributes.put("residentPopulationScore", entity.getResidentPopulationScore());
+        attributes.put("floatingPopulationScore", entity.getFloatingPopulationScore());
+        attributes.put("rdiScore", entity.getRdiScore());
+        return attributes;
+    }
+
+    // 점수 갱신 후 호출, 현재 분기 타일 캐시도 비움
+    public void rebuild() {
+        districts.reload();
+        deleteCachedTiles();
+    }
+
+    private static String keyPrefix() {
+        return "tile:commdist:" + YEAR + ":" + QUARTER + ":";
+    }
+
+    // KEYS 는 키 공간 전체를 한 번에 훑어 Redis 를 멈추므로 SCAN 으로 나눠 지움
+    private void deleteCachedTiles() {
+        List<String> batch = new ArrayList<>(DELETE_BATCH);
+        try (Cursor<String> cursor = binaryRedisTemplate.scan(
+                ScanOptions.scanOptions().match(keyPrefix() + "*").count(DELETE_BATCH).build())) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == DELETE_BATCH) {
+                    binaryRedisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) binaryRedisTemplate.delete(batch);
+    }
+
+    private Map<Long, CommDistEntity> loadDistricts() {
+        Map<Long, CommDistEntity> result = new HashMap<>();
+        for (CommDistEntity entity : commDistRepository.findAll()) {
+            result.put(entity.getCommercialDistrictCode(), entity);
+        }
+        return result;
+    }
+}
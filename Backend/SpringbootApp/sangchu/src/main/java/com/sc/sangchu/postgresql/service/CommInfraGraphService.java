@@ -1,9 +1,7 @@
 package com.sc.sangchu.postgresql.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sc.sangchu.chart.*;
 import com.sc.sangchu.dto.infra.CommAptDTO;
 import com.sc.sangchu.dto.infra.CommStoreDTO;
 import com.sc.sangchu.postgresql.entity.CommAptEntity;
@@ -12,10 +10,10 @@ import com.sc.sangchu.postgresql.repository.CommAptRepository;
 import com.sc.sangchu.postgresql.repository.CommStoreRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,17 +22,17 @@ public class CommInfraGraphService {
     private final CommStoreRepository commStoreRepository;
     private final CommAptRepository commAptRepository;
     private final ObjectMapper objectMapper;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChartCache chartCache;
     private static final Integer YEAR = LocalDate.now().getYear()-1;
     private static final Integer QUARTER = 3;
 
     @Autowired
     public CommInfraGraphService(CommStoreRepository commStoreRepository, ObjectMapper objectMapper,
-                                 CommAptRepository commAptRepository, RedisTemplate<String, Object> redisTemplate) {
+                                 CommAptRepository commAptRepository, ChartCache chartCache) {
         this.commStoreRepository = commStoreRepository;
         this.objectMapper = objectMapper;
         this.commAptRepository = commAptRepository;
-        this.redisTemplate = redisTemplate;
+        this.chartCache = chartCache;
     }
 
     /* json 형태 예시
@@ -59,11 +57,9 @@ public class CommInfraGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommStoreDTO.builder()
                         .storeGraph(cachedData)
                         .build();
@@ -71,33 +67,26 @@ public class CommInfraGraphService {
 
             List<CommStoreEntity> stores = commStoreRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                 YEAR, QUARTER);
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            ArrayNode storeCount = objectMapper.createArrayNode();
-            ArrayNode franchiseStoreCount = objectMapper.createArrayNode();
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "점포 수");
+            List<String> categories = new ArrayList<>(stores.size());
+            List<Long> storeCount = new ArrayList<>(stores.size());
+            List<Long> franchiseStoreCount = new ArrayList<>(stores.size());
 
             for (CommStoreEntity store : stores) {
                 categories.add(store.getServiceName());
                 storeCount.add(store.getStoreCount());
                 franchiseStoreCount.add(store.getFranchiseStoreCount());
             }
-            seriesData.set("storeCount", storeCount);
-            seriesData.set("franchiseStoreCount", franchiseStoreCount);
-            series.add(seriesData);
 
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.of(categories))
+                    .series(new ChartObject()
+                            .put("name", "점포 수")
+                            .putArray("storeCount", storeCount)
+                            .putArray("franchiseStoreCount", franchiseStoreCount))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommStoreDTO.builder()
                     .storeGraph(chartData)
@@ -128,11 +117,9 @@ public class CommInfraGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommAptDTO.builder()
                         .areaGraph(cachedData)
                         .build();
@@ -140,37 +127,19 @@ public class CommInfraGraphService {
 
             CommAptEntity apts = commAptRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                 YEAR, QUARTER);
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-
-            categories.add("20평 미만");
-            categories.add("20평~30평");
-            categories.add("30평~40평");
-            categories.add("40평~50평");
-            categories.add("50평 이상");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "세대 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(apts.getHouseholdUnder20Pyeong());
-            seriesDataNode.add(apts.getHousehold20To30Pyeong());
-            seriesDataNode.add(apts.getHousehold30To40Pyeong());
-            seriesDataNode.add(apts.getHousehold40To50Pyeong());
-            seriesDataNode.add(apts.getHouseholdOver50Pyeong());
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.APT_AREA)
+                    .series(new ChartObject()
+                            .put("name", "세대 수")
+                            .putArray("data", apts.getHouseholdUnder20Pyeong(),
+                                    apts.getHousehold20To30Pyeong(),
+                                    apts.getHousehold30To40Pyeong(),
+                                    apts.getHousehold40To50Pyeong(),
+                                    apts.getHouseholdOver50Pyeong()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommAptDTO.builder()
                     .areaGraph(chartData)
@@ -201,11 +170,9 @@ public class CommInfraGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommAptDTO.builder()
                         .priceGraph(cachedData)
                         .build();
@@ -213,40 +180,21 @@ public class CommInfraGraphService {
 
             CommAptEntity apts = commAptRepository.findByCommercialDistrictCodeAndYearCodeAndQuarterCode(commCode,
                 YEAR, QUARTER);
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "bar");
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            categories.add("1억 미만");
-            categories.add("1억~2억");
-            categories.add("2억~3억");
-            categories.add("3억~4억");
-            categories.add("4억~5억");
-            categories.add("5억~6억");
-            categories.add("6억 이상");
-
-            ObjectNode seriesData = objectMapper.createObjectNode();
-            seriesData.put("name", "세대 수");
-
-            ArrayNode seriesDataNode = seriesData.putArray("data");
-            seriesDataNode.add(apts.getHouseholdLessThan100MillionPrice());
-            seriesDataNode.add(apts.getHousehold100To200MillionPrice());
-            seriesDataNode.add(apts.getHousehold200To300MillionPrice());
-            seriesDataNode.add(apts.getHousehold300To400MillionPrice());
-            seriesDataNode.add(apts.getHousehold400To500MillionPrice());
-            seriesDataNode.add(apts.getHousehold500To600MillionPrice());
-            seriesDataNode.add(apts.getHouseholdOverThan600MillionPrice());
-            series.add(seriesData);
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = ChartSpec.of("bar")
+                    .categories(ChartCategories.APT_PRICE)
+                    .series(new ChartObject()
+                            .put("name", "세대 수")
+                            .putArray("data", apts.getHouseholdLessThan100MillionPrice(),
+                                    apts.getHousehold100To200MillionPrice(),
+                                    apts.getHousehold200To300MillionPrice(),
+                                    apts.getHousehold300To400MillionPrice(),
+                                    apts.getHousehold400To500MillionPrice(),
+                                    apts.getHousehold500To600MillionPrice(),
+                                    apts.getHouseholdOverThan600MillionPrice()))
+                    .toJson(objectMapper.getFactory());
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommAptDTO.builder()
                     .priceGraph(chartData)
@@ -1,18 +1,17 @@
 package com.sc.sangchu.postgresql.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sc.sangchu.chart.*;
 import com.sc.sangchu.dto.sales.*;
 import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommEstimatedSalesRepository;
 import com.sc.sangchu.postgresql.repository.CommEstimatedSalesRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -23,15 +22,19 @@ import java.util.Map;
 public class CommSalesGraphService {
 
     private final CommEstimatedSalesRepository commEstimatedSalesRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 61개 컬럼 엔티티를 읽는 그래프 조회는 영속성 컨텍스트 없이
+    private final ReadOnlyCommEstimatedSalesRepository readOnlyCommEstimatedSalesRepository;
+    private final ChartCache chartCache;
     private final ObjectMapper objectMapper;
     private final Integer YEAR = LocalDate.now().getYear();
 
     @Autowired
     public CommSalesGraphService(CommEstimatedSalesRepository commEstimatedSalesRepository,
-        RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        ReadOnlyCommEstimatedSalesRepository readOnlyCommEstimatedSalesRepository,
+        ChartCache chartCache, ObjectMapper objectMapper) {
         this.commEstimatedSalesRepository = commEstimatedSalesRepository;
-        this.redisTemplate = redisTemplate;
+        this.readOnlyCommEstimatedSalesRepository = readOnlyCommEstimatedSalesRepository;
+        this.chartCache = chartCache;
         this.objectMapper = objectMapper;
     }
 
@@ -40,7 +43,7 @@ public class CommSalesGraphService {
         try {
             //매출 계산 로직 좀 더 고민해 봐야함.
             //월 매출, 주중/주말 매출 계산
-            List<CommEstimatedSalesEntity> salesList = commEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            List<CommEstimatedSalesEntity> salesList = readOnlyCommEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
                 YEAR - 1, commCode, "외식업");
 
             return calcSalesAvg(salesList);
@@ -55,11 +58,9 @@ public class CommSalesGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommQuarterlyGraphJsonDTO.builder()
                     .quarterlyGraph(cachedData)
                     .build();
@@ -70,30 +71,10 @@ public class CommSalesGraphService {
                 commCode,
                 "외식업", new int[]{YEAR - 2, YEAR - 1});
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "stackbar");
-            chartData.put("year", (YEAR - 1) + "~" + (YEAR - 2));
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            for (CommQuarterlyGraphDTO dto : salesList) {
-                String yearQuarter = dto.getYear().toString() + "-" + dto.getQuarter().toString();
-                categories.add(yearQuarter);
-                ObjectNode seriesData = objectMapper.createObjectNode();
-                seriesData.put("YearQuarter", yearQuarter);
-                seriesData.put("WeekDaySales", String.format("%.0f", dto.getWeekDaySales()));
-                seriesData.put("WeekendSales", String.format("%.0f", dto.getWeekendSales()));
-                series.add(seriesData);
-            }
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = quarterlyChart(salesList);
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommQuarterlyGraphJsonDTO.builder()
                 .quarterlyGraph(chartData)
@@ -109,19 +90,17 @@ public class CommSalesGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommSalesGraphJsonDTO.builder()
                     .graphJson(cachedData)
                     .build();
             }
 
-            List<CommEstimatedSalesEntity> salesList = commEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            List<CommEstimatedSalesEntity> salesList = readOnlyCommEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
                 YEAR - 1, commCode, "외식업");
-            String[] category = {"월", "화", "수", "목", "금", "토", "일"};
+            ChartCategories category = ChartCategories.SALES_DAY;
             String type = "day";
             if (salesList.isEmpty()) {
                 return null;
@@ -138,19 +117,17 @@ public class CommSalesGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommSalesGraphJsonDTO.builder()
                     .graphJson(cachedData)
                     .build();
             }
 
-            List<CommEstimatedSalesEntity> salesList = commEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            List<CommEstimatedSalesEntity> salesList = readOnlyCommEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
                 YEAR - 1, commCode, "외식업");
-            String[] category = {"00~06시", "06~11시", "11~14시", "14~17시", "17~21시", "21~24시"};
+            ChartCategories category = ChartCategories.SALES_TIME;
             String type = "time";
             if (salesList.isEmpty()) {
                 return null;
@@ -167,20 +144,18 @@ public class CommSalesGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommSalesGraphJsonDTO.builder()
                     .graphJson(cachedData)
                     .build();
             }
 
-            List<CommEstimatedSalesEntity> salesList = commEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            List<CommEstimatedSalesEntity> salesList = readOnlyCommEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
                 YEAR - 1, commCode, "외식업");
 
-            String[] category = {"10대", "20대", "30대", "40대", "50대", "60대이상"};
+            ChartCategories category = ChartCategories.SALES_AGE;
             String type = "age";
 
             if (salesList.isEmpty()) {
@@ -198,43 +173,21 @@ public class CommSalesGraphService {
 
         try {
             // Redis에서 캐시된 데이터 조회
-            Object dataFromRedis = redisTemplate.opsForValue().get(cacheKey);
+            ChartJson cachedData = chartCache.get(cacheKey);
 
-            if (dataFromRedis != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode cachedData = mapper.convertValue(dataFromRedis, JsonNode.class);
+            if (cachedData != null) {
                 return CommSalesRatioByServiceJsonDTO.builder()
                     .graphJson(cachedData)
                     .build();
             }
 
-            List<CommEstimatedSalesEntity> salesList = commEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+            List<CommEstimatedSalesEntity> salesList = readOnlyCommEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
                 YEAR - 1, commCode, "외식업");
 
-            ObjectNode chartData = objectMapper.createObjectNode();
-            chartData.put("chartType", "donut");
-            chartData.put("year", YEAR - 1);
-            chartData.put("commDistrictName",
-                salesList.isEmpty() ? "" : salesList.get(0).getCommercialDistrictName());
-
-            ObjectNode data = objectMapper.createObjectNode();
-            ArrayNode categories = objectMapper.createArrayNode();
-            ArrayNode series = objectMapper.createArrayNode();
-
-            if (!salesList.isEmpty()) {
-                Map<String, Double> dto = setSalesRatioByService(salesList);
-                for (Map.Entry<String, Double> entry : dto.entrySet()) {
-                    categories.add(entry.getKey());
-                    series.add(Math.round(entry.getValue() * 10.0) / 10.0);
-                }
-            }
-
-            data.set("categories", categories);
-            data.set("series", series);
-            chartData.set("data", data);
+            ChartJson chartData = salesRatioChart(salesList);
 
             // 차트 데이터 캐시
-            redisTemplate.opsForValue().set(cacheKey, chartData);
+            chartCache.put(cacheKey, chartData);
 
             return CommSalesRatioByServiceJsonDTO.builder()
                 .graphJson(chartData)
@@ -399,37 +352,12 @@ public class CommSalesGraphService {
     }
 
     public CommSalesGraphJsonDTO setSalesGraphJsonDto(String cacheKey, CommSalesGraphDTO dto,
-        String[] category, String type) {
-
-        ObjectNode chartData = objectMapper.createObjectNode();
-        chartData.put("chartType", "bar");
-        chartData.put("year", dto.getYear());
-        chartData.put("commDistrictName", dto.getCommDistrictName());
+        ChartCategories category, String type) {
 
-        ObjectNode data = objectMapper.createObjectNode();
-        ArrayNode categories = objectMapper.createArrayNode();
-        ObjectNode series = objectMapper.createObjectNode();
-
-        for (String a : category) {
-            categories.add(a);
-        }
-        ArrayNode countData = objectMapper.createArrayNode();
-        ArrayNode salesData = objectMapper.createArrayNode();
-        for (Long cnt : dto.getSalesCount()) {
-            countData.add(cnt);
-        }
-        for (Double cnt : dto.getSales()) {
-            salesData.add(cnt);
-            //salesData.add(String.format("%.0f", cnt));
-        }
-        series.set(type + "SalesCount", countData);
-        series.set(type + "Sales", salesData);
-        data.set("categories", categories);
-        data.set("series", series);
-        chartData.set("data", data);
+        ChartJson chartData = salesGraphChart(dto, category, type);
 
         // 차트 데이터 캐시
-        redisTemplate.opsForValue().set(cacheKey, chartData);
+        chartCache.put(cacheKey, chartData);
 
         return CommSalesGraphJsonDTO.builder()
             .graphJson(chartData)
@@ -469,5 +397,57 @@ public class CommSalesGraphService {
             return salesRatio;
         }
     }
-}
 
+    // 차트 JSON 생성 (캐시 저장은 호출하는 쪽에서, 반응형 경로 ReactiveCommSalesGraphService 와 공유)
+    public ChartJson quarterlyChart(List<CommQuarterlyGraphDTO> salesList) {
+        List<String> categories = new ArrayList<>(salesList.size());
+        List<ChartObject> series = new ArrayList<>(salesList.size());
+
+        for (CommQuarterlyGraphDTO dto : salesList) {
+            String yearQuarter = dto.getYear().toString() + "-" + dto.getQuarter().toString();
+            categories.add(yearQuarter);
+            series.add(new ChartObject()
+                .put("YearQuarter", yearQuarter)
+                .put("WeekDaySales", String.format("%.0f", dto.getWeekDaySales()))
+                .put("WeekendSales", String.format("%.0f", dto.getWeekendSales())));
+        }
+
+        return ChartSpec.of("stackbar")
+            .attribute("year", (YEAR - 1) + "~" + (YEAR - 2))
+            .categories(ChartCategories.of(categories))
+            .series(series)
+            .toJson(objectMapper.getFactory());
+    }
+
+    public ChartJson salesGraphChart(CommSalesGraphDTO dto, ChartCategories category, String type) {
+        return ChartSpec.of("bar")
+            .attribute("year", dto.getYear())
+            .attribute("commDistrictName", dto.getCommDistrictName())
+            .categories(category)
+            .seriesObject(new ChartObject()
+                .putArray(type + "SalesCount", dto.getSalesCount())
+                .putArray(type + "Sales", dto.getSales()))
+            .toJson(objectMapper.getFactory());
+    }
+
+    public ChartJson salesRatioChart(List<CommEstimatedSalesEntity> salesList) {
+        List<String> categories = new ArrayList<>();
+        List<Double> series = new ArrayList<>();
+
+        if (!salesList.isEmpty()) {
+            Map<String, Double> dto = setSalesRatioByService(salesList);
+            for (Map.Entry<String, Double> entry : dto.entrySet()) {
+                categories.add(entry.getKey());
+                series.add(Math.round(entry.getValue() * 10.0) / 10.0);
+            }
+        }
+
+        return ChartSpec.of("donut")
+            .attribute("year", YEAR - 1)
+            .attribute("commDistrictName",
+                salesList.isEmpty() ? "" : salesList.get(0).getCommercialDistrictName())
+            .categories(ChartCategories.of(categories))
+            .seriesValues(series)
+            .toJson(objectMapper.getFactory());
+    }
+}
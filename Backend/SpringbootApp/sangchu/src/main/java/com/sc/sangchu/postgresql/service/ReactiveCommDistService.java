@@ -0,0 +1,183 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.dto.CommDistDTO;
+import com.sc.sangchu.dto.CommDistRankDTO;
+import com.sc.sangchu.dto.CommDistServiceScoreDTO;
+import com.sc.sangchu.dto.CommDistSetRankDTO;
+import com.sc.sangchu.dto.infra.CommStoreTotalCountDTO;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
+import com.sc.sangchu.postgresql.entity.CommResidentPopulationEntity;
+import com.sc.sangchu.postgresql.reactive.ReactiveCommDistRepository;
+import com.sc.sangchu.postgresql.reactive.ReactiveCommEstimatedSalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+ * CommDistRecommendService 상권 조회의 논블로킹 버전 (R2DBC)
+ * 서로 독립인 조회(상권 / 매출 / 점포 수 / 유동 / 상주 인구 / 순위)는 Mono.zip 으로 동시에 보내고,
+ * 자치구 상권별 지표는 상권마다 조회하지 않고 IN 으로 한 번에 조회 (CommDistRecommendService 와 같은 방식)
+ * DTO 변환은 CommDistRecommendService 와 공유, 결과가 없거나 실패하면 빈 Mono
+ */
+@Service
+@Slf4j
+public class ReactiveCommDistService {
+    private final ReactiveCommDistRepository reactiveCommDistRepository;
+    private final ReactiveCommEstimatedSalesRepository reactiveCommEstimatedSalesRepository;
+    private final CommDistRecommendService commDistRecommendService;
+    private static final Integer YEAR = LocalDate.now().getYear()-1;
+    private static final Integer QUARTER = 3;
+    private static final Integer RANK_LIMIT = 10;
+
+    @Autowired
+    public ReactiveCommDistService(ReactiveCommDistRepository reactiveCommDistRepository,
+                                   ReactiveCommEstimatedSalesRepository reactiveCommEstimatedSalesRepository,
+                                   CommDistRecommendService commDistRecommendService) {
+        this.reactiveCommDistRepository = reactiveCommDistRepository;
+        this.reactiveCommEstimatedSalesRepository = reactiveCommEstimatedSalesRepository;
+        this.commDistRecommendService = commDistRecommendService;
+    }
+
+    // 상권 코드로 상권 데이터 조회
+    public Mono<CommDistDTO> getCommDist(Long commCode) {
+        return reactiveCommDistRepository.findByCommercialDistrictCode(commCode)
+                .map(commDistRecommendService::setCommDistDto)
+                .onErrorResume(e -> {
+                    log.error("getCommDist error", e);
+                    return Mono.empty();
+                });
+    }
+
+    // 자치구 코드에 따라 조회
+    public Mono<List<CommDistDTO>> getCommDistByGuCode(Long guCode) {
+        return reactiveCommDistRepository.findByGuCode(guCode)
+                .collectList()
+                .map(commDistRecommendService::setCommDistDtoList)
+                .onErrorResume(e -> {
+                    log.error("getCommDistByGuCode error", e);
+                    return Mono.empty();
+                });
+    }
+
+    // 자치구 상권 중 coScore 상위 10개 (정렬은 DB 에서)
+    public Mono<List<CommDistDTO>> getTopCommDistByGuCodeAndCoScore(Long guCode) {
+        return reactiveCommDistRepository.findTopByGuCode(guCode, RANK_LIMIT)
+                .collectList()
+                .map(commDistRecommendService::setCommDistDtoList)
+                .onErrorResume(e -> {
+                    log.error("getTopCommDistByGuCodeAndCoScore error", e);
+                    return Mono.empty();
+                });
+    }
+
+    // 업종별 상권 데이터 조회 : 상권 / 매출 조회를 동시에
+    public Mono<CommDistServiceScoreDTO> getServiceCommDist(Long commCode, String serviceCode) {
+        return Mono.zip(
+                        optional(reactiveCommDistRepository.findByCommercialDistrictCode(commCode)),
+                        optional(reactiveCommEstimatedSalesRepository
+                                .findByYearCodeAndQuarterCodeAndCommercialDistrictCodeAndServiceCode(
+                                        YEAR, QUARTER, commCode, serviceCode)))
+                .map(tuple -> {
+                    if (tuple.getT1().isEmpty() || tuple.getT2().isEmpty()) {
+                        return CommDistServiceScoreDTO.builder().build();
+                    }
+                    CommDistEntity entity = tuple.getT1().get();
+                    return commDistRecommendService.setCommDistServiceScoreDTO(entity, tuple.getT2().get(),
+                            entity.getCommercialDistrictScore());
+                })
+                .onErrorResume(e -> {
+                    log.error("getServiceCommDist error", e);
+                    return Mono.empty();
+                });
+    }
+
+    // 자치구별 업종별 상권 데이터 조회 : 자치구 상권들의 업종 매출은 IN 으로 한 번에, 매출이 없는 상권은 제외
+    public Mono<List<CommDistServiceScoreDTO>> getGuServiceCommDist(Long guCode, String serviceCode) {
+        return reactiveCommDistRepository.findByGuCode(guCode)
+                .collectList()
+                .flatMap(entities -> {
+                    if (entities.isEmpty()) return Mono.just(List.<CommDistServiceScoreDTO>of());
+                    return byCode(reactiveCommEstimatedSalesRepository
+                                    .findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+                                            YEAR, QUARTER, serviceCode,
+                                            codes(entities, CommDistEntity::getCommercialDistrictCode)),
+                            CommEstimatedSalesEntity::getCommercialDistrictCode)
+                            .map(salesByCode -> entities.stream()
+                                    .filter(entity -> salesByCode.containsKey(entity.getCommercialDistrictCode()))
+                                    .map(entity -> {
+                                        CommEstimatedSalesEntity salesEntity =
+                                                salesByCode.get(entity.getCommercialDistrictCode());
+                                        return commDistRecommendService.setCommDistServiceScoreDTO(entity,
+                                                salesEntity, salesEntity.getCommercialServiceTotalScore());
+                                    })
+                                    .toList());
+                })
+                .onErrorResume(e -> {
+                    log.error("getGuServiceCommDist error", e);
+                    return Mono.empty();
+                });
+    }
+
+    // 업종 순위 / 매출 / 점포 수 / 유동 인구 / 상주 인구를 자치구 상권 전체에 대해 한 번씩, 다섯 조회는 동시에
+    public Mono<List<CommDistRankDTO>> getDistrictRank(Long guCode, String serviceCode) {
+        return reactiveCommDistRepository.findByGuCode(guCode)
+                .collectList()
+                .flatMap(entities -> {
+                    if (entities.isEmpty()) return Mono.just(List.<CommDistRankDTO>of());
+                    List<CommDistDTO> commList = commDistRecommendService.setCommDistDtoList(entities);
+                    List<Long> commCodes = codes(commList, CommDistDTO::getCommercialDistrictCode);
+                    return Mono.zip(
+                                    byCode(reactiveCommEstimatedSalesRepository.findByRank(YEAR, QUARTER, serviceCode),
+                                            CommDistSetRankDTO::getCommCode),
+                                    byCode(reactiveCommEstimatedSalesRepository
+                                                    .findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+                                                            YEAR, QUARTER, serviceCode, commCodes),
+                                            CommEstimatedSalesEntity::getCommercialDistrictCode),
+                                    byCode(reactiveCommDistRepository.findStoreTotalCounts(YEAR, QUARTER, commCodes),
+                                            CommStoreTotalCountDTO::getCommCode),
+                                    byCode(reactiveCommDistRepository.findFloatingPopulations(commCodes, YEAR, QUARTER),
+                                            CommFloatingPopulationEntity::getCommercialDistrictCode),
+                                    byCode(reactiveCommDistRepository.findResidentPopulations(commCodes, YEAR, QUARTER),
+                                            CommResidentPopulationEntity::getCommercialDistrictCode))
+                            .map(tuple -> commList.stream()
+                                    .map(dto -> {
+                                        Long cdCode = dto.getCommercialDistrictCode();
+                                        CommDistSetRankDTO rank = tuple.getT1().get(cdCode);
+                                        return commDistRecommendService.setCommDistRankDTO(dto,
+                                                tuple.getT2().get(cdCode), tuple.getT3().get(cdCode),
+                                                tuple.getT4().get(cdCode), tuple.getT5().get(cdCode),
+                                                rank == null ? 0L : rank.getRank());
+                                    })
+                                    .toList());
+                })
+                .onErrorResume(e -> {
+                    log.error("getDistrictRank error", e);
+                    return Mono.empty();
+                });
+    }
+
+    private static <T> List<Long> codes(List<T> list, Function<T, Long> code) {
+        return list.stream().map(code).distinct().toList();
+    }
+
+    // 상권 코드별 한 행 (같은 상권이 여러 행이면 첫 행, CommDistRecommendService 와 같음)
+    private static <T> Mono<Map<Long, T>> byCode(Flux<T> rows, Function<T, Long> code) {
+        return rows.collect(HashMap::new, (map, row) -> map.putIfAbsent(code.apply(row), row));
+    }
+
+    // 행이 없는 조회도 zip 을 비우지 않도록 Optional 로 감쌈
+    private static <T> Mono<Optional<T>> optional(Mono<T> mono) {
+        return mono.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,124 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.chart.ChartCategories;
+import com.sc.sangchu.chart.ChartJson;
+import com.sc.sangchu.chart.ReactiveChartCache;
+import com.sc.sangchu.dto.sales.CommQuarterlyGraphJsonDTO;
+import com.sc.sangchu.dto.sales.CommSalesDto;
+import com.sc.sangchu.dto.sales.CommSalesGraphDTO;
+import com.sc.sangchu.dto.sales.CommSalesGraphJsonDTO;
+import com.sc.sangchu.dto.sales.CommSalesRatioByServiceJsonDTO;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.reactive.ReactiveCommEstimatedSalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * CommSalesGraphService 의 논블로킹 버전 (R2DBC + ReactiveRedisTemplate)
+ * 캐시 키 / 차트 JSON / 계산은 CommSalesGraphService 와 같음, 결과가 없거나 실패하면 빈 Mono
+ */
+@Service
+@Slf4j
+public class ReactiveCommSalesGraphService {
+
+    private final ReactiveCommEstimatedSalesRepository reactiveCommEstimatedSalesRepository;
+    private final ReactiveChartCache reactiveChartCache;
+    private final CommSalesGraphService commSalesGraphService;
+    private final Integer YEAR = LocalDate.now().getYear();
+
+    @Autowired
+    public ReactiveCommSalesGraphService(ReactiveCommEstimatedSalesRepository reactiveCommEstimatedSalesRepository,
+        ReactiveChartCache reactiveChartCache, CommSalesGraphService commSalesGraphService) {
+        this.reactiveCommEstimatedSalesRepository = reactiveCommEstimatedSalesRepository;
+        this.reactiveChartCache = reactiveChartCache;
+        this.commSalesGraphService = commSalesGraphService;
+    }
+
+    public Mono<CommSalesDto> getSalesData(Long commCode) {
+        return findSales(commCode)
+            .mapNotNull(commSalesGraphService::calcSalesAvg)
+            .onErrorResume(e -> {
+                log.error("getSalesData error", e);
+                return Mono.empty();
+            });
+    }
+
+    public Mono<CommQuarterlyGraphJsonDTO> getQuarterlyGraphData(Long commCode) {
+        String cacheKey = "salesGraph:quarterlyGraph:" + commCode;
+
+        return cached(cacheKey, () -> reactiveCommEstimatedSalesRepository.findByQuarterlyData(
+                commCode, "외식업", List.of(YEAR - 2, YEAR - 1))
+                .collectList()
+                .map(commSalesGraphService::quarterlyChart))
+            .map(chartData -> CommQuarterlyGraphJsonDTO.builder()
+                .quarterlyGraph(chartData)
+                .build())
+            .onErrorResume(e -> {
+                log.error("getQuarterlyGraphData error", e);
+                return Mono.empty();
+            });
+    }
+
+    public Mono<CommSalesGraphJsonDTO> getDayGraphData(Long commCode) {
+        return getSalesGraphData("salesGraph:dayGraph:" + commCode, commCode,
+            commSalesGraphService::calcDailySalesSum, ChartCategories.SALES_DAY, "day");
+    }
+
+    public Mono<CommSalesGraphJsonDTO> getTimeGraphData(Long commCode) {
+        return getSalesGraphData("salesGraph:timeGraph:" + commCode, commCode,
+            commSalesGraphService::calcTimeSalesSum, ChartCategories.SALES_TIME, "time");
+    }
+
+    public Mono<CommSalesGraphJsonDTO> getAgeGraphData(Long commCode) {
+        return getSalesGraphData("salesGraph:ageGraph:" + commCode, commCode,
+            commSalesGraphService::calcAgeSalesSum, ChartCategories.SALES_AGE, "age");
+    }
+
+    public Mono<CommSalesRatioByServiceJsonDTO> getSalesRatioByService(Long commCode) {
+        String cacheKey = "SalesGraph:salesRatioGraph:" + commCode;
+
+        return cached(cacheKey, () -> findSales(commCode).map(commSalesGraphService::salesRatioChart))
+            .map(chartData -> CommSalesRatioByServiceJsonDTO.builder()
+                .graphJson(chartData)
+                .build())
+            .onErrorResume(e -> {
+                log.error("getSalesRatioByService error", e);
+                return Mono.empty();
+            });
+    }
+
+    // 요일 / 시간대 / 연령대 그래프 : 매출 행이 없으면 캐시하지 않고 빈 Mono (블로킹 경로의 null 응답과 같음)
+    private Mono<CommSalesGraphJsonDTO> getSalesGraphData(String cacheKey, Long commCode,
+        Function<List<CommEstimatedSalesEntity>, CommSalesGraphDTO> calc, ChartCategories category, String type) {
+        return cached(cacheKey, () -> findSales(commCode)
+                .filter(salesList -> !salesList.isEmpty())
+                .map(salesList -> commSalesGraphService.salesGraphChart(calc.apply(salesList), category, type)))
+            .map(chartData -> CommSalesGraphJsonDTO.builder()
+                .graphJson(chartData)
+                .build())
+            .onErrorResume(e -> {
+                log.error("getSalesGraphData error: {}", cacheKey, e);
+                return Mono.empty();
+            });
+    }
+
+    private Mono<List<CommEstimatedSalesEntity>> findSales(Long commCode) {
+        return reactiveCommEstimatedSalesRepository.findByYearCodeAndCommercialDistrictCodeAndMajorCategoryName(
+                YEAR - 1, commCode, "외식업")
+            .collectList();
+    }
+
+    // Redis 에 없을 때만 DB 조회 -> 차트 생성 -> 캐시 저장
+    private Mono<ChartJson> cached(String cacheKey, Supplier<Mono<ChartJson>> loader) {
+        return reactiveChartCache.get(cacheKey)
+            .switchIfEmpty(Mono.defer(loader)
+                .flatMap(chartData -> reactiveChartCache.put(cacheKey, chartData).thenReturn(chartData)));
+    }
+}
@@ -0,0 +1,236 @@
+package com.sc.sangchu.profiling;
+
+import com.sc.sangchu.dto.JfrRecordingDTO;
+import com.sc.sangchu.dto.JfrSummaryDTO;
+import com.sc.sangchu.response.ErrorResponse;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 재시작 / SSH 없이 운영 중에 쓰는 JFR 녹화 (ADMIN 계정만, SecurityConfig)
+ * POST   /actuator/jfr           {"profile": "profile", "duration": "60s"} 녹화 시작, duration 이 지나면 자동 종료 (동시에 하나만)
+ * GET    /actuator/jfr           녹화 목록
+ * POST   /actuator/jfr/{id}      duration 전에 종료
+ * GET    /actuator/jfr/{id}      com.sc.sangchu 패키지 기준 hot method / 할당 위치 요약 (종료된 녹화만)
+ * GET    /actuator/jfr/{id}/jfr  .jfr 파일 다운로드 (JDK Mission Control 로 열기)
+ * DELETE /actuator/jfr/{id}      중지 후 파일 삭제
+ * 끝난 녹화는 최근 KEEP 개만 디스크에 남김
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@Slf4j
+public class JfrEndpoint {
+    private static final int KEEP = 5;
+    private static final String DEFAULT_PROFILE = "profile";
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(60);
+
+    private final Path directory;
+    private final Duration maxDuration;
+    // 녹화 id -> 녹화, 시작 순서 유지 (this 로 동기화)
+    private final Map<Long, Session> sessions = new LinkedHashMap<>();
+
+    private static final class Session {
+        private final Recording recording;
+        private final String profile;
+        private final Path file;
+        private volatile JfrSummaryDTO summary;
+
+        private Session(Recording recording, String profile, Path file) {
+            this.recording = recording;
+            this.profile = profile;
+            this.file = file;
+        }
+    }
+
+    @Autowired
+    public JfrEndpoint(@Value("${profiling.jfr.directory}") String directory,
+                       @Value("${profiling.jfr.max-duration:10m}") Duration maxDuration) {
+        this.directory = Path.of(directory);
+        this.maxDuration = maxDuration;
+    }
+
+    @ReadOperation
+    public synchronized List<JfrRecordingDTO> recordings() {
+        return sessions.values().stream().map(JfrEndpoint::toDTO).toList();
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Object> start(@Nullable String profile, @Nullable Duration duration) {
+        String name = profile == null ? DEFAULT_PROFILE : profile;
+        Duration length = duration == null ? DEFAULT_DURATION : duration;
+        if (length.isNegative() || length.isZero() || length.compareTo(maxDuration) > 0) {
+            return error("duration must be between 1s and " + maxDuration.toSeconds() + "s", WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (sessions.values().stream().anyMatch(session -> session.recording.getState() == RecordingState.RUNNING)) {
+            return error("another recording is running", HttpStatus.CONFLICT.value());
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            return error("unknown profile: " + name + " (" + profileNames() + ")", WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(configuration);
+            Path file = directory.resolve("sangchu-" + recording.getId() + ".jfr");
+            recording.setName("sangchu-" + name);
+            recording.setToDisk(true);
+            recording.setDuration(length);
+            recording.setDestination(file);
+            recording.start();
+
+            Session session = new Session(recording, name, file);
+            sessions.put(recording.getId(), session);
+            prune();
+            log.info("jfr recording {} started: profile={}, duration={}s, file={}", recording.getId(), name,
+                    length.toSeconds(), file);
+            return new WebEndpointResponse<>(toDTO(session));
+        } catch (IOException | RuntimeException e) {
+            log.error("jfr recording start error", e);
+            return error("jfr recording start failure", WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Object> stop(@Selector long id) {
+        Session session = sessions.get(id);
+        if (session == null) return error("no recording: " + id, WebEndpointResponse.STATUS_NOT_FOUND);
+        if (session.recording.getState() == RecordingState.RUNNING) {
+            session.recording.stop();
+            log.info("jfr recording {} stopped early", id);
+        }
+        return new WebEndpointResponse<>(toDTO(session));
+    }
+
+    // 요약은 파일을 한 번만 읽고 녹화별로 보관
+    @ReadOperation
+    public WebEndpointResponse<Object> summary(@Selector long id) {
+        Session session = finished(id);
+        if (session == null) return error("no finished recording: " + id, HttpStatus.CONFLICT.value());
+        try {
+            JfrSummaryDTO summary = session.summary;
+            if (summary == null) {
+                synchronized (session) {
+                    summary = session.summary;
+                    if (summary == null) {
+                        summary = JfrSummarizer.summarize(session.file, toDTO(session));
+                        session.summary = summary;
+                    }
+                }
+            }
+            return new WebEndpointResponse<>(summary);
+        } catch (IOException | RuntimeException e) {
+            log.error("jfr summary error: {}", id, e);
+            return error("jfr summary failure", WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id, @Selector String format) {
+        Session session = finished(id);
+        if (!"jfr".equals(format) || session == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(session.file));
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Object> delete(@Selector long id) {
+        Session session = sessions.remove(id);
+        if (session == null) return error("no recording: " + id, WebEndpointResponse.STATUS_NOT_FOUND);
+        close(session);
+        return new WebEndpointResponse<>(toDTO(session));
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        sessions.values().forEach(JfrEndpoint::close);
+        sessions.clear();
+    }
+
+    private synchronized Session finished(long id) {
+        Session session = sessions.get(id);
+        return session != null && isFinished(session) ? session : null;
+    }
+
+    // duration 이 지나면 JFR 이 파일을 쓰고 녹화를 CLOSED 로 바꾸고, 중간에 멈추면 STOPPED
+    private static boolean isFinished(Session session) {
+        RecordingState state = session.recording.getState();
+        return (state == RecordingState.STOPPED || state == RecordingState.CLOSED) && Files.exists(session.file);
+    }
+
+    // 오래된 녹화부터 정리, 진행 중인 녹화는 남김
+    private void prune() {
+        List<Long> finished = new ArrayList<>();
+        sessions.forEach((id, session) -> {
+            if (session.recording.getState() != RecordingState.RUNNING) finished.add(id);
+        });
+        for (int i = 0; i < finished.size() - KEEP; i++) {
+            close(sessions.remove(finished.get(i)));
+        }
+    }
+
+    private static void close(Session session) {
+        session.recording.close();
+        try {
+            Files.deleteIfExists(session.file);
+        } catch (IOException e) {
+            log.error("jfr file delete error: {}", session.file, e);
+        }
+    }
+
+    private static String profileNames() {
+        return String.join(", ", Configuration.getConfigurations().stream().map(Configuration::getName).toList());
+    }
+
+    private static JfrRecordingDTO toDTO(Session session) {
+        Recording recording = session.recording;
+        Long size = null;
+        try {
+            if (isFinished(session)) size = Files.size(session.file);
+        } catch (IOException e) {
+            log.error("jfr file size error: {}", session.file, e);
+        }
+        return JfrRecordingDTO.builder()
+                .id(recording.getId())
+                .profile(session.profile)
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime() == null ? null : recording.getStartTime().toString())
+                .durationSeconds(recording.getDuration() == null ? null : recording.getDuration().toSeconds())
+                .sizeBytes(size)
+                .build();
+    }
+
+    private static WebEndpointResponse<Object> error(String message, int status) {
+        return new WebEndpointResponse<>(new ErrorResponse(message), status);
+    }
+}
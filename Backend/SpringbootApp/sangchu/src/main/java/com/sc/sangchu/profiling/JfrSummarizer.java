@@ -0,0 +1,145 @@
+package com.sc.sangchu.profiling;
+
+import com.sc.sangchu.dto.JfrAllocationSiteDTO;
+import com.sc.sangchu.dto.JfrHotMethodDTO;
+import com.sc.sangchu.dto.JfrRecordingDTO;
+import com.sc.sangchu.dto.JfrSummaryDTO;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * .jfr 파일을 com.sc.sangchu 패키지 기준으로 요약
+ * 실행 / 할당 샘플마다 스택 위쪽(leaf)부터 처음 만나는 앱 프레임에 귀속
+ * (JDK / 라이브러리 안에서 쓴 시간과 할당도 그 일을 시킨 앱 메서드로 모임)
+ * 할당은 jdk.ObjectAllocationSample 의 weight 로 추정, 없으면(이전 설정) TLAB 이벤트 크기를 씀
+ */
+final class JfrSummarizer {
+    static final String APP_PACKAGE = "com.sc.sangchu.";
+    private static final int TOP = 20;
+
+    private final Map<String, long[]> hotMethods = new HashMap<>(); // [samples, selfSamples]
+    private final Map<String, Map<String, Long>> sampledSites = new HashMap<>(); // site -> 클래스 -> 바이트
+    private final Map<String, Map<String, Long>> tlabSites = new HashMap<>();
+    private long executionSamples;
+    private long appExecutionSamples;
+    private long sampledBytes;
+    private long tlabBytes;
+
+    private JfrSummarizer() {
+    }
+
+    static JfrSummaryDTO summarize(Path file, JfrRecordingDTO recording) throws IOException {
+        JfrSummarizer summarizer = new JfrSummarizer();
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                summarizer.accept(recordingFile.readEvent());
+            }
+        }
+        return summarizer.toDTO(recording);
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case "jdk.ExecutionSample" -> executionSample(event.getStackTrace());
+            case "jdk.ObjectAllocationSample" -> sampledBytes += allocation(sampledSites, event, event.getLong("weight"));
+            case "jdk.ObjectAllocationInNewTLAB" -> tlabBytes += allocation(tlabSites, event, event.getLong("tlabSize"));
+            case "jdk.ObjectAllocationOutsideTLAB" -> tlabBytes += allocation(tlabSites, event, event.getLong("allocationSize"));
+            default -> {
+            }
+        }
+    }
+
+    private void executionSample(RecordedStackTrace stackTrace) {
+        executionSamples++;
+        if (stackTrace == null) return;
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < frames.size(); i++) {
+            if (!isApp(frames.get(i))) continue;
+            long[] counts = hotMethods.computeIfAbsent(method(frames.get(i)), key -> new long[2]);
+            counts[0]++;
+            if (i == 0) counts[1]++;
+            appExecutionSamples++;
+            return;
+        }
+    }
+
+    private static long allocation(Map<String, Map<String, Long>> sites, RecordedEvent event, long bytes) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (!isApp(frame)) continue;
+                RecordedClass objectClass = event.getClass("objectClass");
+                sites.computeIfAbsent(method(frame) + ":" + frame.getLineNumber(), key -> new HashMap<>())
+                        .merge(objectClass == null ? "?" : objectClass.getName(), bytes, Long::sum);
+                break;
+            }
+        }
+        return bytes;
+    }
+
+    // Spring 이 만든 CGLIB 프록시 / 람다 클래스는 건너뛰고 실제 메서드 프레임에 귀속
+    static boolean isApp(RecordedFrame frame) {
+        if (!frame.isJavaFrame() || frame.getMethod() == null) return false;
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith(APP_PACKAGE) && !type.contains("$$");
+    }
+
+    static String method(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private JfrSummaryDTO toDTO(JfrRecordingDTO recording) {
+        // 두 방식이 같이 켜져 있으면 같은 할당을 두 번 세게 되므로 샘플 이벤트를 우선
+        boolean sampled = sampledBytes > 0;
+        Map<String, Map<String, Long>> sites = sampled ? sampledSites : tlabSites;
+        long allocationBytes = sampled ? sampledBytes : tlabBytes;
+
+        List<JfrHotMethodDTO> hot = hotMethods.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed())
+                .limit(TOP)
+                .map(entry -> JfrHotMethodDTO.builder()
+                        .method(entry.getKey())
+                        .samples(entry.getValue()[0])
+                        .selfSamples(entry.getValue()[1])
+                        .percent(percent(entry.getValue()[0], executionSamples))
+                        .build())
+                .toList();
+
+        List<JfrAllocationSiteDTO> allocationSites = sites.entrySet().stream()
+                .map(entry -> JfrAllocationSiteDTO.builder()
+                        .site(entry.getKey())
+                        .bytes(entry.getValue().values().stream().mapToLong(Long::longValue).sum())
+                        .objectClass(entry.getValue().entrySet().stream()
+                                .max(Map.Entry.comparingByValue()).map(Map.Entry::getKey).orElse(null))
+                        .build())
+                .sorted(Comparator.comparingLong(JfrAllocationSiteDTO::getBytes).reversed())
+                .limit(TOP)
+                .toList();
+        allocationSites.forEach(site -> site.setPercent(percent(site.getBytes(), allocationBytes)));
+
+        return JfrSummaryDTO.builder()
+                .recording(recording)
+                .executionSamples(executionSamples)
+                .appExecutionSamples(appExecutionSamples)
+                .allocationBytes(allocationBytes)
+                .appAllocationBytes(sites.values().stream()
+                        .flatMap(classes -> classes.values().stream()).mapToLong(Long::longValue).sum())
+                .hotMethods(hot)
+                .allocationSites(allocationSites)
+                .build();
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : Math.round(part * 1000.0 / total) / 10.0;
+    }
+}
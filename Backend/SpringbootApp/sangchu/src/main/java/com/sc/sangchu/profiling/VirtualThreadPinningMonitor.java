@@ -0,0 +1,85 @@
+package com.sc.sangchu.profiling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)에서 캐리어 스레드 고정(pinning) 감시
+ * synchronized 안에서 I/O 를 기다리면 가상 스레드가 캐리어 스레드를 놓지 못해 동시 처리 수가 코어 수로 줄어듦
+ * jdk.VirtualThreadPinned 이벤트(threshold 이상 고정)를 JFR 스트림으로 받아
+ *   jvm.threads.virtual.pinned{frame} : 스택에서 처음 만나는 앱 메서드별 횟수
+ *   앱 메서드마다 처음 한 번 스택 경고 로그
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    public static final String METRIC = "jvm.threads.virtual.pinned";
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream stream;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Set<String> warned = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${profiling.pinned.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::pinned);
+        stream.startAsync();
+    }
+
+    private void pinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frame = "none";
+        if (stackTrace != null) {
+            for (RecordedFrame recordedFrame : stackTrace.getFrames()) {
+                if (JfrSummarizer.isApp(recordedFrame)) {
+                    frame = JfrSummarizer.method(recordedFrame);
+                    break;
+                }
+            }
+        }
+        counters.computeIfAbsent(frame, key -> Counter.builder(METRIC)
+                        .description("synchronized / 네이티브 호출 중 블로킹으로 캐리어 스레드에 고정된 가상 스레드 수")
+                        .tag("frame", key)
+                        .register(meterRegistry))
+                .increment();
+
+        if (warned.add(frame)) {
+            StringBuilder stack = new StringBuilder();
+            if (stackTrace != null) {
+                stackTrace.getFrames().stream().filter(recordedFrame -> recordedFrame.getMethod() != null)
+                        .limit(LOGGED_FRAMES).forEach(recordedFrame -> stack
+                        .append(System.lineSeparator()).append("\tat ").append(recordedFrame.getMethod().getType().getName())
+                        .append('.').append(recordedFrame.getMethod().getName()).append(':').append(recordedFrame.getLineNumber()));
+            }
+            log.warn("virtual thread pinned {} ms in {}{}", event.getDuration().toMillis(), frame, stack);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        stream.close();
+    }
+}
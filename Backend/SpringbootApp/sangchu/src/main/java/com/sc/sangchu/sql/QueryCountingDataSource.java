@@ -0,0 +1,103 @@
+package com.sc.sangchu.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+ * SQL 실행 통계를 QueryStats 에 기록하는 DataSource 프록시
+ * Connection -> Statement -> ResultSet 을 JDK 동적 프록시로 감싸 execute* 실행 시간과 횟수, next() 로 읽은 행 수를 셈
+ * 현재 스레드에 QueryStats 가 없으면 시간 측정 없이 그대로 위임
+ * unwrap / isWrapperFor 는 원본으로 넘겨서 커넥션 풀(Hikari) 메트릭, PGConnection(COPY) 접근은 그대로 동작
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    static Connection connection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            // createStatement / prepareStatement(sql) / prepareCall(sql)
+            if (result instanceof Statement statement && method.getReturnType().isInterface()
+                    && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return statement(method.getReturnType(), statement, sql, (Connection) proxy);
+            }
+            return result;
+        });
+    }
+
+    private static Object statement(Class<?> type, Statement target, String preparedSql, Connection connection) {
+        return proxy(type, target, (proxy, method, args) -> {
+            String name = method.getName();
+            if ("getConnection".equals(name)) return connection;
+            QueryStats stats = QueryStats.current();
+            if (stats == null) return invoke(target, method, args);
+
+            if (name.startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                long start = System.nanoTime();
+                try {
+                    Object result = invoke(target, method, args);
+                    return result instanceof ResultSet resultSet ? resultSet(resultSet, (Statement) proxy) : result;
+                } finally {
+                    stats.query(sql, System.nanoTime() - start);
+                }
+            }
+            Object result = invoke(target, method, args);
+            return result instanceof ResultSet resultSet ? resultSet(resultSet, (Statement) proxy) : result;
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet target, Statement statement) {
+        return proxy(ResultSet.class, target, (proxy, method, args) -> {
+            if ("getStatement".equals(method.getName())) return statement;
+            QueryStats stats = QueryStats.current();
+            if (stats == null || !"next".equals(method.getName())) return invoke(target, method, args);
+            long start = System.nanoTime();
+            boolean row = (Boolean) invoke(target, method, args);
+            stats.fetch(row, System.nanoTime() - start);
+            return row;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "QueryCounting[" + target + "]";
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
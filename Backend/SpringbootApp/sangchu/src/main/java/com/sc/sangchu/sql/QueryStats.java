@@ -0,0 +1,75 @@
+package com.sc.sangchu.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * 요청(또는 테스트 구간) 하나가 실행한 SQL 통계 : 실행 횟수, 읽은 행 수, DB 시간, SQL 별 실행 횟수
+ * 현재 스레드에 start() ~ stop() 사이에만 수집 (QueryCountingDataSource 가 기록)
+ */
+public final class QueryStats {
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int queries;
+    private long rows;
+    private long nanos;
+    private final Map<String, Integer> statements = new HashMap<>();
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats stop() {
+        QueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    // 다른 스레드에서 나눠 실행한 조회(FanOut)의 통계를 합침, 합치는 쪽 스레드에서만 호출
+    public void add(QueryStats other) {
+        queries += other.queries;
+        rows += other.rows;
+        nanos += other.nanos;
+        other.statements.forEach((sql, count) -> statements.merge(sql, count, Integer::sum));
+    }
+
+    void query(String sql, long elapsedNanos) {
+        queries++;
+        nanos += elapsedNanos;
+        if (sql != null) statements.merge(sql, 1, Integer::sum);
+    }
+
+    void fetch(boolean row, long elapsedNanos) {
+        if (row) rows++;
+        nanos += elapsedNanos;
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    // 실행 + 결과 행 읽기(next) 시간
+    public long getNanos() {
+        return nanos;
+    }
+
+    public Map<String, Integer> getStatements() {
+        return Collections.unmodifiableMap(statements);
+    }
+
+    // 가장 많이 반복된 SQL (N+1 의심), 없으면 null
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return statements.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
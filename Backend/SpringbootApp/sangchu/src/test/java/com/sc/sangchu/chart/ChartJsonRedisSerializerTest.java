@@ -0,0 +1,105 @@
+package com.sc.sangchu.chart;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChartJsonRedisSerializerTest {
+    // 압축 임계값(512)을 넘는 일별 매출 그래프 크기의 값
+    private static final String JSON = graphJson(40);
+    private static final String SMALL_JSON = "{\"chartType\":\"bar\",\"year\":2024,\"data\":{\"categories\":[\"월\",\"화\"]}}";
+
+    private static String graphJson(int points) {
+        StringBuilder json = new StringBuilder("{\"chartType\":\"line\",\"commDistrictName\":\"명송로\",\"data\":{\"categories\":[");
+        for (int i = 0; i < points; i++) {
+            json.append(i == 0 ? "" : ",").append("\"").append(2020 + i / 4).append("년 ").append(i % 4 + 1).append("분기\"");
+        }
+        json.append("],\"series\":[{\"name\":\"매출\",\"data\":[");
+        for (int i = 0; i < points; i++) {
+            json.append(i == 0 ? "" : ",").append(1_000_000L * (i + 7) + i * 0.5);
+        }
+        return json.append("]}]}}").toString();
+    }
+
+    private static ChartJsonRedisSerializer serializer(ChartJsonRedisSerializer.Compression compression) {
+        return new ChartJsonRedisSerializer(compression, 512);
+    }
+
+    @Test
+    void roundTripsEveryCompression() {
+        for (ChartJsonRedisSerializer.Compression compression : ChartJsonRedisSerializer.Compression.values()) {
+            ChartJsonRedisSerializer serializer = serializer(compression);
+            byte[] bytes = serializer.serialize(new ChartJson(JSON));
+            assertEquals(ChartJsonRedisSerializer.MAGIC, bytes[0]);
+            assertEquals(compression.ordinal(), bytes[2], compression.name());
+            assertEquals(JSON, serializer.deserialize(bytes).getJson(), compression.name());
+
+            // 임계값보다 작으면 압축 없이 저장, 어떤 설정으로도 읽힘
+            byte[] small = serializer.serialize(new ChartJson(SMALL_JSON));
+            assertEquals(0, small[2]);
+            assertEquals(SMALL_JSON, serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(small).getJson());
+        }
+    }
+
+    @Test
+    void readsValuesWrittenWithAnotherCompression() {
+        byte[] deflated = serializer(ChartJsonRedisSerializer.Compression.DEFLATE).serialize(new ChartJson(JSON));
+        assertEquals(JSON, serializer(ChartJsonRedisSerializer.Compression.NONE).deserialize(deflated).getJson());
+    }
+
+    @Test
+    void readsLegacyJsonStrings() {
+        byte[] legacy = JSON.getBytes(StandardCharsets.UTF_8);
+        assertEquals(JSON, serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(legacy).getJson());
+        assertNull(serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(new byte[0]));
+        assertNull(serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(null));
+    }
+
+    @Test
+    void rejectsTruncatedHeader() {
+        byte[] lz4 = serializer(ChartJsonRedisSerializer.Compression.LZ4).serialize(new ChartJson(JSON));
+        for (int size = 1; size < 7; size++) {
+            byte[] truncated = Arrays.copyOf(lz4, size);
+            assertThrows(SerializationException.class,
+                    () -> serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(truncated), "size " + size);
+        }
+    }
+
+    @Test
+    void rejectsCorruptLength() {
+        for (ChartJsonRedisSerializer.Compression compression : new ChartJsonRedisSerializer.Compression[]{
+                ChartJsonRedisSerializer.Compression.LZ4, ChartJsonRedisSerializer.Compression.DEFLATE}) {
+            byte[] bytes = serializer(compression).serialize(new ChartJson(JSON));
+            for (int length : new int[]{-1, Integer.MIN_VALUE, Integer.MAX_VALUE, ChartJsonRedisSerializer.MAX_LENGTH + 1}) {
+                byte[] corrupt = bytes.clone();
+                ByteBuffer.wrap(corrupt, 3, 4).putInt(length);
+                assertThrows(SerializationException.class, () -> serializer(compression).deserialize(corrupt),
+                        compression + " length " + length);
+            }
+            // 길이가 실제보다 크면 본문이 모자람
+            byte[] longer = bytes.clone();
+            ByteBuffer.wrap(longer, 3, 4).putInt(ByteBuffer.wrap(bytes, 3, 4).getInt() + 100);
+            assertThrows(SerializationException.class, () -> serializer(compression).deserialize(longer), compression.name());
+        }
+    }
+
+    @Test
+    void rejectsUnknownVersionAndCompression() {
+        byte[] bytes = serializer(ChartJsonRedisSerializer.Compression.LZ4).serialize(new ChartJson(JSON));
+        byte[] version = bytes.clone();
+        // 0x80 이상은 byte 로 음수
+        for (int unknown : new int[]{ChartJsonRedisSerializer.VERSION + 1, 0x7F, 0x80, 0xFF}) {
+            version[1] = (byte) unknown;
+            assertThrows(SerializationException.class, () -> serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(version),
+                    "version " + unknown);
+        }
+        byte[] compression = bytes.clone();
+        compression[2] = 9;
+        assertThrows(SerializationException.class, () -> serializer(ChartJsonRedisSerializer.Compression.LZ4).deserialize(compression));
+    }
+}
@@ -0,0 +1,90 @@
+package com.sc.sangchu.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FanOutTest {
+    private FanOut fanOut;
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    // 요청(scope)마다 parallelism 4 지만 모든 요청을 합쳐 동시에 2개까지만 실행
+    @Test
+    void sharedCapAcrossScopes() throws Exception {
+        fanOut = new FanOut(false, 4, 2, Duration.ofSeconds(10), 16);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService requests = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int request = 0; request < 4; request++) {
+                results.add(requests.submit(() -> {
+                    try (FanOut.Scope scope = fanOut.open()) {
+                        List<Supplier<Integer>> forks = new ArrayList<>();
+                        for (int i = 0; i < 4; i++) {
+                            forks.add(scope.fork(() -> {
+                                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                Thread.sleep(20);
+                                running.decrementAndGet();
+                                return 1;
+                            }));
+                        }
+                        scope.join();
+                        return forks.stream().mapToInt(Supplier::get).sum();
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(4, result.get());
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+        assertEquals(2, maxRunning.get());
+    }
+
+    // timeout 으로 취소된 조회(실행 중 / 시작 전 모두)의 자리가 돌아와 다음 요청이 실행됨
+    @Test
+    void timeoutReleasesSharedPermits() throws Exception {
+        fanOut = new FanOut(false, 4, 2, Duration.ofMillis(200), 1);
+        CountDownLatch never = new CountDownLatch(1);
+        try (FanOut.Scope scope = fanOut.open()) {
+            // 스레드 1개: 첫 조회가 붙잡고 있어 두 번째 조회는 시작하지 못한 채 취소됨
+            scope.fork(() -> {
+                never.await();
+                return 1;
+            });
+            scope.fork(() -> 2);
+            assertThrows(TimeoutException.class, scope::join);
+        }
+        // 실행 중이던 조회는 인터럽트를 받고 끝나면서 자리를 돌려줌
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (fanOut.availablePermits() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, fanOut.availablePermits());
+
+        try (FanOut.Scope scope = fanOut.open()) {
+            Supplier<Integer> a = scope.fork(() -> 1);
+            Supplier<Integer> b = scope.fork(() -> 2);
+            scope.join();
+            assertEquals(3, a.get() + b.get());
+        }
+    }
+}
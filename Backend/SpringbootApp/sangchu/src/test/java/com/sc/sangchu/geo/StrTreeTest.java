@@ -0,0 +1,227 @@
+package com.sc.sangchu.geo;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Path2D;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrTreeTest {
+    /*
+     * 노원구 상권 42 곳의 실제 경계 (상권 영역 shapefile 을 경위도로 변환, 소수점 6 자리)
+     * 한 줄 : 상권 코드 \t 링 \t 링 ..., 링은 "경도,위도" 공백 구분, 방향은 shapefile 그대로 (시계 방향이 외곽)
+     */
+    private static final String BOUNDARIES = "/geo/district-boundaries-11350.tsv";
+
+    private static List<DistrictBoundary> boundaries;
+    private static List<Path2D> paths;
+    private static StrTree tree;
+
+    @BeforeAll
+    static void load() throws IOException {
+        boundaries = new ArrayList<>();
+        paths = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                StrTreeTest.class.getResourceAsStream(BOUNDARIES), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t");
+                List<double[][]> polygons = new ArrayList<>();
+                List<double[]> rings = new ArrayList<>();
+                Path2D path = new Path2D.Double(Path2D.WIND_EVEN_ODD);
+                for (int r = 1; r < fields.length; r++) {
+                    double[] ring = ring(fields[r]);
+                    // CommDistBoundaryService 와 같이 외곽 링(면적 <= 0)에서 새 폴리곤 시작
+                    if (signedArea(ring) <= 0 && !rings.isEmpty()) {
+                        polygons.add(rings.toArray(new double[0][]));
+                        rings.clear();
+                    }
+                    rings.add(ring);
+                    path.moveTo(ring[0], ring[1]);
+                    for (int i = 2; i < ring.length; i += 2) path.lineTo(ring[i], ring[i + 1]);
+                    path.closePath();
+                }
+                polygons.add(rings.toArray(new double[0][]));
+                boundaries.add(new DistrictBoundary(Long.parseLong(fields[0]), fields[0], 11350L, "노원구",
+                        null, null, polygons));
+                paths.add(path);
+            }
+        }
+
+        double[] boxes = new double[boundaries.size() * 4];
+        for (int i = 0; i < boundaries.size(); i++) {
+            DistrictBoundary boundary = boundaries.get(i);
+            boxes[i * 4] = boundary.getMinLon();
+            boxes[i * 4 + 1] = boundary.getMinLat();
+            boxes[i * 4 + 2] = boundary.getMaxLon();
+            boxes[i * 4 + 3] = boundary.getMaxLat();
+        }
+        tree = new StrTree(boxes);
+    }
+
+    private static double[] ring(String field) {
+        String[] points = field.split(" ");
+        double[] ring = new double[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            int comma = points[i].indexOf(',');
+            ring[i * 2] = Double.parseDouble(points[i].substring(0, comma));
+            ring[i * 2 + 1] = Double.parseDouble(points[i].substring(comma + 1));
+        }
+        return ring;
+    }
+
+    private static double signedArea(double[] ring) {
+        double area = 0;
+        for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+            area += ring[j] * ring[i + 1] - ring[i] * ring[j + 1];
+        }
+        return area / 2;
+    }
+
+    // 상권 전체 범위보다 조금 넓은 영역의 무작위 점 (상권 밖 점 포함)
+    private static double[][] points(long seed, int count) {
+        double minLon = Double.POSITIVE_INFINITY, minLat = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+        for (DistrictBoundary boundary : boundaries) {
+            minLon = Math.min(minLon, boundary.getMinLon());
+            minLat = Math.min(minLat, boundary.getMinLat());
+            maxLon = Math.max(maxLon, boundary.getMaxLon());
+            maxLat = Math.max(maxLat, boundary.getMaxLat());
+        }
+        double marginLon = (maxLon - minLon) * 0.05, marginLat = (maxLat - minLat) * 0.05;
+        Random random = new Random(seed);
+        double[][] points = new double[count][];
+        for (int i = 0; i < count; i++) {
+            points[i] = new double[]{
+                    minLon - marginLon + random.nextDouble() * (maxLon - minLon + marginLon * 2),
+                    minLat - marginLat + random.nextDouble() * (maxLat - minLat + marginLat * 2)};
+        }
+        return points;
+    }
+
+    private static boolean boxContains(DistrictBoundary boundary, double lon, double lat) {
+        return lon >= boundary.getMinLon() && lon <= boundary.getMaxLon()
+                && lat >= boundary.getMinLat() && lat <= boundary.getMaxLat();
+    }
+
+    @Test
+    void pointQueryMatchesBruteForce() {
+        for (double[] point : points(11L, 20_000)) {
+            Set<Integer> found = new TreeSet<>();
+            tree.query(point[0], point[1], item -> found.add(item) || true);
+            Set<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < boundaries.size(); i++) {
+                if (boxContains(boundaries.get(i), point[0], point[1])) expected.add(i);
+            }
+            assertEquals(expected, found, point[0] + "," + point[1]);
+        }
+    }
+
+    @Test
+    void containsMatchesPath2D() {
+        Random random = new Random(13L);
+        int inside = 0;
+        for (int i = 0; i < boundaries.size(); i++) {
+            DistrictBoundary boundary = boundaries.get(i);
+            for (int n = 0; n < 500; n++) {
+                double lon = boundary.getMinLon() + random.nextDouble() * (boundary.getMaxLon() - boundary.getMinLon());
+                double lat = boundary.getMinLat() + random.nextDouble() * (boundary.getMaxLat() - boundary.getMinLat());
+                boolean expected = paths.get(i).contains(lon, lat);
+                assertEquals(expected, boundary.contains(lon, lat), boundary.getCommercialDistrictCode() + " " + lon + "," + lat);
+                if (expected) inside++;
+            }
+        }
+        // 경계 상자 안 점의 상당수가 폴리곤 안에 있어야 의미 있는 비교
+        assertTrue(inside > boundaries.size() * 100, "inside " + inside);
+    }
+
+    // CommDistBoundaryService.find 와 같은 선택 (포함하는 상권 중 경계 상자가 가장 작은 상권)
+    @Test
+    void locateMatchesBruteForce() {
+        int located = 0;
+        for (double[] point : points(17L, 20_000)) {
+            DistrictBoundary[] found = new DistrictBoundary[1];
+            tree.query(point[0], point[1], item -> {
+                DistrictBoundary candidate = boundaries.get(item);
+                if (candidate.contains(point[0], point[1])
+                        && (found[0] == null || candidate.boxArea() < found[0].boxArea())) {
+                    found[0] = candidate;
+                }
+                return true;
+            });
+
+            DistrictBoundary expected = null;
+            for (int i = 0; i < boundaries.size(); i++) {
+                DistrictBoundary candidate = boundaries.get(i);
+                if (paths.get(i).contains(point[0], point[1])
+                        && (expected == null || candidate.boxArea() < expected.boxArea())) {
+                    expected = candidate;
+                }
+            }
+            assertSame(expected, found[0], point[0] + "," + point[1]);
+            if (expected != null) located++;
+        }
+        assertTrue(located > 0 && located < 20_000, "located " + located);
+    }
+
+    @Test
+    void boxCornersAreInclusive() {
+        for (int i = 0; i < boundaries.size(); i++) {
+            DistrictBoundary boundary = boundaries.get(i);
+            for (double[] corner : new double[][]{{boundary.getMinLon(), boundary.getMinLat()},
+                    {boundary.getMaxLon(), boundary.getMaxLat()}}) {
+                Set<Integer> found = new TreeSet<>();
+                tree.query(corner[0], corner[1], item -> found.add(item) || true);
+                assertTrue(found.contains(i), boundary.getCommercialDistrictCode().toString());
+            }
+        }
+    }
+
+    // 여러 레벨이 생기는 크기에서 사각형 질의, visitor 가 false 면 중단
+    @Test
+    void boxQueryMatchesBruteForceOnDeepTree() {
+        Random random = new Random(19L);
+        int size = 5_000;
+        double[] boxes = new double[size * 4];
+        for (int i = 0; i < size; i++) {
+            double x = random.nextDouble() * 1000, y = random.nextDouble() * 1000;
+            boxes[i * 4] = x;
+            boxes[i * 4 + 1] = y;
+            boxes[i * 4 + 2] = x + random.nextDouble() * 20;
+            boxes[i * 4 + 3] = y + random.nextDouble() * 20;
+        }
+        StrTree deep = new StrTree(boxes);
+        assertEquals(size, deep.size());
+
+        for (int q = 0; q < 500; q++) {
+            double minX = random.nextDouble() * 1000, minY = random.nextDouble() * 1000;
+            double maxX = minX + random.nextDouble() * 50, maxY = minY + random.nextDouble() * 50;
+            Set<Integer> found = new TreeSet<>();
+            deep.query(minX, minY, maxX, maxY, item -> found.add(item) || true);
+            Set<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < size; i++) {
+                if (maxX >= boxes[i * 4] && maxY >= boxes[i * 4 + 1] && minX <= boxes[i * 4 + 2] && minY <= boxes[i * 4 + 3]) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, found, "query " + q);
+
+            int[] visited = new int[1];
+            deep.query(minX, minY, maxX, maxY, item -> ++visited[0] < 3);
+            assertEquals(Math.min(3, expected.size()), visited[0]);
+        }
+
+        assertEquals(0, new StrTree(new double[0]).size());
+        new StrTree(new double[0]).query(0, 0, item -> fail("empty tree"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.sc.sangchu.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitmapTest {
+    // 64 의 배수 / 아닌 universe, 배열 <-> 비트셋 경계(원소 수 = 워드 수 * 2) 양쪽 밀도
+    private static final int[] UNIVERSES = {1, 63, 64, 65, 127, 1000, 4097};
+    private static final double[] DENSITIES = {0, 0.001, 0.02, 0.03, 0.032, 0.04, 0.3, 1};
+
+    private static BitSet randomSet(Random random, int universe, double density) {
+        BitSet set = new BitSet(universe);
+        for (int value = 0; value < universe; value++) {
+            if (random.nextDouble() < density) set.set(value);
+        }
+        return set;
+    }
+
+    // 정렬 배열(of) / 섞인 배열(ofUnsorted) 생성을 번갈아
+    private static Bitmap bitmap(Random random, int universe, BitSet set) {
+        int[] values = set.stream().toArray();
+        if (random.nextBoolean()) {
+            int[] padded = new int[values.length + 3];
+            System.arraycopy(values, 0, padded, 0, values.length);
+            return Bitmap.of(universe, padded, values.length);
+        }
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        int[] shifted = new int[values.length + 2];
+        System.arraycopy(values, 0, shifted, 1, values.length);
+        return Bitmap.ofUnsorted(universe, shifted, 1, values.length + 1);
+    }
+
+    // 원소 / 크기 / 순회 순서 / 더 작은 저장 방식 선택을 BitSet 과 비교
+    static void assertMatches(BitSet expected, int universe, Bitmap actual, String message) {
+        assertEquals(expected.cardinality(), actual.cardinality(), message);
+        assertEquals(expected.isEmpty(), actual.isEmpty(), message);
+        for (int value = 0; value < universe; value++) {
+            assertEquals(expected.get(value), actual.contains(value), message + " value " + value);
+        }
+        List<Integer> visited = new ArrayList<>();
+        actual.forEach(visited::add);
+        assertEquals(expected.stream().boxed().toList(), visited, message);
+
+        int wordBytes = (universe + 63) / 64 * 8;
+        int arrayBytes = expected.cardinality() * 4;
+        assertEquals(arrayBytes < wordBytes ? arrayBytes : wordBytes, actual.sizeInBytes(), message);
+    }
+
+    @Test
+    void buildMatchesBitSet() {
+        Random random = new Random(11L);
+        for (int universe : UNIVERSES) {
+            for (double density : DENSITIES) {
+                BitSet set = randomSet(random, universe, density);
+                assertMatches(set, universe, bitmap(random, universe, set), universe + "/" + density);
+            }
+        }
+    }
+
+    // 두 저장 방식의 모든 조합에서 and / or / andCardinality
+    @Test
+    void setOperationsMatchBitSet() {
+        Random random = new Random(23L);
+        for (int universe : UNIVERSES) {
+            for (double leftDensity : DENSITIES) {
+                for (double rightDensity : DENSITIES) {
+                    BitSet left = randomSet(random, universe, leftDensity);
+                    BitSet right = randomSet(random, universe, rightDensity);
+                    Bitmap a = bitmap(random, universe, left);
+                    Bitmap b = bitmap(random, universe, right);
+                    String message = universe + " " + leftDensity + "/" + rightDensity;
+
+                    BitSet and = (BitSet) left.clone();
+                    and.and(right);
+                    BitSet or = (BitSet) left.clone();
+                    or.or(right);
+                    assertMatches(and, universe, a.and(b), message + " and");
+                    assertMatches(and, universe, b.and(a), message + " and reversed");
+                    assertMatches(or, universe, a.or(b), message + " or");
+                    assertMatches(or, universe, b.or(a), message + " or reversed");
+                    assertEquals(and.cardinality(), a.andCardinality(b), message);
+                    assertEquals(and.cardinality(), b.andCardinality(a), message);
+
+                    // 연산 결과가 입력을 바꾸지 않음
+                    assertMatches(left, universe, a, message + " left unchanged");
+                    assertMatches(right, universe, b, message + " right unchanged");
+                }
+            }
+        }
+    }
+
+    // 마지막 워드의 universe 밖 비트는 비어 있어야 함
+    @Test
+    void fullAndEmpty() {
+        for (int universe = 0; universe <= 200; universe++) {
+            BitSet all = new BitSet(universe);
+            all.set(0, universe);
+            Bitmap full = Bitmap.full(universe);
+            assertMatches(all, universe, full, "full " + universe);
+            assertMatches(new BitSet(), universe, Bitmap.empty(universe), "empty " + universe);
+            assertMatches(new BitSet(), universe, full.and(Bitmap.empty(universe)), "full and empty " + universe);
+            assertMatches(all, universe, Bitmap.empty(universe).or(full), "empty or full " + universe);
+            assertEquals(universe, full.andCardinality(full));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sc.sangchu.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionTrieTest {
+    // CommDistSearchService 와 같이 음절 경계마다 시작하는 접미사를 모두 키로
+    private static CompletionTrie build(List<String> names, double[] weights) {
+        CompletionTrie.Builder builder = new CompletionTrie.Builder();
+        for (int item = 0; item < names.size(); item++) {
+            for (String key : suffixes(names.get(item))) builder.add(key, item, weights[item]);
+        }
+        return builder.build();
+    }
+
+    private static List<String> suffixes(String name) {
+        HangulJamo.Decomposed decomposed = HangulJamo.decomposeWithStarts(name);
+        List<String> keys = new ArrayList<>();
+        for (int start : decomposed.getSyllableStarts()) keys.add(decomposed.getJamo().substring(start));
+        return keys;
+    }
+
+    // 접두어와 일치하는 키가 있는 항목을 가중치 내림차순, 같으면 항목 번호 순으로
+    private static int[] bruteForce(List<String> names, double[] weights, String prefix, int limit) {
+        List<Integer> matched = new ArrayList<>();
+        for (int item = 0; item < names.size(); item++) {
+            if (suffixes(names.get(item)).stream().anyMatch(key -> key.startsWith(prefix))) matched.add(item);
+        }
+        matched.sort(Comparator.<Integer>comparingDouble(item -> -weights[item]).thenComparing(item -> item));
+        return matched.stream().limit(limit).mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    void partialSyllableMatches() {
+        List<String> names = List.of("강남역", "강남구청", "강동", "신강남", "과천");
+        CompletionTrie trie = build(names, new double[]{5, 4, 3, 2, 1});
+        assertArrayEquals(new int[]{0, 1, 3}, trie.search(HangulJamo.decompose("강ㄴ"), 10));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, trie.search(HangulJamo.decompose("강"), 10));
+        assertArrayEquals(new int[]{4}, trie.search(HangulJamo.decompose("고"), 10));
+        assertArrayEquals(new int[]{0, 1}, trie.search(HangulJamo.decompose("강남"), 2));
+        assertArrayEquals(new int[0], trie.search(HangulJamo.decompose("강ㅁ"), 10));
+    }
+
+    // 한 항목이 여러 접미사로 들어가도 목록에는 한 번, 다른 항목 자리를 차지하지 않음
+    @Test
+    void topKDeduplicatesItems() {
+        List<String> names = new ArrayList<>();
+        names.add("가가가가가가가가가가가가");
+        for (int i = 1; i <= CompletionTrie.TOP_K + 2; i++) names.add("가" + (char) ('나' + i * 28));
+        double[] weights = new double[names.size()];
+        weights[0] = 100;
+        for (int i = 1; i < names.size(); i++) weights[i] = 100 - i;
+
+        CompletionTrie trie = build(names, weights);
+        int[] result = trie.search(HangulJamo.decompose("가"), CompletionTrie.TOP_K);
+        assertEquals(CompletionTrie.TOP_K, result.length);
+        assertEquals(CompletionTrie.TOP_K, Arrays.stream(result).distinct().count());
+        assertArrayEquals(bruteForce(names, weights, HangulJamo.decompose("가"), CompletionTrie.TOP_K), result);
+
+        // 같은 항목이 다른 가중치로 들어오면 큰 가중치 사용
+        CompletionTrie weighted = new CompletionTrie.Builder()
+                .add("ab", 1, 1).add("b", 1, 9).add("ba", 2, 5).build();
+        assertArrayEquals(new int[]{1, 2}, weighted.search("b", 10));
+        assertArrayEquals(new int[]{1}, weighted.search("a", 10));
+    }
+
+    @Test
+    void matchesBruteForce() {
+        String syllables = "가각강과값나남낙다닭";
+        Random random = new Random(17L);
+        List<String> names = new ArrayList<>();
+        double[] weights = new double[300];
+        for (int item = 0; item < weights.length; item++) {
+            StringBuilder name = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int i = 0; i < length; i++) name.append(syllables.charAt(random.nextInt(syllables.length())));
+            names.add(name.toString());
+            // 동점도 섞이도록
+            weights[item] = random.nextInt(20);
+        }
+        CompletionTrie trie = build(names, weights);
+
+        Set<String> prefixes = new HashSet<>(List.of("", "ㄱ", "ㄱㅏ", "ㄱㅗ", "ㄴㅏ", "ㄷㅏㄹ", "ㅂ"));
+        for (String name : names) {
+            for (String key : suffixes(name)) {
+                for (int end = 1; end <= key.length(); end++) prefixes.add(key.substring(0, end));
+            }
+        }
+        for (String prefix : prefixes) {
+            for (int limit : new int[]{1, 3, CompletionTrie.TOP_K}) {
+                assertArrayEquals(bruteForce(names, weights, prefix, limit), trie.search(prefix, limit),
+                        prefix + " " + limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sc.sangchu.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulJamoTest {
+    // 겹모음 / 겹받침은 자판 입력 순서대로 풀어서
+    @Test
+    void decomposesCompoundJamo() {
+        assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+        assertEquals("ㄱㅏㅂㅅ", HangulJamo.decompose("값"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㅇㅡㅣㅈㅏ", HangulJamo.decompose("의자"));
+        assertEquals("ㄲㅜㅓㅇ", HangulJamo.decompose("꿩"));
+        // 단독으로 입력된 겹자모도 같은 방식
+        assertEquals("ㄱㅅ", HangulJamo.decompose("ㄳ"));
+        assertEquals("ㅗㅏ", HangulJamo.decompose("ㅘ"));
+        assertEquals("ㄱ", HangulJamo.decompose("ㄱ"));
+    }
+
+    // 입력 중인 마지막 글자도 완성된 이름의 앞부분과 일치
+    @Test
+    void partialSyllableIsPrefix() {
+        assertTrue(HangulJamo.decompose("강남").startsWith(HangulJamo.decompose("강ㄴ")));
+        assertTrue(HangulJamo.decompose("강남").startsWith(HangulJamo.decompose("강나")));
+        assertTrue(HangulJamo.decompose("과일").startsWith(HangulJamo.decompose("고")));
+        assertTrue(HangulJamo.decompose("값").startsWith(HangulJamo.decompose("갑")));
+        assertTrue(HangulJamo.decompose("닭갈비").startsWith(HangulJamo.decompose("달")));
+        assertFalse(HangulJamo.decompose("강남").startsWith(HangulJamo.decompose("강ㅁ")));
+    }
+
+    // 공백은 빼고 음절(글자) 경계마다 분해 결과의 시작 위치
+    @Test
+    void syllableStartsSkipWhitespace() {
+        HangulJamo.Decomposed decomposed = HangulJamo.decomposeWithStarts("과 값A");
+        assertEquals("ㄱㅗㅏㄱㅏㅂㅅa", decomposed.getJamo());
+        assertArrayEquals(new int[]{0, 3, 7}, decomposed.getSyllableStarts());
+    }
+
+    @Test
+    void chosung() {
+        assertEquals("ㄱㄴㅇ", HangulJamo.chosung("강남역"));
+        assertEquals("ㄱㄴㅇ", HangulJamo.chosung("강남 역"));
+        assertEquals("ㅅㅇ2ㄱ", HangulJamo.chosung("서울2가"));
+        assertEquals("ab", HangulJamo.chosung("AB"));
+    }
+
+    @Test
+    void chosungOnlyDetection() {
+        assertTrue(HangulJamo.isChosungOnly("ㄱㄴ"));
+        assertTrue(HangulJamo.isChosungOnly("ㄱ ㄴ"));
+        assertTrue(HangulJamo.isChosungOnly("ㄲㅎ"));
+        assertFalse(HangulJamo.isChosungOnly(""));
+        assertFalse(HangulJamo.isChosungOnly("  "));
+        assertFalse(HangulJamo.isChosungOnly("강ㄴ"));
+        assertFalse(HangulJamo.isChosungOnly("ㄱㅏ"));
+        assertFalse(HangulJamo.isChosungOnly("ㄱ1"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.sc.sangchu.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeIndexTest {
+    // 정수 점수처럼 같은 값이 많고, 음수 / ±0 / 무한대 / 값 없음(NaN)이 섞인 열
+    private static double[] column(Random random, int size, double nanRate) {
+        double[] values = new double[size];
+        for (int row = 0; row < size; row++) {
+            double r = random.nextDouble();
+            if (r < nanRate) values[row] = Double.NaN;
+            else if (r < nanRate + 0.02) values[row] = random.nextBoolean() ? 0.0 : -0.0;
+            else if (r < nanRate + 0.03) values[row] = random.nextBoolean() ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+            else if (r < nanRate + 0.5) values[row] = random.nextInt(21) - 5;
+            else values[row] = random.nextGaussian() * 10;
+        }
+        return values;
+    }
+
+    // 선형 탐색 기준 : min <= 값 <= max, null 은 제한 없음, NaN 은 어느 구간에도 없음
+    private static BitSet scan(double[] values, Double min, Double max) {
+        BitSet expected = new BitSet(values.length);
+        for (int row = 0; row < values.length; row++) {
+            double value = values[row];
+            if (Double.isNaN(value)) continue;
+            if (min != null && value < min) continue;
+            if (max != null && value > max) continue;
+            expected.set(row);
+        }
+        return expected;
+    }
+
+    // 열에 실제로 있는 값(경계 포함 확인용) 또는 임의 값, 가끔 열린 구간(null)
+    private static Double bound(Random random, double[] values) {
+        double r = random.nextDouble();
+        if (r < 0.15) return null;
+        if (r < 0.6) {
+            double value = values[random.nextInt(values.length)];
+            return Double.isNaN(value) ? null : value;
+        }
+        return random.nextGaussian() * 12;
+    }
+
+    @Test
+    void betweenMatchesLinearScan() {
+        Random random = new Random(31L);
+        for (int size : new int[]{1, 2, 64, 65, 500, 3000}) {
+            for (double nanRate : new double[]{0, 0.1, 0.9}) {
+                double[] values = column(random, size, nanRate);
+                RangeIndex index = new RangeIndex(values);
+                for (int query = 0; query < 200; query++) {
+                    Double min = bound(random, values);
+                    Double max = bound(random, values);
+                    BitmapTest.assertMatches(scan(values, min, max), size, index.between(min, max),
+                            size + "/" + nanRate + " [" + min + ", " + max + "]");
+                }
+            }
+        }
+    }
+
+    // 양쪽 경계값과 같은 행도 포함, 뒤집힌 구간은 빈 결과
+    @Test
+    void inclusiveBounds() {
+        double[] values = {3, 1, Double.NaN, 2, 3, 1, 5};
+        RangeIndex index = new RangeIndex(values);
+        BitmapTest.assertMatches(scan(values, 1.0, 3.0), values.length, index.between(1.0, 3.0), "[1, 3]");
+        assertEquals(5, index.between(1.0, 3.0).cardinality());
+        assertEquals(2, index.between(3.0, 3.0).cardinality());
+        assertTrue(index.between(3.0, 1.0).isEmpty());
+        assertTrue(index.between(3.5, 4.5).isEmpty());
+    }
+
+    // NaN 행은 열린 구간 전체 조회에도 없고 min / max 에도 영향 없음
+    @Test
+    void nanRowsExcluded() {
+        double[] values = {Double.NaN, 4, Double.NaN, -2, 7};
+        RangeIndex index = new RangeIndex(values);
+        Bitmap all = index.between(null, null);
+        assertEquals(3, all.cardinality());
+        assertFalse(all.contains(0));
+        assertFalse(all.contains(2));
+        assertEquals(-2, index.min());
+        assertEquals(7, index.max());
+
+        RangeIndex none = new RangeIndex(new double[]{Double.NaN, Double.NaN});
+        assertTrue(none.between(null, null).isEmpty());
+        assertTrue(Double.isNaN(none.min()));
+        assertTrue(Double.isNaN(none.max()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.sc.sangchu.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorIndexTest {
+    private static final int SIZE = 1000;
+    private static final int DIM = 12;
+
+    // 상권 특성 벡터처럼 군집이 있고 같은 값(동점)도 섞인 행렬
+    private static float[] vectors(long seed) {
+        Random random = new Random(seed);
+        float[] data = new float[SIZE * DIM];
+        for (int row = 0; row < SIZE; row++) {
+            int cluster = random.nextInt(8);
+            for (int column = 0; column < DIM; column++) {
+                float value = cluster + (float) random.nextGaussian() * 0.3f;
+                data[row * DIM + column] = row % 50 == 0 ? Math.round(value) : value;
+            }
+        }
+        return data;
+    }
+
+    // 모든 행과의 거리를 정렬한 앞쪽 k 개
+    private static float[] bruteForce(float[] data, int row, int k, DistanceMetric metric) {
+        float[] distances = new float[SIZE - 1];
+        int n = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (i != row) distances[n++] = metric.distance(data, row * DIM, data, i * DIM, DIM);
+        }
+        Arrays.sort(distances);
+        return Arrays.copyOf(distances, Math.min(k, distances.length));
+    }
+
+    @Test
+    void vpTreeMatchesBruteForce() {
+        float[] data = vectors(7L);
+        VectorIndex index = new VectorIndex(data, DIM);
+        for (DistanceMetric metric : DistanceMetric.values()) {
+            for (int row = 0; row < SIZE; row += 37) {
+                for (int k : new int[]{1, 5, 50}) {
+                    KnnHeap.Neighbors neighbors = index.nearest(row, k, metric);
+                    float[] expected = bruteForce(data, row, k, metric);
+                    assertEquals(expected.length, neighbors.size(), metric + " row " + row + " k " + k);
+                    for (int i = 0; i < neighbors.size(); i++) {
+                        assertNotEquals(row, neighbors.row(i));
+                        assertEquals(expected[i], neighbors.distance(i), 1e-6f, metric + " row " + row + " k " + k);
+                        assertEquals(neighbors.distance(i),
+                                metric.distance(data, row * DIM, data, neighbors.row(i) * DIM, DIM), 1e-6f);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void kLargerThanIndexReturnsAllOtherRows() {
+        float[] data = Arrays.copyOf(vectors(3L), 20 * DIM);
+        VectorIndex index = new VectorIndex(data, DIM);
+        assertEquals(19, index.nearest(4, 50, DistanceMetric.EUCLIDEAN).size());
+    }
+
+    @Test
+    void zeroOrNegativeKReturnsNothing() {
+        VectorIndex index = new VectorIndex(vectors(5L), DIM);
+        for (DistanceMetric metric : DistanceMetric.values()) {
+            assertEquals(0, index.nearest(0, 0, metric).size());
+            assertEquals(0, index.nearest(0, -3, metric).size());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.sc.sangchu.postgresql.service;
+
+import com.sc.sangchu.concurrent.FanOut;
+import com.sc.sangchu.dto.CommDistRankDTO;
+import com.sc.sangchu.dto.CommDistServiceScoreDTO;
+import com.sc.sangchu.dto.CommDistSetRankDTO;
+import com.sc.sangchu.dto.infra.CommStoreTotalCountDTO;
+import com.sc.sangchu.postgresql.entity.CommDistEntity;
+import com.sc.sangchu.postgresql.entity.CommEstimatedSalesEntity;
+import com.sc.sangchu.postgresql.entity.CommFloatingPopulationEntity;
+import com.sc.sangchu.postgresql.entity.CommResidentPopulationEntity;
+import com.sc.sangchu.postgresql.readonly.ReadOnlyCommDistRepository;
+import com.sc.sangchu.postgresql.repository.CommDistRepository;
+import com.sc.sangchu.postgresql.repository.CommEstimatedSalesRepository;
+import com.sc.sangchu.postgresql.repository.CommFloatingPopulationRepository;
+import com.sc.sangchu.postgresql.repository.CommResidentPopulationRepository;
+import com.sc.sangchu.postgresql.repository.CommStoreRepository;
+import com.sc.sangchu.sql.QueryCap;
+import com.sc.sangchu.sql.QueryCountingDataSource;
+import com.sc.sangchu.sql.QueryStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/*
+ * 자치구 단위 조회의 SQL 실행 횟수 상한
+ * 저장소 메서드 호출마다 QueryCountingDataSource 를 거쳐 SQL 한 번을 실행하는 mock 저장소 (스텁하지 않은 메서드도 셈)
+ * FanOut 으로 나눠 실행한 조회는 join 한 스레드의 통계에 합쳐져야 함
+ */
+class CommDistRecommendQueryCapTest {
+    private static final Long GU_CODE = 11680L;
+    private static final String SERVICE_CODE = "CS100001";
+    private static final long FIRST_DISTRICT_CODE = 3110000L;
+    // 자치구 하나의 상권 수 (서울시 25개 구 평균 약 66개)
+    private static final int DISTRICTS = 66;
+
+    private DataSource dataSource;
+    private FanOut fanOut;
+    private CommDistRecommendService commDistRecommendService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource delegate = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        dataSource = new QueryCountingDataSource(delegate);
+
+        List<CommDistEntity> districts = new ArrayList<>();
+        List<CommDistSetRankDTO> ranks = new ArrayList<>();
+        List<CommEstimatedSalesEntity> sales = new ArrayList<>();
+        List<CommStoreTotalCountDTO> storeTotalCounts = new ArrayList<>();
+        List<CommFloatingPopulationEntity> floatingPopulations = new ArrayList<>();
+        List<CommResidentPopulationEntity> residentPopulations = new ArrayList<>();
+        for (int i = 0; i < DISTRICTS; i++) {
+            long code = FIRST_DISTRICT_CODE + i;
+            districts.add(CommDistEntity.builder()
+                    .commercialDistrictCode(code)
+                    .commercialDistrictName("상권 " + i)
+                    .guCode(GU_CODE)
+                    .guName("강남구")
+                    .commercialDistrictScore(50.0 + i % 10)
+                    .build());
+            ranks.add(CommDistSetRankDTO.builder().commCode(code).rank(i + 1L).build());
+            sales.add(CommEstimatedSalesEntity.builder().commercialDistrictCode(code).serviceCode(SERVICE_CODE)
+                    .monthlySales(1.5e8).salesScore(70.0).commercialServiceTotalScore(80.0).build());
+            storeTotalCounts.add(CommStoreTotalCountDTO.builder().commCode(code).totalStoreCount(412L).build());
+            floatingPopulations.add(CommFloatingPopulationEntity.builder().commercialDistrictCode(code)
+                    .totalFloatingPopulation(1250000L).build());
+            residentPopulations.add(CommResidentPopulationEntity.builder().commercialDistrictCode(code)
+                    .totalResidentPopulation(23000L).build());
+        }
+
+        CommDistRepository commDistRepository = repository(CommDistRepository.class);
+        when(commDistRepository.findByGuCode(GU_CODE)).thenAnswer(query("findByGuCode", districts));
+
+        CommEstimatedSalesRepository commEstimatedSalesRepository = repository(CommEstimatedSalesRepository.class);
+        when(commEstimatedSalesRepository.findByYearCodeAndQuarterCodeAndServiceCodeAndCommercialDistrictCodeIn(
+                anyInt(), anyInt(), eq(SERVICE_CODE), anyCollection()))
+                .thenAnswer(query("findSales", sales));
+        when(commEstimatedSalesRepository.findByRank(anyInt(), anyInt(), eq(SERVICE_CODE)))
+                .thenAnswer(query("findByRank", ranks));
+
+        CommStoreRepository commStoreRepository = repository(CommStoreRepository.class);
+        when(commStoreRepository.findStoreTotalCounts(anyInt(), anyInt(), anyCollection()))
+                .thenAnswer(query("findStoreTotalCounts", storeTotalCounts));
+
+        CommFloatingPopulationRepository commFloatingPopulationRepository = repository(CommFloatingPopulationRepository.class);
+        when(commFloatingPopulationRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(anyInt(), anyInt(), anyCollection()))
+                .thenAnswer(query("findFloatingPopulations", floatingPopulations));
+
+        CommResidentPopulationRepository commResidentPopulationRepository = repository(CommResidentPopulationRepository.class);
+        when(commResidentPopulationRepository.findByYearCodeAndQuarterCodeAndCommercialDistrictCodeIn(anyInt(), anyInt(), anyCollection()))
+                .thenAnswer(query("findResidentPopulations", residentPopulations));
+
+        fanOut = new FanOut(false, 8, 8, Duration.ofSeconds(5), 16);
+        commDistRecommendService = new CommDistRecommendService(commDistRepository,
+                repository(ReadOnlyCommDistRepository.class), commEstimatedSalesRepository,
+                commFloatingPopulationRepository, commResidentPopulationRepository, commStoreRepository, fanOut);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    // 상권 목록 1 + 업종 순위 / 매출 / 점포 수 / 유동 인구 / 상주 인구 각 1 (상권 코드 IN), 상권 수와 무관
+    @Test
+    void districtRankQueryBudget() throws Exception {
+        List<CommDistRankDTO> result = new ArrayList<>();
+        QueryStats stats = QueryCap.atMost(6,
+                () -> result.addAll(commDistRecommendService.getDistrictRank(GU_CODE, SERVICE_CODE)));
+
+        assertEquals(DISTRICTS, result.size());
+        assertEquals(6, stats.getQueries(), "fan-out queries must be merged into the caller's stats");
+        assertEquals(1, stats.getMostRepeated().getValue());
+        assertEquals(1L, result.get(0).getTotalScore().getValue());
+        assertEquals(412L, result.get(DISTRICTS - 1).getBusinessDiversity().getValue());
+        assertEquals(23000L, result.get(DISTRICTS - 1).getResidentialPopulation().getValue());
+    }
+
+    // 상권 목록 1 + 업종 매출 1 (상권 코드 IN)
+    @Test
+    void guServiceCommDistQueryBudget() throws Exception {
+        List<CommDistServiceScoreDTO> result = new ArrayList<>();
+        QueryStats stats = QueryCap.atMost(2,
+                () -> result.addAll(commDistRecommendService.getGuServiceCommDist(GU_CODE, SERVICE_CODE)));
+
+        assertEquals(DISTRICTS, result.size());
+        assertEquals(1, stats.getStatements().get("findSales"));
+    }
+
+    @Test
+    void emptyGuRunsOneQuery() throws Exception {
+        QueryCap.atMost(1, () -> assertTrue(commDistRecommendService.getDistrictRank(11000L, SERVICE_CODE).isEmpty()));
+        QueryCap.atMost(1, () -> assertTrue(commDistRecommendService.getGuServiceCommDist(11000L, SERVICE_CODE).isEmpty()));
+    }
+
+    // 호출마다 SQL 한 번을 실행하는 저장소, 스텁하지 않은 메서드는 기본값 반환
+    private <T> T repository(Class<T> type) {
+        return mock(type, withSettings().defaultAnswer(invocation -> {
+            execute(invocation.getMethod().getName());
+            return RETURNS_DEFAULTS.answer(invocation);
+        }));
+    }
+
+    private Answer<Object> query(String sql, Object result) {
+        return invocation -> {
+            execute(sql);
+            return result;
+        };
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement(sql).executeQuery();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sc.sangchu.sql;
+
+import com.sc.sangchu.filter.QueryStatsFilter;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * 테스트용 SQL 실행 횟수 상한 검사 (N+1 회귀를 CI 에서 실패시키기 위함)
+ *
+ * 서비스 / 리포지토리 호출 : QueryCap.atMost(3, () -> commDistService.getDistrictRank(11680L, "CS100001"));
+ * 엔드포인트(MockMvc)     : QueryCap.atMost(3, mockMvc.perform(get("/api/commdist/district-rank")...).andReturn());
+ * N+1 만 검사              : QueryCap.noRepeats(2, () -> ...);
+ */
+public final class QueryCap {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryCap() {
+    }
+
+    // 현재 스레드에서 action 이 실행한 SQL 통계
+    public static QueryStats capture(Action action) throws Exception {
+        QueryStats stats = QueryStats.start();
+        try {
+            action.run();
+        } finally {
+            QueryStats.stop();
+        }
+        return stats;
+    }
+
+    public static QueryStats atMost(int maxQueries, Action action) throws Exception {
+        QueryStats stats = capture(action);
+        if (stats.getQueries() > maxQueries) {
+            throw new AssertionError("expected at most " + maxQueries + " queries but was " + stats.getQueries()
+                    + describe(stats));
+        }
+        return stats;
+    }
+
+    // 같은 SQL 이 maxRepeats 번 넘게 실행되면 실패
+    public static QueryStats noRepeats(int maxRepeats, Action action) throws Exception {
+        QueryStats stats = capture(action);
+        Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+        if (repeated != null && repeated.getValue() > maxRepeats) {
+            throw new AssertionError("statement repeated " + repeated.getValue() + " times (max " + maxRepeats + "): "
+                    + repeated.getKey() + describe(stats));
+        }
+        return stats;
+    }
+
+    // sql.stats.expose-headers=true 일 때 QueryStatsFilter 가 붙인 헤더로 검사
+    public static void atMost(int maxQueries, MvcResult result) {
+        String header = result.getResponse().getHeader(QueryStatsFilter.QUERY_COUNT_HEADER);
+        if (header == null) {
+            throw new AssertionError("missing " + QueryStatsFilter.QUERY_COUNT_HEADER + " header on "
+                    + result.getRequest().getRequestURI() + " (set sql.stats.expose-headers=true)");
+        }
+        int queries = Integer.parseInt(header);
+        if (queries > maxQueries) {
+            throw new AssertionError(result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                    + ": expected at most " + maxQueries + " queries but was " + queries);
+        }
+    }
+
+    private static String describe(QueryStats stats) {
+        return stats.getStatements().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(5)
+                .map(entry -> "\n  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,98 @@
+package com.sc.sangchu.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class QueryCountingDataSourceTest {
+    private static final String SELECT = "select * from comm_store_tb where commercial_district_code=?";
+
+    private DataSource dataSource;
+    private Connection target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource delegate = mock(DataSource.class);
+        target = mock(Connection.class);
+        when(delegate.getConnection()).thenReturn(target);
+
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(target.prepareStatement(anyString())).thenReturn(prepared);
+        when(prepared.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        Statement statement = mock(Statement.class);
+        when(target.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate(anyString())).thenReturn(1);
+        dataSource = new QueryCountingDataSource(delegate);
+    }
+
+    @Test
+    void countsQueriesAndRowsOfCurrentThread() throws Exception {
+        QueryStats stats = QueryCap.capture(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                PreparedStatement statement = connection.prepareStatement(SELECT);
+                ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    assertSame(statement, resultSet.getStatement());
+                }
+                connection.createStatement().executeUpdate("truncate comm_store_tb");
+            }
+        });
+
+        assertEquals(2, stats.getQueries());
+        assertEquals(2, stats.getRows());
+        assertEquals(1, stats.getStatements().get(SELECT));
+        assertEquals(1, stats.getStatements().get("truncate comm_store_tb"));
+    }
+
+    @Test
+    void ignoresQueriesOutsideCapture() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement(SELECT).executeQuery().next();
+        }
+        QueryStats stats = QueryCap.capture(() -> {
+        });
+        assertEquals(0, stats.getQueries());
+    }
+
+    @Test
+    void failsWhenQueryCapExceeded() throws Exception {
+        QueryCap.atMost(3, () -> runSelect(3));
+        AssertionError error = assertThrows(AssertionError.class, () -> QueryCap.atMost(3, () -> runSelect(4)));
+        assertTrue(error.getMessage().contains("4x " + SELECT));
+    }
+
+    @Test
+    void failsOnRepeatedStatement() {
+        assertThrows(AssertionError.class, () -> QueryCap.noRepeats(1, () -> runSelect(2)));
+    }
+
+    @Test
+    void unwrapsToTargetConnection() throws Exception {
+        when(target.unwrap(Connection.class)).thenReturn(target);
+        try (Connection connection = dataSource.getConnection()) {
+            assertNotSame(target, connection);
+            assertSame(target, connection.unwrap(Connection.class));
+        }
+    }
+
+    // 상권마다 따로 조회하는 N+1 패턴
+    private void runSelect(int times) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < times; i++) {
+                connection.prepareStatement(SELECT).executeQuery();
+            }
+        }
+    }
+}